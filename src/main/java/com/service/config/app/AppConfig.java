@@ -35,9 +35,27 @@ public class AppConfig {
     @Value("${util-config.app_config.max_post_content_size}")
     private int maxPostContentSize;
 
-    @Value("${util-config.app_config.post_check_retry_max_count}")
-    private int postCheckRetryMaxCount;
+    @Value("${util-config.app_config.max_upload_file_size}")
+    private long maxUploadFileSize;
 
-    @Value("${util-config.app_config.post_check_retry_sleep_time}")
-    private int postCheckRetrySleepTime;
+    @Value("${util-config.app_config.read_your_writes_window_ms}")
+    private long readYourWritesWindowMs;
+
+    @Value("${util-config.app_config.view_buffer_flush_batch_size}")
+    private int viewBufferFlushBatchSize;
+
+    @Value("${util-config.app_config.blog_visit_history_days}")
+    private int blogVisitHistoryDays;
+
+    @Value("${util-config.app_config.comment_count_repair_batch_size}")
+    private int commentCountRepairBatchSize;
+
+    @Value("${util-config.app_config.post_search_index_snapshot_path}")
+    private String postSearchIndexSnapshotPath;
+
+    @Value("${util-config.app_config.post_search_index_batch_size}")
+    private int postSearchIndexBatchSize;
+
+    @Value("${util-config.app_config.post_search_index_sync_overlap_seconds}")
+    private long postSearchIndexSyncOverlapSeconds;
 }
@@ -0,0 +1,26 @@
+package com.service.config.media;
+
+import com.service.util.media.MediaStorageType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.nio.file.Paths;
+
+/**
+ * 파일 서버 저장소가 LOCAL 인 경우에, 로컬 디렉토리에 저장된 미디어 파일을 정적 리소스로 제공
+ */
+@Configuration
+@RequiredArgsConstructor
+public class MediaResourceConfig implements WebMvcConfigurer {
+    private final MediaStorageConfig mediaStorageConfig;
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        if (mediaStorageConfig.getFileServerDriver() == MediaStorageType.LOCAL) {
+            registry.addResourceHandler(mediaStorageConfig.getLocalUrlPath() + "/**")
+                    .addResourceLocations("file:" + Paths.get(mediaStorageConfig.getLocalDirectory()).toAbsolutePath() + "/");
+        }
+    }
+}
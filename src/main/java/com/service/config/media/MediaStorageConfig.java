@@ -0,0 +1,47 @@
+package com.service.config.media;
+
+import com.service.util.media.MediaStorageType;
+import lombok.Data;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+@Configuration
+@ConfigurationProperties(prefix = "yml")
+@Data
+public class MediaStorageConfig {
+    @Value("${util-config.media_storage.file_server_driver}")
+    private MediaStorageType fileServerDriver;
+
+    @Value("${util-config.media_storage.local_directory}")
+    private String localDirectory;
+
+    @Value("${util-config.media_storage.local_url_path}")
+    private String localUrlPath;
+
+    @Value("${util-config.media_storage.variant_widths}")
+    private List<Integer> variantWidths;
+
+    @Value("${util-config.media_storage.variant_max_pixels}")
+    private long variantMaxPixels;
+
+    @Value("${util-config.media_storage.variant_jpeg_quality}")
+    private float variantJpegQuality;
+
+    @Value("${util-config.media_storage.variant_pool_size}")
+    private int variantPoolSize;
+
+    @Value("${util-config.media_storage.variant_queue_capacity}")
+    private int variantQueueCapacity;
+
+    @Value("${util-config.media_storage.delete_batch_size}")
+    private int deleteBatchSize;
+
+    @Value("${util-config.media_storage.delete_max_retry}")
+    private int deleteMaxRetry;
+
+    @Value("${util-config.media_storage.delete_retry_base_seconds}")
+    private long deleteRetryBaseSeconds;
+}
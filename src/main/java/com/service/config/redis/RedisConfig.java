@@ -1,6 +1,9 @@
 package com.service.config.redis;
 
+import com.service.util.redis.cache.CompactRedisSerializer;
+import com.service.util.redis.cache.TwoLevelCacheManager;
 import com.service.util.redis.key.CacheKey;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
@@ -13,8 +16,10 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
-import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
@@ -37,26 +42,48 @@ public class RedisConfig {
     private String password;
 
     @Bean(name = "cacheManager")
-    public CacheManager redisCacheManager(RedisConnectionFactory redisConnectionFactory) {
+    public CacheManager redisCacheManager(RedisConnectionFactory redisConnectionFactory, MeterRegistry meterRegistry) {
+        CompactRedisSerializer valueSerializer = new CompactRedisSerializer(CacheKey.CACHE_COMPRESS_THRESHOLD_BYTES);
         RedisCacheConfiguration conf = RedisCacheConfiguration.defaultCacheConfig(Thread.currentThread().getContextClassLoader())
                 .disableCachingNullValues()
                 .entryTtl(Duration.ofMinutes(CacheKey.DEFAULT_EXPIRE_TTL_MINUTE))
                 .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
-                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer()));
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(valueSerializer));
 
         Map<String, RedisCacheConfiguration> cacheConfigurationMap = new HashMap<>();
 
+        // 캐시별 설정은 기본 설정(키/값 직렬화 등)에서 TTL 만 변경
         // USER HEADER DTO TTL
-        cacheConfigurationMap.put(CacheKey.USER_HEADER_DTO, RedisCacheConfiguration.defaultCacheConfig(Thread.currentThread().getContextClassLoader()).entryTtl(Duration.ofMinutes(CacheKey.USER_HEADER_DTO_TTL_MINUTE)));
+        cacheConfigurationMap.put(CacheKey.USER_HEADER_DTO, conf.entryTtl(Duration.ofMinutes(CacheKey.USER_HEADER_DTO_TTL_MINUTE)));
 
         // POST DETAIL DTO TTL
-        cacheConfigurationMap.put(CacheKey.POST_DETAIL_DTO, RedisCacheConfiguration.defaultCacheConfig(Thread.currentThread().getContextClassLoader()).entryTtl(Duration.ofMinutes(CacheKey.POST_DETAIL_DTO_TTL_MINUTE)));
+        cacheConfigurationMap.put(CacheKey.POST_DETAIL_DTO, conf.entryTtl(Duration.ofMinutes(CacheKey.POST_DETAIL_DTO_TTL_MINUTE)));
 
-        return RedisCacheManager.RedisCacheManagerBuilder
+        // BLOG SHELL DTO TTL
+        cacheConfigurationMap.put(CacheKey.BLOG_SHELL_DTO, conf.entryTtl(Duration.ofMinutes(CacheKey.BLOG_SHELL_DTO_TTL_MINUTE)));
+
+        RedisCacheManager redisCacheManager = RedisCacheManager.RedisCacheManagerBuilder
                 .fromConnectionFactory(redisConnectionFactory)
                 .cacheDefaults(conf)
                 .withInitialCacheConfigurations(cacheConfigurationMap)
                 .build();
+
+        // 자주 조회되는 캐시는 노드별 로컬 캐시를 앞에 두고, 변경 시에는 pub/sub 으로 다른 노드의 로컬 캐시를 무효화
+        Map<String, Long> localMaxBytesMap = new HashMap<>();
+        localMaxBytesMap.put(CacheKey.USER_HEADER_DTO, CacheKey.USER_HEADER_DTO_LOCAL_MAX_BYTES);
+        localMaxBytesMap.put(CacheKey.POST_DETAIL_DTO, CacheKey.POST_DETAIL_DTO_LOCAL_MAX_BYTES);
+        localMaxBytesMap.put(CacheKey.BLOG_SHELL_DTO, CacheKey.BLOG_SHELL_DTO_LOCAL_MAX_BYTES);
+
+        return new TwoLevelCacheManager(redisCacheManager, new StringRedisTemplate(redisConnectionFactory), valueSerializer, meterRegistry,
+                Duration.ofMinutes(CacheKey.LOCAL_CACHE_TTL_MINUTE), CacheKey.DEFAULT_LOCAL_MAX_BYTES, localMaxBytesMap);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory, CacheManager cacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener((TwoLevelCacheManager) cacheManager, new ChannelTopic(TwoLevelCacheManager.INVALIDATION_CHANNEL));
+        return container;
     }
 
     @Bean
@@ -1,6 +1,8 @@
 package com.service.config.replication;
 
+import com.service.config.app.AppConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
@@ -36,12 +38,14 @@ public class DataSourceConfig {
 
     @Bean
     public DataSource routingDataSource(@Qualifier("masterDataSource") DataSource masterDataSource,
-                                        @Qualifier("slaveDataSource") DataSource slaveDataSource) {
-        var routingDataSource = new RoutingDataSource();
+                                        @Qualifier("slaveDataSource") DataSource slaveDataSource,
+                                        MeterRegistry meterRegistry,
+                                        AppConfig appConfig) {
+        var routingDataSource = new RoutingDataSource(meterRegistry, appConfig.getReadYourWritesWindowMs());
 
         var dataSourceMap = new HashMap<>();
-        dataSourceMap.put("master", masterDataSource);
-        dataSourceMap.put("slave", slaveDataSource);
+        dataSourceMap.put(RoutingDataSource.MASTER, masterDataSource);
+        dataSourceMap.put(RoutingDataSource.SLAVE, slaveDataSource);
         routingDataSource.setTargetDataSources(dataSourceMap);
         routingDataSource.setDefaultTargetDataSource(masterDataSource);
 
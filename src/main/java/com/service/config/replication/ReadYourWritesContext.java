@@ -0,0 +1,65 @@
+package com.service.config.replication;
+
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.servlet.http.HttpSession;
+
+/**
+ * 쓰기 이후 같은 사용자(세션)의 조회가 복제 지연으로 이전 데이터를 읽지 않도록, 세션에 master 조회 기한을 기록
+ * (세션은 Redis 에 저장되므로 다른 노드로 요청이 가도 유지되고, 요청 스레드가 아닌 경우(스케줄러, 비동기)에는 기록/확인하지 않음)
+ * 기록을 위해 세션을 새로 만들지 않으며, 로그인하지 않은 사용자는 기록하지 않음
+ */
+public final class ReadYourWritesContext {
+    private static final String READ_YOUR_WRITES_UNTIL = "READ_YOUR_WRITES_UNTIL";
+
+    private ReadYourWritesContext() {
+    }
+
+    public static void markWrite(long windowMillis) {
+        if (!isAuthenticated()) {
+            return;
+        }
+
+        HttpSession session = currentSession(false);
+
+        if (session != null) {
+            session.setAttribute(READ_YOUR_WRITES_UNTIL, System.currentTimeMillis() + windowMillis);
+        }
+    }
+
+    public static boolean isWithinWindow() {
+        HttpSession session = currentSession(false);
+
+        if (session == null) {
+            return false;
+        }
+
+        Object until = session.getAttribute(READ_YOUR_WRITES_UNTIL);
+        return until instanceof Long && (Long) until > System.currentTimeMillis();
+    }
+
+    private static boolean isAuthenticated() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated() && !(authentication instanceof AnonymousAuthenticationToken);
+    }
+
+    private static HttpSession currentSession(boolean create) {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+
+        if (!(requestAttributes instanceof ServletRequestAttributes)) {
+            return null;
+        }
+
+        try {
+            return ((ServletRequestAttributes) requestAttributes).getRequest().getSession(create);
+        } catch (IllegalStateException e) {
+            // 세션이 이미 만료(invalidate)된 경우
+            return null;
+        }
+    }
+}
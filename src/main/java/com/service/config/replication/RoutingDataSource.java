@@ -1,11 +1,88 @@
 package com.service.config.replication;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * readOnly 트랜잭션은 slave, 그 외는 master 로 연결
+ * 단, 실제로 데이터를 변경한 쓰기 트랜잭션의 커밋 이후 readYourWritesWindowMillis 동안은 같은 세션의 readOnly 트랜잭션도 master 로 연결 (ReadYourWritesContext)
+ * 라우팅 결과는 datasource.routing{target, reason} 카운터로 집계 (트랜잭션 밖의 조회/변경은 non-transactional 로 구분)
+ */
 public class RoutingDataSource extends AbstractRoutingDataSource {
+    public static final String MASTER = "master";
+    public static final String SLAVE = "slave";
+
+    private static final String METRIC_ROUTING = "datasource.routing";
+
+    private final long readYourWritesWindowMillis;
+    private final Counter writeCounter;
+    private final Counter readYourWritesCounter;
+    private final Counter readOnlyCounter;
+    private final Counter nonTransactionalCounter;
+
+    public RoutingDataSource(MeterRegistry meterRegistry, long readYourWritesWindowMillis) {
+        this.readYourWritesWindowMillis = readYourWritesWindowMillis;
+        this.writeCounter = meterRegistry.counter(METRIC_ROUTING, "target", MASTER, "reason", "write");
+        this.readYourWritesCounter = meterRegistry.counter(METRIC_ROUTING, "target", MASTER, "reason", "read-your-writes");
+        this.readOnlyCounter = meterRegistry.counter(METRIC_ROUTING, "target", SLAVE, "reason", "read-only");
+        this.nonTransactionalCounter = meterRegistry.counter(METRIC_ROUTING, "target", MASTER, "reason", "non-transactional");
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return trackWrite(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return trackWrite(super.getConnection(username, password));
+    }
+
     @Override
     protected Object determineCurrentLookupKey() {
-        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? "slave" : "master";
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            nonTransactionalCounter.increment();
+            return MASTER;
+        }
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            writeCounter.increment();
+            return MASTER;
+        }
+
+        if (ReadYourWritesContext.isWithinWindow()) {
+            readYourWritesCounter.increment();
+            return MASTER;
+        }
+
+        readOnlyCounter.increment();
+        return SLAVE;
+    }
+
+    // 쓰기 트랜잭션의 커넥션은 첫 변경 시에 커밋 이후 기록을 등록 (트랜잭션 밖의 변경은 기록하지 않음)
+    private Connection trackWrite(Connection connection) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive() || TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return connection;
+        }
+        return WriteTrackingConnection.wrap(connection, this::markWriteAfterCommit);
+    }
+
+    private void markWriteAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                ReadYourWritesContext.markWrite(readYourWritesWindowMillis);
+            }
+        });
     }
-}
\ No newline at end of file
+}
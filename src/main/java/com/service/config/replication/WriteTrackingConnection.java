@@ -0,0 +1,96 @@
+package com.service.config.replication;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.Set;
+
+/**
+ * 실제로 데이터가 변경된 경우(변경 행 수 > 0)에만 onWrite 를 1회 호출하는 커넥션 프록시
+ * (쓰기 트랜잭션이라도 조회만 했다면 read-your-writes 기간을 기록하지 않기 위함)
+ */
+final class WriteTrackingConnection {
+    private static final Set<String> STATEMENT_FACTORY_METHODS = Set.of("createStatement", "prepareStatement", "prepareCall");
+
+    private WriteTrackingConnection() {
+    }
+
+    static Connection wrap(Connection connection, Runnable onWrite) {
+        WriteListener writeListener = new WriteListener(onWrite);
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+
+            if (STATEMENT_FACTORY_METHODS.contains(method.getName()) && result instanceof Statement) {
+                return wrapStatement((Statement) result, writeListener);
+            }
+            return result;
+        });
+    }
+
+    private static Statement wrapStatement(Statement statement, WriteListener writeListener) {
+        Class<?> statementType = statement instanceof CallableStatement ? CallableStatement.class
+                : statement instanceof PreparedStatement ? PreparedStatement.class : Statement.class;
+        InvocationHandler invocationHandler = (proxy, method, args) -> {
+            Object result = invoke(statement, method, args);
+            writeListener.check(statement, method.getName(), result);
+            return result;
+        };
+        return (Statement) Proxy.newProxyInstance(Statement.class.getClassLoader(), new Class<?>[]{statementType}, invocationHandler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private static class WriteListener {
+        private final Runnable onWrite;
+        private boolean written;
+
+        private WriteListener(Runnable onWrite) {
+            this.onWrite = onWrite;
+        }
+
+        private void check(Statement statement, String methodName, Object result) throws Exception {
+            if (!written && isWrite(statement, methodName, result)) {
+                written = true;
+                onWrite.run();
+            }
+        }
+
+        private boolean isWrite(Statement statement, String methodName, Object result) throws Exception {
+            switch (methodName) {
+                case "executeUpdate":
+                case "executeLargeUpdate":
+                    return ((Number) result).longValue() > 0;
+                case "executeBatch":
+                    for (int count : (int[]) result) {
+                        if (count > 0 || count == Statement.SUCCESS_NO_INFO) {
+                            return true;
+                        }
+                    }
+                    return false;
+                case "executeLargeBatch":
+                    for (long count : (long[]) result) {
+                        if (count > 0 || count == Statement.SUCCESS_NO_INFO) {
+                            return true;
+                        }
+                    }
+                    return false;
+                case "execute":
+                    // 결과가 ResultSet 이 아니면 변경 행 수로 판단
+                    return Boolean.FALSE.equals(result) && statement.getUpdateCount() > 0;
+                default:
+                    return false;
+            }
+        }
+    }
+}
@@ -67,7 +67,7 @@ public class SecurityConfiguration extends WebSecurityConfigurerAdapter {
                         "/user/find-info", "/user/find-email", "/user/update/password",
                         "/user/check-id", "/user/check-email", "/user/email-auth",
                         // blog
-                        "/blog/{id}",
+                        "/blog/{id}", "/blog/{id}/visit-history",
                         // category
                         "/category/post/**", "/category/post-title/**", "/category/all/{blogId}",
                         // post
@@ -87,7 +87,9 @@ public class SecurityConfiguration extends WebSecurityConfigurerAdapter {
                         // notice
                         "/notice/**",
                         // music
-                        "/music-category/open/**", "/music/open/**"
+                        "/music-category/open/**", "/music/open/**",
+                        // media (LOCAL 저장소)
+                        "/media/**"
                 )
                 .permitAll()
                 .and()
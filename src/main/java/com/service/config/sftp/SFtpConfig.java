@@ -34,4 +34,22 @@ public class SFtpConfig {
 
     @Value("${util-config.aws_ec2_sftp.timeout}")
     private Integer timeout;
+
+    @Value("${util-config.aws_ec2_sftp.pool_max_total}")
+    private Integer poolMaxTotal;
+
+    @Value("${util-config.aws_ec2_sftp.pool_min_idle}")
+    private Integer poolMinIdle;
+
+    @Value("${util-config.aws_ec2_sftp.pool_max_wait_ms}")
+    private Long poolMaxWaitMs;
+
+    @Value("${util-config.aws_ec2_sftp.pool_idle_evict_ms}")
+    private Long poolIdleEvictMs;
+
+    @Value("${util-config.aws_ec2_sftp.pool_evict_interval_ms}")
+    private Long poolEvictIntervalMs;
+
+    @Value("${util-config.aws_ec2_sftp.known_directory_cache_size}")
+    private Integer knownDirectoryCacheSize;
 }
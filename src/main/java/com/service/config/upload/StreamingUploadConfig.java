@@ -0,0 +1,56 @@
+package com.service.config.upload;
+
+import org.springframework.boot.web.servlet.filter.OrderedHiddenHttpMethodFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.multipart.MultipartResolver;
+import org.springframework.web.multipart.support.StandardServletMultipartResolver;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 스트리밍 업로드 경로(비디오, 게시글 이미지)는 요청 본문을 StreamingMultipartService 에서 직접 읽으므로
+ * 컨테이너 multipart 파싱(임시 파일 저장)과 파라미터 조회(_method)가 본문을 먼저 읽지 않도록 제외
+ */
+@Configuration
+public class StreamingUploadConfig {
+    private static final List<String> STREAMING_UPLOAD_PATHS = Arrays.asList(
+            "/video/upload/video/*",
+            "/post/upload/post-image/*");
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    @Bean
+    public MultipartResolver multipartResolver() {
+        return new StandardServletMultipartResolver() {
+            @Override
+            public boolean isMultipart(HttpServletRequest request) {
+                return !isStreamingUploadRequest(request) && super.isMultipart(request);
+            }
+        };
+    }
+
+    @Bean
+    public OrderedHiddenHttpMethodFilter hiddenHttpMethodFilter() {
+        return new OrderedHiddenHttpMethodFilter() {
+            @Override
+            protected boolean shouldNotFilter(HttpServletRequest request) {
+                return isStreamingUploadRequest(request);
+            }
+        };
+    }
+
+    private static boolean isStreamingUploadRequest(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+
+        for (String streamingUploadPath : STREAMING_UPLOAD_PATHS) {
+            if (PATH_MATCHER.match(streamingUploadPath, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
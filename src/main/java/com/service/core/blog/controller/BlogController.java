@@ -1,11 +1,8 @@
 package com.service.core.blog.controller;
 
 import com.service.core.blog.dto.BlogInfoDto;
-import com.service.core.blog.service.BlogService;
-import com.service.core.category.service.CategoryService;
-import com.service.core.comment.service.CommentService;
-import com.service.core.tag.dto.BlogTagDto;
-import com.service.core.tag.service.TagService;
+import com.service.core.blog.dto.BlogShellDto;
+import com.service.core.blog.service.BlogShellService;
 import com.service.core.user.dto.UserProfileDto;
 import com.service.core.user.service.UserService;
 import com.service.core.views.service.BlogVisitorService;
@@ -31,11 +28,8 @@ import java.security.Principal;
 @RequestMapping("/blog")
 @Slf4j
 public class BlogController {
-    private final BlogService blogService;
+    private final BlogShellService blogShellService;
     private final UserService userService;
-    private final CategoryService categoryService;
-    private final CommentService commentService;
-    private final TagService tagService;
 
     private final BlogVisitorService blogVisitorService;
 
@@ -49,17 +43,19 @@ public class BlogController {
             model.addAttribute("user_header", userService.findUserHeaderDtoByEmail(principal.getName()));
         }
 
-        UserProfileDto userProfileDto = userService.findUserProfileDtoById(id);
-        model.addAttribute("blog_owner", BlogUtil.checkBlogOwner(principal, userProfileDto.getEmailHash()));
+        BlogShellDto blogShellDto = blogShellService.findBlogShellDtoByUserId(id);
+        UserProfileDto userProfileDto = blogShellDto.getUserProfileDto();
+        BlogInfoDto blogInfoDto = blogShellDto.getBlogInfoDto();
+        model.addAttribute("blog_owner", BlogUtil.checkBlogOwner(principal, blogShellDto.getEmailHash()));
         model.addAttribute("user_profile", userProfileDto);
-        model.addAttribute("category", categoryService.findCategoryDtoByUserId(id));
-        BlogInfoDto blogInfoDto = blogService.findBlogInfoDtoById(id);
+        model.addAttribute("category", blogShellDto.getCategoryDto());
         model.addAttribute("blog_info", blogInfoDto);
-        model.addAttribute("recent_comment", commentService.findCommentLinkDto(blogInfoDto.getId()));
-        model.addAttribute("blog_tag", BlogTagDto.from(tagService.findTagDtoList(blogInfoDto.getId())));
+        model.addAttribute("recent_comment", blogShellDto.getRecentComment());
+        model.addAttribute("blog_tag", blogShellDto.getBlogTagDto());
         // TODO 음악정보, 방문자 수 넘겨줄것
-        blogVisitorService.visitBlog(BlogUtil.hashCode(userProfileDto.getId(), userProfileDto.getEmailHash(), blogInfoDto.getId()), BlogUtil.getClientAccessId(httpServletRequest, principal));
-        model.addAttribute("blog_visitors", blogVisitorService.getBlogVisitorDto(BlogUtil.hashCode(userProfileDto.getId(), userProfileDto.getEmailHash(), blogInfoDto.getId())));
+        int blogHashId = BlogUtil.hashCode(userProfileDto.getId(), blogShellDto.getEmailHash(), blogInfoDto.getId());
+        blogVisitorService.visitBlog(blogHashId, BlogUtil.getClientAccessId(httpServletRequest, principal));
+        model.addAttribute("blog_visitors", blogVisitorService.getBlogVisitorDto(blogHashId));
         return "blog/myblog";
     }
 }
@@ -0,0 +1,46 @@
+package com.service.core.blog.controller;
+
+import com.service.core.blog.dto.BlogShellDto;
+import com.service.core.blog.service.BlogShellService;
+import com.service.core.views.dto.BlogVisitHistoryResponseDto;
+import com.service.core.views.service.BlogVisitorService;
+import com.service.util.BlogUtil;
+import com.service.util.ConstUtil;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "블로그", description = "블로그 관련 Rest API")
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/blog")
+@Slf4j
+public class BlogRestController {
+    private final BlogShellService blogShellService;
+    private final BlogVisitorService blogVisitorService;
+
+    @Operation(summary = "블로그 일자별 방문 이력 반환", description = "최근 days 일 동안의 일자별 방문자 수/방문 횟수 반환 메서드 (최신 일자 순, 전날까지 기록)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "방문 이력 데이터 반환"),
+            @ApiResponse(responseCode = "500", description = "블로그 정보 조회 실패, Redis 연결 불량 등으로 반환 실패")
+    })
+    @GetMapping("/{id}/visit-history")
+    public ResponseEntity<BlogVisitHistoryResponseDto> findBlogVisitHistory(@PathVariable String id, @RequestParam(defaultValue = "30") int days) {
+        try {
+            BlogShellDto blogShellDto = blogShellService.findBlogShellDtoByUserId(id);
+            int blogHashId = BlogUtil.hashCode(blogShellDto.getUserProfileDto().getId(), blogShellDto.getEmailHash(), blogShellDto.getBlogInfoDto().getId());
+            return ResponseEntity.status(HttpStatus.OK).body(BlogVisitHistoryResponseDto.success(blogVisitorService.getBlogVisitHistory(blogHashId, days)));
+        } catch (Exception exception) {
+            if (BlogUtil.getErrorMessage(exception) == ConstUtil.UNDEFINED_ERROR) {
+                log.error("[freeblog-findBlogVisitHistory] exception occurred ", exception);
+            }
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(BlogVisitHistoryResponseDto.fail(exception));
+        }
+    }
+}
@@ -1,18 +1,22 @@
 package com.service.core.blog.dto;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.service.core.blog.domain.Blog;
 import com.service.util.BlogUtil;
 import com.service.util.ConstUtil;
 import lombok.Builder;
 import lombok.Data;
+import lombok.extern.jackson.Jacksonized;
 
 
 @Data
 @Builder
+@Jacksonized
 public class BlogInfoDto {
     private final long id;
     private final String name;
     private final String intro;
+    @JsonProperty("isDelete")
     private final boolean isDelete;
 
     public static BlogInfoDto from(Blog blog) {
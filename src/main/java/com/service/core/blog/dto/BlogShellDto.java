@@ -0,0 +1,29 @@
+package com.service.core.blog.dto;
+
+import com.service.core.category.dto.CategoryDto;
+import com.service.core.comment.dto.CommentLinkDto;
+import com.service.core.tag.dto.BlogTagDto;
+import com.service.core.user.dto.UserProfileDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 블로그 페이지 공통 영역(프로필, 카테고리, 블로그 정보, 최근 댓글, 태그)을 한 번에 캐싱하기 위한 묶음
+ * (UserProfileDto 의 emailHash 는 직렬화 대상이 아니므로 별도로 보관)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BlogShellDto {
+    private UserProfileDto userProfileDto;
+    private int emailHash;
+    private CategoryDto categoryDto;
+    private BlogInfoDto blogInfoDto;
+    private List<CommentLinkDto> recentComment;
+    private BlogTagDto blogTagDto;
+}
@@ -0,0 +1,65 @@
+package com.service.core.blog.service;
+
+import com.service.core.user.dto.UserProfileMapperDto;
+import com.service.core.user.repository.mapper.UserMapper;
+import com.service.util.redis.key.CacheKey;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 블로그 페이지 공통 영역 캐시 무효화
+ * (쓰기 트랜잭션 커밋 이후에 삭제해야 커밋 전 데이터가 다시 캐싱되지 않음, 서비스 간 순환 참조를 피하기 위해 별도 컴포넌트로 분리)
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class BlogShellCacheEvictor {
+    private final CacheManager cacheManager;
+    private final UserMapper userMapper;
+
+    public void evictByBlogId(Long blogId) {
+        try {
+            UserProfileMapperDto userProfileMapperDto = userMapper.findUserProfileMapperDtoByBlogId(blogId);
+
+            if (userProfileMapperDto != null) {
+                evictByUserId(userProfileMapperDto.getId());
+            }
+        } catch (Exception e) {
+            log.error("[BlogShellCacheEvictor:evictByBlogId] error =>", e);
+        }
+    }
+
+    public void evictByUserId(String userId) {
+        if (userId == null) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(userId);
+                }
+            });
+        } else {
+            evict(userId);
+        }
+    }
+
+    private void evict(String userId) {
+        try {
+            Cache cache = cacheManager.getCache(CacheKey.BLOG_SHELL_DTO);
+
+            if (cache != null) {
+                cache.evict(userId);
+            }
+        } catch (Exception e) {
+            log.error("[BlogShellCacheEvictor:evict] error =>", e);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.service.core.blog.service;
+
+import com.service.core.blog.dto.BlogInfoDto;
+import com.service.core.blog.dto.BlogShellDto;
+import com.service.core.category.service.CategoryService;
+import com.service.core.comment.service.CommentService;
+import com.service.core.tag.dto.BlogTagDto;
+import com.service.core.tag.service.TagService;
+import com.service.core.user.dto.UserProfileDto;
+import com.service.core.user.service.UserService;
+import com.service.util.redis.key.CacheKey;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 블로그 페이지 공통 영역을 userId 단위로 캐싱 (게시글/카테고리/댓글/프로필 변경 시 BlogShellCacheEvictor 로 무효화)
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class BlogShellService {
+    private final UserService userService;
+    private final CategoryService categoryService;
+    private final BlogService blogService;
+    private final CommentService commentService;
+    private final TagService tagService;
+
+    @Cacheable(value = CacheKey.BLOG_SHELL_DTO, key = "#userId")
+    public BlogShellDto findBlogShellDtoByUserId(String userId) throws Exception {
+        UserProfileDto userProfileDto = userService.findUserProfileDtoById(userId);
+        BlogInfoDto blogInfoDto = blogService.findBlogInfoDtoById(userId);
+
+        return BlogShellDto.builder()
+                .userProfileDto(userProfileDto)
+                .emailHash(userProfileDto.getEmailHash())
+                .categoryDto(categoryService.findCategoryDtoByUserId(userId))
+                .blogInfoDto(blogInfoDto)
+                .recentComment(commentService.findCommentLinkDto(blogInfoDto.getId()))
+                .blogTagDto(BlogTagDto.from(tagService.findTagDtoList(blogInfoDto.getId())))
+                .build();
+    }
+}
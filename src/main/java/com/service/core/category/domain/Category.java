@@ -32,6 +32,10 @@ public class Category extends BaseTimeEntity {
 
     private Long seq;
 
+    // "상위 카테고리/카테고리" 표시 이름 (상위 카테고리가 없거나 삭제 된 경우 카테고리 이름), 카테고리 등록/수정 시에 갱신
+    @Column(name = "full_path", length = 51)
+    private String fullPath;
+
     private boolean isDelete;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -46,6 +50,7 @@ public class Category extends BaseTimeEntity {
         return Category.builder()
                 .parentId(0L)
                 .name("게시판")
+                .fullPath("게시판")
                 .seq(1L)
                 .blog(blog)
                 .build();
@@ -15,4 +15,6 @@ public interface CategoryMapper {
     CategoryBasicMapperDto findCategoryBasicMapperDtoByCategoryId(Long categoryId);
 
     CategoryBasicMapperDto findCategoryBasicMapperDtoByCategoryIdAndEmail(Long categoryId, String email);
+
+    int updateEmptyCategoryFullPath();
 }
@@ -3,6 +3,7 @@ package com.service.core.category.service;
 import com.service.core.blog.domain.Blog;
 import com.service.core.blog.dto.BlogDeleteDto;
 import com.service.core.blog.service.BlogService;
+import com.service.core.blog.service.BlogShellCacheEvictor;
 import com.service.core.category.domain.Category;
 import com.service.core.category.dto.CategoryBasicMapperDto;
 import com.service.core.category.dto.CategoryMapperDto;
@@ -18,12 +19,20 @@ import com.service.core.post.dto.PostDto;
 import com.service.core.post.dto.PostSearchDto;
 import com.service.core.post.dto.PostTitleDto;
 import com.service.core.post.dto.PostTotalDto;
+import com.service.core.post.paging.PostCursor;
+import com.service.core.post.paging.PostCursorPagination;
 import com.service.core.post.paging.PostPagination;
 import com.service.core.post.paging.PostSearchPagingDto;
+import com.service.core.post.search.PostSearchIndexService;
 import com.service.core.post.service.PostService;
+import com.service.core.tag.service.TagService;
 import com.service.util.ConstUtil;
+import com.service.util.redis.service.paging.PagingCountRedisTemplateService;
 import com.service.core.post.paging.PostPaginationResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,6 +40,7 @@ import java.util.*;
 import java.util.stream.Collectors;
 
 @Service
+@Slf4j
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class CategoryServiceImpl implements CategoryService {
@@ -38,6 +48,10 @@ public class CategoryServiceImpl implements CategoryService {
     private final CategoryMapper categoryMapper;
     private final PostService postService;
     private final BlogService blogService;
+    private final BlogShellCacheEvictor blogShellCacheEvictor;
+    private final PagingCountRedisTemplateService pagingCountRedisTemplateService;
+    private final TagService tagService;
+    private final PostSearchIndexService postSearchIndexService;
 
     @Override
     public CategoryDto findCategoryDtoByUserId(String userId) {
@@ -82,6 +96,14 @@ public class CategoryServiceImpl implements CategoryService {
             }
 
             Long blogId = blogDeleteDto.getId();
+
+            if (postSearchPagingDto.isCursorMode()) {
+                postSearchPagingDto.setPostCursor(PostCursor.decode(postSearchPagingDto.getCursor()));
+                List<PostDto> postDtoList = postService.findPostPaginationById(PostSearchDto.from(blogId, categoryId, postSearchPagingDto));
+                PostCursorPagination postCursorPagination = PostCursorPagination.slice(postDtoList, postSearchPagingDto, PostDto::toPostCursor);
+                return new PostPaginationResponse<>(PostTotalDto.fromCursorPage(postDtoList, findCategoryName(category)), postCursorPagination);
+            }
+
             int postCount = postService.findPostCountByBlogCategory(blogId, categoryId);
 
             PostPagination postPagination = new PostPagination(postCount, postSearchPagingDto);
@@ -111,6 +133,12 @@ public class CategoryServiceImpl implements CategoryService {
             }
 
             Long blogId = blogDeleteDto.getId();
+
+            if (postSearchPagingDto.isCursorMode()) {
+                postSearchPagingDto.setPostCursor(PostCursor.decode(postSearchPagingDto.getCursor()));
+                List<PostTitleDto> postTitleDtoList = postService.findPostTitlePaginationById(PostSearchDto.from(blogId, categoryId, postSearchPagingDto));
+                return new PostPaginationResponse<>(postTitleDtoList, PostCursorPagination.slice(postTitleDtoList, postSearchPagingDto, PostTitleDto::toPostCursor));
+            }
             int postCount = postService.findPostCountByBlogCategory(blogId, categoryId);
 
             PostPagination postPagination = new PostPagination(postCount, postSearchPagingDto);
@@ -127,15 +155,7 @@ public class CategoryServiceImpl implements CategoryService {
 
     @Override
     public String findCategoryName(Category category) {
-        Long parentCategoryId = category.getParentId();
-        String categoryName = category.getName();
-
-        if (parentCategoryId == 0 || !categoryRepository.existsById(parentCategoryId)) {
-            return categoryName;
-        } else {
-            String parentCategoryName = categoryRepository.findById(parentCategoryId).get().getName();
-            return parentCategoryName + "/" + categoryName;
-        }
+        return category.getFullPath() == null ? category.getName() : category.getFullPath();
     }
 
     @Override
@@ -174,34 +194,50 @@ public class CategoryServiceImpl implements CategoryService {
         Blog blog = blogService.findBlogByIdOrThrow(blogId);
         List<Category> categories = blog.getCategoryList();
         List<Category> newCategories = new ArrayList<>();
+        blogShellCacheEvictor.evictByBlogId(blogId);
+        pagingCountRedisTemplateService.increaseBlogVersion(blogId);
 
         checkCategoryInputRelation(categoryInputList);
 
+        // 입력 카테고리를 id 별로 묶어 기존 카테고리마다 같은 id 의 입력만 비교 (매칭된 입력은 신규 카테고리에서 제외)
+        Map<Long, List<CategoryInput>> categoryInputMap = new HashMap<>();
+        Set<CategoryInput> matchedCategoryInputs = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        for (CategoryInput categoryInput : categoryInputList) {
+            checkCategoryType(categoryInput);
+            categoryInputMap.computeIfAbsent(categoryInput.getId(), id -> new ArrayList<>()).add(categoryInput);
+        }
+
         for (Category category : categories) {
-            boolean contains = false;
+            CategoryInput matchedCategoryInput = null;
 
-            for (CategoryInput categoryInput : categoryInputList) {
-                if (checkCategory(category, categoryInput)) {
-                    category.setName(categoryInput.getName());
-                    categoryInputList.remove(categoryInput);
-                    contains = true;
+            for (CategoryInput categoryInput : categoryInputMap.getOrDefault(category.getId(), Collections.emptyList())) {
+                if (!matchedCategoryInputs.contains(categoryInput) && checkCategory(category, categoryInput)) {
+                    matchedCategoryInput = categoryInput;
                     break;
                 }
             }
 
-            if (!contains) {
+            if (matchedCategoryInput != null) {
+                category.setName(matchedCategoryInput.getName());
+                matchedCategoryInputs.add(matchedCategoryInput);
+            } else {
                 category.setDelete(true);
 
                 for (Post post : category.getPostList()) {
                     if (!post.isDelete()) {
                         post.setDelete(true);
+                        tagService.decreasePostTagCount(post.getId());
+                        postSearchIndexService.removePost(post.getId());
                     }
                 }
             }
         }
 
         for (CategoryInput categoryInput : categoryInputList) {
-            newCategories.add(Category.from(categoryInput, blog));
+            if (!matchedCategoryInputs.contains(categoryInput)) {
+                newCategories.add(Category.from(categoryInput, blog));
+            }
         }
 
         List<Category> createdCategories = categoryRepository.saveAll(newCategories);
@@ -226,6 +262,18 @@ public class CategoryServiceImpl implements CategoryService {
             }
             categoryRepository.saveAll(createdCategories);
         }
+        updateCategoryFullPath(categories, createdCategories);
+    }
+
+    // full_path 도입 이전에 생성 된 카테고리는 기동 시에 1회 구성
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeCategoryFullPath() {
+        int updatedCount = categoryMapper.updateEmptyCategoryFullPath();
+
+        if (updatedCount > 0) {
+            log.info("[CategoryServiceImpl:initializeCategoryFullPath] updated:{}", updatedCount);
+        }
     }
 
     @Override
@@ -254,15 +302,17 @@ public class CategoryServiceImpl implements CategoryService {
         return categoryBasicMapperDto;
     }
 
-    private boolean checkCategory(Category category, CategoryInput categoryInput) {
+    private void checkCategoryType(CategoryInput categoryInput) {
         String categoryType = categoryInput.getType();
 
-        if (!categoryType.equals("childCategory") && !categoryType.equals("parentCategory")) {
+        if (!"childCategory".equals(categoryType) && !"parentCategory".equals(categoryType)) {
             throw new CategoryManageException(ServiceExceptionMessage.NOT_VALID_FORM_INPUT);
         }
+    }
 
-        if (category.getId() == categoryInput.getId() &&
-                category.getSeq() == categoryInput.getSeq()) {
+    private boolean checkCategory(Category category, CategoryInput categoryInput) {
+        if (Objects.equals(category.getId(), categoryInput.getId()) &&
+                Objects.equals(category.getSeq(), categoryInput.getSeq())) {
             boolean isChild = category.getParentId() == 0 ? false : true;
             if (isChild && categoryInput.getType().equals("childCategory") || (!isChild && categoryInput.getType().equals("parentCategory"))) {
                 return true;
@@ -271,6 +321,24 @@ public class CategoryServiceImpl implements CategoryService {
         return false;
     }
 
+    // 카테고리 이름/상위 카테고리 변경 후에 표시 이름(full_path) 재구성
+    private void updateCategoryFullPath(List<Category> categories, List<Category> createdCategories) {
+        Map<Long, Category> categoryMap = new HashMap<>();
+
+        for (Category category : categories) {
+            categoryMap.put(category.getId(), category);
+        }
+
+        for (Category category : createdCategories) {
+            categoryMap.put(category.getId(), category);
+        }
+
+        for (Category category : categoryMap.values()) {
+            Category parentCategory = category.getParentId() == 0 ? null : categoryMap.get(category.getParentId());
+            category.setFullPath(parentCategory == null || parentCategory.isDelete() ? category.getName() : parentCategory.getName() + "/" + category.getName());
+        }
+    }
+
     private Set<String> getCategoryTypeSet(List<Category> categories) {
         Set<String> set = new HashSet<>();
 
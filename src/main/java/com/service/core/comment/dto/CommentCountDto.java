@@ -0,0 +1,9 @@
+package com.service.core.comment.dto;
+
+import lombok.Data;
+
+@Data
+public class CommentCountDto {
+    private final Long postId;
+    private final long commentCount;
+}
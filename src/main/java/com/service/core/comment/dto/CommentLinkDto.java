@@ -2,9 +2,11 @@ package com.service.core.comment.dto;
 
 import lombok.Builder;
 import lombok.Data;
+import lombok.extern.jackson.Jacksonized;
 
 @Data
 @Builder
+@Jacksonized
 public class CommentLinkDto {
     private final Long postId;
     private final String comment;
@@ -1,10 +1,13 @@
 package com.service.core.comment.repository.mapper;
 
+import com.service.core.comment.dto.CommentCountDto;
 import com.service.core.comment.dto.CommentDto;
 import com.service.core.comment.dto.CommentLinkDto;
 import com.service.core.comment.dto.CommentSearchDto;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 @Mapper
@@ -18,4 +21,10 @@ public interface CommentMapper {
     int findCommentCount(Long postId);
 
     int findChildCommentCount(Long commentId);
+
+    List<CommentCountDto> findCommentCountByPostIds(@Param("postIds") Collection<Long> postIds);
+
+    int updatePostCommentCount(@Param("postId") Long postId, @Param("existDelta") int existDelta, @Param("totalDelta") int totalDelta);
+
+    int repairPostCommentCount(@Param("fromPostId") long fromPostId, @Param("toPostId") long toPostId);
 }
@@ -0,0 +1,74 @@
+package com.service.core.comment.scheduler;
+
+import com.service.config.app.AppConfig;
+import com.service.core.comment.repository.mapper.CommentMapper;
+import com.service.core.post.repository.mapper.PostMapper;
+import com.service.util.redis.key.RedisTemplateKey;
+import com.service.util.redis.service.common.CommonRedisService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글별 댓글 수(post.comment_count, post.comment_total_count)를 comment 테이블 기준으로 재계산
+ * 댓글 수 컬럼 도입 시점의 초기값 구성(최초 1회, 기동 시) 및 누락된 증감 보정(매일 새벽)을 위해 post_id 범위 단위로 나누어 갱신
+ * 초기값 구성 완료 여부는 Redis 에 기록하여, 이후 기동(배포) 시에는 전체 재계산을 반복하지 않음
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class CommentCountRepairScheduler {
+    private final CommentMapper commentMapper;
+    private final PostMapper postMapper;
+    private final CommonRedisService commonRedisService;
+    private final AppConfig appConfig;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeOnStartup() {
+        try {
+            if (commonRedisService.getValue(RedisTemplateKey.COMMENT_COUNT_INITIALIZED) != null) {
+                return;
+            }
+        } catch (Exception e) {
+            log.error("[CommentCountRepairScheduler:initializeOnStartup] error =>", e);
+            return;
+        }
+        repairCommentCount();
+    }
+
+    @Scheduled(cron = "0 30 4 * * *", zone = "Asia/Seoul")
+    public void repairCommentCount() {
+        try {
+            if (!commonRedisService.tryLock(RedisTemplateKey.COMMENT_COUNT_REPAIR_LOCK, RedisTemplateKey.COMMENT_COUNT_REPAIR_LOCK_TTL)) {
+                return;
+            }
+
+            Long maxPostId = postMapper.findMaxPostId();
+
+            if (maxPostId == null) {
+                markInitialized();
+                return;
+            }
+
+            long start = System.currentTimeMillis();
+            int batchSize = appConfig.getCommentCountRepairBatchSize();
+            int repairedCount = 0;
+
+            for (long fromPostId = 1; fromPostId <= maxPostId; fromPostId += batchSize) {
+                repairedCount += commentMapper.repairPostCommentCount(fromPostId, fromPostId + batchSize - 1);
+            }
+            log.info("[CommentCountRepairScheduler:repairCommentCount] maxPostId:{}, repaired:{}, elapsed:{}ms", maxPostId, repairedCount, System.currentTimeMillis() - start);
+            markInitialized();
+        } catch (Exception e) {
+            log.error("[CommentCountRepairScheduler:repairCommentCount] error =>", e);
+        }
+    }
+
+    // 전체 재계산을 1회라도 완료하면 초기값 구성 완료 (이후에는 매일 새벽 보정만 수행)
+    private void markInitialized() {
+        commonRedisService.setValue(RedisTemplateKey.COMMENT_COUNT_INITIALIZED, String.valueOf(System.currentTimeMillis()));
+    }
+}
@@ -12,6 +12,10 @@ public interface CommentInfoService {
 
     Comment saveComment(Comment comment);
 
+    Comment registerComment(Comment comment);
+
+    void softDeleteComment(Comment comment);
+
     int findCommentCount(Long postId);
 
     int findCommentCountExist(Long postId);
@@ -24,5 +28,5 @@ public interface CommentInfoService {
 
     Comment findCommentUnlessDeleteById(Long commentId);
 
-    Long deleteCommentById(Long commentId);
+    Long deleteComment(Comment comment);
 }
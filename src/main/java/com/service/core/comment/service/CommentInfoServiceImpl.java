@@ -35,6 +35,22 @@ public class CommentInfoServiceImpl implements CommentInfoService {
         return commentRepository.save(comment);
     }
 
+    // 댓글 등록/삭제는 게시글의 댓글 수와 같은 트랜잭션에서 반영
+    @Transactional
+    @Override
+    public Comment registerComment(Comment comment) {
+        Comment registeredComment = commentRepository.save(comment);
+        commentMapper.updatePostCommentCount(comment.getPost().getId(), 1, 1);
+        return registeredComment;
+    }
+
+    @Transactional
+    @Override
+    public void softDeleteComment(Comment comment) {
+        comment.setDelete(true);
+        commentMapper.updatePostCommentCount(comment.getPost().getId(), -1, 0);
+    }
+
     @Override
     public int findCommentCount(Long postId) {
         return commentMapper.findCommentCount(postId);
@@ -73,8 +89,9 @@ public class CommentInfoServiceImpl implements CommentInfoService {
 
     @Transactional
     @Override
-    public Long deleteCommentById(Long commentId) {
-        commentRepository.deleteById(commentId);
-        return commentId;
+    public Long deleteComment(Comment comment) {
+        commentRepository.deleteById(comment.getId());
+        commentMapper.updatePostCommentCount(comment.getPost().getId(), comment.isDelete() ? 0 : -1, -1);
+        return comment.getId();
     }
 }
@@ -1,5 +1,6 @@
 package com.service.core.comment.service;
 
+import com.service.core.blog.service.BlogShellCacheEvictor;
 import com.service.core.comment.domain.Comment;
 import com.service.core.comment.domain.CommentUser;
 import com.service.core.comment.dto.*;
@@ -10,6 +11,7 @@ import com.service.core.comment.paging.CommentPaginationResponse;
 import com.service.core.comment.paging.CommentSearchPagingDto;
 import com.service.core.error.constants.ServiceExceptionMessage;
 import com.service.core.error.model.CommentManageException;
+import com.service.core.media.service.MediaStorageService;
 import com.service.core.post.domain.Post;
 import com.service.core.post.dto.PostDto;
 import com.service.core.post.dto.PostLinkDto;
@@ -18,8 +20,6 @@ import com.service.core.user.dto.UserCommentDto;
 import com.service.core.user.service.UserService;
 import com.service.util.BlogUtil;
 import com.service.util.ConstUtil;
-import com.service.util.aws.s3.AwsS3Service;
-import com.service.util.sftp.SftpService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.bcrypt.BCrypt;
@@ -35,11 +35,11 @@ import java.util.List;
 @RequiredArgsConstructor
 @Slf4j
 public class CommentServiceImpl implements CommentService {
-    private final AwsS3Service awsS3Service;
-    private final SftpService sftpService;
+    private final MediaStorageService mediaStorageService;
     private final PostService postService;
     private final CommentInfoService commentInfoService;
     private final UserService userService;
+    private final BlogShellCacheEvictor blogShellCacheEvictor;
 
     @Override
     public List<CommentLinkDto> findCommentLinkDto(Long blogId) {
@@ -48,12 +48,14 @@ public class CommentServiceImpl implements CommentService {
 
     @Override
     public CommentImageResultDto uploadAwsSCommentThumbnailImage(MultipartFile multipartFile) throws Exception {
-        return CommentImageResultDto.from(awsS3Service.uploadImageFile(multipartFile), null);
+        String commentImageSrc = mediaStorageService.upload(multipartFile, ConstUtil.UPLOAD_TYPE_S3);
+        return CommentImageResultDto.from(commentImageSrc, null);
     }
 
     @Override
     public CommentImageResultDto uploadSftpCommentThumbnailImage(MultipartFile multipartFile, String uploadKey) throws Exception {
-        return CommentImageResultDto.from(sftpService.sftpFileUpload(multipartFile, ConstUtil.SFTP_COMMENT_IMAGE_HASH, uploadKey), uploadKey);
+        String commentImageSrc = mediaStorageService.upload(multipartFile, ConstUtil.UPLOAD_TYPE_FILE_SERVER);
+        return CommentImageResultDto.from(commentImageSrc, uploadKey);
     }
 
     /**
@@ -100,7 +102,8 @@ public class CommentServiceImpl implements CommentService {
             commentUser.setOwner(postDto.getBlogId() == userCommentDto.getBlogId() ? true : false);
             comment.setCommentUser(commentUser);
         }
-        Comment registeredComment = commentInfoService.saveComment(comment);
+        Comment registeredComment = commentInfoService.registerComment(comment);
+        blogShellCacheEvictor.evictByBlogId(postDto.getBlogId());
         return CommentRegisterResultDto.from(commentInfoService.findCommentCount(commentInput.getCommentPostId()), registeredComment.getId());
     }
 
@@ -148,7 +151,8 @@ public class CommentServiceImpl implements CommentService {
             commentUser.setOwner(postDto.getBlogId() == userCommentDto.getBlogId() ? true : false);
             comment.setCommentUser(commentUser);
         }
-        commentInfoService.saveComment(comment);
+        commentInfoService.registerComment(comment);
+        blogShellCacheEvictor.evictByBlogId(postDto.getBlogId());
     }
 
     @Override
@@ -189,6 +193,7 @@ public class CommentServiceImpl implements CommentService {
     @Override
     public void updateComment(CommentUpdateInput commentUpdateInput, Principal principal) {
         Comment comment = commentInfoService.findCommentById(commentUpdateInput.getCommentId());
+        blogShellCacheEvictor.evictByBlogId(comment.getPost().getBlog().getId());
 
         // File Server 이미지의 경우에 경로가 다르면 기존에 이미지 삭제
         if (comment.getMetaKey() != null && !comment.getMetaKey().isEmpty() && !comment.getMetaKey().equals(ConstUtil.UNDEFINED)) {
@@ -262,6 +267,7 @@ public class CommentServiceImpl implements CommentService {
     @Override
     public void deleteComment(Long commentId, String password, Principal principal) {
         Comment comment = commentInfoService.findCommentById(commentId);
+        blogShellCacheEvictor.evictByBlogId(comment.getPost().getBlog().getId());
 
         if (comment.isAnonymous()) {
             if (!BCrypt.checkpw(password, comment.getCommentUser().getUserPassword())) {
@@ -284,7 +290,7 @@ public class CommentServiceImpl implements CommentService {
             if (comment.getParentId() > 0) {
                 Comment parentComment = commentInfoService.findCommentUnlessDeleteById(comment.getParentId());
                 if (parentComment.isDelete()) {
-                    commentInfoService.deleteCommentById(parentComment.getId());
+                    commentInfoService.deleteComment(parentComment);
 
                     // File Server 이미지의 경우에 기존에 이미지 삭제
                     String parentCommentMetaKey = parentComment.getMetaKey();
@@ -297,7 +303,7 @@ public class CommentServiceImpl implements CommentService {
                     }
                 }
             }
-            commentInfoService.deleteCommentById(commentId);
+            commentInfoService.deleteComment(comment);
 
             // File Server 이미지의 경우에 기존에 이미지 삭제
             String commentMetaKey = comment.getMetaKey();
@@ -309,14 +315,14 @@ public class CommentServiceImpl implements CommentService {
                 }
             }
         } else {
-            comment.setDelete(true);
+            commentInfoService.softDeleteComment(comment);
         }
     }
 
     @Override
     public void deleteCommentThumbnailImage(String imageSrc) {
         try {
-            sftpService.sftpFileDelete(imageSrc);
+            mediaStorageService.delete(imageSrc);
         } catch (Exception e) {
             log.error("CommentServiceImpl[deleteCommentThumbnailImage] exception:", e);
         }
@@ -39,6 +39,7 @@ public enum ServiceExceptionMessage {
     // 포스트 처리 관련 에러 메시지
     POST_NOT_FOUND("포스트 정보가 존재하지 않습니다."),
     ALREADY_DELETE_POST("삭제 된 포스트입니다."),
+    NOT_VALID_POST_CURSOR("페이지 커서 정보가 유효하지 않습니다."),
 
     // 댓글 처리 관련 에러 메시지
     NOT_LOGIN_ANONYMOUS_COMMENT("비로그인 상태에서는 익명 댓글만 허용 됩니다."),
@@ -64,6 +65,9 @@ public enum ServiceExceptionMessage {
 
     // 기타 처리 관련 에러 메시지
     NOT_VALID_FILE_NAME("파일 명이 유효하지 않습니다."),
+    UPLOAD_FILE_NOT_FOUND("업로드 파일이 존재하지 않습니다."),
+    UPLOAD_FILE_SIZE_EXCEEDED("업로드 파일 크기가 제한을 초과하였습니다."),
+    NOT_SUPPORTED_FILE_TYPE("지원하지 않는 파일 형식입니다."),
     NOT_VALID_FORM_INPUT("폼 입력 정보가 양식 조건에 유효하지 않습니다.");
 
     private final String message;
@@ -0,0 +1,66 @@
+package com.service.core.media.domain;
+
+import com.service.util.domain.BaseTimeEntity;
+import com.service.util.media.MediaStorageType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 내용 해시(SHA-256) 기반으로 저장된 미디어 파일 (저장소 + objectKey : 참조 수)
+ * 업로드 시에 참조 수를 증가시키고(같은 내용이면 파일은 1번만 저장), 삭제 시에 감소시켜 0이 되면 파일 삭제 (파일 삭제가 끝날 때까지 행은 유지)
+ */
+@Entity
+@Data
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "media_blob", uniqueConstraints = {
+        @UniqueConstraint(name = "media_blob_uk_storage_key", columnNames = {"storage_type", "object_key"})
+})
+public class MediaBlob extends BaseTimeEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "media_blob_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "storage_type", length = 10, nullable = false)
+    private MediaStorageType storageType;
+
+    @Column(name = "object_key", length = 100, nullable = false)
+    private String objectKey;
+
+    @Column(length = 64, nullable = false)
+    private String checksum;
+
+    private String contentType;
+
+    private long size;
+
+    @Column(name = "ref_count", columnDefinition = "bigint not null default 0")
+    private long refCount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "variant_status", length = 10)
+    private MediaVariantStatus variantStatus;
+
+    // 생성된 축소본 너비 목록 (ex: "160,480")
+    @Column(name = "variant_widths", length = 50)
+    private String variantWidths;
+
+    @Column(name = "variant_extension", length = 10)
+    private String variantExtension;
+
+    // 참조 수가 0이 되어 파일 삭제 대기 중인 경우 삭제 작업자의 선점 토큰 (삭제 전에 다시 업로드되면 null 로 취소)
+    @Column(name = "delete_token", length = 36)
+    private String deleteToken;
+
+    // 파일 삭제를 시작한 시간 (삭제 중에는 같은 내용을 다시 업로드할 수 없음)
+    @Column(name = "delete_start_time")
+    private LocalDateTime deleteStartTime;
+}
@@ -0,0 +1,45 @@
+package com.service.core.media.domain;
+
+import com.service.util.domain.BaseTimeEntity;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 미디어 파일 삭제 대기열 (요청 처리 중에는 삭제할 URL 만 저장하고, MediaDeleteScheduler 에서 모아서 삭제)
+ * 작업자는 lease_token 으로 작업을 선점하고, next_try_time 이 지나면(실패 후 재시도, 선점 후 서버 종료 등) 다시 처리
+ */
+@Entity
+@Data
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "media_delete_task", indexes = {
+        @Index(name = "media_delete_task_idx_next_try_time", columnList = "next_try_time"),
+        @Index(name = "media_delete_task_idx_lease_token", columnList = "lease_token")
+})
+public class MediaDeleteTask extends BaseTimeEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "media_delete_task_id")
+    private Long id;
+
+    @Column(length = 500, nullable = false)
+    private String url;
+
+    @Column(name = "retry_count", columnDefinition = "int not null default 0")
+    private int retryCount;
+
+    @Column(name = "next_try_time", nullable = false)
+    private LocalDateTime nextTryTime;
+
+    @Column(name = "lease_token", length = 36)
+    private String leaseToken;
+
+    // 참조 수 감소는 반영되었고 파일 삭제만 남은 작업 (재시도 시에 참조 수를 다시 감소시키지 않음)
+    private boolean isReleased;
+}
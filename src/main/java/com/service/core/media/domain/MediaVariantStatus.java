@@ -0,0 +1,12 @@
+package com.service.core.media.domain;
+
+/**
+ * 이미지 축소본 생성 상태 (생성 전: null)
+ * SKIPPED: 변환할 수 없는 파일(이미지가 아니거나 지원하지 않는 형식, 애니메이션 gif, 최대 픽셀 수 초과)
+ */
+public enum MediaVariantStatus {
+    PROCESSING,
+    READY,
+    SKIPPED,
+    FAILED
+}
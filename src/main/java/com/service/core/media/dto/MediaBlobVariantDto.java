@@ -0,0 +1,39 @@
+package com.service.core.media.dto;
+
+import com.service.core.media.domain.MediaVariantStatus;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Data
+@NoArgsConstructor
+public class MediaBlobVariantDto {
+    private String objectKey;
+    // 삭제 대기열 처리 시에만 조회
+    private Long refCount;
+    private MediaVariantStatus variantStatus;
+    private String variantWidths;
+    private String variantExtension;
+
+    // 생성된 축소본의 너비 : objectKey (생성 완료 전이면 빈 Map)
+    public Map<Integer, String> toVariantKeyMap() {
+        if (variantStatus != MediaVariantStatus.READY || variantWidths == null || variantWidths.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<Integer, String> variantKeyMap = new TreeMap<>();
+
+        for (String width : variantWidths.split(",")) {
+            variantKeyMap.put(Integer.parseInt(width), getVariantKey(objectKey, Integer.parseInt(width), variantExtension));
+        }
+        return variantKeyMap;
+    }
+
+    // 원본과 같은 디렉토리에 저장: "{sha256}.png" => "{sha256}_480w.jpg"
+    public static String getVariantKey(String objectKey, int width, String extension) {
+        return objectKey.substring(0, objectKey.lastIndexOf(".")) + "_" + width + "w." + extension;
+    }
+}
@@ -0,0 +1,13 @@
+package com.service.core.media.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class MediaDeleteTaskDto {
+    private Long id;
+    private String url;
+    private int retryCount;
+    private boolean released;
+}
@@ -0,0 +1,55 @@
+package com.service.core.media.repository.mapper;
+
+import com.service.core.media.domain.MediaVariantStatus;
+import com.service.core.media.dto.MediaBlobVariantDto;
+import com.service.util.media.MediaStorageType;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Mapper
+public interface MediaBlobMapper {
+    int increaseMediaBlobRefCount(@Param("storageType") MediaStorageType storageType, @Param("objectKey") String objectKey,
+                                  @Param("checksum") String checksum, @Param("contentType") String contentType,
+                                  @Param("size") long size, @Param("registerTime") LocalDateTime registerTime);
+
+    Long findMediaBlobRefCount(@Param("storageType") MediaStorageType storageType, @Param("objectKey") String objectKey);
+
+    LocalDateTime findMediaBlobDeleteStartTime(@Param("storageType") MediaStorageType storageType, @Param("objectKey") String objectKey);
+
+    int resetMediaBlobDelete(@Param("storageType") MediaStorageType storageType, @Param("objectKey") String objectKey,
+                             @Param("deleteStartTime") LocalDateTime deleteStartTime, @Param("updateTime") LocalDateTime updateTime);
+
+    List<MediaBlobVariantDto> findMediaBlobListForUpdate(@Param("storageType") MediaStorageType storageType, @Param("objectKeys") Collection<String> objectKeys);
+
+    int updateMediaBlobRefCount(@Param("storageType") MediaStorageType storageType, @Param("objectKey") String objectKey,
+                                @Param("refCount") long refCount, @Param("updateTime") LocalDateTime updateTime);
+
+    int markMediaBlobsDeleting(@Param("storageType") MediaStorageType storageType, @Param("objectKeys") Collection<String> objectKeys,
+                               @Param("deleteToken") String deleteToken, @Param("updateTime") LocalDateTime updateTime);
+
+    int claimMediaBlobDeletes(@Param("storageType") MediaStorageType storageType, @Param("objectKeys") Collection<String> objectKeys,
+                              @Param("deleteToken") String deleteToken, @Param("deleteStartTime") LocalDateTime deleteStartTime);
+
+    List<MediaBlobVariantDto> findMediaBlobListByDeleteToken(@Param("storageType") MediaStorageType storageType, @Param("objectKeys") Collection<String> objectKeys,
+                                                             @Param("deleteToken") String deleteToken);
+
+    int cancelMediaBlobDeletes(@Param("storageType") MediaStorageType storageType, @Param("objectKeys") Collection<String> objectKeys,
+                               @Param("deleteToken") String deleteToken, @Param("updateTime") LocalDateTime updateTime);
+
+    int deleteMediaBlobsByDeleteToken(@Param("storageType") MediaStorageType storageType, @Param("objectKeys") Collection<String> objectKeys,
+                                      @Param("deleteToken") String deleteToken);
+
+    int claimMediaBlobVariant(@Param("storageType") MediaStorageType storageType, @Param("objectKey") String objectKey,
+                              @Param("updateTime") LocalDateTime updateTime, @Param("staleTime") LocalDateTime staleTime,
+                              @Param("failedRetryTime") LocalDateTime failedRetryTime);
+
+    int updateMediaBlobVariant(@Param("storageType") MediaStorageType storageType, @Param("objectKey") String objectKey,
+                               @Param("variantStatus") MediaVariantStatus variantStatus, @Param("variantWidths") String variantWidths,
+                               @Param("variantExtension") String variantExtension, @Param("updateTime") LocalDateTime updateTime);
+
+    List<MediaBlobVariantDto> findMediaBlobVariantList(@Param("storageType") MediaStorageType storageType, @Param("objectKeys") Collection<String> objectKeys);
+}
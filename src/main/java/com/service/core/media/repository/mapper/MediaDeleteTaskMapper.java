@@ -0,0 +1,28 @@
+package com.service.core.media.repository.mapper;
+
+import com.service.core.media.dto.MediaDeleteTaskDto;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Mapper
+public interface MediaDeleteTaskMapper {
+    int insertMediaDeleteTasks(@Param("urls") Collection<String> urls, @Param("registerTime") LocalDateTime registerTime);
+
+    int claimMediaDeleteTasks(@Param("leaseToken") String leaseToken, @Param("now") LocalDateTime now,
+                              @Param("leaseTime") LocalDateTime leaseTime, @Param("batchSize") int batchSize);
+
+    List<MediaDeleteTaskDto> findMediaDeleteTasksByLeaseToken(@Param("leaseToken") String leaseToken);
+
+    List<Long> findLeasedMediaDeleteTaskIdsForUpdate(@Param("ids") Collection<Long> ids, @Param("leaseToken") String leaseToken);
+
+    int releaseMediaDeleteTasks(@Param("ids") Collection<Long> ids, @Param("leaseToken") String leaseToken, @Param("now") LocalDateTime now);
+
+    int retryMediaDeleteTasks(@Param("ids") Collection<Long> ids, @Param("leaseToken") String leaseToken, @Param("now") LocalDateTime now,
+                              @Param("retryBaseSeconds") long retryBaseSeconds, @Param("retryMaxSeconds") long retryMaxSeconds);
+
+    int deleteMediaDeleteTasks(@Param("ids") Collection<Long> ids, @Param("leaseToken") String leaseToken);
+}
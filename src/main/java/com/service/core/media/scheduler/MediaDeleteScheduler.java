@@ -0,0 +1,144 @@
+package com.service.core.media.scheduler;
+
+import com.service.config.media.MediaStorageConfig;
+import com.service.core.media.dto.MediaDeleteTaskDto;
+import com.service.core.media.repository.mapper.MediaDeleteTaskMapper;
+import com.service.core.media.service.MediaBlobService;
+import com.service.util.media.MediaStorage;
+import com.service.util.sftp.SftpService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 미디어 파일 삭제 대기열 처리
+ * 대기열에서 작업을 선점(lease_token)하여 저장소별로 모아서 삭제하고(저장소당 채널/요청 1개, 빈 디렉토리는 배치당 1번 정리), 실패한 작업은 간격을 늘려가며 재시도
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class MediaDeleteScheduler {
+    // 선점 후 처리하지 못한 작업(서버 종료 등)을 다시 처리하기까지의 시간
+    private static final long LEASE_MINUTES = MediaBlobService.DELETE_LEASE_MINUTES;
+    private static final long RETRY_MAX_SECONDS = 3600;
+
+    private final List<MediaStorage> mediaStorageList;
+    private final MediaBlobService mediaBlobService;
+    private final MediaDeleteTaskMapper mediaDeleteTaskMapper;
+    private final SftpService sftpService;
+    private final MediaStorageConfig mediaStorageConfig;
+
+    @Scheduled(fixedDelayString = "${util-config.media_storage.delete_interval_ms}")
+    public void deleteMedia() {
+        try {
+            String leaseToken = UUID.randomUUID().toString();
+            LocalDateTime now = LocalDateTime.now();
+
+            if (mediaDeleteTaskMapper.claimMediaDeleteTasks(leaseToken, now, now.plusMinutes(LEASE_MINUTES), mediaStorageConfig.getDeleteBatchSize()) <= 0) {
+                return;
+            }
+
+            Map<MediaStorage, List<MediaDeleteTaskDto>> storageTaskMap = new HashMap<>();
+            List<MediaDeleteTaskDto> legacyTaskList = new ArrayList<>();
+
+            for (MediaDeleteTaskDto mediaDeleteTaskDto : mediaDeleteTaskMapper.findMediaDeleteTasksByLeaseToken(leaseToken)) {
+                MediaStorage mediaStorage = findMediaStorage(mediaDeleteTaskDto.getUrl());
+
+                if (mediaStorage != null) {
+                    storageTaskMap.computeIfAbsent(mediaStorage, key -> new ArrayList<>()).add(mediaDeleteTaskDto);
+                } else {
+                    legacyTaskList.add(mediaDeleteTaskDto);
+                }
+            }
+
+            List<MediaDeleteTaskDto> failedTaskList = new ArrayList<>();
+
+            for (Map.Entry<MediaStorage, List<MediaDeleteTaskDto>> entry : storageTaskMap.entrySet()) {
+                try {
+                    // 참조 수 감소를 먼저 커밋하고, 파일 삭제는 행 잠금 없이 수행
+                    List<MediaDeleteTaskDto> releasedTaskList = mediaBlobService.release(entry.getKey(), leaseToken, entry.getValue());
+                    failedTaskList.addAll(mediaBlobService.deleteReleased(entry.getKey(), leaseToken, releasedTaskList));
+                } catch (Exception e) {
+                    log.error("[MediaDeleteScheduler:deleteMedia] storage:{} error =>", entry.getKey().getType(), e);
+                    failedTaskList.addAll(entry.getValue());
+                }
+            }
+
+            if (!legacyTaskList.isEmpty()) {
+                failedTaskList.addAll(deleteLegacyFiles(leaseToken, legacyTaskList));
+            }
+
+            if (!failedTaskList.isEmpty()) {
+                retry(leaseToken, failedTaskList);
+            }
+        } catch (Exception e) {
+            log.error("[MediaDeleteScheduler:deleteMedia] error =>", e);
+        }
+    }
+
+    // 해시 기반 경로 도입 이전에 업로드 된 SFTP 파일 (참조 수 관리 대상이 아니므로 바로 삭제)
+    private List<MediaDeleteTaskDto> deleteLegacyFiles(String leaseToken, List<MediaDeleteTaskDto> legacyTaskList) {
+        Set<String> failedUrlSet;
+
+        try {
+            failedUrlSet = sftpService.sftpFileDelete(legacyTaskList.stream().map(MediaDeleteTaskDto::getUrl).collect(Collectors.toSet()));
+        } catch (Exception e) {
+            log.error("[MediaDeleteScheduler:deleteLegacyFiles] error =>", e);
+            return legacyTaskList;
+        }
+
+        List<MediaDeleteTaskDto> failedTaskList = new ArrayList<>();
+        List<Long> doneTaskIdList = new ArrayList<>();
+
+        for (MediaDeleteTaskDto mediaDeleteTaskDto : legacyTaskList) {
+            if (failedUrlSet.contains(mediaDeleteTaskDto.getUrl())) {
+                failedTaskList.add(mediaDeleteTaskDto);
+            } else {
+                doneTaskIdList.add(mediaDeleteTaskDto.getId());
+            }
+        }
+
+        if (!doneTaskIdList.isEmpty()) {
+            mediaDeleteTaskMapper.deleteMediaDeleteTasks(doneTaskIdList, leaseToken);
+        }
+        return failedTaskList;
+    }
+
+    // 최대 재시도 횟수를 넘긴 작업은 로그만 남기고 대기열에서 제외
+    private void retry(String leaseToken, List<MediaDeleteTaskDto> failedTaskList) {
+        List<Long> retryTaskIdList = new ArrayList<>();
+        List<Long> dropTaskIdList = new ArrayList<>();
+
+        for (MediaDeleteTaskDto mediaDeleteTaskDto : failedTaskList) {
+            if (mediaDeleteTaskDto.getRetryCount() + 1 >= mediaStorageConfig.getDeleteMaxRetry()) {
+                log.error("[MediaDeleteScheduler:retry] give up url:{}, retryCount:{}", mediaDeleteTaskDto.getUrl(), mediaDeleteTaskDto.getRetryCount());
+                dropTaskIdList.add(mediaDeleteTaskDto.getId());
+            } else {
+                retryTaskIdList.add(mediaDeleteTaskDto.getId());
+            }
+        }
+
+        if (!retryTaskIdList.isEmpty()) {
+            mediaDeleteTaskMapper.retryMediaDeleteTasks(retryTaskIdList, leaseToken, LocalDateTime.now(),
+                    mediaStorageConfig.getDeleteRetryBaseSeconds(), RETRY_MAX_SECONDS);
+        }
+
+        if (!dropTaskIdList.isEmpty()) {
+            mediaDeleteTaskMapper.deleteMediaDeleteTasks(dropTaskIdList, leaseToken);
+        }
+    }
+
+    private MediaStorage findMediaStorage(String url) {
+        for (MediaStorage mediaStorage : mediaStorageList) {
+            if (mediaStorage.findObjectKey(url) != null) {
+                return mediaStorage;
+            }
+        }
+        return null;
+    }
+}
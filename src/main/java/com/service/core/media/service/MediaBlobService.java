@@ -0,0 +1,245 @@
+package com.service.core.media.service;
+
+import com.service.core.media.domain.MediaVariantStatus;
+import com.service.core.media.dto.MediaBlobVariantDto;
+import com.service.core.media.dto.MediaDeleteTaskDto;
+import com.service.core.media.repository.mapper.MediaBlobMapper;
+import com.service.core.media.repository.mapper.MediaDeleteTaskMapper;
+import com.service.util.media.MediaStorage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 미디어 파일 참조 수 관리
+ * 업로드는 참조 수 증가와 파일 확정을 같은 트랜잭션(media_blob 행 잠금) 안에서 수행하고,
+ * 삭제는 참조 수 감소를 먼저 커밋한 후 행 잠금 없이 파일을 삭제 (삭제 대기 상태로 같은 내용의 업로드/삭제가 동시에 일어나도 파일이 유실되지 않도록 함)
+ * (파일 저장/삭제는 호출한 쪽 트랜잭션과 무관하게 바로 반영되므로 별도 트랜잭션으로 수행)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MediaBlobService {
+    // 삭제 작업 선점 기간 (파일 삭제를 시작한 후 이 시간이 지나도록 끝나지 않으면 작업자가 종료된 것으로 판단)
+    public static final long DELETE_LEASE_MINUTES = 5;
+
+    private final MediaBlobMapper mediaBlobMapper;
+    private final MediaDeleteTaskMapper mediaDeleteTaskMapper;
+
+    /**
+     * 처음 저장되는 내용이면 임시 파일을 확정하고, 이미 저장된 내용이면 임시 파일 삭제
+     * 같은 내용의 파일 삭제가 진행 중이면 증가시킨 참조 수를 되돌리고 false 를 반환하여 호출한 쪽에서 삭제가 끝난 후 다시 시도
+     * (삭제 도중 작업자가 종료되어 선점 기간이 지났으면 삭제를 해제하고 업로드한 파일로 다시 확정)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW, rollbackFor = Exception.class)
+    public boolean reference(MediaStorage mediaStorage, String stagingKey, String objectKey, String checksum, String contentType, long size) throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        mediaBlobMapper.increaseMediaBlobRefCount(mediaStorage.getType(), objectKey, checksum, contentType, size, now);
+        LocalDateTime deleteStartTime = mediaBlobMapper.findMediaBlobDeleteStartTime(mediaStorage.getType(), objectKey);
+        Long refCount = mediaBlobMapper.findMediaBlobRefCount(mediaStorage.getType(), objectKey);
+
+        if (deleteStartTime != null) {
+            if (deleteStartTime.isAfter(now.minusMinutes(DELETE_LEASE_MINUTES))) {
+                mediaBlobMapper.updateMediaBlobRefCount(mediaStorage.getType(), objectKey, refCount - 1, now);
+                return false;
+            }
+
+            mediaBlobMapper.resetMediaBlobDelete(mediaStorage.getType(), objectKey, deleteStartTime, now);
+            log.warn("[MediaBlobService:reference] reset stale delete storage:{}, objectKey:{}", mediaStorage.getType(), objectKey);
+        }
+
+        if (refCount != null && refCount > 1) {
+            mediaStorage.discard(stagingKey);
+        } else {
+            mediaStorage.promote(stagingKey, objectKey, contentType);
+        }
+        return true;
+    }
+
+    /**
+     * 삭제 대기열 작업을 objectKey 별로 모아서 참조 수를 감소시키고, 0이 되는 파일은 삭제 대기 상태로 변경 (파일 삭제는 deleteReleased 에서 커밋 이후에 수행)
+     * 처리한 작업은 참조 수 변경과 같은 트랜잭션에서 대기열에서 삭제하거나 참조 수 감소 완료로 표시 (작업자가 중간에 종료되어도 참조 수가 중복 감소되지 않음)
+     *
+     * @param mediaStorage 저장소
+     * @param leaseToken   작업 선점 토큰 (선점 기간이 지나 다른 작업자가 다시 선점한 작업은 처리하지 않음)
+     * @param taskList     이 저장소의 URL 인 삭제 작업 목록
+     * @return 파일 삭제가 남은 작업 목록 (objectKey 당 1개, 재시도 기록으로 대기열에 유지)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW, rollbackFor = Exception.class)
+    public List<MediaDeleteTaskDto> release(MediaStorage mediaStorage, String leaseToken, List<MediaDeleteTaskDto> taskList) {
+        Set<Long> leasedIdSet = new HashSet<>(mediaDeleteTaskMapper.findLeasedMediaDeleteTaskIdsForUpdate(
+                taskList.stream().map(MediaDeleteTaskDto::getId).collect(Collectors.toList()), leaseToken));
+        Map<String, List<MediaDeleteTaskDto>> objectKeyTaskMap = new TreeMap<>();
+        List<MediaDeleteTaskDto> releasedTaskList = new ArrayList<>();
+
+        for (MediaDeleteTaskDto mediaDeleteTaskDto : taskList) {
+            if (!leasedIdSet.contains(mediaDeleteTaskDto.getId())) {
+                continue;
+            }
+
+            if (mediaDeleteTaskDto.isReleased()) {
+                releasedTaskList.add(mediaDeleteTaskDto);
+            } else {
+                objectKeyTaskMap.computeIfAbsent(mediaStorage.findObjectKey(mediaDeleteTaskDto.getUrl()), key -> new ArrayList<>()).add(mediaDeleteTaskDto);
+            }
+        }
+
+        if (objectKeyTaskMap.isEmpty()) {
+            return releasedTaskList;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<String> unreferencedObjectKeyList = new ArrayList<>();
+        Set<String> untrackedObjectKeySet = new TreeSet<>(objectKeyTaskMap.keySet());
+
+        for (MediaBlobVariantDto mediaBlobVariantDto : mediaBlobMapper.findMediaBlobListForUpdate(mediaStorage.getType(), objectKeyTaskMap.keySet())) {
+            String objectKey = mediaBlobVariantDto.getObjectKey();
+            long refCount = mediaBlobVariantDto.getRefCount() - objectKeyTaskMap.get(objectKey).size();
+            untrackedObjectKeySet.remove(objectKey);
+
+            if (refCount > 0) {
+                mediaBlobMapper.updateMediaBlobRefCount(mediaStorage.getType(), objectKey, refCount, now);
+            } else {
+                unreferencedObjectKeyList.add(objectKey);
+            }
+        }
+
+        // 이미 삭제된 파일 (삭제 요청 중복 등)
+        if (!untrackedObjectKeySet.isEmpty()) {
+            log.warn("[MediaBlobService:release] untracked storage:{}, objectKeys:{}", mediaStorage.getType(), untrackedObjectKeySet);
+        }
+
+        if (!unreferencedObjectKeyList.isEmpty()) {
+            mediaBlobMapper.markMediaBlobsDeleting(mediaStorage.getType(), unreferencedObjectKeyList, leaseToken, now);
+        }
+
+        Set<String> unreferencedObjectKeySet = new HashSet<>(unreferencedObjectKeyList);
+        List<Long> releasedTaskIdList = new ArrayList<>();
+        List<Long> doneTaskIdList = new ArrayList<>();
+
+        for (Map.Entry<String, List<MediaDeleteTaskDto>> entry : objectKeyTaskMap.entrySet()) {
+            List<MediaDeleteTaskDto> objectKeyTaskList = entry.getValue();
+            int doneIndex = 0;
+
+            if (unreferencedObjectKeySet.contains(entry.getKey())) {
+                MediaDeleteTaskDto releasedTask = objectKeyTaskList.get(0);
+                releasedTask.setReleased(true);
+                releasedTaskList.add(releasedTask);
+                releasedTaskIdList.add(releasedTask.getId());
+                doneIndex = 1;
+            }
+
+            objectKeyTaskList.subList(doneIndex, objectKeyTaskList.size()).forEach(mediaDeleteTaskDto -> doneTaskIdList.add(mediaDeleteTaskDto.getId()));
+        }
+
+        if (!releasedTaskIdList.isEmpty()) {
+            mediaDeleteTaskMapper.releaseMediaDeleteTasks(releasedTaskIdList, leaseToken, now);
+        }
+
+        if (!doneTaskIdList.isEmpty()) {
+            mediaDeleteTaskMapper.deleteMediaDeleteTasks(doneTaskIdList, leaseToken);
+        }
+        return releasedTaskList;
+    }
+
+    /**
+     * 참조 수 감소가 반영된 작업의 파일(축소본 포함)을 일괄 삭제
+     * 파일 서버 응답을 기다리는 동안 행 잠금을 잡지 않도록 트랜잭션 없이 문장 단위로 반영하고, 삭제 대기 상태(delete_token)로 업로드와의 경합을 처리
+     * - 삭제 시작 전에 다시 업로드되면 삭제 취소 (작업만 완료 처리)
+     * - 삭제 시작 이후에는 같은 내용의 업로드가 삭제 완료를 기다림 (삭제 도중 서버가 종료되면 선점 기간이 지난 후 업로드가 삭제를 해제)
+     *
+     * @return 파일 삭제에 실패하여 재시도할 작업 목록
+     */
+    public List<MediaDeleteTaskDto> deleteReleased(MediaStorage mediaStorage, String leaseToken, List<MediaDeleteTaskDto> releasedTaskList) {
+        if (releasedTaskList.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<String, List<MediaDeleteTaskDto>> objectKeyTaskMap = new TreeMap<>();
+        releasedTaskList.forEach(mediaDeleteTaskDto ->
+                objectKeyTaskMap.computeIfAbsent(mediaStorage.findObjectKey(mediaDeleteTaskDto.getUrl()), key -> new ArrayList<>()).add(mediaDeleteTaskDto));
+
+        mediaBlobMapper.claimMediaBlobDeletes(mediaStorage.getType(), objectKeyTaskMap.keySet(), leaseToken, LocalDateTime.now());
+        Map<String, MediaBlobVariantDto> claimedMediaBlobMap = new TreeMap<>();
+        mediaBlobMapper.findMediaBlobListByDeleteToken(mediaStorage.getType(), objectKeyTaskMap.keySet(), leaseToken)
+                .forEach(mediaBlobVariantDto -> claimedMediaBlobMap.put(mediaBlobVariantDto.getObjectKey(), mediaBlobVariantDto));
+
+        Set<String> failedObjectKeySet;
+
+        try {
+            failedObjectKeySet = claimedMediaBlobMap.isEmpty() ? Collections.emptySet() : mediaStorage.deleteAll(claimedMediaBlobMap.keySet());
+        } catch (Exception e) {
+            log.error("[MediaBlobService:deleteReleased] storage:{} error =>", mediaStorage.getType(), e);
+            failedObjectKeySet = claimedMediaBlobMap.keySet();
+        }
+
+        Set<String> finalFailedObjectKeySet = failedObjectKeySet;
+        List<String> deletedObjectKeyList = claimedMediaBlobMap.keySet().stream()
+                .filter(objectKey -> !finalFailedObjectKeySet.contains(objectKey))
+                .collect(Collectors.toList());
+
+        if (!failedObjectKeySet.isEmpty()) {
+            mediaBlobMapper.cancelMediaBlobDeletes(mediaStorage.getType(), failedObjectKeySet, leaseToken, LocalDateTime.now());
+        }
+
+        if (!deletedObjectKeyList.isEmpty()) {
+            mediaBlobMapper.deleteMediaBlobsByDeleteToken(mediaStorage.getType(), deletedObjectKeyList, leaseToken);
+            deleteVariants(mediaStorage, deletedObjectKeyList.stream()
+                    .flatMap(objectKey -> claimedMediaBlobMap.get(objectKey).toVariantKeyMap().values().stream())
+                    .collect(Collectors.toList()));
+            log.info("[MediaBlobService:deleteReleased] deleted storage:{}, count:{}", mediaStorage.getType(), deletedObjectKeyList.size());
+        }
+
+        List<MediaDeleteTaskDto> failedTaskList = new ArrayList<>();
+        List<Long> doneTaskIdList = new ArrayList<>();
+
+        for (Map.Entry<String, List<MediaDeleteTaskDto>> entry : objectKeyTaskMap.entrySet()) {
+            if (failedObjectKeySet.contains(entry.getKey())) {
+                failedTaskList.addAll(entry.getValue());
+            } else {
+                entry.getValue().forEach(mediaDeleteTaskDto -> doneTaskIdList.add(mediaDeleteTaskDto.getId()));
+            }
+        }
+
+        if (!doneTaskIdList.isEmpty()) {
+            mediaDeleteTaskMapper.deleteMediaDeleteTasks(doneTaskIdList, leaseToken);
+        }
+        return failedTaskList;
+    }
+
+    // 축소본 생성 작업 선점 (이미 생성했거나, 다른 작업이 생성 중이거나, 실패 후 재시도 간격이 지나지 않았으면 false)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, rollbackFor = Exception.class)
+    public boolean claimVariant(MediaStorage mediaStorage, String objectKey, long staleMinutes, long failedRetryMinutes) {
+        LocalDateTime now = LocalDateTime.now();
+        return mediaBlobMapper.claimMediaBlobVariant(mediaStorage.getType(), objectKey, now, now.minusMinutes(staleMinutes), now.minusMinutes(failedRetryMinutes)) > 0;
+    }
+
+    // 축소본 생성 상태 갱신 (생성 도중에 원본이 삭제되었으면 false)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, rollbackFor = Exception.class)
+    public boolean updateVariant(MediaStorage mediaStorage, String objectKey, MediaVariantStatus variantStatus, String variantWidths, String variantExtension) {
+        return mediaBlobMapper.updateMediaBlobVariant(mediaStorage.getType(), objectKey, variantStatus, variantWidths, variantExtension, LocalDateTime.now()) > 0;
+    }
+
+    // 축소본은 원본 삭제 이후에 정리 (실패해도 원본 삭제는 유지)
+    public void deleteVariants(MediaStorage mediaStorage, Collection<String> variantKeys) {
+        if (variantKeys.isEmpty()) {
+            return;
+        }
+
+        try {
+            Set<String> failedVariantKeys = mediaStorage.deleteAll(variantKeys);
+
+            if (!failedVariantKeys.isEmpty()) {
+                log.error("[MediaBlobService:deleteVariants] failed variantKeys:{}", failedVariantKeys);
+            }
+        } catch (Exception e) {
+            log.error("[MediaBlobService:deleteVariants] error =>", e);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.service.core.media.service;
+
+import com.service.core.media.repository.mapper.MediaDeleteTaskMapper;
+import com.service.util.ConstUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 미디어 파일 삭제 대기열 등록 (파일 삭제는 MediaDeleteScheduler 에서 모아서 처리)
+ * 읽기 전용 트랜잭션에서 호출되어도 master 에 저장되도록 별도 트랜잭션으로 수행
+ */
+@Service
+@RequiredArgsConstructor
+public class MediaDeleteTaskService {
+    private final MediaDeleteTaskMapper mediaDeleteTaskMapper;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW, rollbackFor = Exception.class)
+    public void enqueue(Collection<String> urls) {
+        List<String> urlList = urls.stream()
+                .filter(url -> url != null && !url.isEmpty() && !url.equals(ConstUtil.UNDEFINED))
+                .distinct()
+                .collect(Collectors.toList());
+
+        if (urlList.isEmpty()) {
+            return;
+        }
+        mediaDeleteTaskMapper.insertMediaDeleteTasks(urlList, LocalDateTime.now());
+    }
+}
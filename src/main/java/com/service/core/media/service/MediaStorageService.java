@@ -0,0 +1,138 @@
+package com.service.core.media.service;
+
+import com.service.config.app.AppConfig;
+import com.service.config.media.MediaStorageConfig;
+import com.service.core.error.constants.ServiceExceptionMessage;
+import com.service.core.error.model.FileHandleException;
+import com.service.util.ConstUtil;
+import com.service.util.media.MediaStorage;
+import com.service.util.media.MediaStorageType;
+import com.service.util.media.MediaUploadKind;
+import com.service.util.upload.StreamingUploadFile;
+import com.service.util.upload.UploadDigestInputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 이미지/비디오 업로드 및 삭제
+ * 업로드 타입(S3 | FILE_SERVER)에 맞는 저장소에 내용 해시(SHA-256, 스트림을 읽는 동안 계산) 기반 경로로 저장하고, 같은 내용은 1번만 저장
+ * 업로드 종류(이미지 | 비디오)별로 허용된 Content-Type 만 저장하고, 확장자는 Content-Type 으로 결정
+ */
+@Slf4j
+@Service
+public class MediaStorageService {
+    private static final long DELETE_WAIT_INTERVAL_MILLIS = 200;
+
+    private final Map<MediaStorageType, MediaStorage> mediaStorageMap = new EnumMap<>(MediaStorageType.class);
+    private final MediaBlobService mediaBlobService;
+    private final MediaDeleteTaskService mediaDeleteTaskService;
+    private final MediaStorageConfig mediaStorageConfig;
+    private final AppConfig appConfig;
+
+    public MediaStorageService(List<MediaStorage> mediaStorageList, MediaBlobService mediaBlobService, MediaDeleteTaskService mediaDeleteTaskService,
+                               MediaStorageConfig mediaStorageConfig, AppConfig appConfig) {
+        for (MediaStorage mediaStorage : mediaStorageList) {
+            mediaStorageMap.put(mediaStorage.getType(), mediaStorage);
+        }
+        this.mediaBlobService = mediaBlobService;
+        this.mediaDeleteTaskService = mediaDeleteTaskService;
+        this.mediaStorageConfig = mediaStorageConfig;
+        this.appConfig = appConfig;
+    }
+
+    // 이미지 업로드
+    public String upload(MultipartFile multipartFile, String uploadType) throws Exception {
+        if (multipartFile.getOriginalFilename() == null || multipartFile.getOriginalFilename().isEmpty()) {
+            throw new FileHandleException(ServiceExceptionMessage.NOT_VALID_FILE_NAME);
+        }
+
+        String extension = getExtension(MediaUploadKind.IMAGE, multipartFile.getContentType());
+        return upload(new UploadDigestInputStream(multipartFile.getInputStream(), appConfig.getMaxUploadFileSize()), multipartFile.getContentType(), extension, uploadType);
+    }
+
+    // 이미지 업로드
+    public String upload(StreamingUploadFile streamingUploadFile, String uploadType) throws Exception {
+        return upload(streamingUploadFile, MediaUploadKind.IMAGE, uploadType);
+    }
+
+    public String upload(StreamingUploadFile streamingUploadFile, MediaUploadKind mediaUploadKind, String uploadType) throws Exception {
+        String extension = getExtension(mediaUploadKind, streamingUploadFile.getContentType());
+        return upload(streamingUploadFile.getInputStream(), streamingUploadFile.getContentType(), extension, uploadType);
+    }
+
+    /**
+     * 업로드 된 미디어 삭제 요청 (삭제 대기열에 등록하고 바로 반환, 파일 서버 응답을 기다리지 않음)
+     * 다른 곳에서 같은 내용을 참조하고 있으면 참조 수만 감소하고, 해시 기반 경로 도입 이전에 업로드 된 SFTP 파일은 기존 경로 규칙으로 삭제
+     */
+    public void delete(String url) {
+        delete(Collections.singletonList(url));
+    }
+
+    public void delete(Collection<String> urls) {
+        mediaDeleteTaskService.enqueue(urls);
+    }
+
+    private String upload(UploadDigestInputStream inputStream, String contentType, String extension, String uploadType) throws Exception {
+        MediaStorage mediaStorage = getMediaStorage(uploadType);
+        String stagingKey;
+
+        try (InputStream in = inputStream) {
+            stagingKey = mediaStorage.stage(in);
+        } catch (Exception e) {
+            if (inputStream.isExceeded()) {
+                throw new FileHandleException(ServiceExceptionMessage.UPLOAD_FILE_SIZE_EXCEEDED);
+            }
+            throw e;
+        }
+
+        String checksum = inputStream.getChecksum();
+        String objectKey = getObjectKey(checksum, extension);
+
+        try {
+            // 같은 내용의 파일을 삭제하는 중이면 삭제가 끝날 때까지 기다린 후 다시 저장 (삭제 작업자가 종료되었으면 선점 기간이 지난 후 저장)
+            while (!mediaBlobService.reference(mediaStorage, stagingKey, objectKey, checksum, contentType, inputStream.getByteCount())) {
+                Thread.sleep(DELETE_WAIT_INTERVAL_MILLIS);
+            }
+        } catch (Exception e) {
+            mediaStorage.discard(stagingKey);
+            throw e;
+        }
+        return mediaStorage.getUrl(objectKey);
+    }
+
+    private MediaStorage getMediaStorage(String uploadType) {
+        MediaStorageType mediaStorageType;
+
+        if (ConstUtil.UPLOAD_TYPE_S3.equals(uploadType)) {
+            mediaStorageType = MediaStorageType.S3;
+        } else if (ConstUtil.UPLOAD_TYPE_FILE_SERVER.equals(uploadType)) {
+            mediaStorageType = mediaStorageConfig.getFileServerDriver();
+        } else {
+            throw new FileHandleException(ServiceExceptionMessage.NOT_VALID_FORM_INPUT);
+        }
+        return mediaStorageMap.get(mediaStorageType);
+    }
+
+    // 허용하지 않는 형식이면 저장(stage) 전에 거부
+    private String getExtension(MediaUploadKind mediaUploadKind, String contentType) {
+        String extension = mediaUploadKind.getExtension(contentType);
+
+        if (extension == null) {
+            throw new FileHandleException(ServiceExceptionMessage.NOT_SUPPORTED_FILE_TYPE);
+        }
+        return extension;
+    }
+
+    // "{sha256 앞 2자리}/{다음 2자리}/{sha256}.{확장자}" (디렉토리당 파일 수 분산)
+    private String getObjectKey(String checksum, String extension) {
+        return checksum.substring(0, 2) + "/" + checksum.substring(2, 4) + "/" + checksum + "." + extension;
+    }
+}
@@ -0,0 +1,334 @@
+package com.service.core.media.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.service.config.media.MediaStorageConfig;
+import com.service.core.media.domain.MediaVariantStatus;
+import com.service.core.media.dto.MediaBlobVariantDto;
+import com.service.core.media.repository.mapper.MediaBlobMapper;
+import com.service.util.ConstUtil;
+import com.service.util.media.MediaImageResizer;
+import com.service.util.media.MediaStorage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.util.FileSystemUtils;
+
+import javax.annotation.PreDestroy;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+/**
+ * 이미지 축소본(반응형 크기) 생성 및 조회
+ * 업로드 응답을 지연시키지 않도록 전용 executor(스레드 수, 대기열 크기 제한)에서 생성하고, 생성이 끝나기 전에는 원본 사용
+ * 축소본은 원본과 같은 저장소/디렉토리에 저장하고, 같은 내용의 이미지는 1번만 생성 (media_blob 의 축소본 생성 상태로 선점)
+ * 생성에 실패한(일시적인 저장소 오류 등) 이미지는 조회 시에 재시도 간격이 지났으면 다시 생성
+ * 생성 완료 콜백은 같은 내용의 이미지를 이미 생성 중이거나 생성이 끝난 경우에도 실행 (생성 중이면 해당 생성이 끝난 후에 실행)
+ */
+@Slf4j
+@Service
+public class MediaVariantService {
+    private static final long VARIANT_PROCESSING_TIMEOUT_MINUTES = 10;
+    private static final long VARIANT_FAILED_RETRY_MINUTES = 30;
+    private static final int VARIANT_URL_CACHE_SIZE = 10_000;
+
+    private final List<MediaStorage> mediaStorageList;
+    private final MediaBlobService mediaBlobService;
+    private final MediaBlobMapper mediaBlobMapper;
+    private final MediaStorageConfig mediaStorageConfig;
+    private final MediaImageResizer mediaImageResizer;
+    private final ThreadPoolTaskExecutor variantExecutor;
+
+    // 생성이 끝난(READY | SKIPPED) 이미지 URL : 축소본 URL (축소본 경로는 원본 내용으로 정해지므로 변하지 않음)
+    private final Cache<String, Map<Integer, String>> variantUrlCache;
+
+    // 생성에 실패한 이미지 URL (재시도 간격 동안 조회마다 재시도 요청하지 않도록 기록)
+    private final Cache<String, Boolean> failedVariantCache;
+
+    // 생성 중인 이미지(저장소 유형:objectKey) : 생성 완료 시에 실행할 콜백 (다른 노드에서 생성 중이면 생성 제한 시간 이후 만료)
+    private final Cache<String, List<Runnable>> readyCallbackCache;
+
+    public MediaVariantService(List<MediaStorage> mediaStorageList, MediaBlobService mediaBlobService, MediaBlobMapper mediaBlobMapper,
+                               MediaStorageConfig mediaStorageConfig) {
+        this.mediaStorageList = mediaStorageList;
+        this.mediaBlobService = mediaBlobService;
+        this.mediaBlobMapper = mediaBlobMapper;
+        this.mediaStorageConfig = mediaStorageConfig;
+        this.mediaImageResizer = new MediaImageResizer(mediaStorageConfig.getVariantMaxPixels(), mediaStorageConfig.getVariantJpegQuality());
+        this.variantUrlCache = Caffeine.newBuilder()
+                .maximumSize(VARIANT_URL_CACHE_SIZE)
+                .expireAfterWrite(Duration.ofHours(1))
+                .build();
+        this.failedVariantCache = Caffeine.newBuilder()
+                .maximumSize(VARIANT_URL_CACHE_SIZE)
+                .expireAfterWrite(Duration.ofMinutes(VARIANT_FAILED_RETRY_MINUTES))
+                .build();
+        this.readyCallbackCache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(VARIANT_PROCESSING_TIMEOUT_MINUTES))
+                .build();
+
+        ThreadPoolTaskExecutor threadPoolExecutor = new ThreadPoolTaskExecutor();
+        threadPoolExecutor.setCorePoolSize(mediaStorageConfig.getVariantPoolSize());
+        threadPoolExecutor.setMaxPoolSize(mediaStorageConfig.getVariantPoolSize());
+        threadPoolExecutor.setQueueCapacity(mediaStorageConfig.getVariantQueueCapacity());
+        threadPoolExecutor.setThreadNamePrefix("freeblog-media-variant-");
+        threadPoolExecutor.initialize();
+        this.variantExecutor = threadPoolExecutor;
+    }
+
+    /**
+     * 축소본 생성 요청 (실패해도 업로드는 유지하고 원본 사용)
+     *
+     * @param url     업로드 된 이미지 URL
+     * @param onReady 축소본 생성 완료 시에 실행 (축소본 URL 이 포함된 캐시 삭제 등), nullable
+     */
+    public void requestVariants(String url, Runnable onReady) {
+        try {
+            MediaStorage mediaStorage = findMediaStorage(url);
+
+            if (mediaStorage == null) {
+                return;
+            }
+
+            submitVariants(mediaStorage, mediaStorage.findObjectKey(url), onReady);
+        } catch (Exception e) {
+            log.error("[MediaVariantService:requestVariants] error =>", e);
+        }
+    }
+
+    // 생성된 축소본의 너비 : URL (생성 전이거나 축소본이 없는 이미지면 빈 Map)
+    public Map<Integer, String> findVariantUrls(String url) {
+        return findVariantUrls(Collections.singletonList(url)).getOrDefault(url, Collections.emptyMap());
+    }
+
+    // 이미지 URL : (축소본 너비 : URL), 저장소별로 1번씩 조회
+    public Map<String, Map<Integer, String>> findVariantUrls(Collection<String> urls) {
+        Map<String, Map<Integer, String>> variantUrlMap = new HashMap<>();
+        Map<MediaStorage, Map<String, String>> objectKeyUrlMap = new HashMap<>();
+
+        for (String url : urls) {
+            if (url == null || url.isEmpty() || url.equals(ConstUtil.UNDEFINED) || variantUrlMap.containsKey(url)) {
+                continue;
+            }
+
+            Map<Integer, String> cachedVariantUrls = variantUrlCache.getIfPresent(url);
+
+            if (cachedVariantUrls != null) {
+                variantUrlMap.put(url, cachedVariantUrls);
+                continue;
+            }
+
+            MediaStorage mediaStorage = findMediaStorage(url);
+
+            if (mediaStorage != null) {
+                objectKeyUrlMap.computeIfAbsent(mediaStorage, key -> new HashMap<>()).put(mediaStorage.findObjectKey(url), url);
+            }
+        }
+
+        for (Map.Entry<MediaStorage, Map<String, String>> entry : objectKeyUrlMap.entrySet()) {
+            try {
+                MediaStorage mediaStorage = entry.getKey();
+
+                for (MediaBlobVariantDto mediaBlobVariantDto : mediaBlobMapper.findMediaBlobVariantList(mediaStorage.getType(), entry.getValue().keySet())) {
+                    String url = entry.getValue().get(mediaBlobVariantDto.getObjectKey());
+                    Map<Integer, String> variantUrls = mediaBlobVariantDto.toVariantKeyMap().entrySet().stream()
+                            .collect(Collectors.toMap(Map.Entry::getKey, variantKey -> mediaStorage.getUrl(variantKey.getValue()), (a, b) -> a, TreeMap::new));
+                    variantUrlMap.put(url, variantUrls);
+
+                    if (mediaBlobVariantDto.getVariantStatus() == MediaVariantStatus.READY || mediaBlobVariantDto.getVariantStatus() == MediaVariantStatus.SKIPPED) {
+                        variantUrlCache.put(url, variantUrls);
+                    } else if (mediaBlobVariantDto.getVariantStatus() == MediaVariantStatus.FAILED && failedVariantCache.getIfPresent(url) == null) {
+                        failedVariantCache.put(url, Boolean.TRUE);
+                        retryVariants(mediaStorage, mediaBlobVariantDto.getObjectKey());
+                    }
+                }
+            } catch (Exception e) {
+                log.error("[MediaVariantService:findVariantUrls] error =>", e);
+            }
+        }
+        return variantUrlMap;
+    }
+
+    /**
+     * 축소본을 생성 중인 이미지인지 여부 (생성 중에 만든 정보는 축소본 URL 이 없으므로 오래 캐싱하지 않기 위함)
+     * 생성하던 노드가 종료되어 제한 시간이 지난 경우에는 다시 생성 요청
+     */
+    public boolean isVariantPending(String url) {
+        if (url == null || url.isEmpty() || url.equals(ConstUtil.UNDEFINED) || variantUrlCache.getIfPresent(url) != null) {
+            return false;
+        }
+
+        try {
+            MediaStorage mediaStorage = findMediaStorage(url);
+
+            if (mediaStorage == null) {
+                return false;
+            }
+
+            String objectKey = mediaStorage.findObjectKey(url);
+
+            if (findVariantStatus(mediaStorage, objectKey) != MediaVariantStatus.PROCESSING) {
+                return false;
+            }
+            retryVariants(mediaStorage, objectKey);
+            return true;
+        } catch (Exception e) {
+            log.error("[MediaVariantService:isVariantPending] error =>", e);
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        variantExecutor.shutdown();
+    }
+
+    private void retryVariants(MediaStorage mediaStorage, String objectKey) {
+        try {
+            submitVariants(mediaStorage, objectKey, null);
+        } catch (Exception e) {
+            log.error("[MediaVariantService:retryVariants] error =>", e);
+        }
+    }
+
+    /**
+     * 생성 작업을 선점한 경우에만 생성 요청
+     * 콜백은 선점 전에 등록하여, 이미 생성 중이면 해당 생성이 끝난 후에 실행하고 이미 생성이 끝났으면 바로 실행
+     */
+    private void submitVariants(MediaStorage mediaStorage, String objectKey, Runnable onReady) {
+        String callbackKey = mediaStorage.getType() + ":" + objectKey;
+
+        if (onReady != null) {
+            readyCallbackCache.asMap().computeIfAbsent(callbackKey, key -> new CopyOnWriteArrayList<>()).add(onReady);
+        }
+
+        if (!mediaBlobService.claimVariant(mediaStorage, objectKey, VARIANT_PROCESSING_TIMEOUT_MINUTES, VARIANT_FAILED_RETRY_MINUTES)) {
+            MediaVariantStatus variantStatus = findVariantStatus(mediaStorage, objectKey);
+
+            if (variantStatus == MediaVariantStatus.READY || variantStatus == MediaVariantStatus.SKIPPED) {
+                runReadyCallbacks(callbackKey);
+            }
+            return;
+        }
+
+        try {
+            variantExecutor.execute(() -> generateVariants(mediaStorage, objectKey, callbackKey));
+        } catch (TaskRejectedException e) {
+            // 대기열이 가득 찬 경우에는 원본을 사용하고, 같은 이미지가 다시 업로드 될 때 재요청
+            readyCallbackCache.invalidate(callbackKey);
+            mediaBlobService.updateVariant(mediaStorage, objectKey, null, null, null);
+            log.warn("[MediaVariantService:submitVariants] rejected objectKey:{}", objectKey);
+        }
+    }
+
+    private MediaVariantStatus findVariantStatus(MediaStorage mediaStorage, String objectKey) {
+        List<MediaBlobVariantDto> mediaBlobVariantDtoList = mediaBlobMapper.findMediaBlobVariantList(mediaStorage.getType(), Collections.singleton(objectKey));
+        return mediaBlobVariantDtoList.isEmpty() ? null : mediaBlobVariantDtoList.get(0).getVariantStatus();
+    }
+
+    private void runReadyCallbacks(String callbackKey) {
+        List<Runnable> readyCallbacks = readyCallbackCache.asMap().remove(callbackKey);
+
+        if (readyCallbacks == null) {
+            return;
+        }
+
+        for (Runnable readyCallback : readyCallbacks) {
+            try {
+                readyCallback.run();
+            } catch (Exception e) {
+                log.error("[MediaVariantService:runReadyCallbacks] error =>", e);
+            }
+        }
+    }
+
+    private void generateVariants(MediaStorage mediaStorage, String objectKey, String callbackKey) {
+        Path workDirectory = null;
+        List<String> promotedVariantKeys = new ArrayList<>();
+
+        try {
+            workDirectory = Files.createTempDirectory("media-variant-");
+            Path sourceFile = workDirectory.resolve("source");
+            mediaStorage.download(objectKey, sourceFile);
+
+            MediaImageResizer.ResizeResult resizeResult = mediaImageResizer.resize(sourceFile, mediaStorageConfig.getVariantWidths(), workDirectory);
+
+            if (resizeResult == null) {
+                mediaBlobService.updateVariant(mediaStorage, objectKey, MediaVariantStatus.SKIPPED, null, null);
+                runReadyCallbacks(callbackKey);
+                return;
+            }
+
+            for (Map.Entry<Integer, Path> variantFile : resizeResult.getVariantFileMap().entrySet()) {
+                String variantKey = MediaBlobVariantDto.getVariantKey(objectKey, variantFile.getKey(), resizeResult.getExtension());
+                String stagingKey;
+
+                try (InputStream inputStream = Files.newInputStream(variantFile.getValue())) {
+                    stagingKey = mediaStorage.stage(inputStream);
+                }
+
+                try {
+                    mediaStorage.promote(stagingKey, variantKey, resizeResult.getContentType());
+                } catch (Exception e) {
+                    mediaStorage.discard(stagingKey);
+                    throw e;
+                }
+                promotedVariantKeys.add(variantKey);
+            }
+
+            String variantWidths = resizeResult.getVariantFileMap().keySet().stream().map(String::valueOf).collect(Collectors.joining(","));
+
+            if (!mediaBlobService.updateVariant(mediaStorage, objectKey, MediaVariantStatus.READY, variantWidths, resizeResult.getExtension())) {
+                // 생성 도중에 원본이 삭제된 경우
+                readyCallbackCache.invalidate(callbackKey);
+                mediaBlobService.deleteVariants(mediaStorage, promotedVariantKeys);
+                return;
+            }
+            log.info("[MediaVariantService:generateVariants] storage:{}, objectKey:{}, widths:{}", mediaStorage.getType(), objectKey, variantWidths);
+        } catch (Exception e) {
+            log.error("[MediaVariantService:generateVariants] error =>", e);
+            mediaBlobService.deleteVariants(mediaStorage, promotedVariantKeys);
+
+            try {
+                mediaBlobService.updateVariant(mediaStorage, objectKey, MediaVariantStatus.FAILED, null, null);
+            } catch (Exception updateException) {
+                log.error("[MediaVariantService:generateVariants] update error =>", updateException);
+            }
+
+            // 실패한 경우에도 생성 중 상태는 끝났으므로 콜백 실행 (원본 사용)
+            runReadyCallbacks(callbackKey);
+            return;
+        } finally {
+            deleteWorkDirectory(workDirectory);
+        }
+
+        runReadyCallbacks(callbackKey);
+    }
+
+    private MediaStorage findMediaStorage(String url) {
+        for (MediaStorage mediaStorage : mediaStorageList) {
+            if (mediaStorage.findObjectKey(url) != null) {
+                return mediaStorage;
+            }
+        }
+        return null;
+    }
+
+    private void deleteWorkDirectory(Path workDirectory) {
+        if (workDirectory == null) {
+            return;
+        }
+
+        try {
+            FileSystemUtils.deleteRecursively(workDirectory);
+        } catch (Exception e) {
+            log.error("[MediaVariantService:deleteWorkDirectory] error =>", e);
+        }
+    }
+}
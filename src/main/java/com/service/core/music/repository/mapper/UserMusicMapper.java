@@ -1,11 +1,14 @@
 package com.service.core.music.repository.mapper;
 
+import com.service.core.music.domain.UserMusic;
 import com.service.core.music.dto.UserMusicDto;
 import com.service.core.music.model.UserMusicSearchInput;
 import com.service.core.music.paging.MusicSearchPagingDto;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Mapper
@@ -17,4 +20,8 @@ public interface UserMusicMapper {
     int searchUserMusicCount(@Param("musicSearchPagingDto") MusicSearchPagingDto musicSearchPagingDto, Long categoryId, Long blogId);
 
     int searchUserMusicByHashCode(int hashCode);
+
+    List<Integer> findExistUserMusicHashCodes(@Param("hashCodes") Collection<Integer> hashCodes);
+
+    int insertUserMusicList(@Param("userMusicList") List<UserMusic> userMusicList, @Param("registerTime") LocalDateTime registerTime);
 }
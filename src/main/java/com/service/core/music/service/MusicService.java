@@ -6,7 +6,11 @@ import com.service.core.music.paging.MusicPaginationResponse;
 import com.service.core.music.paging.MusicSearchPagingDto;
 import com.service.core.music.repository.MusicRepository;
 import com.service.core.music.repository.mapper.MusicMapper;
+import com.service.util.redis.key.RedisTemplateKey;
+import com.service.util.redis.service.paging.PagingCountRedisTemplateService;
+import com.service.util.redis.service.paging.PagingCountType;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
@@ -17,9 +21,14 @@ import java.util.List;
 public class MusicService {
     private final MusicMapper musicMapper;
     private final MusicRepository musicRepository;
+    private final PagingCountRedisTemplateService pagingCountRedisTemplateService;
 
     public MusicPaginationResponse<List<MusicDto>> searchMusicDto(MusicSearchPagingDto musicSearchPagingDto, long categoryId) {
-        int musicCount = musicMapper.searchMusicCount(musicSearchPagingDto, categoryId);
+        musicSearchPagingDto.setKeyword(StringUtils.trim(musicSearchPagingDto.getKeyword()));
+        // 음악 목록은 관리자가 일괄 등록하므로 버전 변경 없이 TTL 로만 갱신
+        int musicCount = pagingCountRedisTemplateService.getPagingCount(PagingCountType.MUSIC_SEARCH, RedisTemplateKey.PAGING_COUNT_MUSIC_SCOPE,
+                PagingCountRedisTemplateService.filter(categoryId, PagingCountRedisTemplateService.keyword(musicSearchPagingDto.getKeyword()), musicSearchPagingDto.getKeywordType(), musicSearchPagingDto.getSearchType()),
+                () -> musicMapper.searchMusicCount(musicSearchPagingDto, categoryId));
         MusicPagination musicPagination = new MusicPagination(musicCount, musicSearchPagingDto);
         musicSearchPagingDto.setMusicPagination(musicPagination);
         return new MusicPaginationResponse<>(musicMapper.searchMusicDto(musicSearchPagingDto, categoryId), musicPagination);
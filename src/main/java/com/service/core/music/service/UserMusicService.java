@@ -21,6 +21,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.*;
 
 @Service
@@ -47,31 +48,31 @@ public class UserMusicService {
         return new MusicPaginationResponse<>(userMusicMapper.searchUserMusicDto(musicSearchPagingDto, categoryId, blogId), musicPagination);
     }
 
+    // 입력 음악의 중복 여부는 해시코드로 한 번에 조회하고, 신규 음악은 multi-row insert 로 저장
     @Transactional
     public String downloadMusic(String email, List<UserMusicInput> userMusicInputList) {
-        List<UserMusic> userMusicList = new ArrayList<>();
+        Map<Integer, UserMusic> userMusicMap = new LinkedHashMap<>();
+        Map<Long, UserMusicCategory> userMusicCategoryMap = new HashMap<>();
         Blog blog = blogService.findBlogByEmail(email);
 
         for (UserMusicInput userMusicInput : userMusicInputList) {
             Long categoryId = userMusicInput.getMusicCategoryId();
-            MusicCategoryDto musicCategoryDto = musicCategoryService.findMusicCategoryDtoById(categoryId);
-            UserMusicCategory userMusicCategory = userMusicCategoryService.findUserMusicCategoryByTargetIdAndBlogId(categoryId, blog.getId());
+            UserMusicCategory userMusicCategory = userMusicCategoryMap.get(categoryId);
 
             if (userMusicCategory == null) {
-                userMusicCategory = userMusicCategoryService.saveUserMusicCategory(UserMusicCategory.from(
-                        musicCategoryDto.getCategoryId(),
-                        musicCategoryDto.getName(),
-                        blog));
+                userMusicCategory = findOrSaveUserMusicCategory(categoryId, blog);
+                userMusicCategoryMap.put(categoryId, userMusicCategory);
             }
             UserMusic userMusic = UserMusic.from(email, blog, userMusicInput, userMusicCategory);
+            userMusicMap.putIfAbsent(userMusic.getHashCode(), userMusic);
+        }
 
-            if (findUserMusicByHashCode(userMusic.getHashCode()) == false) {
-                userMusicList.add(userMusic);
-            }
+        if (userMusicMap.isEmpty() == false) {
+            userMusicMap.keySet().removeAll(userMusicMapper.findExistUserMusicHashCodes(userMusicMap.keySet()));
         }
 
-        if (userMusicList.isEmpty() == false) {
-            saveUserMusic(userMusicList);
+        if (userMusicMap.isEmpty() == false) {
+            saveUserMusic(new ArrayList<>(userMusicMap.values()));
         }
         return "OK";
     }
@@ -97,6 +98,19 @@ public class UserMusicService {
 
     @Transactional
     public void saveUserMusic(List<UserMusic> userMusicList) {
-        this.userMusicRepository.saveAll(userMusicList);
+        userMusicMapper.insertUserMusicList(userMusicList, LocalDateTime.now());
+    }
+
+    private UserMusicCategory findOrSaveUserMusicCategory(Long categoryId, Blog blog) {
+        UserMusicCategory userMusicCategory = userMusicCategoryService.findUserMusicCategoryByTargetIdAndBlogId(categoryId, blog.getId());
+
+        if (userMusicCategory == null) {
+            MusicCategoryDto musicCategoryDto = musicCategoryService.findMusicCategoryDtoById(categoryId);
+            userMusicCategory = userMusicCategoryService.saveUserMusicCategory(UserMusicCategory.from(
+                    musicCategoryDto.getCategoryId(),
+                    musicCategoryDto.getName(),
+                    blog));
+        }
+        return userMusicCategory;
     }
 }
@@ -35,6 +35,7 @@ import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 import java.security.Principal;
 import java.util.List;
@@ -85,7 +86,7 @@ public class PostRestController {
                             .id(categoryBasicMapperDto.getId())
                             .name(categoryBasicMapperDto.getName())
                             .build());
-            post.setSeq((long) (postService.findPostCountByBlogId(blogDeleteDto.getId()) + 1));
+            post.setSeq(postService.allocatePostSeq(blogDeleteDto.getId()));
             post.setMetaKey(blogPostInput.getMetaKey());
             PostDetailDto writedPost = postService.register(post, blogPostInput);
             PostDetailDto postDetailDto = postService.updateCachePostDetailInfo(blogPostInput.getId(), writedPost.getId(), writedPost);
@@ -173,12 +174,12 @@ public class PostRestController {
             @ApiResponse(responseCode = "500", description = "네트워크, 데이터베이스 저장 실패 등의 이유로 게시글 이미지 업로드 실패")
     })
     @PostMapping("/upload/post-image/{uploadKey}")
-    public ResponseEntity<String> uploadPostImage(@RequestParam("compressed_post_image") MultipartFile multipartFile, Principal principal, @PathVariable String uploadKey) {
+    public ResponseEntity<String> uploadPostImage(HttpServletRequest request, Principal principal, @PathVariable String uploadKey) {
         try {
             if ((principal == null || principal.getName() == null)) {
                 throw new UserManageException(ServiceExceptionMessage.NOT_LOGIN_STATUS_ACCESS);
             }
-            return ResponseEntity.status(HttpStatus.OK).body(postService.uploadSftpPostImage(multipartFile, uploadKey));
+            return ResponseEntity.status(HttpStatus.OK).body(postService.uploadSftpPostImage(request, uploadKey));
         } catch (Exception exception) {
             if (BlogUtil.getErrorMessage(exception) == ConstUtil.UNDEFINED_ERROR) {
                 log.error("[freeblog-uploadPostThumbnailImage] exception occurred ", exception);
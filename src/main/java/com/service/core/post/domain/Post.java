@@ -27,7 +27,10 @@ import java.util.List;
 @AllArgsConstructor
 @ToString(exclude = {"category", "blog"})
 @Table(name = "post", indexes = {
-        @Index(name = "post_idx_seq", columnList = "seq")
+        @Index(name = "post_idx_seq", columnList = "seq"),
+        @Index(name = "post_idx_blog_seq", columnList = "blog_id, seq"),
+        @Index(name = "post_idx_blog_register_time", columnList = "blog_id, register_time, post_id"),
+        @Index(name = "post_idx_update_time", columnList = "update_time, post_id")
 })
 public class Post extends BaseTimeEntity {
     @Id
@@ -53,6 +56,13 @@ public class Post extends BaseTimeEntity {
 
     private String metaKey;
 
+    // 댓글 수 (삭제되지 않은 댓글 / 삭제 표시된 댓글 포함 전체), 댓글 등록/삭제 시에 SQL 로 증감하므로 JPA 로는 쓰지 않음
+    @Column(name = "comment_count", insertable = false, updatable = false, columnDefinition = "bigint not null default 0")
+    private long commentCount;
+
+    @Column(name = "comment_total_count", insertable = false, updatable = false, columnDefinition = "bigint not null default 0")
+    private long commentTotalCount;
+
     @Fetch(FetchMode.SUBSELECT)
     @OneToMany(mappedBy = "post")
     private List<Tag> tagList;
@@ -14,10 +14,11 @@ public class PostAlmostDto {
     public static PostAlmostDto from(Long seq, List<PostLinkDto> postLinkDtoList) {
         PostAlmostDto postAlmostDto = PostAlmostDto.builder().build();
 
+        // 삭제 된 게시글 등으로 순번이 연속되지 않을 수 있으므로, 조회된 앞/뒤 게시글(각 최대 1개)을 순번 대소로 구분
         for (PostLinkDto postLinkDto : postLinkDtoList) {
-            if (postLinkDto.getSeq() == seq - 1) {
+            if (postLinkDto.getSeq() < seq) {
                 postAlmostDto.setPrevPostLinkDto(postLinkDto);
-            } else if (postLinkDto.getSeq() == seq + 1) {
+            } else if (postLinkDto.getSeq() > seq) {
                 postAlmostDto.setNextPostLinkDto(postLinkDto);
             }
         }
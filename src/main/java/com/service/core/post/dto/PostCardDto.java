@@ -1,12 +1,18 @@
 package com.service.core.post.dto;
 
 import com.service.util.BlogUtil;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import org.apache.ibatis.annotations.AutomapConstructor;
+
+import java.util.Collections;
+import java.util.Map;
 
 
 @Data
-@Builder
+@Builder(toBuilder = true)
+@AllArgsConstructor
 public class PostCardDto {
     private final Long id;
     private final String title;
@@ -14,6 +20,31 @@ public class PostCardDto {
     private final String registerTime;
     private final Long blogId;
     private final Boolean isBaseTimezone;
+    private final long viewCount;
+    private final long likeCount;
+    private final long commentCount;
+    // 썸네일 축소본 너비 : URL (생성 전에는 빈 Map, 원본 사용)
+    private final Map<Integer, String> thumbnailImageVariants;
+
+    // MyBatis 조회 결과 매핑용 (조회수/좋아요 수/댓글 수는 PostStatisticsService, 썸네일 축소본은 MediaVariantService 에서 채움)
+    @AutomapConstructor
+    public PostCardDto(Long id, String title, String thumbnailImage, String registerTime, Long blogId, Boolean isBaseTimezone) {
+        this(id, title, thumbnailImage, registerTime, blogId, isBaseTimezone, 0, 0, 0, Collections.emptyMap());
+    }
+
+    public PostCardDto withStatistics(PostStatisticsDto postStatisticsDto) {
+        return postStatisticsDto == null ? this : toBuilder()
+                .viewCount(postStatisticsDto.getViewCount())
+                .likeCount(postStatisticsDto.getLikeCount())
+                .commentCount(postStatisticsDto.getCommentCount())
+                .build();
+    }
+
+    public PostCardDto withThumbnailImageVariants(Map<Integer, String> thumbnailImageVariants) {
+        return thumbnailImageVariants == null || thumbnailImageVariants.isEmpty() ? this : toBuilder()
+                .thumbnailImageVariants(thumbnailImageVariants)
+                .build();
+    }
 
     public static PostCardDto from(PostDetailDto postDetailDto) {
         return PostCardDto.builder()
@@ -23,6 +54,7 @@ public class PostCardDto {
                 .registerTime(BlogUtil.formatLocalDateTimeToStrByPattern(postDetailDto.getRegisterLocalDateTime(), "yyyy.MM.dd HH:mm"))
                 .blogId(postDetailDto.getBlogId())
                 .isBaseTimezone(postDetailDto.getIsBaseTimezone())
+                .thumbnailImageVariants(Collections.emptyMap())
                 .build();
     }
 }
@@ -42,7 +42,7 @@ public class PostDetailDto implements Serializable {
         postDetailDto.setContents(post.getContents());
         postDetailDto.setThumbnailImage(post.getThumbnailImage());
         postDetailDto.setWriter(post.getWriter());
-        postDetailDto.setCategoryName(post.getCategory().getName());
+        postDetailDto.setCategoryName(post.getCategory().getFullPath() == null ? post.getCategory().getName() : post.getCategory().getFullPath());
         postDetailDto.setCategoryId(post.getCategory().getId());
         postDetailDto.setBlogId(post.getBlog().getId());
         postDetailDto.setRegisterTime(BlogUtil.formatLocalDateTimeToStr(post.getRegisterTime()));
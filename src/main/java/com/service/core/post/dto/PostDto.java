@@ -1,15 +1,19 @@
 package com.service.core.post.dto;
 
 import com.service.core.post.domain.Post;
+import com.service.core.post.paging.PostCursor;
 import com.service.util.BlogUtil;
 import com.service.util.ConstUtil;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import org.apache.ibatis.annotations.AutomapConstructor;
 
 import java.time.LocalDateTime;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
+@AllArgsConstructor
 public class PostDto {
     private final Long id;
     private final String title;
@@ -21,7 +25,29 @@ public class PostDto {
     private final Long categoryId;
     private final Long blogId;
     private final Boolean isBaseTimezone;
+    private final long viewCount;
+    private final long likeCount;
+    private final long commentCount;
+    private LocalDateTime cursorRegisterTime;   // 커서 페이지의 기준 위치 (목록 조회 시에만 채움)
 
+    // MyBatis 조회 결과 매핑용 (조회수/좋아요 수/댓글 수는 PostStatisticsService 에서 채움)
+    @AutomapConstructor
+    public PostDto(Long id, String title, String thumbnailImage, String summary, String writer, String registerTime,
+                   String category, Long categoryId, Long blogId, Boolean isBaseTimezone) {
+        this(id, title, thumbnailImage, summary, writer, registerTime, category, categoryId, blogId, isBaseTimezone, 0, 0, 0, null);
+    }
+
+    public PostCursor toPostCursor() {
+        return new PostCursor(id, cursorRegisterTime, false);
+    }
+
+    public PostDto withStatistics(PostStatisticsDto postStatisticsDto) {
+        return postStatisticsDto == null ? this : toBuilder()
+                .viewCount(postStatisticsDto.getViewCount())
+                .likeCount(postStatisticsDto.getLikeCount())
+                .commentCount(postStatisticsDto.getCommentCount())
+                .build();
+    }
 
     public static PostDto fromEntity(Post post) {
         if (post == null) {
@@ -4,6 +4,7 @@ import com.service.core.post.model.BlogPostSearchInput;
 import com.service.core.post.paging.PostSearchPagingDto;
 import lombok.Builder;
 import lombok.Data;
+import org.apache.commons.lang3.StringUtils;
 
 @Data
 @Builder
@@ -17,7 +18,7 @@ public class PostKeywordSearchDto {
     public static PostKeywordSearchDto from(BlogPostSearchInput blogPostSearchInput, PostSearchPagingDto postSearchPagingDto, String searchType) {
         return PostKeywordSearchDto.builder()
                 .blogId(blogPostSearchInput.getBlogId())
-                .keyword(blogPostSearchInput.getKeyword())
+                .keyword(StringUtils.trim(blogPostSearchInput.getKeyword()))
                 .searchType(searchType)
                 .searchOption(blogPostSearchInput.getSearchOption())
                 .postSearchPagingDto(postSearchPagingDto)
@@ -4,6 +4,7 @@ import com.service.core.main.model.MainPostSearchInput;
 import com.service.core.post.paging.PostSearchPagingDto;
 import lombok.Builder;
 import lombok.Data;
+import org.apache.commons.lang3.StringUtils;
 
 @Data
 @Builder
@@ -16,7 +17,7 @@ public class PostMainSearchDto {
 
     public static PostMainSearchDto from(MainPostSearchInput mainPostSearchInput, PostSearchPagingDto postSearchPagingDto, String searchType) {
         return PostMainSearchDto.builder()
-                .keyword(mainPostSearchInput.getKeyword())
+                .keyword(StringUtils.trim(mainPostSearchInput.getKeyword()))
                 .searchOption(mainPostSearchInput.getSearchOption())
                 .sortOption(mainPostSearchInput.getSortOption())
                 .searchType(searchType)
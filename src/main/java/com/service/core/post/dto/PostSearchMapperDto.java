@@ -1,10 +1,16 @@
 package com.service.core.post.dto;
 
+import com.service.core.post.paging.PostCursor;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import org.apache.ibatis.annotations.AutomapConstructor;
+
+import java.time.LocalDateTime;
 
 @Data
 @Builder
+@AllArgsConstructor
 public class PostSearchMapperDto {
     private final Long id;
     private final String title;
@@ -17,4 +23,16 @@ public class PostSearchMapperDto {
     private final Long blogId;
     private final Long commentCount;
     private final Boolean isBaseTimezone;
+    private LocalDateTime cursorRegisterTime;   // 커서 페이지의 기준 위치 (목록 조회 시에만 채움)
+
+    // MyBatis 조회 결과 매핑용 (커서 기준 위치는 조회 컬럼 이름으로 채움)
+    @AutomapConstructor
+    public PostSearchMapperDto(Long id, String title, String thumbnailImage, String summary, String writer, String registerTime,
+                               String category, Long categoryId, Long blogId, Long commentCount, Boolean isBaseTimezone) {
+        this(id, title, thumbnailImage, summary, writer, registerTime, category, categoryId, blogId, commentCount, isBaseTimezone, null);
+    }
+
+    public PostCursor toPostCursor() {
+        return new PostCursor(id, cursorRegisterTime, false);
+    }
 }
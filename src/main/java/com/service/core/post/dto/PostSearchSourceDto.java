@@ -0,0 +1,22 @@
+package com.service.core.post.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 검색 색인 원본 (색인 재구성/동기화 시에 조회)
+ */
+@Data
+@NoArgsConstructor
+public class PostSearchSourceDto {
+    private Long postId;
+    private Long blogId;
+    private String title;
+    private String summary;
+    private String contents;
+    private LocalDateTime registerTime;
+    private LocalDateTime updateTime;
+    private boolean deleted;        // 게시글 | 블로그 삭제 여부
+}
@@ -0,0 +1,14 @@
+package com.service.core.post.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder(toBuilder = true)
+public class PostStatisticsDto {
+    public static final PostStatisticsDto EMPTY = PostStatisticsDto.builder().build();
+
+    private final long viewCount;
+    private final long likeCount;
+    private final long commentCount;
+}
@@ -18,6 +18,13 @@ public class PostSummaryDto {
                 .build();
     }
 
+    // 커서 페이지는 전체 개수를 조회하지 않음
+    public static PostSummaryDto from(String type) {
+        return PostSummaryDto.builder()
+                .type(type)
+                .build();
+    }
+
     public static PostSummaryDto from(int count, String type) {
         return PostSummaryDto.builder()
                 .type(type)
@@ -5,6 +5,7 @@ import com.service.core.post.model.BlogPostTagInput;
 import com.service.core.post.paging.PostSearchPagingDto;
 import lombok.Builder;
 import lombok.Data;
+import org.apache.commons.lang3.StringUtils;
 
 @Data
 @Builder
@@ -16,7 +17,7 @@ public class PostTagKeywordSearchDto {
     public static PostTagKeywordSearchDto from(BlogPostTagInput blogPostTagInput, PostSearchPagingDto postSearchPagingDto) {
         return PostTagKeywordSearchDto.builder()
                 .blogId(blogPostTagInput.getBlogId())
-                .keyword(blogPostTagInput.getTagKeyword())
+                .keyword(StringUtils.trim(blogPostTagInput.getTagKeyword()))
                 .postSearchPagingDto(postSearchPagingDto)
                 .build();
     }
@@ -1,21 +1,36 @@
 package com.service.core.post.dto;
 
 import com.service.core.post.domain.Post;
+import com.service.core.post.paging.PostCursor;
 import com.service.util.BlogUtil;
 import com.service.util.ConstUtil;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import org.apache.ibatis.annotations.AutomapConstructor;
 
 import java.time.LocalDateTime;
 
 @Data
 @Builder
+@AllArgsConstructor
 public class PostTitleDto {
     private final Long id;
     private final String title;
     private final String registerTime;
     private final Long blogId;
     private final Boolean isBaseTimezone;
+    private LocalDateTime cursorRegisterTime;   // 커서 페이지의 기준 위치 (목록 조회 시에만 채움)
+
+    // MyBatis 조회 결과 매핑용 (커서 기준 위치는 조회 컬럼 이름으로 채움)
+    @AutomapConstructor
+    public PostTitleDto(Long id, String title, String registerTime, Long blogId, Boolean isBaseTimezone) {
+        this(id, title, registerTime, blogId, isBaseTimezone, null);
+    }
+
+    public PostCursor toPostCursor() {
+        return new PostCursor(id, cursorRegisterTime, false);
+    }
 
     public static PostDto fromEntity(Post post) {
         if (post == null) {
@@ -18,6 +18,13 @@ public class PostTotalDto {
                 .build();
     }
 
+    public static PostTotalDto fromCursorPage(List<PostDto> postDtoList, String type) {
+        return PostTotalDto.builder()
+                .postSummaryDto(PostSummaryDto.from(type))
+                .postDtoList(postDtoList)
+                .build();
+    }
+
     public static PostTotalDto fromPostDtoList(List<PostDto> postDtoList, int count, String type) {
         return PostTotalDto.builder()
                 .postSummaryDto(PostSummaryDto.from(count, type))
@@ -29,4 +29,16 @@ public class PostUpdateDto {
                 .metaKey(post.getMetaKey())
                 .build();
     }
+
+    public static PostUpdateDto from(PostDetailDto postDetailDto) {
+        return PostUpdateDto.builder()
+                .id(postDetailDto.getId())
+                .categoryId(postDetailDto.getCategoryId())
+                .title(postDetailDto.getTitle())
+                .contents(postDetailDto.getContents())
+                .thumbnailImage(postDetailDto.getThumbnailImage())
+                .tags(postDetailDto.getTags())
+                .metaKey(postDetailDto.getMetaKey())
+                .build();
+    }
 }
@@ -0,0 +1,56 @@
+package com.service.core.post.paging;
+
+import com.service.core.error.constants.ServiceExceptionMessage;
+import com.service.core.error.model.PostManageException;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 커서 기반 페이지의 기준 위치 (register_time, post_id)
+ * 클라이언트에는 방향, postId, 작성 시간을 Base64(URL) 로 감싼 문자열로만 전달
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostCursor {
+    private static final String NEXT = "n";
+    private static final String PREV = "p";
+    private static final String DELIMITER = ",";
+
+    private Long postId;
+    private LocalDateTime registerTime;
+    private boolean prev;             // true: 기준 위치보다 최신 게시글(이전 페이지) 조회
+
+    public PostCursor withDirection(boolean prev) {
+        return new PostCursor(postId, registerTime, prev);
+    }
+
+    public String encode() {
+        String cursor = String.join(DELIMITER, prev ? PREV : NEXT, String.valueOf(postId), registerTime.toString());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 빈 문자열은 첫 페이지 요청
+    public static PostCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String[] tokens = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(DELIMITER);
+
+            if (tokens.length != 3 || !(NEXT.equals(tokens[0]) || PREV.equals(tokens[0]))) {
+                throw new PostManageException(ServiceExceptionMessage.NOT_VALID_POST_CURSOR);
+            }
+            return new PostCursor(Long.parseLong(tokens[1]), LocalDateTime.parse(tokens[2]), PREV.equals(tokens[0]));
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new PostManageException(ServiceExceptionMessage.NOT_VALID_POST_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.service.core.post.paging;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+@AllArgsConstructor
+public class PostCursorPagination {
+    private String nextCursor;      // 다음(더 오래된) 페이지 커서
+    private String prevCursor;      // 이전(더 최신) 페이지 커서
+    private boolean hasNext;        // 다음 페이지 존재 여부
+    private boolean hasPrev;        // 이전 페이지 존재 여부
+
+    public static PostCursorPagination empty() {
+        return new PostCursorPagination(null, null, false, false);
+    }
+
+    /**
+     * 커서 기반 페이지 결과 정리 (recordSize + 1 개로 조회한 목록을 recordSize 개로 자르고, 이전 방향 조회 결과는 최신순으로 되돌림)
+     * 다음/이전 커서는 페이지의 마지막/첫 게시글 위치(목록 조회 시에 함께 조회한 register_time, post_id)로 구성
+     */
+    public static <T> PostCursorPagination slice(List<T> postList, PostSearchPagingDto postSearchPagingDto, Function<T, PostCursor> postCursorGetter) {
+        PostCursor requestCursor = postSearchPagingDto.getPostCursor();
+        boolean prevDirection = requestCursor != null && requestCursor.isPrev();
+        boolean hasMore = postList.size() > postSearchPagingDto.getRecordSize();
+
+        if (hasMore) {
+            postList.subList(postSearchPagingDto.getRecordSize(), postList.size()).clear();
+        }
+
+        if (prevDirection) {
+            Collections.reverse(postList);
+        }
+
+        if (postList.isEmpty()) {
+            return empty();
+        }
+
+        boolean hasNext = prevDirection || hasMore;
+        boolean hasPrev = prevDirection ? hasMore : requestCursor != null;
+        String nextCursor = hasNext ? postCursorGetter.apply(postList.get(postList.size() - 1)).withDirection(false).encode() : null;
+        String prevCursor = hasPrev ? postCursorGetter.apply(postList.get(0)).withDirection(true).encode() : null;
+        return new PostCursorPagination(nextCursor, prevCursor, hasNext, hasPrev);
+    }
+}
@@ -6,10 +6,16 @@ import lombok.Data;
 public class PostPaginationResponse<T> {
     private T postDto;
     private PostPagination postPagination;
+    private PostCursorPagination postCursorPagination;
 
     public PostPaginationResponse(T postDto, PostPagination postPagination) {
         this.postDto = postDto;
         this.postPagination = postPagination;
     }
 
+    public PostPaginationResponse(T postDto, PostCursorPagination postCursorPagination) {
+        this.postDto = postDto;
+        this.postCursorPagination = postCursorPagination;
+    }
+
 }
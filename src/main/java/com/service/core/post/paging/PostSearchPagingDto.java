@@ -14,10 +14,22 @@ public class PostSearchPagingDto {
 
     private PostPagination postPagination;    // 페이지네이션 정보
 
+    private String cursor;            // 커서 기반 페이지 요청 시 이전 응답의 nextCursor | prevCursor (첫 페이지는 빈 문자열)
+    private PostCursor postCursor;    // 해석된 커서 정보
+
     public PostSearchPagingDto() {
         this.page = 0;
         this.recordSize = 10;
         this.pageSize = 10;
     }
+
+    // 커서 기반 페이지는 전체 개수 조회 없이, 1개를 더 조회하여 다음 페이지 존재 여부를 판단
+    public boolean isCursorMode() {
+        return cursor != null;
+    }
+
+    public int getCursorFetchSize() {
+        return recordSize + 1;
+    }
 }
 
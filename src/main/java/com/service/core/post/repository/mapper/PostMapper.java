@@ -4,6 +4,8 @@ import com.service.core.post.dto.*;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Mapper
@@ -26,8 +28,26 @@ public interface PostMapper {
 
     boolean existsById(Long postId);
 
+    boolean existsDeletedPostByBlogId(Long blogId, Long postId);
+
     int findPostCount(Long blogId);
 
+    Long findMaxPostId();
+
+    Long findMaxPostSeq(Long blogId);
+
+    PostDetailDto findPostDetailDtoById(Long postId, Long blogId);
+
+    int deletePost(Long blogId, Long postId, LocalDateTime updateTime);
+
+    int touchPostsByBlogId(Long blogId, LocalDateTime updateTime);
+
+    List<PostSearchMapperDto> findPostSearchMapperDtoByIds(@Param("postIds") Collection<Long> postIds);
+
+    List<PostSearchSourceDto> findPostSearchSources(Long fromPostId, int limit);
+
+    List<PostSearchSourceDto> findPostSearchSourcesUpdatedAfter(LocalDateTime updateTime, Long postId, int limit);
+
     int findUndeletePostCount(Long blogId);
 
     int findPostCountByBlogCategory(Long blogId, Long categoryId);
@@ -49,4 +69,8 @@ public interface PostMapper {
     List<PostSearchMapperDto> findPostMainSearchDtoByKeyword(@Param("postMainSearchDto") PostMainSearchDto postMainSearchDto);
 
     int findPostDtoCountByTagKeyword(Long blogId, String keyword);
+
+    List<PostCardDto> findPostCardDtoByIds(@Param("blogId") Long blogId, @Param("postIds") Collection<Long> postIds);
+
+    List<Long> findUndeletePostIdsByIds(@Param("blogId") Long blogId, @Param("postIds") Collection<Long> postIds);
 }
@@ -0,0 +1,46 @@
+package com.service.core.post.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 색인된 게시글 1건 (원문은 보관하지 않고 필드별 토큰 빈도/길이만 보관)
+ */
+@Getter
+@AllArgsConstructor
+public class PostSearchDocument {
+    private final long postId;
+    private final long blogId;
+    private final LocalDateTime registerTime;
+    private final Map<String, Integer> titleTerms;
+    private final int titleLength;
+    private final Map<String, Integer> contentTerms;
+    private final int contentLength;
+
+    // content: 요약 + 본문(HTML 태그 제거), 길이는 unigram 토큰을 제외한 토큰 수
+    public static PostSearchDocument of(long postId, long blogId, LocalDateTime registerTime, String title, String content) {
+        return new PostSearchDocument(postId, blogId, registerTime == null ? LocalDateTime.MIN : registerTime,
+                termFrequency(PostSearchTokenizer.tokenizeForIndex(title)), PostSearchTokenizer.tokenize(title).size(),
+                termFrequency(PostSearchTokenizer.tokenizeForIndex(content)), PostSearchTokenizer.tokenize(content).size());
+    }
+
+    // (작성 시간, postId) 기준 위치 비교 (커서 페이지와 동일한 순서)
+    public int compareRegisterOrder(LocalDateTime otherRegisterTime, long otherPostId) {
+        int compared = registerTime.compareTo(otherRegisterTime);
+        return compared != 0 ? compared : Long.compare(postId, otherPostId);
+    }
+
+    private static Map<String, Integer> termFrequency(List<String> tokens) {
+        Map<String, Integer> termFrequency = new HashMap<>();
+
+        for (String token : tokens) {
+            termFrequency.merge(token, 1, Integer::sum);
+        }
+        return termFrequency;
+    }
+}
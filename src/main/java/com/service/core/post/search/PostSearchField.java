@@ -0,0 +1,19 @@
+package com.service.core.post.search;
+
+/**
+ * 검색 대상 필드 (검색 옵션 all / title / content)
+ */
+public enum PostSearchField {
+    ALL,
+    TITLE,
+    CONTENT;
+
+    public static PostSearchField from(String searchOption) {
+        if ("title".equals(searchOption)) {
+            return TITLE;
+        } else if ("content".equals(searchOption)) {
+            return CONTENT;
+        }
+        return ALL;
+    }
+}
@@ -0,0 +1,258 @@
+package com.service.core.post.search;
+
+import com.service.core.post.paging.PostCursor;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 역색인 (토큰 → postId : 출현 빈도)
+ * 질의 토큰을 모두 포함하는 게시글(AND)을 BM25 점수(제목 가중치 2배) 또는 작성 시간 순으로 정렬하여 반환
+ * 조회는 읽기 락, 색인 변경은 쓰기 락으로 보호 (노드 내 메모리에만 존재)
+ */
+public class PostSearchIndex {
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final double TITLE_WEIGHT = 2.0;
+
+    private static final Comparator<PostSearchDocument> REGISTER_ORDER =
+            Comparator.comparing(PostSearchDocument::getRegisterTime).thenComparingLong(PostSearchDocument::getPostId);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, PostSearchDocument> documents = new HashMap<>();
+    private final NavigableMap<String, Map<Long, Integer>> titlePostings = new TreeMap<>();
+    private final NavigableMap<String, Map<Long, Integer>> contentPostings = new TreeMap<>();
+    private long titleLengthSum;
+    private long contentLengthSum;
+
+    public void put(PostSearchDocument document) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(document.getPostId());
+            addDocument(document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long postId) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeBlog(long blogId) {
+        lock.writeLock().lock();
+        try {
+            List<Long> postIds = new ArrayList<>();
+
+            for (PostSearchDocument document : documents.values()) {
+                if (document.getBlogId() == blogId) {
+                    postIds.add(document.getPostId());
+                }
+            }
+            postIds.forEach(this::removeDocument);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // DB 재구성 | 스냅샷 복원 시에 전체 교체
+    public void replaceAll(Collection<PostSearchDocument> newDocuments) {
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            titlePostings.clear();
+            contentPostings.clear();
+            titleLengthSum = 0;
+            contentLengthSum = 0;
+            newDocuments.forEach(this::addDocument);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<PostSearchDocument> documents() {
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(documents.values());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 조건에 맞는 전체 게시글 id (정렬 순서)
+    // 단어 검색어는 해당 접두어로 시작하는 모든 토큰으로 확장 (짧은 검색어일수록 합산할 토큰이 많아짐)
+    public List<Long> search(PostSearchQuery query) {
+        Set<String> tokens = new LinkedHashSet<>(PostSearchTokenizer.tokenize(query.getKeyword()));
+
+        if (tokens.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = null;
+
+            for (String token : tokens) {
+                Map<Long, Double> tokenScores = scoreToken(token, query.getField());
+
+                if (scores == null) {
+                    scores = tokenScores;
+                } else {
+                    scores.keySet().retainAll(tokenScores.keySet());
+                    scores.replaceAll((postId, score) -> score + tokenScores.get(postId));
+                }
+
+                if (scores.isEmpty()) {
+                    return Collections.emptyList();
+                }
+            }
+
+            List<PostSearchDocument> hits = new ArrayList<>();
+
+            for (Long postId : scores.keySet()) {
+                PostSearchDocument document = documents.get(postId);
+
+                if (isMatched(document, query)) {
+                    hits.add(document);
+                }
+            }
+
+            hits.sort(sortComparator(query.getSort(), scores));
+
+            List<Long> postIds = new ArrayList<>(hits.size());
+
+            for (PostSearchDocument hit : hits) {
+                postIds.add(hit.getPostId());
+            }
+            return postIds;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean isMatched(PostSearchDocument document, PostSearchQuery query) {
+        if (query.getBlogId() != null && document.getBlogId() != query.getBlogId()) {
+            return false;
+        }
+
+        PostCursor postCursor = query.getPostCursor();
+
+        if (postCursor == null) {
+            return true;
+        }
+
+        int compared = document.compareRegisterOrder(postCursor.getRegisterTime(), postCursor.getPostId());
+        return postCursor.isPrev() ? compared > 0 : compared < 0;
+    }
+
+    private Comparator<PostSearchDocument> sortComparator(PostSearchSort sort, Map<Long, Double> scores) {
+        switch (sort) {
+            case RECENT:
+                return REGISTER_ORDER.reversed();
+            case OLDEST:
+                return REGISTER_ORDER;
+            default:
+                return Comparator.<PostSearchDocument>comparingDouble(document -> scores.get(document.getPostId())).reversed()
+                        .thenComparing(REGISTER_ORDER.reversed());
+        }
+    }
+
+    // 토큰 1개에 대한 게시글별 BM25 점수
+    private Map<Long, Double> scoreToken(String token, PostSearchField field) {
+        Map<Long, Double> tokenScores = new HashMap<>();
+
+        if (field != PostSearchField.CONTENT) {
+            addFieldScores(tokenScores, matchTermFrequency(titlePostings, token), titleLengthSum, true, field == PostSearchField.ALL ? TITLE_WEIGHT : 1.0);
+        }
+
+        if (field != PostSearchField.TITLE) {
+            addFieldScores(tokenScores, matchTermFrequency(contentPostings, token), contentLengthSum, false, 1.0);
+        }
+        return tokenScores;
+    }
+
+    private void addFieldScores(Map<Long, Double> tokenScores, Map<Long, Integer> termFrequency, long lengthSum, boolean title, double weight) {
+        if (termFrequency.isEmpty()) {
+            return;
+        }
+
+        int documentCount = documents.size();
+        double averageLength = Math.max(1.0, (double) lengthSum / Math.max(1, documentCount));
+        double idf = Math.log(1 + (documentCount - termFrequency.size() + 0.5) / (termFrequency.size() + 0.5));
+
+        termFrequency.forEach((postId, frequency) -> {
+            PostSearchDocument document = documents.get(postId);
+            int length = title ? document.getTitleLength() : document.getContentLength();
+            double score = idf * frequency * (K1 + 1) / (frequency + K1 * (1 - B + B * length / averageLength));
+            tokenScores.merge(postId, weight * score, Double::sum);
+        });
+    }
+
+    // 접두어 토큰은 해당 접두어로 시작하는 토큰들의 빈도를 합산
+    private Map<Long, Integer> matchTermFrequency(NavigableMap<String, Map<Long, Integer>> postings, String token) {
+        if (!PostSearchTokenizer.isPrefixToken(token)) {
+            return postings.getOrDefault(token, Collections.emptyMap());
+        }
+
+        Map<Long, Integer> termFrequency = new HashMap<>();
+
+        for (Map<Long, Integer> posting : postings.subMap(token, true, token + Character.MAX_VALUE, true).values()) {
+            posting.forEach((postId, frequency) -> termFrequency.merge(postId, frequency, Integer::sum));
+        }
+        return termFrequency;
+    }
+
+    private void addDocument(PostSearchDocument document) {
+        documents.put(document.getPostId(), document);
+        addPostings(titlePostings, document.getPostId(), document.getTitleTerms());
+        addPostings(contentPostings, document.getPostId(), document.getContentTerms());
+        titleLengthSum += document.getTitleLength();
+        contentLengthSum += document.getContentLength();
+    }
+
+    private void removeDocument(long postId) {
+        PostSearchDocument document = documents.remove(postId);
+
+        if (document == null) {
+            return;
+        }
+
+        removePostings(titlePostings, postId, document.getTitleTerms());
+        removePostings(contentPostings, postId, document.getContentTerms());
+        titleLengthSum -= document.getTitleLength();
+        contentLengthSum -= document.getContentLength();
+    }
+
+    private static void addPostings(Map<String, Map<Long, Integer>> postings, long postId, Map<String, Integer> terms) {
+        terms.forEach((term, frequency) -> postings.computeIfAbsent(term, key -> new HashMap<>()).put(postId, frequency));
+    }
+
+    private static void removePostings(Map<String, Map<Long, Integer>> postings, long postId, Map<String, Integer> terms) {
+        for (String term : terms.keySet()) {
+            Map<Long, Integer> posting = postings.get(term);
+
+            if (posting != null) {
+                posting.remove(postId);
+
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,343 @@
+package com.service.core.post.search;
+
+import com.service.config.app.AppConfig;
+import com.service.config.sql.SqlConfig;
+import com.service.core.post.domain.Post;
+import com.service.core.post.dto.PostSearchSourceDto;
+import com.service.core.post.repository.mapper.PostMapper;
+import com.service.util.ConstUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Jsoup;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PreDestroy;
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 게시글 검색 색인 관리 (searchType: INDEX)
+ * - 기동 시: 로컬 스냅샷 파일을 복원(없거나 손상 시 DB 로 재구성)한 뒤, 스냅샷 이후 변경분을 update_time 기준으로 반영
+ * - 게시글 작성/수정/삭제: 커밋 이후 색인에 즉시 반영
+ * - 주기적으로: 다른 노드에서 변경된 게시글을 update_time 기준으로 반영하고, 변경이 있으면 스냅샷 저장
+ *   (늦게 커밋된 변경, 노드 간 시간 차이를 놓치지 않도록 마지막 반영 시간 이전 일정 범위부터 다시 조회하고, 이미 반영한 변경은 건너뜀)
+ * - 블로그 삭제(탈퇴) 시에는 게시글 update_time 을 갱신하여 다른 노드에서도 삭제로 반영 (카테고리 삭제는 게시글 삭제와 함께 갱신됨)
+ * 색인이 준비되기 전에는 isReady() 가 false 이며, 호출 측에서 SQL 검색으로 대체
+ * sql_search_pattern 이 INDEX 인 경우에만 색인을 구성/유지
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class PostSearchIndexService {
+    private static final int SNAPSHOT_MAGIC = 0x50534958; // "PSIX"
+    // 2: 한글/한자/가나 unigram 토큰 추가 (이전 버전 스냅샷은 DB 로 재구성)
+    private static final int SNAPSHOT_VERSION = 2;
+    private static final LocalDateTime INITIAL_SYNC_TIME = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final PostMapper postMapper;
+    private final AppConfig appConfig;
+    private final SqlConfig sqlConfig;
+
+    private final PostSearchIndex postSearchIndex = new PostSearchIndex();
+    private final AtomicBoolean ready = new AtomicBoolean(false);
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+    private final Object syncLock = new Object();
+
+    // 마지막으로 반영한 게시글 변경 시간 (조회한 update_time 의 최댓값)
+    private LocalDateTime lastSyncTime = INITIAL_SYNC_TIME;
+
+    // 다시 조회하는 범위 안에서 이미 반영한 게시글 id : update_time
+    private final Map<Long, LocalDateTime> syncedUpdateTimeMap = new HashMap<>();
+
+    public boolean isReady() {
+        return ready.get();
+    }
+
+    public List<Long> search(PostSearchQuery postSearchQuery) {
+        return postSearchIndex.search(postSearchQuery);
+    }
+
+    public void indexPost(Post post) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        PostSearchDocument postSearchDocument = PostSearchDocument.of(post.getId(), post.getBlog().getId(), post.getRegisterTime(),
+                post.getTitle(), contentText(post.getSummary(), post.getContents()));
+        afterCommit(() -> postSearchIndex.put(postSearchDocument));
+    }
+
+    public void removePost(long postId) {
+        if (!isEnabled()) {
+            return;
+        }
+        afterCommit(() -> postSearchIndex.remove(postId));
+    }
+
+    // 다른 노드(INDEX 사용 배포)의 동기화를 위해 색인 사용 여부와 관계없이 변경 시간 갱신
+    public void removeBlog(long blogId) {
+        postMapper.touchPostsByBlogId(blogId, LocalDateTime.now());
+
+        if (!isEnabled()) {
+            return;
+        }
+        afterCommit(() -> postSearchIndex.removeBlog(blogId));
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!isEnabled()) {
+            return;
+        }
+
+        try {
+            synchronized (syncLock) {
+                long start = System.currentTimeMillis();
+
+                if (!loadSnapshot()) {
+                    rebuild();
+                }
+                syncUpdatedPosts();
+                ready.set(true);
+                log.info("[PostSearchIndexService:initialize] documents:{}, elapsed:{}ms", postSearchIndex.size(), System.currentTimeMillis() - start);
+            }
+        } catch (Exception e) {
+            log.error("[PostSearchIndexService:initialize] error =>", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${util-config.app_config.post_search_index_sync_interval_ms}")
+    public void sync() {
+        if (!ready.get()) {
+            return;
+        }
+
+        try {
+            synchronized (syncLock) {
+                syncUpdatedPosts();
+
+                if (dirty.getAndSet(false)) {
+                    writeSnapshot();
+                }
+            }
+        } catch (Exception e) {
+            log.error("[PostSearchIndexService:sync] error =>", e);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        if (ready.get() && dirty.get()) {
+            synchronized (syncLock) {
+                writeSnapshot();
+            }
+        }
+    }
+
+    // DB 의 삭제되지 않은 게시글 전체로 색인 재구성
+    public void rebuild() {
+        synchronized (syncLock) {
+            List<PostSearchDocument> postSearchDocuments = new ArrayList<>();
+            LocalDateTime maxUpdateTime = INITIAL_SYNC_TIME;
+            long fromPostId = 0;
+            List<PostSearchSourceDto> postSearchSources;
+
+            do {
+                postSearchSources = postMapper.findPostSearchSources(fromPostId, appConfig.getPostSearchIndexBatchSize());
+
+                for (PostSearchSourceDto postSearchSource : postSearchSources) {
+                    postSearchDocuments.add(toPostSearchDocument(postSearchSource));
+
+                    if (postSearchSource.getUpdateTime() != null && postSearchSource.getUpdateTime().isAfter(maxUpdateTime)) {
+                        maxUpdateTime = postSearchSource.getUpdateTime();
+                    }
+                    fromPostId = postSearchSource.getPostId();
+                }
+            } while (postSearchSources.size() == appConfig.getPostSearchIndexBatchSize());
+
+            postSearchIndex.replaceAll(postSearchDocuments);
+            // 재구성 중에 변경된 게시글은 다음 동기화 때 다시 조회하는 범위에서 반영
+            lastSyncTime = maxUpdateTime;
+            syncedUpdateTimeMap.clear();
+            dirty.set(true);
+            log.info("[PostSearchIndexService:rebuild] documents:{}", postSearchDocuments.size());
+        }
+    }
+
+    private void syncUpdatedPosts() {
+        LocalDateTime overlapTime = lastSyncTime.minusSeconds(appConfig.getPostSearchIndexSyncOverlapSeconds());
+        LocalDateTime fromTime = overlapTime;
+        long fromPostId = 0;
+        List<PostSearchSourceDto> postSearchSources;
+        syncedUpdateTimeMap.values().removeIf(updateTime -> updateTime.isBefore(overlapTime));
+
+        do {
+            postSearchSources = postMapper.findPostSearchSourcesUpdatedAfter(fromTime, fromPostId, appConfig.getPostSearchIndexBatchSize());
+
+            for (PostSearchSourceDto postSearchSource : postSearchSources) {
+                fromTime = postSearchSource.getUpdateTime();
+                fromPostId = postSearchSource.getPostId();
+
+                if (Objects.equals(syncedUpdateTimeMap.get(postSearchSource.getPostId()), postSearchSource.getUpdateTime())) {
+                    continue;
+                }
+
+                if (postSearchSource.isDeleted()) {
+                    postSearchIndex.remove(postSearchSource.getPostId());
+                } else {
+                    postSearchIndex.put(toPostSearchDocument(postSearchSource));
+                }
+                syncedUpdateTimeMap.put(postSearchSource.getPostId(), postSearchSource.getUpdateTime());
+
+                if (postSearchSource.getUpdateTime().isAfter(lastSyncTime)) {
+                    lastSyncTime = postSearchSource.getUpdateTime();
+                }
+                dirty.set(true);
+            }
+        } while (postSearchSources.size() == appConfig.getPostSearchIndexBatchSize());
+    }
+
+    private boolean loadSnapshot() {
+        Path snapshotPath = Paths.get(appConfig.getPostSearchIndexSnapshotPath());
+
+        if (!Files.exists(snapshotPath)) {
+            return false;
+        }
+
+        try (DataInputStream in = new DataInputStream(new GZIPInputStream(new BufferedInputStream(Files.newInputStream(snapshotPath))))) {
+            if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION) {
+                log.info("[PostSearchIndexService:loadSnapshot] snapshot version mismatch, path:{}", snapshotPath);
+                return false;
+            }
+
+            LocalDateTime snapshotSyncTime = LocalDateTime.parse(in.readUTF());
+            in.readLong(); // 이전 버전의 마지막 반영 post_id (미사용)
+            int documentCount = in.readInt();
+            List<PostSearchDocument> postSearchDocuments = new ArrayList<>(documentCount);
+
+            for (int i = 0; i < documentCount; i++) {
+                long postId = in.readLong();
+                long blogId = in.readLong();
+                LocalDateTime registerTime = LocalDateTime.parse(in.readUTF());
+                int titleLength = in.readInt();
+                Map<String, Integer> titleTerms = readTerms(in);
+                int contentLength = in.readInt();
+                Map<String, Integer> contentTerms = readTerms(in);
+                postSearchDocuments.add(new PostSearchDocument(postId, blogId, registerTime, titleTerms, titleLength, contentTerms, contentLength));
+            }
+
+            postSearchIndex.replaceAll(postSearchDocuments);
+            lastSyncTime = snapshotSyncTime;
+            syncedUpdateTimeMap.clear();
+            log.info("[PostSearchIndexService:loadSnapshot] path:{}, documents:{}, lastSyncTime:{}", snapshotPath, documentCount, snapshotSyncTime);
+            return true;
+        } catch (Exception e) {
+            log.error("[PostSearchIndexService:loadSnapshot] error =>", e);
+            return false;
+        }
+    }
+
+    // 임시 파일에 기록 후 교체 (기록 중 종료되어도 이전 스냅샷 유지)
+    private void writeSnapshot() {
+        Path snapshotPath = Paths.get(appConfig.getPostSearchIndexSnapshotPath()).toAbsolutePath();
+        Path tempPath = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+
+        try {
+            Files.createDirectories(snapshotPath.getParent());
+            List<PostSearchDocument> postSearchDocuments = postSearchIndex.documents();
+
+            try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(tempPath))))) {
+                out.writeInt(SNAPSHOT_MAGIC);
+                out.writeInt(SNAPSHOT_VERSION);
+                out.writeUTF(lastSyncTime.toString());
+                out.writeLong(0L);
+                out.writeInt(postSearchDocuments.size());
+
+                for (PostSearchDocument postSearchDocument : postSearchDocuments) {
+                    out.writeLong(postSearchDocument.getPostId());
+                    out.writeLong(postSearchDocument.getBlogId());
+                    out.writeUTF(postSearchDocument.getRegisterTime().toString());
+                    out.writeInt(postSearchDocument.getTitleLength());
+                    writeTerms(out, postSearchDocument.getTitleTerms());
+                    out.writeInt(postSearchDocument.getContentLength());
+                    writeTerms(out, postSearchDocument.getContentTerms());
+                }
+            }
+            Files.move(tempPath, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (Exception e) {
+            dirty.set(true);
+            log.error("[PostSearchIndexService:writeSnapshot] error =>", e);
+        }
+    }
+
+    private static Map<String, Integer> readTerms(DataInputStream in) throws IOException {
+        int termCount = in.readInt();
+        Map<String, Integer> terms = new HashMap<>(termCount * 2);
+
+        for (int i = 0; i < termCount; i++) {
+            terms.put(in.readUTF(), in.readInt());
+        }
+        return terms;
+    }
+
+    private static void writeTerms(DataOutputStream out, Map<String, Integer> terms) throws IOException {
+        out.writeInt(terms.size());
+
+        for (Map.Entry<String, Integer> term : terms.entrySet()) {
+            out.writeUTF(term.getKey());
+            out.writeInt(term.getValue());
+        }
+    }
+
+    private static PostSearchDocument toPostSearchDocument(PostSearchSourceDto postSearchSource) {
+        return PostSearchDocument.of(postSearchSource.getPostId(), postSearchSource.getBlogId(), postSearchSource.getRegisterTime(),
+                postSearchSource.getTitle(), contentText(postSearchSource.getSummary(), postSearchSource.getContents()));
+    }
+
+    // 요약 + 본문(에디터 HTML 에서 태그를 제거한 텍스트)
+    private static String contentText(String summary, String contents) {
+        String contentsText = contents == null ? "" : Jsoup.parse(contents).text();
+        return summary == null ? contentsText : summary + " " + contentsText;
+    }
+
+    private boolean isEnabled() {
+        return ConstUtil.SEARCH_TYPE_INDEX.equals(sqlConfig.getSqlSearchPattern());
+    }
+
+    private void afterCommit(Runnable runnable) {
+        Runnable indexUpdate = () -> {
+            runnable.run();
+            dirty.set(true);
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    indexUpdate.run();
+                }
+            });
+        } else {
+            indexUpdate.run();
+        }
+    }
+}
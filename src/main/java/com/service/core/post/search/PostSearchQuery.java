@@ -0,0 +1,15 @@
+package com.service.core.post.search;
+
+import com.service.core.post.paging.PostCursor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class PostSearchQuery {
+    private final Long blogId;          // null: 전체 블로그 대상 (메인 검색)
+    private final String keyword;
+    private final PostSearchField field;
+    private final PostSearchSort sort;
+    private final PostCursor postCursor; // 커서 페이지 기준 위치 (해당 위치 이전/이후 게시글만 조회)
+}
@@ -0,0 +1,19 @@
+package com.service.core.post.search;
+
+/**
+ * 검색 결과 정렬 (SCORE: BM25 점수 순, RECENT/OLDEST: 작성 시간 순)
+ */
+public enum PostSearchSort {
+    SCORE,
+    RECENT,
+    OLDEST;
+
+    public static PostSearchSort from(String sortOption) {
+        if ("recent".equals(sortOption)) {
+            return RECENT;
+        } else if ("oldest".equals(sortOption)) {
+            return OLDEST;
+        }
+        return SCORE;
+    }
+}
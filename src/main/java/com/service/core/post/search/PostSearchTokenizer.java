@@ -0,0 +1,97 @@
+package com.service.core.post.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 게시글 검색 색인/질의 공용 토크나이저
+ * 한글/한자/가나는 형태소 분석 없이 2글자(bigram) 단위로, 그 외 문자/숫자는 단어 단위(소문자)로 분리
+ * ex) "스프링부트 Redis" → [스프, 프링, 링부, 부트, redis]
+ * 색인 시에는 한글/한자/가나 1글자(unigram) 토큰도 추가하여, 1글자 질의어를 접두어 확장 없이 정확히 검색
+ * ex) "스프링" → [스프, 프링, 스, 프, 링]
+ */
+public final class PostSearchTokenizer {
+    private static final int SEPARATOR = 0;
+    private static final int WORD = 1;
+    private static final int BIGRAM = 2;
+
+    private PostSearchTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        return tokenize(text, false);
+    }
+
+    public static List<String> tokenizeForIndex(String text) {
+        return tokenize(text, true);
+    }
+
+    // 질의어는 끝 글자까지 입력 중일 수 있으므로, 단어 토큰은 접두어로 검색 (한글/한자/가나 1글자는 unigram 토큰으로 정확히 검색)
+    public static boolean isPrefixToken(String token) {
+        return charType(token.charAt(0)) == WORD;
+    }
+
+    private static List<String> tokenize(String text, boolean unigrams) {
+        List<String> tokens = new ArrayList<>();
+
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        int length = normalized.length();
+        int start = 0;
+
+        while (start < length) {
+            int type = charType(normalized.charAt(start));
+
+            if (type == SEPARATOR) {
+                start++;
+                continue;
+            }
+
+            int end = start + 1;
+
+            while (end < length && charType(normalized.charAt(end)) == type) {
+                end++;
+            }
+
+            if (type == BIGRAM) {
+                addBigrams(tokens, normalized, start, end, unigrams);
+            } else {
+                tokens.add(normalized.substring(start, end));
+            }
+            start = end;
+        }
+        return tokens;
+    }
+
+    private static int charType(char ch) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(ch);
+
+        if (script == Character.UnicodeScript.HANGUL || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA || script == Character.UnicodeScript.KATAKANA) {
+            return BIGRAM;
+        }
+        return Character.isLetterOrDigit(ch) ? WORD : SEPARATOR;
+    }
+
+    private static void addBigrams(List<String> tokens, String text, int start, int end, boolean unigrams) {
+        if (end - start == 1) {
+            tokens.add(text.substring(start, end));
+            return;
+        }
+
+        for (int i = start; i < end - 1; i++) {
+            tokens.add(text.substring(i, i + 2));
+        }
+
+        if (unigrams) {
+            for (int i = start; i < end; i++) {
+                tokens.add(text.substring(i, i + 1));
+            }
+        }
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -15,9 +16,17 @@ import java.util.stream.Collectors;
 public class PostPopularService {
     private final PostPopularTemplateService postPopularTemplateService;
     private final PostService postService;
+    private final PostStatisticsService postStatisticsService;
 
-    public List<PostCardDto> findPopularPost(long blogId) throws Exception {
+    public List<PostCardDto> findPopularPost(long blogId) {
         List<Long> popularPostIds = postPopularTemplateService.getPopularPost(blogId);
-        return popularPostIds.stream().map(popularId -> PostCardDto.from(postService.findPostDetailInfo(blogId, popularId))).collect(Collectors.toList());
+        List<PostCardDto> postCardDtoList = postService.findPostCardDtoByIds(blogId, popularPostIds);
+
+        // 삭제 반영이 누락된 게시글은 인기글 목록에서 제외
+        if (postCardDtoList.size() != popularPostIds.size()) {
+            Set<Long> existPostIds = postCardDtoList.stream().map(PostCardDto::getId).collect(Collectors.toSet());
+            popularPostIds.stream().filter(postId -> !existPostIds.contains(postId)).forEach(postId -> postPopularTemplateService.deletePopularPost(blogId, postId));
+        }
+        return postStatisticsService.withPostCardStatistics(blogId, postCardDtoList);
     }
 }
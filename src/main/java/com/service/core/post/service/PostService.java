@@ -12,12 +12,15 @@ import com.service.core.post.paging.PostPaginationResponse;
 import com.service.core.post.paging.PostSearchPagingDto;
 import org.springframework.web.multipart.MultipartFile;
 
+import javax.servlet.http.HttpServletRequest;
 import java.util.List;
 
 
 public interface PostService {
     List<PostCardDto> findRecentPostCardDtoByBlogId(Long blogId);
 
+    List<PostCardDto> findPostCardDtoByIds(Long blogId, List<Long> postIds);
+
     List<PostCardDto> findRelatedPost(Long postId, Long blogId, Long categoryId, Long postSeq);
 
     PostPaginationResponse<PostKeywordDto> findMainPostSearchPaginationByKeyword(MainPostSearchInput mainPostSearchInput, PostSearchPagingDto postSearchPagingDto);
@@ -30,7 +33,7 @@ public interface PostService {
 
     String uploadAwsS3PostThumbnailImage(MultipartFile multipartFile) throws Exception;
 
-    String uploadSftpPostImage(MultipartFile multipartFile, String uploadKey) throws Exception;
+    String uploadSftpPostImage(HttpServletRequest request, String uploadKey) throws Exception;
 
     String uploadSftpPostThumbnailImage(MultipartFile multipartFile, String uploadKey) throws Exception;
 
@@ -66,6 +69,8 @@ public interface PostService {
 
     int findPostCountByBlogId(Long blogId);
 
+    long allocatePostSeq(Long blogId);
+
     int findUndeletePostCountByBlogId(Long blogId);
 
     boolean checkEqualPostByLogin(Long blogId, Long postId);
@@ -75,6 +80,4 @@ public interface PostService {
     String viewPost(PostDetailDto postDetailDto) throws Exception;
 
     boolean isDeletedPost(long postId);
-
-    void postCheckRetrySleep(PostDetailDto postDetailDto);
 }
@@ -2,11 +2,14 @@ package com.service.core.post.service;
 
 import com.service.config.app.AppConfig;
 import com.service.config.sql.SqlConfig;
+import com.service.core.blog.service.BlogShellCacheEvictor;
 import com.service.core.category.domain.Category;
 import com.service.core.category.service.CategoryService;
 import com.service.core.error.constants.ServiceExceptionMessage;
 import com.service.core.error.model.PostManageException;
 import com.service.core.main.model.MainPostSearchInput;
+import com.service.core.media.service.MediaStorageService;
+import com.service.core.media.service.MediaVariantService;
 import com.service.core.post.domain.Post;
 import com.service.core.post.dto.*;
 import com.service.core.post.model.BlogPostInput;
@@ -15,18 +18,28 @@ import com.service.core.post.model.BlogPostTagInput;
 import com.service.core.post.model.BlogPostUpdateInput;
 import com.service.core.post.repository.PostRepository;
 import com.service.core.post.repository.mapper.PostMapper;
+import com.service.core.post.search.PostSearchField;
+import com.service.core.post.search.PostSearchIndexService;
+import com.service.core.post.search.PostSearchQuery;
+import com.service.core.post.search.PostSearchSort;
 import com.service.core.tag.domain.Tag;
 import com.service.core.tag.service.TagService;
 import com.service.core.views.service.PostViewService;
 import com.service.util.BlogUtil;
 import com.service.util.ConstUtil;
-import com.service.util.aws.s3.AwsS3Service;
+import com.service.core.post.paging.PostCursor;
+import com.service.core.post.paging.PostCursorPagination;
 import com.service.core.post.paging.PostPagination;
 import com.service.core.post.paging.PostPaginationResponse;
 import com.service.core.post.paging.PostSearchPagingDto;
 import com.service.util.redis.key.CacheKey;
+import com.service.util.redis.key.RedisTemplateKey;
 import com.service.util.redis.service.like.PostLikeRedisTemplateService;
-import com.service.util.sftp.SftpService;
+import com.service.util.redis.service.popular.PostPopularTemplateService;
+import com.service.util.redis.service.sequence.PostSeqRedisTemplateService;
+import com.service.util.redis.service.paging.PagingCountRedisTemplateService;
+import com.service.util.redis.service.paging.PagingCountType;
+import com.service.util.upload.StreamingMultipartService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
@@ -36,7 +49,14 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import javax.servlet.http.HttpServletRequest;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -44,30 +64,75 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 @Slf4j
 public class PostServiceImpl implements PostService {
+    // 검색 색인 결과 조회 시에 삭제된 게시글만큼 부족해지지 않도록 페이지 크기보다 더 조회할 개수
+    private static final int SEARCH_OVER_FETCH_SIZE = 10;
+
     private final PostMapper postMapper;
-    private final AwsS3Service awsS3Service;
     private final PostRepository postRepository; // Post 전체 정보를 불러옴 (DB 쿼리로 인한 contents 데이터 등등 메모리 증가 고려)
     private final TagService tagService;
     private final PostViewService postViewService;
-    private final SftpService sftpService;
+    private final MediaStorageService mediaStorageService;
+    private final MediaVariantService mediaVariantService;
+    private final StreamingMultipartService streamingMultipartService;
     private final SqlConfig sqlConfig;
     private final AppConfig appConfig;
     private final PostLikeRedisTemplateService postLikeRedisTemplateService;
+    private final PostPopularTemplateService postPopularTemplateService;
+    private final PostStatisticsService postStatisticsService;
+    private final BlogShellCacheEvictor blogShellCacheEvictor;
+    private final PagingCountRedisTemplateService pagingCountRedisTemplateService;
+    private final PostSeqRedisTemplateService postSeqRedisTemplateService;
+    private final PostSearchIndexService postSearchIndexService;
 
     @Override
     public List<PostCardDto> findRecentPostCardDtoByBlogId(Long blogId) {
-        return postMapper.findRecentPostCardDto(blogId, appConfig.getRecentAndPopular_post_count());
+        return withThumbnailImageVariants(postStatisticsService.withPostCardStatistics(blogId, postMapper.findRecentPostCardDto(blogId, appConfig.getRecentAndPopular_post_count())));
+    }
+
+    // postIds 순서(인기글 순위 등)를 유지하여 반환, 삭제된 게시글은 제외
+    @Override
+    public List<PostCardDto> findPostCardDtoByIds(Long blogId, List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<Long, PostCardDto> postCardDtoMap = postMapper.findPostCardDtoByIds(blogId, postIds).stream()
+                .collect(Collectors.toMap(PostCardDto::getId, Function.identity()));
+        return withThumbnailImageVariants(postIds.stream().filter(postCardDtoMap::containsKey).map(postCardDtoMap::get).collect(Collectors.toList()));
     }
 
     @Override
     public List<PostCardDto> findRelatedPost(Long postId, Long blogId, Long categoryId, Long postSeq) {
-        return postMapper.findRelatedPost(postId, blogId, categoryId, postSeq);
+        return withThumbnailImageVariants(postMapper.findRelatedPost(postId, blogId, categoryId, postSeq));
+    }
+
+    // 썸네일 축소본이 생성된 게시글은 축소본 URL 추가 (생성 전에는 원본 사용)
+    private List<PostCardDto> withThumbnailImageVariants(List<PostCardDto> postCardDtoList) {
+        Map<String, Map<Integer, String>> variantUrlMap = mediaVariantService.findVariantUrls(postCardDtoList.stream().map(PostCardDto::getThumbnailImage).collect(Collectors.toList()));
+
+        if (variantUrlMap.isEmpty()) {
+            return postCardDtoList;
+        }
+        return postCardDtoList.stream().map(postCardDto -> postCardDto.withThumbnailImageVariants(variantUrlMap.get(postCardDto.getThumbnailImage()))).collect(Collectors.toList());
     }
 
     @Override
     public PostPaginationResponse<PostKeywordDto> findMainPostSearchPaginationByKeyword(MainPostSearchInput mainPostSearchInput, PostSearchPagingDto postSearchPagingDto) {
-        PostMainSearchDto postMainSearchDto = PostMainSearchDto.from(mainPostSearchInput, postSearchPagingDto, sqlConfig.getSqlSearchPattern());
-        int postCount = postMapper.findPostMainSearchDtoCountByKeyword(postMainSearchDto);
+        if (isIndexSearch()) {
+            List<Long> postIds = postSearchIndexService.search(PostSearchQuery.builder()
+                    .keyword(mainPostSearchInput.getKeyword())
+                    .field(PostSearchField.from(mainPostSearchInput.getSearchOption()))
+                    .sort(PostSearchSort.from(mainPostSearchInput.getSortOption()))
+                    .build());
+            PostPagination postPagination = new PostPagination(postIds.size(), postSearchPagingDto);
+            return new PostPaginationResponse<>(PostKeywordDto.from(findPostSearchMapperDtoByIds(postIds, postPagination.getLimitStart(), postSearchPagingDto.getRecordSize())), postPagination);
+        }
+
+        String searchType = sqlSearchType();
+        PostMainSearchDto postMainSearchDto = PostMainSearchDto.from(mainPostSearchInput, postSearchPagingDto, searchType);
+        int postCount = pagingCountRedisTemplateService.getPagingCount(PagingCountType.MAIN_POST_KEYWORD, RedisTemplateKey.PAGING_COUNT_MAIN_SCOPE,
+                PagingCountRedisTemplateService.filter(PagingCountRedisTemplateService.keyword(mainPostSearchInput.getKeyword()), mainPostSearchInput.getSearchOption(), searchType),
+                () -> postMapper.findPostMainSearchDtoCountByKeyword(postMainSearchDto));
         PostPagination postPagination = new PostPagination(postCount, postSearchPagingDto);
         postSearchPagingDto.setPostPagination(postPagination);
         postMainSearchDto.setPostSearchPagingDto(postSearchPagingDto);
@@ -76,25 +141,107 @@ public class PostServiceImpl implements PostService {
 
     @Override
     public PostPaginationResponse<PostKeywordDto> findPostSearchPaginationByKeyword(BlogPostSearchInput blogPostSearchInput, PostSearchPagingDto postSearchPagingDto) {
+        if (isIndexSearch()) {
+            return findPostSearchPaginationByIndex(blogPostSearchInput, postSearchPagingDto);
+        }
+
+        String searchType = sqlSearchType();
         PostKeywordSearchDto postKeywordSearchDto = PostKeywordSearchDto.from(
                 blogPostSearchInput,
                 postSearchPagingDto,
-                sqlConfig.getSqlSearchPattern()
+                searchType
         );
-        int postCount = postMapper.findPostDtoCountByKeyword(postKeywordSearchDto, blogPostSearchInput.getBlogId());
+
+        if (postSearchPagingDto.isCursorMode()) {
+            postSearchPagingDto.setPostCursor(PostCursor.decode(postSearchPagingDto.getCursor()));
+            List<PostSearchMapperDto> postSearchMapperDtoList = postMapper.findPostDtoByKeyword(postKeywordSearchDto);
+            PostCursorPagination postCursorPagination = PostCursorPagination.slice(postSearchMapperDtoList, postSearchPagingDto, PostSearchMapperDto::toPostCursor);
+            return new PostPaginationResponse<>(PostKeywordDto.from(postSearchMapperDtoList), postCursorPagination);
+        }
+        int postCount = pagingCountRedisTemplateService.getPagingCount(PagingCountType.POST_KEYWORD, PagingCountRedisTemplateService.blogScope(blogPostSearchInput.getBlogId()),
+                PagingCountRedisTemplateService.filter(PagingCountRedisTemplateService.keyword(blogPostSearchInput.getKeyword()), blogPostSearchInput.getSearchOption(), searchType),
+                () -> postMapper.findPostDtoCountByKeyword(postKeywordSearchDto, blogPostSearchInput.getBlogId()));
         PostPagination postPagination = new PostPagination(postCount, postSearchPagingDto);
         postSearchPagingDto.setPostPagination(postPagination);
         postKeywordSearchDto.setPostSearchPagingDto(postSearchPagingDto);
         return new PostPaginationResponse<>(PostKeywordDto.from(postMapper.findPostDtoByKeyword(postKeywordSearchDto)), postPagination);
     }
 
+    // 블로그 내 검색 (검색 색인), 번호 페이지는 BM25 점수 순 / 커서 페이지는 작성 시간 순
+    private PostPaginationResponse<PostKeywordDto> findPostSearchPaginationByIndex(BlogPostSearchInput blogPostSearchInput, PostSearchPagingDto postSearchPagingDto) {
+        PostSearchQuery.PostSearchQueryBuilder postSearchQueryBuilder = PostSearchQuery.builder()
+                .blogId(blogPostSearchInput.getBlogId())
+                .keyword(blogPostSearchInput.getKeyword())
+                .field(PostSearchField.from(blogPostSearchInput.getSearchOption()));
+
+        if (postSearchPagingDto.isCursorMode()) {
+            PostCursor postCursor = PostCursor.decode(postSearchPagingDto.getCursor());
+            postSearchPagingDto.setPostCursor(postCursor);
+            List<Long> postIds = postSearchIndexService.search(postSearchQueryBuilder
+                    .postCursor(postCursor)
+                    .sort(postCursor != null && postCursor.isPrev() ? PostSearchSort.OLDEST : PostSearchSort.RECENT)
+                    .build());
+            List<PostSearchMapperDto> postSearchMapperDtoList = findPostSearchMapperDtoByIds(postIds, 0, postSearchPagingDto.getCursorFetchSize());
+            PostCursorPagination postCursorPagination = PostCursorPagination.slice(postSearchMapperDtoList, postSearchPagingDto, PostSearchMapperDto::toPostCursor);
+            return new PostPaginationResponse<>(PostKeywordDto.from(postSearchMapperDtoList), postCursorPagination);
+        }
+
+        List<Long> postIds = postSearchIndexService.search(postSearchQueryBuilder.sort(PostSearchSort.SCORE).build());
+        PostPagination postPagination = new PostPagination(postIds.size(), postSearchPagingDto);
+        return new PostPaginationResponse<>(PostKeywordDto.from(findPostSearchMapperDtoByIds(postIds, postPagination.getLimitStart(), postSearchPagingDto.getRecordSize())), postPagination);
+    }
+
+    /**
+     * 검색 색인 결과 중 offset 부터 size 개의 게시글 정보 (색인 결과 순서 유지)
+     * 요청한 범위만 조회하고, 다른 노드에서 삭제되어 아직 색인에 반영되지 않은 게시글은 이 범위에서만 제외하여 뒤의 결과로 채움
+     * (전체 개수는 색인 결과 수를 사용하며, 삭제된 게시글은 다음 색인 동기화 이후 제외됨)
+     */
+    private List<PostSearchMapperDto> findPostSearchMapperDtoByIds(List<Long> postIds, int offset, int size) {
+        List<PostSearchMapperDto> postSearchMapperDtoList = new ArrayList<>(size);
+        int from = Math.min(offset, postIds.size());
+        int fetchSize = size + SEARCH_OVER_FETCH_SIZE;
+
+        while (postSearchMapperDtoList.size() < size && from < postIds.size()) {
+            List<Long> windowPostIds = postIds.subList(from, Math.min(from + fetchSize, postIds.size()));
+            Map<Long, PostSearchMapperDto> postSearchMapperDtoMap = postMapper.findPostSearchMapperDtoByIds(windowPostIds).stream()
+                    .collect(Collectors.toMap(PostSearchMapperDto::getId, Function.identity()));
+
+            for (Long postId : windowPostIds) {
+                if (postSearchMapperDtoMap.containsKey(postId) && postSearchMapperDtoList.size() < size) {
+                    postSearchMapperDtoList.add(postSearchMapperDtoMap.get(postId));
+                }
+            }
+            from += windowPostIds.size();
+            fetchSize = Math.max(fetchSize, (size - postSearchMapperDtoList.size()) * 2);
+        }
+        return postSearchMapperDtoList;
+    }
+
+    private boolean isIndexSearch() {
+        return ConstUtil.SEARCH_TYPE_INDEX.equals(sqlConfig.getSqlSearchPattern()) && postSearchIndexService.isReady();
+    }
+
+    // 검색 색인이 준비되기 전에는 LIKE 검색으로 대체
+    private String sqlSearchType() {
+        return ConstUtil.SEARCH_TYPE_INDEX.equals(sqlConfig.getSqlSearchPattern()) ? ConstUtil.SEARCH_TYPE_LIKE : sqlConfig.getSqlSearchPattern();
+    }
+
     @Override
     public PostPaginationResponse<PostTagKeywordDto> findPostSearchPaginationByTagKeyword(BlogPostTagInput blogPostTagInput, PostSearchPagingDto postSearchPagingDto) {
         PostTagKeywordSearchDto postTagKeywordSearchDto = PostTagKeywordSearchDto.from(
                 blogPostTagInput,
                 postSearchPagingDto
         );
-        int postCount = postMapper.findPostDtoCountByTagKeyword(blogPostTagInput.getBlogId(), blogPostTagInput.getTagKeyword());
+
+        if (postSearchPagingDto.isCursorMode()) {
+            postSearchPagingDto.setPostCursor(PostCursor.decode(postSearchPagingDto.getCursor()));
+            List<PostSearchMapperDto> postSearchMapperDtoList = postMapper.findPostDtoByTagKeyword(postTagKeywordSearchDto);
+            PostCursorPagination postCursorPagination = PostCursorPagination.slice(postSearchMapperDtoList, postSearchPagingDto, PostSearchMapperDto::toPostCursor);
+            return new PostPaginationResponse<>(PostTagKeywordDto.from(postSearchMapperDtoList), postCursorPagination);
+        }
+        int postCount = pagingCountRedisTemplateService.getPagingCount(PagingCountType.POST_TAG_KEYWORD, PagingCountRedisTemplateService.blogScope(blogPostTagInput.getBlogId()),
+                PagingCountRedisTemplateService.filter(PagingCountRedisTemplateService.keyword(blogPostTagInput.getTagKeyword())),
+                () -> postMapper.findPostDtoCountByTagKeyword(blogPostTagInput.getBlogId(), postTagKeywordSearchDto.getKeyword()));
         PostPagination postPagination = new PostPagination(postCount, postSearchPagingDto);
         postSearchPagingDto.setPostPagination(postPagination);
         postTagKeywordSearchDto.setPostSearchPagingDto(postSearchPagingDto);
@@ -103,37 +250,48 @@ public class PostServiceImpl implements PostService {
 
     @Override
     public PostPaginationResponse<PostTotalDto> findTotalPaginationPost(Long blogId, PostSearchPagingDto postSearchPagingDto, String type) {
-        int postCount = findUndeletePostCountByBlogId(blogId);
+        if (postSearchPagingDto.isCursorMode()) {
+            postSearchPagingDto.setPostCursor(PostCursor.decode(postSearchPagingDto.getCursor()));
+            List<PostDto> postDtoList = postMapper.findTotalPostDtoListByPaging(PostSearchDto.from(blogId, postSearchPagingDto));
+            PostCursorPagination postCursorPagination = PostCursorPagination.slice(postDtoList, postSearchPagingDto, PostDto::toPostCursor);
+            return new PostPaginationResponse<>(PostTotalDto.fromCursorPage(postStatisticsService.withPostStatistics(blogId, postDtoList), type), postCursorPagination);
+        }
+        int postCount = pagingCountRedisTemplateService.getPagingCount(PagingCountType.POST_TOTAL, PagingCountRedisTemplateService.blogScope(blogId),
+                PagingCountRedisTemplateService.filter(), () -> findUndeletePostCountByBlogId(blogId));
         PostPagination postPagination = new PostPagination(postCount, postSearchPagingDto);
         postSearchPagingDto.setPostPagination(postPagination);
-        return new PostPaginationResponse<>(PostTotalDto.fromPostDtoList(postMapper.findTotalPostDtoListByPaging(PostSearchDto.from(blogId, postSearchPagingDto)), postCount, type), postPagination);
+        List<PostDto> postDtoList = postStatisticsService.withPostStatistics(blogId, postMapper.findTotalPostDtoListByPaging(PostSearchDto.from(blogId, postSearchPagingDto)));
+        return new PostPaginationResponse<>(PostTotalDto.fromPostDtoList(postDtoList, postCount, type), postPagination);
     }
 
     @Override
     public String uploadAwsS3PostThumbnailImage(MultipartFile multipartFile) throws Exception {
-        return awsS3Service.uploadImageFile(multipartFile);
+        String thumbnailImageSrc = mediaStorageService.upload(multipartFile, ConstUtil.UPLOAD_TYPE_S3);
+        mediaVariantService.requestVariants(thumbnailImageSrc, null);
+        return thumbnailImageSrc;
     }
 
     @Override
-    public String uploadSftpPostImage(MultipartFile multipartFile, String uploadKey) throws Exception {
-        return sftpService.sftpFileUpload(multipartFile, ConstUtil.SFTP_POST_IMAGE_HASH, uploadKey);
+    public String uploadSftpPostImage(HttpServletRequest request, String uploadKey) throws Exception {
+        return streamingMultipartService.upload(request, ConstUtil.UPLOAD_POST_IMAGE_FIELD_NAME,
+                streamingUploadFile -> mediaStorageService.upload(streamingUploadFile, ConstUtil.UPLOAD_TYPE_FILE_SERVER));
     }
 
     @Override
     public String uploadSftpPostThumbnailImage(MultipartFile multipartFile, String uploadKey) throws Exception {
-        return sftpService.sftpFileUpload(multipartFile, ConstUtil.SFTP_POST_THUMBNAIL_HASH, uploadKey);
+        String thumbnailImageSrc = mediaStorageService.upload(multipartFile, ConstUtil.UPLOAD_TYPE_FILE_SERVER);
+        mediaVariantService.requestVariants(thumbnailImageSrc, null);
+        return thumbnailImageSrc;
     }
 
     @Override
     public void deleteSftpPostImage(List<String> imgSrcList) throws Exception {
-        for (String imgSrc : imgSrcList) {
-            sftpService.sftpFileDelete(imgSrc);
-        }
+        mediaStorageService.delete(imgSrcList);
     }
 
     @Override
     public void deleteSftpPostImage(String imgSrc) throws Exception {
-        sftpService.sftpFileDelete(imgSrc);
+        mediaStorageService.delete(imgSrc);
     }
 
     @Transactional
@@ -144,6 +302,9 @@ public class PostServiceImpl implements PostService {
         List<String> tagStrList = BlogUtil.convertArrayToList(blogPostInput.getTag().split(","));
         postDetailDto.setTags(tagStrList);
         tagService.register(tagStrList, post);
+        postSearchIndexService.indexPost(writedPost);
+        blogShellCacheEvictor.evictByBlogId(post.getBlog().getId());
+        pagingCountRedisTemplateService.increaseBlogVersion(post.getBlog().getId());
         return postDetailDto;
     }
 
@@ -164,6 +325,9 @@ public class PostServiceImpl implements PostService {
 
         PostDetailDto updatedPostDetailDto = PostDetailDto.from(post);
         updatedPostDetailDto.setTags(BlogUtil.convertArrayToList(blogPostUpdateInput.getTag().split(",")));
+        postSearchIndexService.indexPost(post);
+        blogShellCacheEvictor.evictByBlogId(blogPostUpdateInput.getBlogId());
+        pagingCountRedisTemplateService.increaseBlogVersion(blogPostUpdateInput.getBlogId());
         return updatedPostDetailDto;
     }
 
@@ -177,10 +341,10 @@ public class PostServiceImpl implements PostService {
     @Cacheable(value = CacheKey.POST_DETAIL_DTO, key = "#blogId.toString() + '&' + #postId.toString()")
     @Override
     public PostDetailDto findPostDetailInfo(Long blogId, Long postId) {
-        if (!checkPostId(blogId, postId)) {
-            throw new PostManageException(ServiceExceptionMessage.POST_NOT_FOUND);
-        }
-        return PostDetailDto.from(findPostById(postId));
+        PostDetailDto postDetailDto = findPostDetailDto(blogId, postId);
+        postDetailDto.setRegisterTime(BlogUtil.formatLocalDateTimeToStr(postDetailDto.getRegisterLocalDateTime()));
+        postDetailDto.setCurrentUrl(BlogUtil.currentRequestUrl());
+        return postDetailDto;
     }
 
     @Override
@@ -217,10 +381,7 @@ public class PostServiceImpl implements PostService {
 
     @Override
     public PostUpdateDto findPostUpdateInfo(Long blogId, Long postId) {
-        if (!checkPostId(blogId, postId)) {
-            throw new PostManageException(ServiceExceptionMessage.POST_NOT_FOUND);
-        }
-        return PostUpdateDto.from(findPostById(postId));
+        return PostUpdateDto.from(findPostDetailDto(blogId, postId));
     }
 
     @Override
@@ -230,7 +391,7 @@ public class PostServiceImpl implements PostService {
 
     @Override
     public List<PostDto> findPostPaginationById(PostSearchDto postSearchDto) {
-        return postMapper.findCategoryPostDtoListByPaging(postSearchDto);
+        return postStatisticsService.withPostStatistics(postSearchDto.getBlogId(), postMapper.findCategoryPostDtoListByPaging(postSearchDto));
     }
 
     @Override
@@ -240,7 +401,8 @@ public class PostServiceImpl implements PostService {
 
     @Override
     public int findPostCountByBlogCategory(Long blogId, Long categoryId) {
-        return postMapper.findPostCountByBlogCategory(blogId, categoryId);
+        return pagingCountRedisTemplateService.getPagingCount(PagingCountType.POST_CATEGORY, PagingCountRedisTemplateService.blogScope(blogId),
+                PagingCountRedisTemplateService.filter(categoryId), () -> postMapper.findPostCountByBlogCategory(blogId, categoryId));
     }
 
     @Override
@@ -261,6 +423,11 @@ public class PostServiceImpl implements PostService {
         return postMapper.findPostCount(blogId);
     }
 
+    @Override
+    public long allocatePostSeq(Long blogId) {
+        return postSeqRedisTemplateService.allocatePostSeq(blogId);
+    }
+
     @Override
     public int findUndeletePostCountByBlogId(Long blogId) {
         return postMapper.findUndeletePostCount(blogId);
@@ -276,10 +443,17 @@ public class PostServiceImpl implements PostService {
     @Override
     @CacheEvict(value = CacheKey.POST_DETAIL_DTO, key = "#blogId.toString() + '&' + #postId.toString()")
     public void deletePost(Long blogId, Long postId) {
-        Post post = findPostById(postId);
-        post.setDelete(true);
+        if (postMapper.deletePost(blogId, postId, LocalDateTime.now()) == 0) {
+            // 다른 블로그의 게시글이면 존재 여부를 알리지 않음
+            throw new PostManageException(postMapper.existsDeletedPostByBlogId(blogId, postId) ? ServiceExceptionMessage.ALREADY_DELETE_POST : ServiceExceptionMessage.POST_NOT_FOUND);
+        }
         postViewService.deletePostView(blogId, postId);
         postLikeRedisTemplateService.deletePostLikeInfo(blogId, postId);
+        postPopularTemplateService.deletePopularPost(blogId, postId);
+        postSearchIndexService.removePost(postId);
+        tagService.decreasePostTagCount(postId);
+        blogShellCacheEvictor.evictByBlogId(blogId);
+        pagingCountRedisTemplateService.increaseBlogVersion(blogId);
     }
 
     @Override
@@ -301,27 +475,13 @@ public class PostServiceImpl implements PostService {
         return false;
     }
 
-    @Override
-    public void postCheckRetrySleep(PostDetailDto postDetailDto) {
-        for (int i = 1; i <= appConfig.getPostCheckRetryMaxCount(); i++) {
-            try {
-                if (findPostDetailInfo(postDetailDto.getBlogId(), postDetailDto.getId()) != null) {
-                    return;
-                }
-            } catch (Exception e) {
-                log.error("PostServiceImpl[postCheckRetrySleep] PostDetailDto Object not yet saved!!!, retry Count: " + i);
-            }
+    // 게시글, 카테고리 경로, 태그를 한 번의 쿼리로 조회 (JPA 엔티티의 카테고리/블로그/태그/댓글 지연 로딩 없음)
+    private PostDetailDto findPostDetailDto(Long blogId, Long postId) {
+        PostDetailDto postDetailDto = postMapper.findPostDetailDtoById(postId, blogId);
 
-            try {
-                Thread.sleep(appConfig.getPostCheckRetrySleepTime());
-            } catch (InterruptedException e) {
-                log.error("PostServiceImpl[postCheckRetrySleep] sleep error!!!, retry Count: " + i);
-            }
+        if (postDetailDto == null) {
+            throw new PostManageException(ServiceExceptionMessage.POST_NOT_FOUND);
         }
-    }
-
-    private boolean checkPostId(Long blogId, Long postId) {
-        PostDto postDto = postMapper.findPostDtoById2(postId, blogId);
-        return postDto != null;
+        return postDetailDto;
     }
 }
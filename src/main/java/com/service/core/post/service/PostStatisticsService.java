@@ -0,0 +1,60 @@
+package com.service.core.post.service;
+
+import com.service.core.comment.dto.CommentCountDto;
+import com.service.core.comment.repository.mapper.CommentMapper;
+import com.service.core.post.dto.PostCardDto;
+import com.service.core.post.dto.PostDto;
+import com.service.core.post.dto.PostStatisticsDto;
+import com.service.core.views.service.ViewCountBuffer;
+import com.service.util.redis.service.statistics.PostStatisticsRedisTemplateService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 목록의 조회수/좋아요 수/댓글 수를 목록 크기와 관계없이 Redis 파이프라인 1회 + SQL 1회로 조회
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class PostStatisticsService {
+    private final PostStatisticsRedisTemplateService postStatisticsRedisTemplateService;
+    private final ViewCountBuffer viewCountBuffer;
+    private final CommentMapper commentMapper;
+
+    public Map<Long, PostStatisticsDto> findPostStatistics(Long blogId, List<Long> postIds) {
+        Map<Long, PostStatisticsDto> postStatisticsMap = new HashMap<>();
+
+        if (postIds.isEmpty()) {
+            return postStatisticsMap;
+        }
+
+        Map<Long, PostStatisticsDto> redisStatisticsMap = postStatisticsRedisTemplateService.getPostStatistics(blogId, postIds);
+        Map<Long, Long> commentCountMap = commentMapper.findCommentCountByPostIds(postIds).stream()
+                .collect(Collectors.toMap(CommentCountDto::getPostId, CommentCountDto::getCommentCount));
+
+        for (Long postId : postIds) {
+            PostStatisticsDto redisStatistics = redisStatisticsMap.getOrDefault(postId, PostStatisticsDto.EMPTY);
+            postStatisticsMap.put(postId, redisStatistics.toBuilder()
+                    .viewCount(redisStatistics.getViewCount() + viewCountBuffer.getPendingPostView(blogId, postId))
+                    .commentCount(commentCountMap.getOrDefault(postId, 0L))
+                    .build());
+        }
+        return postStatisticsMap;
+    }
+
+    public List<PostCardDto> withPostCardStatistics(Long blogId, List<PostCardDto> postCardDtoList) {
+        Map<Long, PostStatisticsDto> postStatisticsMap = findPostStatistics(blogId, postCardDtoList.stream().map(PostCardDto::getId).collect(Collectors.toList()));
+        return postCardDtoList.stream().map(postCardDto -> postCardDto.withStatistics(postStatisticsMap.get(postCardDto.getId()))).collect(Collectors.toList());
+    }
+
+    public List<PostDto> withPostStatistics(Long blogId, List<PostDto> postDtoList) {
+        Map<Long, PostStatisticsDto> postStatisticsMap = findPostStatistics(blogId, postDtoList.stream().map(PostDto::getId).collect(Collectors.toList()));
+        return postDtoList.stream().map(postDto -> postDto.withStatistics(postStatisticsMap.get(postDto.getId()))).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,36 @@
+package com.service.core.tag.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+/**
+ * 블로그별 태그 사전 (태그명 : 삭제되지 않은 게시글 수)
+ * 태그 등록/수정/삭제, 게시글 삭제 시에 SQL 로 증감하고, tag.blog_tag_id 로 게시글 태그와 연결
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "blog_tag_statistics", uniqueConstraints = {
+        @UniqueConstraint(name = "blog_tag_statistics_uk_blog_name", columnNames = {"blog_id", "name"})
+})
+public class BlogTagStatistics {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "blog_tag_id")
+    private Long id;
+
+    @Column(name = "blog_id", nullable = false)
+    private Long blogId;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(name = "post_count", columnDefinition = "bigint not null default 0")
+    private long postCount;
+}
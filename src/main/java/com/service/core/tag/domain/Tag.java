@@ -17,6 +17,9 @@ import javax.validation.constraints.Size;
 @AllArgsConstructor
 @NoArgsConstructor
 @ToString(exclude = "post")
+@Table(indexes = {
+        @Index(name = "tag_idx_blog_tag_post", columnList = "blog_tag_id, post_id")
+})
 public class Tag extends BaseTimeEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -25,13 +28,18 @@ public class Tag extends BaseTimeEntity {
 
     private String name;
 
+    // 블로그별 태그 사전(blog_tag_statistics) id, 빈 태그명은 null
+    @Column(name = "blog_tag_id")
+    private Long blogTagId;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "post_id")
     private Post post;
 
-    public static Tag from(Post post, String tagName) {
+    public static Tag from(Post post, String tagName, Long blogTagId) {
         return Tag.builder()
                 .name(tagName)
+                .blogTagId(blogTagId)
                 .post(post)
                 .isBaseTimezone(true)
                 .build();
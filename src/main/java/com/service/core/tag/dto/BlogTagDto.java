@@ -2,11 +2,13 @@ package com.service.core.tag.dto;
 
 import lombok.Builder;
 import lombok.Data;
+import lombok.extern.jackson.Jacksonized;
 
 import java.util.List;
 
 @Data
 @Builder
+@Jacksonized
 public class BlogTagDto {
     private final int tagCount;
     private final List<TagDto> tagDtoList;
@@ -0,0 +1,11 @@
+package com.service.core.tag.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class BlogTagStatisticsDto {
+    private Long blogTagId;
+    private String name;
+}
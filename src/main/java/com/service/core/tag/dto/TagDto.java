@@ -3,11 +3,14 @@ package com.service.core.tag.dto;
 import com.service.core.tag.domain.Tag;
 import lombok.Builder;
 import lombok.Data;
+import lombok.extern.jackson.Jacksonized;
 
 @Builder
+@Jacksonized
 @Data
 public class TagDto {
     private final String name;
+    private final long postCount;
 
     public static TagDto fromEntity(Tag tag) {
         return TagDto.builder()
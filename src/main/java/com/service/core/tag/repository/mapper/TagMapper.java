@@ -1,11 +1,34 @@
 package com.service.core.tag.repository.mapper;
 
+import com.service.core.tag.domain.Tag;
+import com.service.core.tag.dto.BlogTagStatisticsDto;
 import com.service.core.tag.dto.TagDto;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Mapper
 public interface TagMapper {
     List<TagDto> findTagDtoList(Long blogId);
+
+    List<BlogTagStatisticsDto> findBlogTagStatisticsByNames(@Param("blogId") Long blogId, @Param("names") Collection<String> names);
+
+    int increaseBlogTagPostCount(@Param("blogId") Long blogId, @Param("names") Collection<String> names);
+
+    int decreaseBlogTagPostCount(@Param("blogId") Long blogId, @Param("names") Collection<String> names);
+
+    int decreaseBlogTagPostCountByPostId(Long postId);
+
+    int insertMissingBlogTagStatistics();
+
+    int updateMissingTagBlogTagId();
+
+    int repairBlogTagPostCount();
+
+    int insertTags(@Param("postId") Long postId, @Param("tags") Collection<Tag> tags, @Param("registerTime") LocalDateTime registerTime);
+
+    int deleteTagsByIds(@Param("tagIds") Collection<Long> tagIds);
 }
@@ -11,9 +11,7 @@ public interface TagService {
 
     void update(Post post, List<Tag> tagList, List<String> inputTagList);
 
-    void save(List<Tag> tagList);
-
-    void delete(List<Tag> tagList);
+    void decreasePostTagCount(Long postId);
 
     List<TagDto> findTagDtoList(Long blogId);
 
@@ -5,14 +5,20 @@ import com.service.core.tag.domain.Tag;
 import com.service.core.tag.dto.TagDto;
 import com.service.core.tag.repository.TagRepository;
 import com.service.core.tag.repository.mapper.TagMapper;
+import com.service.core.tag.dto.BlogTagStatisticsDto;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
 
 @Service
+@Slf4j
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class TagServiceImpl implements TagService {
@@ -32,57 +38,112 @@ public class TagServiceImpl implements TagService {
     @Transactional
     @Override
     public void register(List<String> tagStrList, Post post) {
-        List<Tag> tagList = new ArrayList<>();
-
-        for (String tagStr : tagStrList) {
-            tagList.add(Tag.builder().name(tagStr).post(post).build());
-        }
-
-        tagRepository.saveAll(tagList);
+        Long blogId = post.getBlog().getId();
+        Set<String> inputTagNames = new LinkedHashSet<>(tagStrList);
+        Set<String> tagNames = toTagNameSet(tagStrList);
+        increaseBlogTagPostCount(blogId, tagNames);
+        insertTags(post, inputTagNames, findBlogTagIdMap(blogId, tagNames));
     }
 
+    // 기존 태그명/입력 태그명을 집합으로 비교하여 삭제된 태그는 한 번에 delete, 추가된 태그는 한 번에 insert
     @Transactional
     @Override
     public void update(Post post, List<Tag> tagList, List<String> inputTagList) {
-        List<Tag> delTagList = new ArrayList<>();
-        List<Tag> newTagList = new ArrayList<>();
+        Long blogId = post.getBlog().getId();
+        Set<String> prevTagNames = new LinkedHashSet<>();
+        Set<String> nextTagNames = new LinkedHashSet<>(inputTagList);
+        List<Long> delTagIds = new ArrayList<>();
 
         for (Tag tag : tagList) {
-            boolean isEqual = false;
-            String deleteTag = null;
-
-            for (String inputTag : inputTagList) {
-                if (tag.getName().equals(inputTag)) {
-                    isEqual = true;
-                    deleteTag = inputTag;
-                    break;
-                }
-            }
+            prevTagNames.add(tag.getName());
 
-            if (isEqual == false) {
-                delTagList.add(tag);
-            } else {
-                inputTagList.remove(deleteTag);
+            if (!nextTagNames.contains(tag.getName())) {
+                delTagIds.add(tag.getId());
             }
         }
 
-        for (String tagName : inputTagList) {
-            newTagList.add(Tag.from(post, tagName));
-        }
+        Set<String> addedTagNames = new LinkedHashSet<>(nextTagNames);
+        addedTagNames.removeAll(prevTagNames);
+
+        // 게시글 수는 대소문자만 다른 태그명을 같은 태그로 보고 증감 ("Java" → "java" 로 수정하면 변경 없음)
+        Set<String> removedStatTagNames = toTagNameSet(prevTagNames);
+        removedStatTagNames.removeAll(toTagNameSet(nextTagNames));
+        Set<String> addedStatTagNames = toTagNameSet(nextTagNames);
+        addedStatTagNames.removeAll(toTagNameSet(prevTagNames));
+        decreaseBlogTagPostCount(blogId, removedStatTagNames);
+        increaseBlogTagPostCount(blogId, addedStatTagNames);
 
-        delete(delTagList);
-        save(newTagList);
+        if (!delTagIds.isEmpty()) {
+            tagMapper.deleteTagsByIds(delTagIds);
+        }
+        insertTags(post, addedTagNames, findBlogTagIdMap(blogId, toTagNameSet(addedTagNames)));
     }
 
+    // 게시글 삭제 시에, 해당 게시글 태그의 게시글 수 감소 (태그 행은 유지)
     @Transactional
     @Override
-    public void save(List<Tag> tagList) {
-        tagRepository.saveAll(tagList);
+    public void decreasePostTagCount(Long postId) {
+        tagMapper.decreaseBlogTagPostCountByPostId(postId);
     }
 
+    // 태그 사전 도입 이전에 등록 된 태그는 기동 시에 1회 구성
     @Transactional
-    @Override
-    public void delete(List<Tag> tagList) {
-        tagRepository.deleteAll(tagList);
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeBlogTagStatistics() {
+        tagMapper.insertMissingBlogTagStatistics();
+        int linkedCount = tagMapper.updateMissingTagBlogTagId();
+
+        if (linkedCount > 0) {
+            int repairedCount = tagMapper.repairBlogTagPostCount();
+            log.info("[TagServiceImpl:initializeBlogTagStatistics] linked:{}, repaired:{}", linkedCount, repairedCount);
+        }
+    }
+
+    private void insertTags(Post post, Set<String> tagNames, Map<String, Long> blogTagIdMap) {
+        if (tagNames.isEmpty()) {
+            return;
+        }
+
+        List<Tag> tagList = new ArrayList<>(tagNames.size());
+
+        for (String tagName : tagNames) {
+            tagList.add(Tag.from(post, tagName, blogTagIdMap.get(tagName)));
+        }
+        tagMapper.insertTags(post.getId(), tagList, LocalDateTime.now());
+    }
+
+    private void increaseBlogTagPostCount(Long blogId, Set<String> tagNames) {
+        if (!tagNames.isEmpty()) {
+            tagMapper.increaseBlogTagPostCount(blogId, tagNames);
+        }
+    }
+
+    private void decreaseBlogTagPostCount(Long blogId, Set<String> tagNames) {
+        if (!tagNames.isEmpty()) {
+            tagMapper.decreaseBlogTagPostCount(blogId, tagNames);
+        }
+    }
+
+    private Map<String, Long> findBlogTagIdMap(Long blogId, Set<String> tagNames) {
+        if (tagNames.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        // 태그명 비교는 DB collation 과 같이 대소문자 구분 없음
+        return tagMapper.findBlogTagStatisticsByNames(blogId, tagNames).stream()
+                .collect(Collectors.toMap(BlogTagStatisticsDto::getName, BlogTagStatisticsDto::getBlogTagId,
+                        (first, second) -> first, () -> new TreeMap<>(String.CASE_INSENSITIVE_ORDER)));
+    }
+
+    // 게시글 하나에 같은 태그가 중복되어도 1번만 집계하고, 빈 태그명은 사전에 추가하지 않음
+    // (blog_tag_statistics (blog_id, name) 유니크 키와 같이 대소문자 구분 없이 중복 제거, 먼저 입력된 태그명 유지)
+    private Set<String> toTagNameSet(Collection<String> tagNames) {
+        Set<String> tagNameSet = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+
+        for (String tagName : tagNames) {
+            if (tagName != null && !tagName.isEmpty()) {
+                tagNameSet.add(tagName);
+            }
+        }
+        return tagNameSet;
     }
 }
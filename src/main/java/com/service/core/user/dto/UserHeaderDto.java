@@ -8,6 +8,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import java.io.Serializable;
+import java.util.Collections;
+import java.util.Map;
 
 @Data
 @Builder
@@ -18,7 +20,10 @@ public class UserHeaderDto implements Serializable {
     private String id;
     private String nickname;
     private String profileImages;
-
+    // 프로필 이미지 축소본 너비 : URL (생성 전에는 빈 Map, 원본 사용)
+    private Map<Integer, String> profileImageVariants;
+    // 프로필 이미지 축소본 생성 중 여부 (생성 중인 정보는 캐싱하지 않음)
+    private boolean profileImageVariantsPending;
 
     public static UserHeaderDto fromEntity(UserDomain user) {
         if (user == null) {
@@ -26,13 +31,23 @@ public class UserHeaderDto implements Serializable {
                     .id(ConstUtil.UNDEFINED)
                     .nickname(ConstUtil.UNDEFINED)
                     .profileImages(ConstUtil.UNDEFINED)
+                    .profileImageVariants(Collections.emptyMap())
                     .build();
         } else {
             return UserHeaderDto.builder()
                     .id(BlogUtil.ofNull(user.getUserId()))
                     .nickname(BlogUtil.ofNull(user.getNickname()))
                     .profileImages(BlogUtil.ofNull(user.getProfileImage()))
+                    .profileImageVariants(Collections.emptyMap())
                     .build();
         }
     }
+
+    public UserHeaderDto withProfileImageVariants(Map<Integer, String> profileImageVariants, boolean profileImageVariantsPending) {
+        if (profileImageVariants != null) {
+            this.profileImageVariants = profileImageVariants;
+        }
+        this.profileImageVariantsPending = profileImageVariantsPending;
+        return this;
+    }
 }
@@ -3,12 +3,15 @@ package com.service.core.user.service.impl;
 import com.service.config.app.AppConfig;
 import com.service.core.blog.domain.Blog;
 import com.service.core.blog.service.BlogService;
+import com.service.core.blog.service.BlogShellCacheEvictor;
 import com.service.core.category.service.CategoryService;
 import com.service.core.email.service.EmailService;
 import com.service.core.error.constants.ServiceExceptionMessage;
 import com.service.core.error.model.BlogManageException;
 import com.service.core.error.model.UserAuthException;
 import com.service.core.error.model.UserManageException;
+import com.service.core.media.service.MediaStorageService;
+import com.service.core.media.service.MediaVariantService;
 import com.service.core.user.domain.SocialAddress;
 import com.service.core.user.domain.UserDomain;
 import com.service.core.user.dto.*;
@@ -16,19 +19,23 @@ import com.service.core.user.model.*;
 import com.service.core.user.service.UserAuthService;
 import com.service.core.user.service.UserInfoService;
 import com.service.core.user.service.UserService;
+import com.service.core.post.search.PostSearchIndexService;
+import com.service.core.views.service.BlogVisitorService;
 import com.service.core.views.service.PostViewService;
 import com.service.util.BlogUtil;
 import com.service.util.ConstUtil;
-import com.service.util.aws.s3.AwsS3Service;
 import com.service.util.redis.key.CacheKey;
 import com.service.util.redis.service.like.PostLikeRedisTemplateService;
-import com.service.util.redis.service.view.BlogViewRedisTemplateService;
-import com.service.util.sftp.SftpService;
+import com.service.util.redis.service.paging.PagingCountRedisTemplateService;
+import com.service.util.redis.service.popular.PostPopularTemplateService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -54,13 +61,17 @@ public class UserServiceImpl implements UserService {
     private final UserInfoService userInfoService;
     private final UserAuthService userAuthService;
 
-    private final SftpService sftpService;
-
-    private final AwsS3Service awsS3Service;
+    private final MediaStorageService mediaStorageService;
+    private final MediaVariantService mediaVariantService;
+    private final CacheManager cacheManager;
 
     private final PostLikeRedisTemplateService postLikeRedisTemplateService;
     private final PostViewService postViewService;
-    private final BlogViewRedisTemplateService blogViewRedisTemplateService;
+    private final BlogVisitorService blogVisitorService;
+    private final PostPopularTemplateService postPopularTemplateService;
+    private final BlogShellCacheEvictor blogShellCacheEvictor;
+    private final PagingCountRedisTemplateService pagingCountRedisTemplateService;
+    private final PostSearchIndexService postSearchIndexService;
 
     private final AppConfig appConfig;
 
@@ -113,7 +124,11 @@ public class UserServiceImpl implements UserService {
 
         postLikeRedisTemplateService.deleteUserPostLikeInfo(blog.getId(), userWithdrawInput.getId());
         postViewService.deleteBlogPostView(blog.getId());
-        blogViewRedisTemplateService.deleteBlogVisitors(BlogUtil.hashCode(userProfileDto.getId(), userProfileDto.getEmailHash(), blog.getId()));
+        postPopularTemplateService.deleteBlogPopularPost(blog.getId());
+        postSearchIndexService.removeBlog(blog.getId());
+        blogVisitorService.deleteBlogVisitors(BlogUtil.hashCode(userProfileDto.getId(), userProfileDto.getEmailHash(), blog.getId()));
+        blogShellCacheEvictor.evictByUserId(userWithdrawInput.getId());
+        pagingCountRedisTemplateService.increaseBlogVersion(blog.getId());
     }
 
     @Override
@@ -215,7 +230,8 @@ public class UserServiceImpl implements UserService {
 
     @Transactional
     @Override
-    @CachePut(key = "#principal.getName()", value = CacheKey.USER_HEADER_DTO)
+    @Caching(put = @CachePut(key = "#principal.getName()", value = CacheKey.USER_HEADER_DTO, unless = "#result.profileImageVariantsPending"),
+            evict = @CacheEvict(key = "#principal.getName()", value = CacheKey.USER_HEADER_DTO, condition = "#result.profileImageVariantsPending"))
     public UserHeaderDto updateUserBasicInfo(UserBasicInfoInput userBasicInfoInput, Principal principal) {
         UserDomain user = userInfoService.findUserDomainByIdOrThrow(userBasicInfoInput.getId());
 
@@ -230,7 +246,8 @@ public class UserServiceImpl implements UserService {
         user.setGreetings(BlogUtil.checkAndGetRepText(userBasicInfoInput.getGreetings(), ConstUtil.DEFAULT_USER_GREETINGS));
         user.setBlog(blog);
         userInfoService.saveUserDomain(user);
-        return UserHeaderDto.fromEntity(user);
+        blogShellCacheEvictor.evictByUserId(user.getUserId());
+        return toUserHeaderDto(user);
     }
 
     @Override
@@ -248,6 +265,7 @@ public class UserServiceImpl implements UserService {
         socialAddress.setInstagram(BlogUtil.checkAndGetRepText(userSocialAddressInput.getInstagram(), String.format("/blog/%s", userSocialAddressInput.getId())));
 
         userInfoService.saveUserDomain(userDomain);
+        blogShellCacheEvictor.evictByUserId(userDomain.getUserId());
     }
 
     @Override
@@ -277,10 +295,10 @@ public class UserServiceImpl implements UserService {
         return UserSettingDto.fromEntity(userInfoService.findUserDomainByEmailOrElse(email, null));
     }
 
-    @Cacheable(key = "#email", value = CacheKey.USER_HEADER_DTO)
+    @Cacheable(key = "#email", value = CacheKey.USER_HEADER_DTO, unless = "#result.profileImageVariantsPending")
     @Override
     public UserHeaderDto findUserHeaderDtoByEmail(String email) {
-        return UserHeaderDto.fromEntity(userInfoService.findUserDomainByEmailOrThrow(email));
+        return toUserHeaderDto(userInfoService.findUserDomainByEmailOrThrow(email));
     }
 
     @Transactional(readOnly = true)
@@ -302,10 +320,11 @@ public class UserServiceImpl implements UserService {
     @Override
     public String uploadSftpProfileImageById(MultipartFile multipartFile, String id) throws Exception {
         try {
-            String profileImageSrc = sftpService.sftpFileUpload(multipartFile, ConstUtil.SFTP_PROFILE_THUMBNAIL_HASH, id);
+            String profileImageSrc = mediaStorageService.upload(multipartFile, ConstUtil.UPLOAD_TYPE_FILE_SERVER);
             UserDomain userDomain = userInfoService.findUserDomainByIdOrThrow(id);
             userDomain.setProfileImage(profileImageSrc);
             userInfoService.saveUserDomain(userDomain);
+            mediaVariantService.requestVariants(profileImageSrc, () -> evictUserHeaderDto(userDomain.getEmail()));
             return profileImageSrc;
         } catch (Exception e) {
             throw e;
@@ -313,7 +332,8 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
-    @CachePut(key = "#principal.getName()", value = CacheKey.USER_HEADER_DTO)
+    @Caching(put = @CachePut(key = "#principal.getName()", value = CacheKey.USER_HEADER_DTO, unless = "#result.profileImageVariantsPending"),
+            evict = @CacheEvict(key = "#principal.getName()", value = CacheKey.USER_HEADER_DTO, condition = "#result.profileImageVariantsPending"))
     public UserHeaderDto uploadThumbnailProfileImageById(MultipartFile multipartFile, String id, String uploadType, String uploadKey, Principal principal) throws Exception {
         try {
             UserDomain userDomain = userInfoService.findUserDomainByIdOrThrow(id);
@@ -324,9 +344,9 @@ public class UserServiceImpl implements UserService {
             }
 
             if (uploadType.equals(ConstUtil.UPLOAD_TYPE_S3)) {
-                profileImageSrc = awsS3Service.uploadImageFile(multipartFile);
+                profileImageSrc = mediaStorageService.upload(multipartFile, ConstUtil.UPLOAD_TYPE_S3);
             } else if (uploadType.equals(ConstUtil.UPLOAD_TYPE_FILE_SERVER)) {
-                profileImageSrc = sftpService.sftpFileUpload(multipartFile, ConstUtil.SFTP_PROFILE_THUMBNAIL_HASH, uploadKey);
+                profileImageSrc = mediaStorageService.upload(multipartFile, ConstUtil.UPLOAD_TYPE_FILE_SERVER);
             }
 
             String userUploadKey = userDomain.getMetaKey();
@@ -344,14 +364,17 @@ public class UserServiceImpl implements UserService {
             userDomain.setProfileImage(profileImageSrc);
             userDomain.setMetaKey(uploadKey);
             userInfoService.saveUserDomain(userDomain);
-            return UserHeaderDto.fromEntity(userDomain);
+            blogShellCacheEvictor.evictByUserId(userDomain.getUserId());
+            mediaVariantService.requestVariants(profileImageSrc, () -> evictUserHeaderDto(principal.getName()));
+            return toUserHeaderDto(userDomain);
         } catch (Exception e) {
             throw e;
         }
     }
 
     @Override
-    @CachePut(key = "#principal.getName()", value = CacheKey.USER_HEADER_DTO)
+    @Caching(put = @CachePut(key = "#principal.getName()", value = CacheKey.USER_HEADER_DTO, unless = "#result.profileImageVariantsPending"),
+            evict = @CacheEvict(key = "#principal.getName()", value = CacheKey.USER_HEADER_DTO, condition = "#result.profileImageVariantsPending"))
     public UserHeaderDto removeProfileImageById(String id, Principal principal) {
         UserDomain userDomain = userInfoService.findUserDomainByIdOrThrow(id);
         String userMetaKey = userDomain.getMetaKey();
@@ -369,12 +392,31 @@ public class UserServiceImpl implements UserService {
         userDomain.setProfileImage(null);
         userDomain.setMetaKey(null);
         userInfoService.saveUserDomain(userDomain);
-        return UserHeaderDto.fromEntity(userDomain);
+        blogShellCacheEvictor.evictByUserId(userDomain.getUserId());
+        return toUserHeaderDto(userDomain);
+    }
+
+    /**
+     * 프로필 이미지 축소본이 생성되어 있으면 축소본 URL 추가 (생성 전에는 원본 사용)
+     * 생성 중이면 캐싱하지 않으므로, 다른 요청/노드에서 생성 중이거나 생성 완료 후에 이전 정보가 저장되어도 원본 URL 이 오래 남지 않음
+     */
+    private UserHeaderDto toUserHeaderDto(UserDomain userDomain) {
+        String profileImage = userDomain.getProfileImage();
+        return UserHeaderDto.fromEntity(userDomain).withProfileImageVariants(mediaVariantService.findVariantUrls(profileImage), mediaVariantService.isVariantPending(profileImage));
+    }
+
+    // 축소본 생성 완료 시에 캐싱된 헤더 정보 삭제 (다음 조회 시에 축소본 URL 포함)
+    private void evictUserHeaderDto(String email) {
+        Cache cache = cacheManager.getCache(CacheKey.USER_HEADER_DTO);
+
+        if (cache != null) {
+            cache.evict(email);
+        }
     }
 
     private void deleteUserProfileImageSrc(String imgSrc) {
         try {
-            sftpService.sftpFileDelete(imgSrc);
+            mediaStorageService.delete(imgSrc);
         } catch (Exception e) {
             log.error("UserService[deleteUserProfileImageSrc] error:", e);
         }
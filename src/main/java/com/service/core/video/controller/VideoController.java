@@ -14,8 +14,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.multipart.MultipartFile;
 
+import javax.servlet.http.HttpServletRequest;
 import java.security.Principal;
 
 @RestController
@@ -32,12 +32,12 @@ public class VideoController {
             @ApiResponse(responseCode = "500", description = "네트워크, 데이터베이스 저장 실패 등의 이유로 비디오 업로드 실패")
     })
     @PostMapping("/upload/video/{uploadKey}")
-    public ResponseEntity<String> uploadVideo(@RequestParam("compressed_video") MultipartFile multipartFile, Principal principal, @PathVariable String uploadKey) {
+    public ResponseEntity<String> uploadVideo(HttpServletRequest request, Principal principal, @PathVariable String uploadKey) {
         try {
             if ((principal == null || principal.getName() == null)) {
                 throw new UserManageException(ServiceExceptionMessage.NOT_LOGIN_STATUS_ACCESS);
             }
-            return ResponseEntity.status(HttpStatus.OK).body(videoService.uploadSftpVideo(multipartFile, uploadKey));
+            return ResponseEntity.status(HttpStatus.OK).body(videoService.uploadSftpVideo(request, uploadKey));
         } catch (Exception exception) {
             if (BlogUtil.getErrorMessage(exception) == ConstUtil.UNDEFINED_ERROR) {
                 log.error("[freeblog-uploadVideo] exception occurred ", exception);
@@ -1,15 +1,17 @@
 package com.service.core.video.service;
 
+import com.service.core.media.service.MediaStorageService;
 import com.service.util.BlogUtil;
 import com.service.util.ConstUtil;
+import com.service.util.media.MediaUploadKind;
 import com.service.util.redis.key.RedisTemplateKey;
 import com.service.util.redis.service.common.CommonRedisService;
-import com.service.util.sftp.SftpService;
+import com.service.util.upload.StreamingMultipartService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
 
+import javax.servlet.http.HttpServletRequest;
 import java.security.Principal;
 
 @Service
@@ -17,10 +19,12 @@ import java.security.Principal;
 @Slf4j
 public class VideoService {
     private final CommonRedisService commonRedisService;
-    private final SftpService sftpService;
+    private final MediaStorageService mediaStorageService;
+    private final StreamingMultipartService streamingMultipartService;
 
-    public String uploadSftpVideo(MultipartFile multipartFile, String uploadKey) throws Exception {
-        return sftpService.sftpFileUpload(multipartFile, ConstUtil.POST_VIDEO_HASH, uploadKey);
+    public String uploadSftpVideo(HttpServletRequest request, String uploadKey) throws Exception {
+        return streamingMultipartService.upload(request, ConstUtil.UPLOAD_VIDEO_FIELD_NAME,
+                streamingUploadFile -> mediaStorageService.upload(streamingUploadFile, MediaUploadKind.VIDEO, ConstUtil.UPLOAD_TYPE_FILE_SERVER));
     }
 
     /**
@@ -0,0 +1,31 @@
+package com.service.core.views.domain;
+
+import lombok.Getter;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 아직 Redis 에 반영되지 않은 방문 정보 (방문자 id 집합, 방문 횟수)
+ * 변경은 ConcurrentHashMap.compute 안에서만 수행하고, flush 시에는 맵에서 제거한 뒤에 읽으므로 별도의 동기화 불필요
+ */
+@Getter
+public class BlogVisitDelta {
+    private final Set<Integer> visitorIds = new HashSet<>();
+    private volatile int visitors; // 조회 스레드에서 읽는 값 (visitorIds.size())
+    private volatile long views;
+
+    public BlogVisitDelta visit(int visitorId) {
+        visitorIds.add(visitorId);
+        visitors = visitorIds.size();
+        views++;
+        return this;
+    }
+
+    public BlogVisitDelta add(BlogVisitDelta blogVisitDelta) {
+        visitorIds.addAll(blogVisitDelta.getVisitorIds());
+        visitors = visitorIds.size();
+        views += blogVisitDelta.getViews();
+        return this;
+    }
+}
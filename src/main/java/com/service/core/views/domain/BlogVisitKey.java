@@ -0,0 +1,12 @@
+package com.service.core.views.domain;
+
+import lombok.Data;
+
+/**
+ * 방문자 쓰기 버퍼의 키 (blogId: (id + emailHash + blogId) => hashCode, day: yyyyMMdd)
+ */
+@Data
+public class BlogVisitKey {
+    private final int blogId;
+    private final String day;
+}
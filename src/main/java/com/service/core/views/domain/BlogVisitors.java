@@ -7,20 +7,15 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.io.Serializable;
-import java.util.HashSet;
-import java.util.Set;
 
 /**
- * "blog-visitors-count:{}": {
- * "visitors" : {} // (로그인/비로그인) 사용자 접속 정보(id)를 담은 set
- * todayVisitors: {} // 1일 배치 기준으로 초기화
- * yesterdayVisitors: {} // 1일 배치 기준으로 업데이트
- * totalVisitors: {} // 1일 배치 기준으로 업데이트
- * <p>
- * "today-view": {} // 1일 배치 기준으로 초기화
- * ,"yesterday-view": {} // 1일 배치 기준으로 업데이트
- * ,"total-view": {} // 1일 배치 기준으로 업데이트
+ * "blog-daily-visitors:{blogId}:{yyyyMMdd}": HyperLogLog // 일자별 (로그인/비로그인) 사용자 접속 정보(id), 고정 메모리로 중복 방문을 제거
+ * "blog-daily-views:{blogId}:{yyyyMMdd}": {} // 일자별 방문 횟수
+ * "blog-visit-stats:{blogId}": {
+ * "totalVisitors": {} // 일자별 방문자 수의 누적 (PFADD 로 새로운 방문자가 추가될 때 증가)
+ * ,"totalViews": {} // 전체 방문 횟수
  * }
+ * "blog-visit-history:{blogId}": { "yyyyMMdd": "방문자 수,방문 횟수" } // 매일 자정 이후 전날 기록을 추가 (BlogVisitHistoryScheduler)
  */
 @Data
 @NoArgsConstructor
@@ -29,7 +24,6 @@ import java.util.Set;
 public class BlogVisitors implements Serializable {
     private static final long serialVersionUID = ConstUtil.SERIAL_VERSION_ID;
 
-    private Set<Integer> visitorSet; // 중복 방문을 막기 위한 set
     private long todayVisitors; // 오늘 방문자 수
 
     private long yesterdayVisitors; // 어제 방문자 수
@@ -40,12 +34,4 @@ public class BlogVisitors implements Serializable {
     private long yesterdayViews; // 어제 방문 횟수
 
     private long totalViews; // 전체 방문 횟수
-
-    public void incrementTodayVisitors() {
-        this.todayVisitors++;
-    }
-
-    public void incrementTodayViews() {
-        this.todayViews++;
-    }
 }
@@ -0,0 +1,12 @@
+package com.service.core.views.domain;
+
+import lombok.Data;
+
+/**
+ * 조회수 쓰기 버퍼의 키 (blogId, postId)
+ */
+@Data
+public class PostViewKey {
+    private final long blogId;
+    private final long postId;
+}
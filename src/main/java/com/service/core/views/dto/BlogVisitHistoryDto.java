@@ -0,0 +1,24 @@
+package com.service.core.views.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * 일자별 블로그 방문 이력 ("blog-visit-history:{blogId}" 의 yyyyMMdd : "방문자 수,방문 횟수")
+ */
+@Data
+@Builder
+public class BlogVisitHistoryDto {
+    private final String day;
+    private final long visitors;
+    private final long views;
+
+    public static BlogVisitHistoryDto from(String day, String history) {
+        String[] tokens = history.split(",");
+        return BlogVisitHistoryDto.builder()
+                .day(day)
+                .visitors(Long.parseLong(tokens[0]))
+                .views(tokens.length > 1 ? Long.parseLong(tokens[1]) : 0)
+                .build();
+    }
+}
@@ -0,0 +1,32 @@
+package com.service.core.views.dto;
+
+import com.service.util.BlogUtil;
+import lombok.Builder;
+import lombok.Data;
+import org.springframework.http.HttpStatus;
+
+import java.util.List;
+
+@Data
+@Builder
+public class BlogVisitHistoryResponseDto {
+    private final String message;
+    private final int responseCode;
+    private final List<BlogVisitHistoryDto> blogVisitHistoryDtoList;
+
+    public static BlogVisitHistoryResponseDto success(List<BlogVisitHistoryDto> blogVisitHistoryDtoList) {
+        return BlogVisitHistoryResponseDto.builder()
+                .responseCode(HttpStatus.OK.value())
+                .blogVisitHistoryDtoList(blogVisitHistoryDtoList)
+                .message("success")
+                .build();
+    }
+
+    public static BlogVisitHistoryResponseDto fail(Exception exception) {
+        return BlogVisitHistoryResponseDto.builder()
+                .responseCode(HttpStatus.INTERNAL_SERVER_ERROR.value())
+                .blogVisitHistoryDtoList(null)
+                .message(String.format("fail: %s", BlogUtil.getErrorMessage(exception)))
+                .build();
+    }
+}
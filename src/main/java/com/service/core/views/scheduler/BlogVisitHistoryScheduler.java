@@ -0,0 +1,48 @@
+package com.service.core.views.scheduler;
+
+import com.service.config.app.AppConfig;
+import com.service.util.BlogUtil;
+import com.service.util.redis.service.view.BlogViewRedisTemplateService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 매일 자정 이후 전날(일자별 키가 만료되기 전이므로 이틀 전까지 재확인)의 블로그 방문자 수/방문 횟수를 방문 이력에 기록
+ * 오늘/어제 방문자는 일자별 키로 조회하므로 별도의 값 이동은 필요 없음
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class BlogVisitHistoryScheduler {
+    private static final int SCAN_BATCH_SIZE = 100;
+    private static final int CATCH_UP_DAYS = 2;
+
+    private final BlogViewRedisTemplateService blogViewRedisTemplateService;
+    private final AppConfig appConfig;
+
+    // 쓰기 버퍼에 남은 전날 방문 정보가 반영될 수 있도록 자정 5분 후에 수행
+    @Scheduled(cron = "0 5 0 * * *", zone = "Asia/Seoul")
+    public void recordBlogVisitHistory() {
+        LocalDateTime now = BlogUtil.nowByZoneId();
+
+        for (int minusDays = 1; minusDays <= CATCH_UP_DAYS; minusDays++) {
+            String day = blogViewRedisTemplateService.dayKey(now.minusDays(minusDays));
+
+            try {
+                if (!blogViewRedisTemplateService.tryLockBlogVisitHistory(day)) {
+                    continue;
+                }
+
+                long start = System.currentTimeMillis();
+                int recordedCount = blogViewRedisTemplateService.recordBlogVisitHistory(day, SCAN_BATCH_SIZE, appConfig.getBlogVisitHistoryDays());
+                log.info("[BlogVisitHistoryScheduler:recordBlogVisitHistory] day:{}, recorded:{}, elapsed:{}ms", day, recordedCount, System.currentTimeMillis() - start);
+            } catch (Exception e) {
+                log.error("[BlogVisitHistoryScheduler:recordBlogVisitHistory] day:{}, error =>", day, e);
+            }
+        }
+    }
+}
@@ -1,21 +1,61 @@
 package com.service.core.views.service;
 
+import com.service.config.app.AppConfig;
+import com.service.core.views.domain.BlogVisitors;
+import com.service.core.views.dto.BlogVisitHistoryDto;
 import com.service.core.views.dto.BlogVisitorsDto;
+import com.service.util.BlogUtil;
 import com.service.util.redis.service.view.BlogViewRedisTemplateService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 
 @Service
 @RequiredArgsConstructor
 public class BlogVisitorService {
     private final BlogViewRedisTemplateService blogViewRedisTemplateService;
+    private final ViewCountBuffer viewCountBuffer;
+    private final AppConfig appConfig;
+
+    public void visitBlog(int blogId, int visitorId) {
+        viewCountBuffer.addBlogVisit(blogId, visitorId, blogViewRedisTemplateService.dayKey(BlogUtil.nowByZoneId()));
+    }
+
+    public BlogVisitorsDto getBlogVisitorDto(int blogId) {
+        return BlogVisitorsDto.from(getBlogVisitors(blogId));
+    }
 
-    public void visitBlog(int blogId, int visitorId) throws Exception {
-        blogViewRedisTemplateService.visitBlog(blogId, visitorId);
+    // 일자별 방문 이력 (전날까지 기록되므로 오늘은 getBlogVisitorDto 로 조회), 조회 일수는 최대 보관 일수로 제한
+    public List<BlogVisitHistoryDto> getBlogVisitHistory(int blogId, int days) {
+        return blogViewRedisTemplateService.getBlogVisitHistory(blogId, Math.max(1, Math.min(days, appConfig.getBlogVisitHistoryDays())));
     }
 
-    public BlogVisitorsDto getBlogVisitorDto(int blogId) throws Exception {
-        return BlogVisitorsDto.from(blogViewRedisTemplateService.getBlogVisitors(blogId));
+    public void deleteBlogVisitors(int blogId) {
+        viewCountBuffer.discardBlogVisit(blogId);
+        blogViewRedisTemplateService.deleteBlogVisitors(blogId);
+    }
+
+    // Redis 에 저장된 값 + 쓰기 버퍼에 남아있는 값
+    private BlogVisitors getBlogVisitors(int blogId) {
+        BlogVisitors blogVisitors = blogViewRedisTemplateService.getBlogVisitors(blogId);
+        LocalDateTime now = BlogUtil.nowByZoneId();
+        String today = blogViewRedisTemplateService.dayKey(now);
+        String yesterday = blogViewRedisTemplateService.dayKey(now.minusDays(1));
+
+        long todayVisitors = viewCountBuffer.getPendingBlogVisitors(blogId, today);
+        long yesterdayVisitors = viewCountBuffer.getPendingBlogVisitors(blogId, yesterday);
+        long todayViews = viewCountBuffer.getPendingBlogViews(blogId, today);
+        long yesterdayViews = viewCountBuffer.getPendingBlogViews(blogId, yesterday);
+
+        blogVisitors.setTodayVisitors(blogVisitors.getTodayVisitors() + todayVisitors);
+        blogVisitors.setYesterdayVisitors(blogVisitors.getYesterdayVisitors() + yesterdayVisitors);
+        blogVisitors.setTotalVisitors(blogVisitors.getTotalVisitors() + todayVisitors + yesterdayVisitors);
+        blogVisitors.setTodayViews(blogVisitors.getTodayViews() + todayViews);
+        blogVisitors.setYesterdayViews(blogVisitors.getYesterdayViews() + yesterdayViews);
+        blogVisitors.setTotalViews(blogVisitors.getTotalViews() + todayViews + yesterdayViews);
+        return blogVisitors;
     }
 }
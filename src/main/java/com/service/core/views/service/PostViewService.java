@@ -1,6 +1,5 @@
 package com.service.core.views.service;
 
-import com.service.core.views.domain.PostView;
 import com.service.util.redis.service.view.PostViewRedisTemplateService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -9,22 +8,25 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class PostViewService {
     private final PostViewRedisTemplateService postViewRedisTemplateService;
+    private final ViewCountBuffer viewCountBuffer;
 
-    public long viewPost(long blogId, long postId) throws Exception {
-        PostView postView = postViewRedisTemplateService.viewPost(blogId, postId);
-        return postView.getView();
+    // 조회수 증가는 쓰기 버퍼에 누적하고, 반영되지 않은 값을 포함한 조회수를 반환
+    public long viewPost(long blogId, long postId) {
+        viewCountBuffer.addPostView(blogId, postId);
+        return getPostView(blogId, postId);
     }
 
-    public long getPostView(long blogId, long postId) throws Exception {
-        PostView postView = postViewRedisTemplateService.getPostView(blogId, postId);
-        return postView.getView();
+    public long getPostView(long blogId, long postId) {
+        return postViewRedisTemplateService.getPostViewCount(postId, blogId) + viewCountBuffer.getPendingPostView(blogId, postId);
     }
 
     public void deletePostView(long blogId, long postId) {
+        viewCountBuffer.discardPostView(blogId, postId);
         postViewRedisTemplateService.deletePostView(blogId, postId);
     }
 
     public void deleteBlogPostView(long blogId) {
+        viewCountBuffer.discardBlogPostView(blogId);
         postViewRedisTemplateService.deleteBlogPostView(blogId);
     }
 }
@@ -0,0 +1,222 @@
+package com.service.core.views.service;
+
+import com.service.config.app.AppConfig;
+import com.service.core.views.domain.BlogVisitDelta;
+import com.service.core.views.domain.BlogVisitKey;
+import com.service.core.views.domain.PostViewKey;
+import com.service.util.redis.service.view.BlogViewRedisTemplateService;
+import com.service.util.redis.service.view.PostViewRedisTemplateService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * 게시글 조회수/블로그 방문 정보 쓰기 버퍼 (write-behind)
+ * 요청 스레드는 키 단위로 분산된 ConcurrentHashMap 에 누적만 하고, 스케줄러가 주기적으로 맵에서 꺼내어 Redis 에 파이프라인으로 반영
+ * 조회 시에는 Redis 에 저장된 값 + 아직 반영되지 않은 값을 더해서 사용
+ */
+@Component
+@Slf4j
+public class ViewCountBuffer {
+    private static final String METRIC_PREFIX = "freeblog.view.buffer";
+
+    private final PostViewRedisTemplateService postViewRedisTemplateService;
+    private final BlogViewRedisTemplateService blogViewRedisTemplateService;
+    private final AppConfig appConfig;
+
+    private final ConcurrentHashMap<PostViewKey, Long> postViewDeltas = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<BlogVisitKey, BlogVisitDelta> blogVisitDeltas = new ConcurrentHashMap<>();
+
+    // Redis 반영 중인 값 (반영이 끝나기 전까지 조회에 포함)
+    private volatile Map<PostViewKey, Long> flushingPostViewDeltas = Collections.emptyMap();
+    private volatile Map<BlogVisitKey, BlogVisitDelta> flushingBlogVisitDeltas = Collections.emptyMap();
+
+    private final Object flushLock = new Object();
+    private final Timer flushTimer;
+    private final Counter flushFailureCounter;
+
+    public ViewCountBuffer(PostViewRedisTemplateService postViewRedisTemplateService, BlogViewRedisTemplateService blogViewRedisTemplateService,
+                           AppConfig appConfig, MeterRegistry meterRegistry) {
+        this.postViewRedisTemplateService = postViewRedisTemplateService;
+        this.blogViewRedisTemplateService = blogViewRedisTemplateService;
+        this.appConfig = appConfig;
+
+        Gauge.builder(METRIC_PREFIX + ".pending", postViewDeltas, Map::size).tag("type", "post-view").register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".pending", blogVisitDeltas, Map::size).tag("type", "blog-visit").register(meterRegistry);
+        this.flushTimer = Timer.builder(METRIC_PREFIX + ".flush").register(meterRegistry);
+        this.flushFailureCounter = Counter.builder(METRIC_PREFIX + ".flush.failure").register(meterRegistry);
+    }
+
+    public void addPostView(long blogId, long postId) {
+        postViewDeltas.merge(new PostViewKey(blogId, postId), 1L, Long::sum);
+    }
+
+    public void addBlogVisit(int blogId, int visitorId, String day) {
+        blogVisitDeltas.compute(new BlogVisitKey(blogId, day), (blogVisitKey, blogVisitDelta) ->
+                (blogVisitDelta == null ? new BlogVisitDelta() : blogVisitDelta).visit(visitorId));
+    }
+
+    public long getPendingPostView(long blogId, long postId) {
+        PostViewKey postViewKey = new PostViewKey(blogId, postId);
+        return postViewDeltas.getOrDefault(postViewKey, 0L) + flushingPostViewDeltas.getOrDefault(postViewKey, 0L);
+    }
+
+    // 반영 전에는 HLL 에 이미 포함된 방문자인지 알 수 없으므로, 반영 주기 동안은 재방문자가 중복 집계될 수 있음
+    public long getPendingBlogVisitors(int blogId, String day) {
+        BlogVisitKey blogVisitKey = new BlogVisitKey(blogId, day);
+        return getPendingBlogVisit(blogVisitDeltas, blogVisitKey, BlogVisitDelta::getVisitors) + getPendingBlogVisit(flushingBlogVisitDeltas, blogVisitKey, BlogVisitDelta::getVisitors);
+    }
+
+    public long getPendingBlogViews(int blogId, String day) {
+        BlogVisitKey blogVisitKey = new BlogVisitKey(blogId, day);
+        return getPendingBlogVisit(blogVisitDeltas, blogVisitKey, BlogVisitDelta::getViews) + getPendingBlogVisit(flushingBlogVisitDeltas, blogVisitKey, BlogVisitDelta::getViews);
+    }
+
+    // 게시글/블로그 삭제 시에, 반영되지 않은 값이 삭제된 정보를 다시 만들지 않도록 제거
+    public void discardPostView(long blogId, long postId) {
+        postViewDeltas.remove(new PostViewKey(blogId, postId));
+    }
+
+    public void discardBlogPostView(long blogId) {
+        postViewDeltas.keySet().removeIf(postViewKey -> postViewKey.getBlogId() == blogId);
+    }
+
+    public void discardBlogVisit(int blogId) {
+        blogVisitDeltas.keySet().removeIf(blogVisitKey -> blogVisitKey.getBlogId() == blogId);
+    }
+
+    @Scheduled(fixedDelayString = "${util-config.app_config.view_buffer_flush_interval_ms}")
+    public void flush() {
+        synchronized (flushLock) {
+            long start = System.nanoTime();
+
+            try {
+                flushPostViews();
+                flushBlogVisits();
+            } finally {
+                flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    // 정상 종료 시에, 남은 값을 모두 반영
+    @PreDestroy
+    public void drain() {
+        flush();
+
+        if (!postViewDeltas.isEmpty() || !blogVisitDeltas.isEmpty()) {
+            log.error("[ViewCountBuffer:drain] lost post-view:{}, blog-visit:{}", postViewDeltas.size(), blogVisitDeltas.size());
+        }
+    }
+
+    private void flushPostViews() {
+        if (postViewDeltas.isEmpty()) {
+            return;
+        }
+
+        Map<PostViewKey, Long> drainedPostViewDeltas = new ConcurrentHashMap<>();
+        flushingPostViewDeltas = drainedPostViewDeltas;
+
+        try {
+            // 맵에서 제거하는 시점 이후의 증가분은 새로운 항목으로 누적되므로 유실 없음
+            for (PostViewKey postViewKey : postViewDeltas.keySet()) {
+                postViewDeltas.computeIfPresent(postViewKey, (key, delta) -> {
+                    drainedPostViewDeltas.put(key, delta);
+                    return null;
+                });
+            }
+
+            forEachBatch(drainedPostViewDeltas, batch -> {
+                try {
+                    Set<PostViewKey> failedPostViewKeySet = postViewRedisTemplateService.flushPostViews(batch);
+
+                    if (!failedPostViewKeySet.isEmpty()) {
+                        flushFailureCounter.increment();
+                        failedPostViewKeySet.forEach(postViewKey -> postViewDeltas.merge(postViewKey, batch.get(postViewKey), Long::sum));
+                        log.error("[ViewCountBuffer:flushPostViews] failed:{}/{}", failedPostViewKeySet.size(), batch.size());
+                    }
+                } catch (Exception e) {
+                    // 명령별 결과를 알 수 없는 경우(연결 오류 등)에만 배치 전체를 다시 누적
+                    flushFailureCounter.increment();
+                    batch.forEach((postViewKey, delta) -> postViewDeltas.merge(postViewKey, delta, Long::sum));
+                    log.error("[ViewCountBuffer:flushPostViews] error =>", e);
+                }
+            });
+        } finally {
+            flushingPostViewDeltas = Collections.emptyMap();
+        }
+    }
+
+    private void flushBlogVisits() {
+        if (blogVisitDeltas.isEmpty()) {
+            return;
+        }
+
+        Map<BlogVisitKey, BlogVisitDelta> drainedBlogVisitDeltas = new ConcurrentHashMap<>();
+        flushingBlogVisitDeltas = drainedBlogVisitDeltas;
+
+        try {
+            for (BlogVisitKey blogVisitKey : blogVisitDeltas.keySet()) {
+                blogVisitDeltas.computeIfPresent(blogVisitKey, (key, blogVisitDelta) -> {
+                    drainedBlogVisitDeltas.put(key, blogVisitDelta);
+                    return null;
+                });
+            }
+
+            forEachBatch(drainedBlogVisitDeltas, batch -> {
+                try {
+                    Set<BlogVisitKey> failedBlogVisitKeySet = blogViewRedisTemplateService.flushBlogVisits(batch);
+
+                    if (!failedBlogVisitKeySet.isEmpty()) {
+                        flushFailureCounter.increment();
+                        failedBlogVisitKeySet.forEach(blogVisitKey -> blogVisitDeltas.merge(blogVisitKey, batch.get(blogVisitKey), BlogVisitDelta::add));
+                        log.error("[ViewCountBuffer:flushBlogVisits] failed:{}/{}", failedBlogVisitKeySet.size(), batch.size());
+                    }
+                } catch (Exception e) {
+                    flushFailureCounter.increment();
+                    batch.forEach((blogVisitKey, blogVisitDelta) -> blogVisitDeltas.merge(blogVisitKey, blogVisitDelta, BlogVisitDelta::add));
+                    log.error("[ViewCountBuffer:flushBlogVisits] error =>", e);
+                }
+            });
+        } finally {
+            flushingBlogVisitDeltas = Collections.emptyMap();
+        }
+    }
+
+    private long getPendingBlogVisit(Map<BlogVisitKey, BlogVisitDelta> deltas, BlogVisitKey blogVisitKey, ToLongFunction<BlogVisitDelta> getter) {
+        BlogVisitDelta blogVisitDelta = deltas.get(blogVisitKey);
+        return blogVisitDelta == null ? 0 : getter.applyAsLong(blogVisitDelta);
+    }
+
+    private <K, V> void forEachBatch(Map<K, V> deltas, Consumer<Map<K, V>> batchConsumer) {
+        int batchSize = appConfig.getViewBufferFlushBatchSize();
+        Map<K, V> batch = new HashMap<>();
+
+        for (Map.Entry<K, V> delta : deltas.entrySet()) {
+            batch.put(delta.getKey(), delta.getValue());
+
+            if (batch.size() >= batchSize) {
+                batchConsumer.accept(batch);
+                batch = new HashMap<>();
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            batchConsumer.accept(batch);
+        }
+    }
+}
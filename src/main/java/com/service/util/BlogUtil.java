@@ -109,13 +109,6 @@ public class BlogUtil {
         return uuid;
     }
 
-    public static String getFileUUIDBySftp(MultipartFile multipartFile) {
-        String fileName = multipartFile.getContentType();
-        String extension = getFileExtension(fileName.substring(fileName.lastIndexOf("/") + 1));
-        String uuid = UUID.randomUUID() + "." + extension;
-        return uuid;
-    }
-
     public static String generateVideoToken(Principal principal) {
         int principalHash = principal.hashCode();
         int loginHash = principal.getName().hashCode();
@@ -147,6 +140,8 @@ public class BlogUtil {
     public static ObjectMetadata initObjectMetaData(MultipartFile multipartFile) {
         ObjectMetadata objectMetadata = new ObjectMetadata();
         objectMetadata.setContentType(multipartFile.getContentType());
+        // 길이를 지정하지 않으면 S3 클라이언트가 전송 전에 스트림 전체를 메모리에 버퍼링
+        objectMetadata.setContentLength(multipartFile.getSize());
         return objectMetadata;
     }
 
@@ -19,18 +19,19 @@ public class ConstUtil {
     public static final String TOTAL = "전체";
     public static final String TOTAL_POST = "전체글";
     public static final String SFTP_IMAGE_URL = "%s://%s/%s"; // 추후에 https 설정 및 변경
-    public static final int SFTP_PROFILE_THUMBNAIL_HASH = "profile-thumbnail".hashCode();
-    public static final int SFTP_POST_IMAGE_HASH = "post-image".hashCode();
-    public static final int SFTP_POST_THUMBNAIL_HASH = "post-thumbnail".hashCode();
-    public static final int SFTP_COMMENT_IMAGE_HASH = "comment-image".hashCode();
+    public static final String UPLOAD_VIDEO_FIELD_NAME = "compressed_video";
+    public static final String UPLOAD_POST_IMAGE_FIELD_NAME = "compressed_post_image";
     public static final int POST_VIDEO_HASH = "post-video".hashCode();
-    public static final String AWS_S3_IMAGE_URL = "https://freelog-s3-bucket.s3.amazonaws.com/image/%s";
+    public static final String AWS_S3_OBJECT_URL = "https://freelog-s3-bucket.s3.amazonaws.com/%s";
 
     public static final String DEFAULT_SERVER_TIMEZONE = "UTC";
 
     public static final String UPLOAD_TYPE_S3 = "S3";
     public static final String UPLOAD_TYPE_FILE_SERVER = "FILE_SERVER";
 
+    public static final String SEARCH_TYPE_LIKE = "LIKE";
+    public static final String SEARCH_TYPE_INDEX = "INDEX"; // 게시글 검색 색인 (PostSearchIndexService)
+
     public static final String[] SIGNUP_MAIL_TEXT = {
             "[freeblog] 가입을 축하드립니다.",
             "<p>[freeblog] 사이트 가입을 축하드립니다.<p><p>아래 링크를 클릭하고 인증키를 비롯한 정보를 입력하고 이메일 인증을 완료 하세요.</p>"
@@ -6,32 +6,81 @@ import com.amazonaws.auth.BasicAWSCredentials;
 import com.amazonaws.regions.Regions;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
 import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
 import com.service.config.aws.s3.AwsS3Config;
 import com.service.util.ConstUtil;
 import lombok.RequiredArgsConstructor;
-import org.springframework.context.annotation.Bean;
 import org.springframework.stereotype.Component;
 
 import java.io.File;
-import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 @Component
 @RequiredArgsConstructor
 public class AwsS3Util {
+    private static final int DELETE_OBJECTS_MAX_KEYS = 1000;
+
     private final AwsS3Config awsS3Config;
 
-    public String storeImageFile(String uuid, InputStream inputStream, ObjectMetadata objectMetadata) throws AmazonClientException {
-        AmazonS3 amazonS3 = initAwsS3Object();
-        amazonS3.putObject(awsS3Config.getBucketName(), String.format("image/%s", uuid), inputStream, objectMetadata);
-        return String.format(ConstUtil.AWS_S3_IMAGE_URL, uuid);
+    // AmazonS3 클라이언트는 thread-safe 하므로 1회 생성 후 재사용
+    private volatile AmazonS3 amazonS3;
+
+    // 파일 크기를 알 수 있도록 로컬 파일로 전달 (스트림 전체를 메모리에 버퍼링하지 않음)
+    public void putObject(String key, File file, String contentType) throws AmazonClientException {
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentType(contentType);
+        getAwsS3Object().putObject(new PutObjectRequest(awsS3Config.getBucketName(), key, file).withMetadata(objectMetadata));
+    }
+
+    public void getObject(String key, File file) throws AmazonClientException {
+        getAwsS3Object().getObject(new GetObjectRequest(awsS3Config.getBucketName(), key), file);
+    }
+
+    public void deleteObject(String key) throws AmazonClientException {
+        getAwsS3Object().deleteObject(awsS3Config.getBucketName(), key);
+    }
+
+    // 삭제에 실패한 key 반환 (없는 key 는 삭제된 것으로 처리)
+    public Set<String> deleteObjects(List<String> keys) throws AmazonClientException {
+        Set<String> failedKeys = new HashSet<>();
+
+        for (int i = 0; i < keys.size(); i += DELETE_OBJECTS_MAX_KEYS) {
+            List<String> chunk = new ArrayList<>(keys.subList(i, Math.min(i + DELETE_OBJECTS_MAX_KEYS, keys.size())));
+
+            try {
+                getAwsS3Object().deleteObjects(new DeleteObjectsRequest(awsS3Config.getBucketName())
+                        .withKeys(chunk.toArray(new String[0]))
+                        .withQuiet(true));
+            } catch (MultiObjectDeleteException multiObjectDeleteException) {
+                multiObjectDeleteException.getErrors().forEach(deleteError -> failedKeys.add(deleteError.getKey()));
+            }
+        }
+        return failedKeys;
+    }
+
+    public String getUrl(String key) {
+        return String.format(ConstUtil.AWS_S3_OBJECT_URL, key);
     }
 
-    private AmazonS3 initAwsS3Object() {
-        return AmazonS3ClientBuilder.standard()
-                .withCredentials(new AWSStaticCredentialsProvider(
-                        new BasicAWSCredentials(awsS3Config.getAccessKeyId(), awsS3Config.getSecretAccessKeyId())))
-                .withRegion(Regions.US_EAST_1)
-                .build();
+    private AmazonS3 getAwsS3Object() {
+        if (amazonS3 == null) {
+            synchronized (this) {
+                if (amazonS3 == null) {
+                    amazonS3 = AmazonS3ClientBuilder.standard()
+                            .withCredentials(new AWSStaticCredentialsProvider(
+                                    new BasicAWSCredentials(awsS3Config.getAccessKeyId(), awsS3Config.getSecretAccessKeyId())))
+                            .withRegion(Regions.US_EAST_1)
+                            .build();
+                }
+            }
+        }
+        return amazonS3;
     }
 }
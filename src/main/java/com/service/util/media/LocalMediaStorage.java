@@ -0,0 +1,95 @@
+package com.service.util.media;
+
+import com.service.config.media.MediaStorageConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.*;
+import java.util.UUID;
+
+/**
+ * 로컬 디렉토리에 저장 (단일 노드 배포, 테스트 환경용 파일 서버 대체)
+ * 임시 파일은 같은 파일시스템의 ".staging/" 에 저장하고 확정 시에 원자적으로 이동
+ */
+@Slf4j
+@Component
+public class LocalMediaStorage implements MediaStorage {
+    private static final String STAGING_DIRECTORY = ".staging";
+
+    private final Path rootDirectory;
+    private final Path stagingDirectory;
+    private final String urlPath;
+
+    public LocalMediaStorage(MediaStorageConfig mediaStorageConfig) {
+        this.rootDirectory = Paths.get(mediaStorageConfig.getLocalDirectory()).toAbsolutePath().normalize();
+        this.stagingDirectory = rootDirectory.resolve(STAGING_DIRECTORY);
+        this.urlPath = mediaStorageConfig.getLocalUrlPath();
+    }
+
+    @Override
+    public MediaStorageType getType() {
+        return MediaStorageType.LOCAL;
+    }
+
+    @Override
+    public String stage(InputStream inputStream) throws Exception {
+        String stagingKey = UUID.randomUUID().toString();
+        Files.createDirectories(stagingDirectory);
+
+        try (InputStream in = inputStream) {
+            Files.copy(in, stagingDirectory.resolve(stagingKey));
+            return stagingKey;
+        } catch (Exception e) {
+            discard(stagingKey);
+            throw e;
+        }
+    }
+
+    @Override
+    public void promote(String stagingKey, String objectKey, String contentType) throws Exception {
+        Path objectPath = resolveObjectPath(objectKey);
+        Files.createDirectories(objectPath.getParent());
+
+        try {
+            Files.move(stagingDirectory.resolve(stagingKey), objectPath, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            discard(stagingKey);
+        }
+    }
+
+    @Override
+    public void discard(String stagingKey) {
+        try {
+            Files.deleteIfExists(stagingDirectory.resolve(stagingKey));
+        } catch (IOException e) {
+            log.error("[LocalMediaStorage:discard] error =>", e);
+        }
+    }
+
+    @Override
+    public void delete(String objectKey) throws Exception {
+        Files.deleteIfExists(resolveObjectPath(objectKey));
+    }
+
+    @Override
+    public void download(String objectKey, Path targetFile) throws Exception {
+        Files.copy(resolveObjectPath(objectKey), targetFile, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    @Override
+    public String getUrl(String objectKey) {
+        return urlPath + "/" + objectKey;
+    }
+
+    // 저장 디렉토리 밖의 경로는 허용하지 않음
+    private Path resolveObjectPath(String objectKey) {
+        Path objectPath = rootDirectory.resolve(objectKey).normalize();
+
+        if (!objectPath.startsWith(rootDirectory) || objectPath.startsWith(stagingDirectory)) {
+            throw new IllegalArgumentException(objectKey);
+        }
+        return objectPath;
+    }
+}
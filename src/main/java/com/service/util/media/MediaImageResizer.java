@@ -0,0 +1,306 @@
+package com.service.util.media;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 이미지 축소본 생성 (ImageIO)
+ * 원본은 1번만 디코딩하고(가장 큰 축소본 너비의 2배 이상이 되도록 subsampling 하여 디코딩 메모리 감소), 큰 너비부터 절반씩 단계적으로 축소
+ * 투명도가 있는 이미지는 png, 그 외에는 jpg 로 저장
+ * ImageIO 는 EXIF Orientation 을 적용하지 않으므로, jpeg 는 Orientation 태그를 읽어 브라우저가 원본을 표시하는 방향으로 회전/반전 후 축소
+ */
+public class MediaImageResizer {
+    private static final int SUBSAMPLING_MARGIN = 2;
+    private static final int EXIF_ORIENTATION_TAG = 0x0112;
+
+    private final long maxPixels;
+    private final float jpegQuality;
+
+    public MediaImageResizer(long maxPixels, float jpegQuality) {
+        this.maxPixels = maxPixels;
+        this.jpegQuality = jpegQuality;
+    }
+
+    /**
+     * 원본보다 작은 너비의 축소본만 생성
+     *
+     * @param sourceFile      원본 이미지 파일
+     * @param widths          축소본 너비 목록
+     * @param targetDirectory 축소본 저장 디렉토리
+     * @return 변환할 수 없는 파일(이미지가 아니거나 지원하지 않는 형식, 애니메이션 gif, 최대 픽셀 수 초과)이면 null
+     * @throws IOException
+     */
+    public ResizeResult resize(Path sourceFile, List<Integer> widths, Path targetDirectory) throws IOException {
+        try (ImageInputStream imageInputStream = ImageIO.createImageInputStream(sourceFile.toFile())) {
+            if (imageInputStream == null) {
+                return null;
+            }
+
+            Iterator<ImageReader> imageReaders = ImageIO.getImageReaders(imageInputStream);
+
+            if (!imageReaders.hasNext()) {
+                return null;
+            }
+
+            ImageReader imageReader = imageReaders.next();
+
+            try {
+                imageReader.setInput(imageInputStream, true, true);
+
+                // gif 는 첫 프레임만 변환되므로 제외
+                if ("gif".equalsIgnoreCase(imageReader.getFormatName())) {
+                    return null;
+                }
+
+                int orientation = "jpeg".equalsIgnoreCase(imageReader.getFormatName()) ? readExifOrientation(sourceFile) : 1;
+                // 표시 방향 기준 크기 (5~8 은 가로/세로가 바뀜)
+                int sourceWidth = orientation >= 5 ? imageReader.getHeight(0) : imageReader.getWidth(0);
+                int sourceHeight = orientation >= 5 ? imageReader.getWidth(0) : imageReader.getHeight(0);
+
+                if ((long) sourceWidth * sourceHeight > maxPixels) {
+                    return null;
+                }
+
+                List<Integer> targetWidths = widths.stream()
+                        .filter(width -> width > 0 && width < sourceWidth)
+                        .distinct()
+                        .sorted(Comparator.reverseOrder())
+                        .collect(Collectors.toList());
+
+                if (targetWidths.isEmpty()) {
+                    return new ResizeResult(null, null, new TreeMap<>());
+                }
+
+                ImageReadParam imageReadParam = imageReader.getDefaultReadParam();
+                int subsampling = Math.max(1, sourceWidth / (targetWidths.get(0) * SUBSAMPLING_MARGIN));
+                imageReadParam.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                BufferedImage image = imageReader.read(0, imageReadParam);
+
+                boolean hasAlpha = image.getColorModel().hasAlpha();
+                image = orient(image, orientation, hasAlpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+                String extension = hasAlpha ? "png" : "jpg";
+                Map<Integer, Path> variantFileMap = new TreeMap<>();
+
+                for (int targetWidth : targetWidths) {
+                    int targetHeight = Math.max(1, Math.round((float) sourceHeight * targetWidth / sourceWidth));
+                    image = scale(image, targetWidth, targetHeight, hasAlpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+
+                    Path variantFile = targetDirectory.resolve(targetWidth + "w." + extension);
+                    write(image, extension, variantFile);
+                    variantFileMap.put(targetWidth, variantFile);
+                }
+                return new ResizeResult(extension, hasAlpha ? "image/png" : "image/jpeg", variantFileMap);
+            } finally {
+                imageReader.dispose();
+            }
+        }
+    }
+
+    // EXIF Orientation (1: 그대로, 2: 좌우 반전, 3: 180도, 4: 상하 반전, 5: 대각 반전, 6: 시계 방향 90도, 7: 역대각 반전, 8: 반시계 방향 90도)
+    private BufferedImage orient(BufferedImage image, int orientation, int imageType) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        AffineTransform transform;
+
+        switch (orientation) {
+            case 2:
+                transform = new AffineTransform(-1, 0, 0, 1, width, 0);
+                break;
+            case 3:
+                transform = new AffineTransform(-1, 0, 0, -1, width, height);
+                break;
+            case 4:
+                transform = new AffineTransform(1, 0, 0, -1, 0, height);
+                break;
+            case 5:
+                transform = new AffineTransform(0, 1, 1, 0, 0, 0);
+                break;
+            case 6:
+                transform = new AffineTransform(0, 1, -1, 0, height, 0);
+                break;
+            case 7:
+                transform = new AffineTransform(0, -1, -1, 0, height, width);
+                break;
+            case 8:
+                transform = new AffineTransform(0, -1, 1, 0, 0, width);
+                break;
+            default:
+                return image;
+        }
+
+        BufferedImage orientedImage = orientation >= 5 ? new BufferedImage(height, width, imageType) : new BufferedImage(width, height, imageType);
+        Graphics2D graphics = orientedImage.createGraphics();
+
+        try {
+            graphics.drawImage(image, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return orientedImage;
+    }
+
+    // jpeg APP1(Exif) 세그먼트의 IFD0 에서 Orientation 태그 조회 (없거나 읽을 수 없으면 1)
+    static int readExifOrientation(Path sourceFile) {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(sourceFile)))) {
+            if (in.readUnsignedShort() != 0xFFD8) {
+                return 1;
+            }
+
+            while (true) {
+                int marker = in.readUnsignedShort();
+
+                // SOS(이미지 데이터 시작) 이후에는 메타데이터 없음
+                if ((marker & 0xFF00) != 0xFF00 || marker == 0xFFDA || marker == 0xFFD9) {
+                    return 1;
+                }
+
+                int length = in.readUnsignedShort() - 2;
+
+                if (marker != 0xFFE1 || length < 14) {
+                    skipFully(in, length);
+                    continue;
+                }
+
+                byte[] segment = new byte[length];
+                in.readFully(segment);
+
+                if (segment[0] != 'E' || segment[1] != 'x' || segment[2] != 'i' || segment[3] != 'f' || segment[4] != 0 || segment[5] != 0) {
+                    continue;
+                }
+                return readTiffOrientation(segment, 6);
+            }
+        } catch (IOException e) {
+            return 1;
+        }
+    }
+
+    private static int readTiffOrientation(byte[] data, int tiffStart) {
+        boolean littleEndian = data[tiffStart] == 'I' && data[tiffStart + 1] == 'I';
+
+        if (!littleEndian && !(data[tiffStart] == 'M' && data[tiffStart + 1] == 'M')) {
+            return 1;
+        }
+
+        long ifdOffset = readUnsigned(data, tiffStart + 4, 4, littleEndian);
+        int ifdStart = (int) (tiffStart + ifdOffset);
+
+        if (ifdOffset < 8 || ifdStart + 2 > data.length) {
+            return 1;
+        }
+
+        int entryCount = (int) readUnsigned(data, ifdStart, 2, littleEndian);
+
+        for (int i = 0; i < entryCount; i++) {
+            int entryStart = ifdStart + 2 + i * 12;
+
+            if (entryStart + 12 > data.length) {
+                return 1;
+            }
+
+            if (readUnsigned(data, entryStart, 2, littleEndian) == EXIF_ORIENTATION_TAG) {
+                int orientation = (int) readUnsigned(data, entryStart + 8, 2, littleEndian);
+                return orientation >= 1 && orientation <= 8 ? orientation : 1;
+            }
+        }
+        return 1;
+    }
+
+    private static long readUnsigned(byte[] data, int offset, int length, boolean littleEndian) {
+        long value = 0;
+
+        for (int i = 0; i < length; i++) {
+            int b = data[offset + (littleEndian ? length - 1 - i : i)] & 0xFF;
+            value = (value << 8) | b;
+        }
+        return value;
+    }
+
+    private static void skipFully(InputStream in, long length) throws IOException {
+        while (length > 0) {
+            long skipped = in.skip(length);
+
+            if (skipped <= 0) {
+                throw new EOFException();
+            }
+            length -= skipped;
+        }
+    }
+
+    // 한 번에 크게 축소하면 bilinear 보간에서 픽셀이 건너뛰어져 품질이 떨어지므로 절반씩 축소
+    private BufferedImage scale(BufferedImage image, int targetWidth, int targetHeight, int imageType) {
+        BufferedImage scaledImage = image;
+        int width = image.getWidth();
+        int height = image.getHeight();
+
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+
+            BufferedImage nextImage = new BufferedImage(width, height, imageType);
+            Graphics2D graphics = nextImage.createGraphics();
+
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.drawImage(scaledImage, 0, 0, width, height, null);
+            } finally {
+                graphics.dispose();
+            }
+            scaledImage = nextImage;
+        } while (width != targetWidth || height != targetHeight);
+
+        return scaledImage;
+    }
+
+    private void write(BufferedImage image, String extension, Path targetFile) throws IOException {
+        ImageWriter imageWriter = ImageIO.getImageWritersByFormatName(extension).next();
+        ImageWriteParam imageWriteParam = imageWriter.getDefaultWriteParam();
+
+        if ("jpg".equals(extension)) {
+            imageWriteParam.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            imageWriteParam.setCompressionQuality(jpegQuality);
+        }
+
+        try (ImageOutputStream imageOutputStream = ImageIO.createImageOutputStream(targetFile.toFile())) {
+            imageWriter.setOutput(imageOutputStream);
+            imageWriter.write(null, new IIOImage(image, null, null), imageWriteParam);
+        } finally {
+            imageWriter.dispose();
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class ResizeResult {
+        private final String extension;
+        private final String contentType;
+        // 너비 : 축소본 파일 (원본이 모든 너비보다 작으면 빈 Map)
+        private final Map<Integer, Path> variantFileMap;
+    }
+}
@@ -0,0 +1,51 @@
+package com.service.util.media;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 미디어 저장소 드라이버 (SFTP | S3 | LOCAL)
+ * 내용 해시는 스트림을 모두 읽은 이후에 알 수 있으므로, 임시 위치에 저장(stage)한 후 해시 기반 키로 확정(promote)하거나 폐기(discard)
+ * objectKey: "{sha256 앞 2자리}/{다음 2자리}/{sha256}.{확장자}"
+ */
+public interface MediaStorage {
+    MediaStorageType getType();
+
+    // 스트림을 임시 위치에 저장하고 임시 위치 키 반환
+    String stage(InputStream inputStream) throws Exception;
+
+    // 임시 위치의 파일을 objectKey 로 확정 (이미 같은 내용의 파일이 있으면 임시 파일만 삭제)
+    void promote(String stagingKey, String objectKey, String contentType) throws Exception;
+
+    void discard(String stagingKey);
+
+    void delete(String objectKey) throws Exception;
+
+    // 일괄 삭제 후 삭제에 실패한 objectKey 반환 (이미 없는 파일은 삭제된 것으로 처리)
+    default Set<String> deleteAll(Collection<String> objectKeys) throws Exception {
+        Set<String> failedObjectKeys = new HashSet<>();
+
+        for (String objectKey : objectKeys) {
+            try {
+                delete(objectKey);
+            } catch (Exception e) {
+                failedObjectKeys.add(objectKey);
+            }
+        }
+        return failedObjectKeys;
+    }
+
+    // 확정된 파일을 로컬 파일로 복사 (이미지 변환 등 후처리용)
+    void download(String objectKey, Path targetFile) throws Exception;
+
+    String getUrl(String objectKey);
+
+    // 이 저장소의 미디어 URL 이면 objectKey, 아니면 null
+    default String findObjectKey(String url) {
+        String urlPrefix = getUrl("");
+        return url != null && url.startsWith(urlPrefix) && url.length() > urlPrefix.length() ? url.substring(urlPrefix.length()) : null;
+    }
+}
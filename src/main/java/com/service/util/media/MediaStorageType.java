@@ -0,0 +1,7 @@
+package com.service.util.media;
+
+public enum MediaStorageType {
+    SFTP,
+    S3,
+    LOCAL
+}
@@ -0,0 +1,39 @@
+package com.service.util.media;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 업로드 종류별 허용 Content-Type : 저장 확장자
+ * 저장소(LOCAL 드라이버는 블로그와 같은 origin)에서 그대로 서빙되므로, 스크립트를 포함할 수 있는 형식(text/html, image/svg+xml 등)은 허용하지 않음
+ */
+public enum MediaUploadKind {
+    IMAGE(Map.of(
+            "image/jpeg", "jpg",
+            "image/png", "png",
+            "image/gif", "gif",
+            "image/webp", "webp",
+            "image/bmp", "bmp")),
+    VIDEO(Map.of(
+            "video/mp4", "mp4",
+            "video/webm", "webm",
+            "video/ogg", "ogv",
+            "video/quicktime", "mov"));
+
+    private final Map<String, String> extensionMap;
+
+    MediaUploadKind(Map<String, String> extensionMap) {
+        this.extensionMap = extensionMap;
+    }
+
+    // 허용하지 않는 Content-Type 이면 null ("image/png; charset=..." 등 파라미터, 대소문자 무시)
+    public String getExtension(String contentType) {
+        if (contentType == null) {
+            return null;
+        }
+
+        int parameterIndex = contentType.indexOf(';');
+        String mimeType = (parameterIndex >= 0 ? contentType.substring(0, parameterIndex) : contentType).trim().toLowerCase(Locale.ROOT);
+        return extensionMap.get(mimeType);
+    }
+}
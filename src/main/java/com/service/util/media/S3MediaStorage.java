@@ -0,0 +1,87 @@
+package com.service.util.media;
+
+import com.service.util.aws.s3.AwsS3Util;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * S3 버킷의 "media/" 경로에 저장
+ * 임시 파일은 로컬 임시 디렉토리에 저장하고, 확정 시에 크기를 알고 있는 파일로 putObject (같은 내용이 이미 있으면 업로드 생략)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class S3MediaStorage implements MediaStorage {
+    private static final String MEDIA_DIRECTORY = "media/";
+
+    private final AwsS3Util awsS3Util;
+
+    @Override
+    public MediaStorageType getType() {
+        return MediaStorageType.S3;
+    }
+
+    @Override
+    public String stage(InputStream inputStream) throws Exception {
+        Path stagingFile = Files.createTempFile("media-", ".staging");
+
+        try (InputStream in = inputStream) {
+            Files.copy(in, stagingFile, StandardCopyOption.REPLACE_EXISTING);
+            return stagingFile.toString();
+        } catch (Exception e) {
+            Files.deleteIfExists(stagingFile);
+            throw e;
+        }
+    }
+
+    @Override
+    public void promote(String stagingKey, String objectKey, String contentType) throws Exception {
+        try {
+            awsS3Util.putObject(MEDIA_DIRECTORY + objectKey, Paths.get(stagingKey).toFile(), contentType);
+        } finally {
+            discard(stagingKey);
+        }
+    }
+
+    @Override
+    public void discard(String stagingKey) {
+        try {
+            Files.deleteIfExists(Paths.get(stagingKey));
+        } catch (IOException e) {
+            log.error("[S3MediaStorage:discard] error =>", e);
+        }
+    }
+
+    @Override
+    public void delete(String objectKey) throws Exception {
+        awsS3Util.deleteObject(MEDIA_DIRECTORY + objectKey);
+    }
+
+    // DeleteObjects 요청 1번에 최대 1000개씩 삭제
+    @Override
+    public Set<String> deleteAll(Collection<String> objectKeys) throws Exception {
+        Set<String> failedKeys = awsS3Util.deleteObjects(objectKeys.stream().map(objectKey -> MEDIA_DIRECTORY + objectKey).collect(Collectors.toList()));
+        return failedKeys.stream().map(key -> key.substring(MEDIA_DIRECTORY.length())).collect(Collectors.toSet());
+    }
+
+    @Override
+    public void download(String objectKey, Path targetFile) throws Exception {
+        awsS3Util.getObject(MEDIA_DIRECTORY + objectKey, targetFile.toFile());
+    }
+
+    @Override
+    public String getUrl(String objectKey) {
+        return awsS3Util.getUrl(MEDIA_DIRECTORY + objectKey);
+    }
+}
@@ -0,0 +1,82 @@
+package com.service.util.media;
+
+import com.service.util.sftp.SftpUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * SFTP 서버의 "media/" 디렉토리에 저장 (임시 파일은 "media/.staging/" 에 업로드 후 rename)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SftpMediaStorage implements MediaStorage {
+    private static final String MEDIA_DIRECTORY = "media/";
+    private static final String STAGING_DIRECTORY = "media/.staging/";
+    // "media/{2자리}/{2자리}" 는 개수가 제한되어 있고 업로드가 자주 재사용하므로 비어도 삭제하지 않음
+    private static final int KEEP_DIRECTORY_DEPTH = 3;
+
+    private final SftpUtil sftpUtil;
+
+    @Override
+    public MediaStorageType getType() {
+        return MediaStorageType.SFTP;
+    }
+
+    @Override
+    public String stage(InputStream inputStream) throws Exception {
+        String stagingKey = UUID.randomUUID().toString();
+        sftpUtil.uploadFile(STAGING_DIRECTORY + stagingKey, inputStream);
+        return stagingKey;
+    }
+
+    @Override
+    public void promote(String stagingKey, String objectKey, String contentType) throws Exception {
+        if (!sftpUtil.rename(STAGING_DIRECTORY + stagingKey, MEDIA_DIRECTORY + objectKey)) {
+            discard(stagingKey);
+        }
+    }
+
+    @Override
+    public void discard(String stagingKey) {
+        try {
+            sftpUtil.removeFile(STAGING_DIRECTORY + stagingKey);
+        } catch (Exception e) {
+            log.error("[SftpMediaStorage:discard] error =>", e);
+        }
+    }
+
+    @Override
+    public void delete(String objectKey) throws Exception {
+        sftpUtil.removeFile(MEDIA_DIRECTORY + objectKey);
+    }
+
+    // 채널 1개로 삭제 (해시 디렉토리는 유지)
+    @Override
+    public Set<String> deleteAll(Collection<String> objectKeys) throws Exception {
+        Set<String> failedPaths = sftpUtil.removeFiles(objectKeys.stream().map(objectKey -> MEDIA_DIRECTORY + objectKey).collect(Collectors.toList()), KEEP_DIRECTORY_DEPTH);
+        return failedPaths.stream().map(path -> path.substring(MEDIA_DIRECTORY.length())).collect(Collectors.toSet());
+    }
+
+    @Override
+    public void download(String objectKey, Path targetFile) throws Exception {
+        try (OutputStream outputStream = Files.newOutputStream(targetFile)) {
+            sftpUtil.downloadFile(MEDIA_DIRECTORY + objectKey, outputStream);
+        }
+    }
+
+    @Override
+    public String getUrl(String objectKey) {
+        return sftpUtil.getUrl(MEDIA_DIRECTORY + objectKey);
+    }
+}
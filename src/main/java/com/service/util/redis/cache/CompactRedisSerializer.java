@@ -0,0 +1,159 @@
+package com.service.util.redis.cache;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 캐시 값 직렬화: Smile(바이너리 JSON, 타입 정보 + 반복되는 필드명/문자열 참조) + 기준 크기 이상이면 Deflate 압축
+ * 형식: [MAGIC 2byte][FORMAT 1byte][payload]
+ * 이전 형식(JDK 직렬화, JSON)으로 저장된 값도 읽을 수 있으므로 캐시를 비우지 않고 교체 가능
+ * 마지막으로 Redis 와 주고받은 바이트는 스레드별로 보관하여, 로컬 캐시가 다시 직렬화하지 않고 그대로 적재 (takeLastBytes)
+ */
+public class CompactRedisSerializer implements RedisSerializer<Object> {
+    private static final byte MAGIC_0 = (byte) 0xCB;
+    private static final byte MAGIC_1 = (byte) 0x01;
+    private static final byte FORMAT_SMILE = 0;
+    private static final byte FORMAT_SMILE_DEFLATE = 1;
+    private static final int HEADER_SIZE = 3;
+
+    // JDK 직렬화 스트림 헤더 (0xACED)
+    private static final byte JDK_MAGIC_0 = (byte) 0xAC;
+    private static final byte JDK_MAGIC_1 = (byte) 0xED;
+
+    private final GenericJackson2JsonRedisSerializer smileSerializer;
+    private final GenericJackson2JsonRedisSerializer legacyJsonSerializer = new GenericJackson2JsonRedisSerializer();
+    private final JdkSerializationRedisSerializer legacyJdkSerializer = new JdkSerializationRedisSerializer();
+    private final int compressThresholdBytes;
+    private final ThreadLocal<byte[]> lastBytes = new ThreadLocal<>();
+
+    public CompactRedisSerializer(int compressThresholdBytes) {
+        this.compressThresholdBytes = compressThresholdBytes;
+        this.smileSerializer = new GenericJackson2JsonRedisSerializer(createSmileObjectMapper());
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+
+        byte[] smile = smileSerializer.serialize(value);
+
+        if (smile.length >= compressThresholdBytes) {
+            byte[] compressed = deflate(smile);
+
+            if (compressed.length < smile.length) {
+                return remember(withHeader(FORMAT_SMILE_DEFLATE, compressed));
+            }
+        }
+        return remember(withHeader(FORMAT_SMILE, smile));
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        remember(bytes);
+        return read(bytes);
+    }
+
+    // 로컬 캐시에 보관한 바이트를 읽을 때 사용 (호출마다 새 인스턴스를 반환하므로 호출자 간에 값을 공유하지 않음)
+    public Object read(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        } else if (bytes.length >= HEADER_SIZE && bytes[0] == MAGIC_0 && bytes[1] == MAGIC_1) {
+            byte[] payload = Arrays.copyOfRange(bytes, HEADER_SIZE, bytes.length);
+            return smileSerializer.deserialize(bytes[2] == FORMAT_SMILE_DEFLATE ? inflate(payload) : payload);
+        } else if (bytes.length >= 2 && bytes[0] == JDK_MAGIC_0 && bytes[1] == JDK_MAGIC_1) {
+            return legacyJdkSerializer.deserialize(bytes);
+        }
+        return legacyJsonSerializer.deserialize(bytes);
+    }
+
+    // 현재 스레드에서 마지막으로 직렬화/역직렬화한 바이트를 꺼내고 비움 (없으면 null)
+    public byte[] takeLastBytes() {
+        byte[] bytes = lastBytes.get();
+        lastBytes.remove();
+        return bytes;
+    }
+
+    private byte[] remember(byte[] bytes) {
+        lastBytes.set(bytes);
+        return bytes;
+    }
+
+    private static ObjectMapper createSmileObjectMapper() {
+        ObjectMapper objectMapper = new ObjectMapper(SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build());
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        objectMapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        objectMapper.activateDefaultTyping(objectMapper.getPolymorphicTypeValidator(), ObjectMapper.DefaultTyping.NON_FINAL, JsonTypeInfo.As.PROPERTY);
+        return objectMapper;
+    }
+
+    private static byte[] withHeader(byte format, byte[] payload) {
+        byte[] bytes = new byte[HEADER_SIZE + payload.length];
+        bytes[0] = MAGIC_0;
+        bytes[1] = MAGIC_1;
+        bytes[2] = format;
+        System.arraycopy(payload, 0, bytes, HEADER_SIZE, payload.length);
+        return bytes;
+    }
+
+    private static byte[] deflate(byte[] bytes) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+
+        try {
+            deflater.setInput(bytes);
+            deflater.finish();
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream(bytes.length / 2);
+            byte[] buffer = new byte[8192];
+
+            while (!deflater.finished()) {
+                outputStream.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return outputStream.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] bytes) {
+        Inflater inflater = new Inflater();
+
+        try {
+            inflater.setInput(bytes);
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream(bytes.length * 3);
+            byte[] buffer = new byte[8192];
+
+            while (!inflater.finished()) {
+                int length = inflater.inflate(buffer);
+
+                if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new SerializationException("Truncated compressed cache value");
+                }
+                outputStream.write(buffer, 0, length);
+            }
+            return outputStream.toByteArray();
+        } catch (DataFormatException e) {
+            throw new SerializationException("Invalid compressed cache value", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
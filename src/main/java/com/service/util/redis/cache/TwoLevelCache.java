@@ -0,0 +1,184 @@
+package com.service.util.redis.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+
+/**
+ * 로컬(Caffeine) → Redis 순서로 조회하는 2단계 캐시
+ * 변경(put/evict/clear) 시에는 Redis 에 먼저 반영한 뒤 로컬 캐시를 갱신하고, 다른 노드에는 pub/sub 으로 로컬 캐시 무효화를 알림 (처음 적재하는 값은 알림 없음)
+ * 로컬 키는 pub/sub 메시지와 맞추기 위해 문자열로 변환하여 사용
+ * 로컬 캐시에는 Redis 와 주고받은 직렬화 바이트를 그대로 보관하여 (용량 = 바이트 길이, 추가 직렬화 없음)
+ * 조회 시마다 역직렬화한 새 인스턴스를 반환 (호출자가 값을 변경해도 다른 요청에 영향 없음)
+ */
+public class TwoLevelCache implements Cache {
+    private static final String METRIC_GETS = "freeblog.cache.gets";
+    private static final String METRIC_EVICTIONS = "freeblog.cache.evictions";
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, byte[]> localCache;
+    private final Cache redisCache;
+    private final CompactRedisSerializer valueSerializer;
+    private final Consumer<String> invalidationPublisher;
+    // @Cacheable 은 조회가 없으면(miss) 메서드 실행 후 put 으로 적재하므로, 직전에 없었던 키의 put 은 처음 적재로 보고 무효화 알림 생략
+    private final ThreadLocal<String> missedKey = new ThreadLocal<>();
+
+    private final Counter localHitCounter;
+    private final Counter localMissCounter;
+    private final Counter redisHitCounter;
+    private final Counter redisMissCounter;
+    private final Counter redisEvictionCounter;
+
+    public TwoLevelCache(String name, com.github.benmanes.caffeine.cache.Cache<String, byte[]> localCache, Cache redisCache,
+                         CompactRedisSerializer valueSerializer, Consumer<String> invalidationPublisher, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.localCache = localCache;
+        this.redisCache = redisCache;
+        this.valueSerializer = valueSerializer;
+        this.invalidationPublisher = invalidationPublisher;
+        this.localHitCounter = meterRegistry.counter(METRIC_GETS, "cache", name, "tier", "local", "result", "hit");
+        this.localMissCounter = meterRegistry.counter(METRIC_GETS, "cache", name, "tier", "local", "result", "miss");
+        this.redisHitCounter = meterRegistry.counter(METRIC_GETS, "cache", name, "tier", "redis", "result", "hit");
+        this.redisMissCounter = meterRegistry.counter(METRIC_GETS, "cache", name, "tier", "redis", "result", "miss");
+        this.redisEvictionCounter = meterRegistry.counter(METRIC_EVICTIONS, "cache", name, "tier", "redis");
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return redisCache.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = String.valueOf(key);
+        missedKey.remove();
+        byte[] localBytes = localCache.getIfPresent(localKey);
+
+        if (localBytes != null) {
+            localHitCounter.increment();
+            return new SimpleValueWrapper(valueSerializer.read(localBytes));
+        }
+        localMissCounter.increment();
+
+        valueSerializer.takeLastBytes();
+        ValueWrapper redisValueWrapper = redisCache.get(key);
+        byte[] redisBytes = valueSerializer.takeLastBytes();
+
+        if (redisValueWrapper == null) {
+            redisMissCounter.increment();
+            missedKey.set(localKey);
+            return null;
+        }
+        redisHitCounter.increment();
+
+        if (redisValueWrapper.get() != null && redisBytes != null) {
+            localCache.put(localKey, redisBytes);
+        }
+        return redisValueWrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper valueWrapper = get(key);
+        Object value = valueWrapper == null ? null : valueWrapper.get();
+
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(String.format("Cached value is not of required type [%s]: %s", type.getName(), value));
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper valueWrapper = get(key);
+        missedKey.remove();
+
+        if (valueWrapper != null) {
+            return (T) valueWrapper.get();
+        }
+
+        T value;
+
+        try {
+            value = valueLoader.call();
+        } catch (Throwable throwable) {
+            throw new ValueRetrievalException(key, valueLoader, throwable);
+        }
+        // 처음 적재하는 값은 다른 노드의 로컬 캐시에 있을 수 없으므로 무효화 알림 없음
+        putRedisAndLocal(key, value);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        String localKey = String.valueOf(key);
+        boolean firstFill = localKey.equals(missedKey.get());
+        missedKey.remove();
+        putRedisAndLocal(key, value);
+
+        if (!firstFill) {
+            invalidationPublisher.accept(localKey);
+        }
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        String localKey = String.valueOf(key);
+        missedKey.remove();
+        ValueWrapper existValueWrapper = redisCache.putIfAbsent(key, value);
+
+        // Redis 에 실제로 저장된 값은 다음 조회 시에 로컬 캐시로 적재 (없던 값을 적재했거나 기존 값이 유지되었으므로 무효화 알림 없음)
+        localCache.invalidate(localKey);
+        return existValueWrapper;
+    }
+
+    @Override
+    public void evict(Object key) {
+        String localKey = String.valueOf(key);
+        missedKey.remove();
+        redisCache.evict(key);
+        localCache.invalidate(localKey);
+        redisEvictionCounter.increment();
+        invalidationPublisher.accept(localKey);
+    }
+
+    @Override
+    public void clear() {
+        redisCache.clear();
+        localCache.invalidateAll();
+        invalidationPublisher.accept(null);
+    }
+
+    private void putRedisAndLocal(Object key, Object value) {
+        String localKey = String.valueOf(key);
+        valueSerializer.takeLastBytes();
+        redisCache.put(key, value);
+        byte[] redisBytes = valueSerializer.takeLastBytes();
+
+        if (value == null || redisBytes == null) {
+            localCache.invalidate(localKey);
+        } else {
+            localCache.put(localKey, redisBytes);
+        }
+    }
+
+    // 다른 노드의 변경 알림 수신 시에, 로컬 캐시만 무효화 (key == null 이면 전체)
+    public void invalidateLocal(String key) {
+        if (key == null) {
+            localCache.invalidateAll();
+        } else {
+            localCache.invalidate(key);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.service.util.redis.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * RedisCacheManager 앞에 노드별 로컬 캐시(Caffeine, W-TinyLFU)를 두는 CacheManager
+ * 로컬 캐시는 캐시별 최대 바이트(Redis 에 저장된 직렬화 바이트 기준)와 TTL 로 제한하고, 변경 시에는 INVALIDATION_CHANNEL 로 다른 노드의 로컬 캐시를 무효화
+ * (무효화 메시지가 유실되더라도 로컬 TTL 이 지나면 Redis 값으로 다시 적재)
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, MessageListener, InitializingBean {
+    public static final String INVALIDATION_CHANNEL = "cache-invalidation";
+    private static final String MESSAGE_DELIMITER = "\n";
+
+    private final RedisCacheManager redisCacheManager;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final CompactRedisSerializer valueSerializer;
+    private final MeterRegistry meterRegistry;
+    private final Duration localTtl;
+    private final long defaultLocalMaxBytes;
+    private final Map<String, Long> localMaxBytesMap;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, TwoLevelCache> cacheMap = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(RedisCacheManager redisCacheManager, StringRedisTemplate stringRedisTemplate, CompactRedisSerializer valueSerializer,
+                                MeterRegistry meterRegistry, Duration localTtl, long defaultLocalMaxBytes, Map<String, Long> localMaxBytesMap) {
+        this.redisCacheManager = redisCacheManager;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.valueSerializer = valueSerializer;
+        this.meterRegistry = meterRegistry;
+        this.localTtl = localTtl;
+        this.defaultLocalMaxBytes = defaultLocalMaxBytes;
+        this.localMaxBytesMap = localMaxBytesMap;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        // 빈으로 등록되지 않은 RedisCacheManager 의 초기 캐시 설정(캐시별 TTL 등) 적재
+        redisCacheManager.afterPropertiesSet();
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return cacheMap.computeIfAbsent(name, cacheName -> {
+            Cache redisCache = redisCacheManager.getCache(cacheName);
+            return redisCache == null ? null : new TwoLevelCache(cacheName, createLocalCache(cacheName), redisCache, valueSerializer,
+                    key -> publishInvalidation(cacheName, key), meterRegistry);
+        });
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return redisCacheManager.getCacheNames();
+    }
+
+    // 메시지 형식: nodeId \n cacheName [\n key] (key 가 없으면 전체 무효화)
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] tokens = new String(message.getBody(), StandardCharsets.UTF_8).split(MESSAGE_DELIMITER, 3);
+
+        if (tokens.length < 2 || nodeId.equals(tokens[0])) {
+            return;
+        }
+
+        TwoLevelCache twoLevelCache = cacheMap.get(tokens[1]);
+
+        if (twoLevelCache != null) {
+            twoLevelCache.invalidateLocal(tokens.length == 3 ? tokens[2] : null);
+        }
+    }
+
+    private void publishInvalidation(String cacheName, String key) {
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, key == null ?
+                    String.join(MESSAGE_DELIMITER, nodeId, cacheName) : String.join(MESSAGE_DELIMITER, nodeId, cacheName, key));
+        } catch (Exception e) {
+            log.error("[TwoLevelCacheManager:publishInvalidation] cacheName:{}, key:{}, error =>", cacheName, key, e);
+        }
+    }
+
+    private com.github.benmanes.caffeine.cache.Cache<String, byte[]> createLocalCache(String cacheName) {
+        Counter localEvictionCounter = meterRegistry.counter("freeblog.cache.evictions", "cache", cacheName, "tier", "local");
+
+        return Caffeine.newBuilder()
+                .maximumWeight(localMaxBytesMap.getOrDefault(cacheName, defaultLocalMaxBytes))
+                .weigher((String key, byte[] value) -> value.length)
+                .expireAfterWrite(localTtl)
+                .removalListener((String key, byte[] value, RemovalCause cause) -> {
+                    if (cause.wasEvicted()) {
+                        localEvictionCounter.increment();
+                    }
+                })
+                .build();
+    }
+}
\ No newline at end of file
@@ -4,7 +4,19 @@ public class CacheKey {
     public static final Long DEFAULT_EXPIRE_TTL_MINUTE = 60L * 24L * 30L * 1L; // 1 month
     public static final Long USER_HEADER_DTO_TTL_MINUTE = 60L * 24L * 30L * 1L; // 1 month
     public static final Long POST_DETAIL_DTO_TTL_MINUTE = 60L * 24L * 7L; // 1 weak
+    public static final Long BLOG_SHELL_DTO_TTL_MINUTE = 60L * 24L; // 1 day
+
+    // 직렬화된 캐시 값이 이 크기 이상이면 압축 (게시글 본문 등)
+    public static final int CACHE_COMPRESS_THRESHOLD_BYTES = 1024;
+
+    // 로컬 캐시 (TTL 은 다른 노드의 무효화 메시지가 유실된 경우의 최대 지연 시간)
+    public static final Long LOCAL_CACHE_TTL_MINUTE = 5L;
+    public static final Long DEFAULT_LOCAL_MAX_BYTES = 16L * 1024L * 1024L; // 16MB
+    public static final Long USER_HEADER_DTO_LOCAL_MAX_BYTES = 16L * 1024L * 1024L; // 16MB
+    public static final Long POST_DETAIL_DTO_LOCAL_MAX_BYTES = 64L * 1024L * 1024L; // 64MB
+    public static final Long BLOG_SHELL_DTO_LOCAL_MAX_BYTES = 32L * 1024L * 1024L; // 32MB
 
     public static final String USER_HEADER_DTO = "user-header-dto";
     public static final String POST_DETAIL_DTO = "post-detail-dto";
+    public static final String BLOG_SHELL_DTO = "blog-shell-dto";
 }
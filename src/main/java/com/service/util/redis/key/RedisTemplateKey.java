@@ -6,15 +6,53 @@ public class RedisTemplateKey {
     // 댓글 관련 (좋아요)
     public static final String COMMENT_LIKE = "comment-like";
 
+    // 댓글 관련 (게시글별 댓글 수 재계산 작업 선점)
+    public static final String COMMENT_COUNT_REPAIR_LOCK = "comment-count-repair-lock";
+    public static final Duration COMMENT_COUNT_REPAIR_LOCK_TTL = Duration.ofMinutes(30);
+    public static final String COMMENT_COUNT_INITIALIZED = "comment-count-initialized"; // 댓글 수 컬럼 초기값 구성(전체 재계산)을 완료했는지 여부
+
     // 게시글 관련 (좋아요)
-    public static final String POST_LIKE = "post-like:%d";
+    public static final String POST_LIKE = "post-like:%d"; // (구버전) postId : Map<userId, LikePost> JSON, 기동 시에 POST_LIKERS 로 이관
+    public static final String POST_LIKE_PATTERN = "post-like:*";
+    public static final String POST_LIKERS = "post-likers:%d:%d"; // (blogId, postId) ZSET userId : 좋아요 누른 시각
+    public static final String POST_LIKER_INFO = "post-liker-info:%d:%d"; // (blogId, postId) HASH userId : LikePost(JSON)
+    public static final String POST_LIKE_INDEX = "post-like-index:%d"; // (blogId) SET 좋아요가 1개 이상인 postId
     public static final String LIKE_POST = "like-posts:%s";
 
     // 게시글 관련 (조회수)
-    public static final String POST_VIEWS = "post-views:%d";
+    public static final String POST_VIEWS = "post-views:%d"; // (구버전) JSON 형식의 PostView, 기동 시에 POST_VIEW_COUNT 로 이관
+    public static final String POST_VIEWS_PATTERN = "post-views:*";
+    public static final String POST_VIEW_COUNT = "post-view-count:%d"; // postId : 조회수(정수)
+
+    // 게시글 관련 (순번)
+    public static final String POST_SEQ = "post-seq:%d"; // (blogId) 마지막으로 발급한 게시글 seq
+
+    // 게시글 관련 (인기글)
+    public static final String POST_POPULAR = "post-popular:%d"; // (blogId) ZSET postId : 조회수 + 좋아요 수
+    public static final String POST_POPULAR_INITIALIZED = "post-popular-initialized:%d"; // (blogId) 기존 조회수/좋아요로 인기글 ZSET 을 구성했는지 여부
+    public static final String POST_POPULAR_MEMBER = "%019d"; // 점수가 같으면 postId 가 큰(최신) 게시글이 먼저 오도록 자리수를 고정
 
     // 방문자 수 관련
-    public static final String BLOG_VISITORS_COUNT = "blog-visitors-count:%d";
+    public static final String BLOG_VISITORS_COUNT = "blog-visitors-count:%d"; // (구버전) JSON 형식의 BlogVisitors, 기동 시에 BLOG_VISIT_STATS 로 이관
+    public static final String BLOG_VISITORS_COUNT_PATTERN = "blog-visitors-count:*";
+    public static final String BLOG_DAILY_VISITORS = "blog-daily-visitors:%d:%s"; // (blogId, yyyyMMdd) HyperLogLog 방문자 id
+    public static final String BLOG_DAILY_VIEWS = "blog-daily-views:%d:%s"; // (blogId, yyyyMMdd) 방문 횟수(정수)
+    public static final String BLOG_VISIT_STATS = "blog-visit-stats:%d"; // (blogId) HASH totalVisitors, totalViews
+    public static final String BLOG_TOTAL_VISITORS_FIELD = "totalVisitors";
+    public static final String BLOG_TOTAL_VIEWS_FIELD = "totalViews";
+    public static final Duration BLOG_DAILY_VISIT_TTL = Duration.ofDays(3);
+    public static final String BLOG_DAILY_VIEWS_DAY_PATTERN = "blog-daily-views:*:%s"; // (yyyyMMdd) 해당 일자에 방문 기록이 있는 블로그
+    public static final String BLOG_VISIT_HISTORY = "blog-visit-history:%d"; // (blogId) HASH yyyyMMdd : "방문자 수,방문 횟수"
+    public static final String BLOG_VISIT_HISTORY_LOCK = "blog-visit-history-lock:%s"; // (yyyyMMdd) 일자별 이력 기록 작업 선점
+    public static final Duration BLOG_VISIT_HISTORY_LOCK_TTL = Duration.ofHours(1);
+
+    // 페이지네이션 전체 개수 캐시 관련
+    public static final String PAGING_COUNT = "paging-count:%s:%s:"; // (유형, 범위) + 버전:조건 해시
+    public static final String PAGING_COUNT_VERSION = "paging-count-version:%s"; // (범위) 데이터 변경 시 증가
+    public static final String PAGING_COUNT_BLOG_SCOPE = "blog:%d";
+    public static final String PAGING_COUNT_MAIN_SCOPE = "main";
+    public static final String PAGING_COUNT_MUSIC_SCOPE = "music";
+    public static final Duration PAGING_COUNT_TTL = Duration.ofHours(1);
 
     // video 토큰 관련
     public static final String VIDEO_TOKEN = "video-token:%s";
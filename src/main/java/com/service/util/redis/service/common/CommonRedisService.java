@@ -2,11 +2,26 @@ package com.service.util.redis.service.common;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 import javax.transaction.Transactional;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
@@ -20,8 +35,119 @@ public class CommonRedisService {
         stringRedisTemplate.opsForValue().set(key, value, expirationMinutes, TimeUnit.MINUTES);
     }
 
+    public void setValue(String key, String value) {
+        stringRedisTemplate.opsForValue().set(key, value);
+    }
+
     public String getValue(String key) {
         // Retrieve the value for the given key
         return stringRedisTemplate.opsForValue().get(key);
     }
+
+    // 여러 노드 중 한 곳에서만 수행할 작업 선점 (ttl 이후에는 다시 선점 가능)
+    public boolean tryLock(String key, Duration ttl) {
+        return Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(key, String.valueOf(System.currentTimeMillis()), ttl));
+    }
+
+    /**
+     * 스크립트를 파이프라인으로 EVALSHA 실행하고, 실패한 명령의 순번(keysAndArgsList 기준)을 반환
+     * 스크립트 본문은 매번 보내지 않고, Redis 에 등록되지 않은 경우(NOSCRIPT: 재시작, SCRIPT FLUSH 등)에만 등록 후 해당 명령만 다시 실행
+     * (NOSCRIPT 인 명령은 실행되지 않았으므로 다시 실행해도 중복 반영되지 않음)
+     *
+     * @throws org.springframework.dao.DataAccessException 연결 오류 등 명령별 결과를 알 수 없는 경우
+     */
+    public Set<Integer> executePipelinedScript(RedisScript<?> script, ReturnType returnType, int numKeys, List<String[]> keysAndArgsList) {
+        Set<Integer> failedIndexSet = new HashSet<>();
+        List<Integer> noScriptIndexList = new ArrayList<>();
+
+        collectPipelinedScriptFailures(script, returnType, numKeys, keysAndArgsList, failedIndexSet, noScriptIndexList);
+
+        if (noScriptIndexList.isEmpty()) {
+            return failedIndexSet;
+        }
+
+        stringRedisTemplate.execute((RedisCallback<String>) connection -> connection.scriptLoad(script.getScriptAsString().getBytes(StandardCharsets.UTF_8)));
+
+        List<String[]> retryKeysAndArgsList = new ArrayList<>(noScriptIndexList.size());
+        noScriptIndexList.forEach(index -> retryKeysAndArgsList.add(keysAndArgsList.get(index)));
+
+        Set<Integer> retryFailedIndexSet = new HashSet<>();
+        List<Integer> retryNoScriptIndexList = new ArrayList<>();
+        collectPipelinedScriptFailures(script, returnType, numKeys, retryKeysAndArgsList, retryFailedIndexSet, retryNoScriptIndexList);
+
+        retryFailedIndexSet.addAll(retryNoScriptIndexList);
+        retryFailedIndexSet.forEach(retryIndex -> failedIndexSet.add(noScriptIndexList.get(retryIndex)));
+        return failedIndexSet;
+    }
+
+    private void collectPipelinedScriptFailures(RedisScript<?> script, ReturnType returnType, int numKeys, List<String[]> keysAndArgsList,
+                                                Set<Integer> failedIndexSet, List<Integer> noScriptIndexList) {
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringRedisConnection = (StringRedisConnection) connection;
+
+                keysAndArgsList.forEach(keysAndArgs -> stringRedisConnection.evalSha(script.getSha1(), returnType, numKeys, keysAndArgs));
+                return null;
+            });
+        } catch (RedisPipelineException e) {
+            List<Object> results = e.getPipelineResult();
+
+            // 명령별 결과를 알 수 없으면 호출한 쪽에서 배치 전체를 실패로 처리
+            if (results.size() != keysAndArgsList.size()) {
+                throw e;
+            }
+
+            for (int index = 0; index < results.size(); index++) {
+                if (!(results.get(index) instanceof Throwable)) {
+                    continue;
+                }
+
+                if (isNoScriptError((Throwable) results.get(index))) {
+                    noScriptIndexList.add(index);
+                } else {
+                    failedIndexSet.add(index);
+                }
+            }
+        }
+    }
+
+    private boolean isNoScriptError(Throwable throwable) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (cause.getMessage() != null && cause.getMessage().contains("NOSCRIPT")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * KEYS 명령어 대신 SCAN 으로 패턴에 맞는 키를 batchSize 단위로 나누어 전달 (Redis 블로킹 방지)
+     */
+    public void scanKeys(String pattern, int batchSize, Consumer<List<String>> batchConsumer) {
+        ScanOptions scanOptions = ScanOptions.scanOptions().match(pattern).count(batchSize).build();
+
+        stringRedisTemplate.execute((RedisCallback<Void>) connection -> {
+            scanKeys(connection, scanOptions, batchSize, batchConsumer);
+            return null;
+        });
+    }
+
+    private void scanKeys(RedisConnection connection, ScanOptions scanOptions, int batchSize, Consumer<List<String>> batchConsumer) {
+        List<String> keys = new ArrayList<>(batchSize);
+
+        try (Cursor<byte[]> cursor = connection.scan(scanOptions)) {
+            while (cursor.hasNext()) {
+                keys.add(new String(cursor.next(), StandardCharsets.UTF_8));
+
+                if (keys.size() >= batchSize) {
+                    batchConsumer.accept(keys);
+                    keys = new ArrayList<>(batchSize);
+                }
+            }
+        }
+
+        if (!keys.isEmpty()) {
+            batchConsumer.accept(keys);
+        }
+    }
 }
@@ -10,40 +10,85 @@ import com.service.core.like.model.LikePostInput;
 import com.service.core.like.paging.LikeSearchPagingDto;
 import com.service.util.json.JsonUtil;
 import com.service.util.redis.key.RedisTemplateKey;
+import com.service.util.redis.service.common.CommonRedisService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.StringRedisConnection;
 import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
 import java.util.*;
 
+/**
+ * 게시글 좋아요는 게시글 단위 ZSET("post-likers:{blogId}:{postId}", userId : 좋아요 누른 시각)과
+ * 좋아요 누른 사용자 정보 HASH("post-liker-info:{blogId}:{postId}")로 저장
+ * 좋아요/취소 토글은 Lua 스크립트로 서버에서 원자적으로 수행 (동시 좋아요 시에 덮어쓰기 방지)
+ */
 @Service
 @Slf4j
 @Transactional
 @RequiredArgsConstructor
 public class PostLikeRedisTemplateService {
+    private static final int MIGRATION_SCAN_BATCH_SIZE = 100;
+
+    // KEYS: likers, likerInfo, likeIndex, 인기글 ZSET / ARGV: userId, 시각, LikePost(JSON), postId, 인기글 member → 1: 좋아요, 0: 좋아요 취소
+    private static final RedisScript<Long> TOGGLE_POST_LIKE_SCRIPT = RedisScript.of(
+            "if redis.call('ZSCORE', KEYS[1], ARGV[1]) then " +
+                    "  redis.call('ZREM', KEYS[1], ARGV[1]) " +
+                    "  redis.call('HDEL', KEYS[2], ARGV[1]) " +
+                    "  if redis.call('ZCARD', KEYS[1]) == 0 then redis.call('SREM', KEYS[3], ARGV[4]) end " +
+                    "  redis.call('ZINCRBY', KEYS[4], -1, ARGV[5]) " +
+                    "  return 0 " +
+                    "end " +
+                    "redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1]) " +
+                    "redis.call('HSET', KEYS[2], ARGV[1], ARGV[3]) " +
+                    "redis.call('SADD', KEYS[3], ARGV[4]) " +
+                    "redis.call('ZINCRBY', KEYS[4], 1, ARGV[5]) " +
+                    "return 1", Long.class);
+
+    // 구버전 "post-like:{blogId}" 해시(postId : Map<userId, LikePost> JSON)를 게시글 단위 ZSET/HASH 로 이관 후 삭제
+    // ARGV: blogId, 이관 시각, POST_LIKERS, POST_LIKER_INFO, POST_LIKE_INDEX 키 포맷
+    private static final RedisScript<Long> MIGRATE_LEGACY_POST_LIKE_SCRIPT = RedisScript.of(
+            "local blogId = tonumber(ARGV[1]) " +
+                    "local fields = redis.call('HGETALL', KEYS[1]) " +
+                    "local migrated = 0 " +
+                    "for i = 1, #fields, 2 do " +
+                    "  local ok, likePostMap = pcall(cjson.decode, fields[i + 1]) " +
+                    "  if ok and type(likePostMap) == 'table' then " +
+                    "    local likersKey = string.format(ARGV[3], blogId, tonumber(fields[i])) " +
+                    "    local likerInfoKey = string.format(ARGV[4], blogId, tonumber(fields[i])) " +
+                    "    for userId, likePost in pairs(likePostMap) do " +
+                    "      redis.call('ZADD', likersKey, ARGV[2], userId) " +
+                    "      redis.call('HSET', likerInfoKey, userId, cjson.encode(likePost)) " +
+                    "      migrated = migrated + 1 " +
+                    "    end " +
+                    "    if redis.call('ZCARD', likersKey) > 0 then redis.call('SADD', string.format(ARGV[5], blogId), fields[i]) end " +
+                    "  end " +
+                    "end " +
+                    "redis.call('DEL', KEYS[1]) " +
+                    "return migrated", Long.class);
+
     private final RedisTemplate redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final CommonRedisService commonRedisService;
     private final JsonUtil jsonUtil;
     private final AppConfig appConfig;
 
     public List<Long> getPostLikeIdSet(long blogId) {
-        String postLikeKey = String.format(RedisTemplateKey.POST_LIKE, blogId);
-        HashOperations<String, String, Object> likePostHashOperation = getLikePostOperation();
         List<Long> postIdSet = new ArrayList<>();
+        Set<String> postIds = stringRedisTemplate.opsForSet().members(String.format(RedisTemplateKey.POST_LIKE_INDEX, blogId));
 
-        for (String postId : likePostHashOperation.keys(postLikeKey)) {
-            try {
-                Map<String, LikePost> likePostMap = jsonUtil.readMapValue(getLikePostOperation(postLikeKey, postId), String.class, LikePost.class);
-
-                if (likePostMap.size() <= 0) {
-                    continue;
-                }
+        if (postIds != null) {
+            for (String postId : postIds) {
                 postIdSet.add(Long.parseLong(postId));
-            } catch (Exception e) {
-                log.error("[PostLikeRedisTemplateService:getPostLikeIdSet] error:{}", e);
             }
         }
         return postIdSet;
@@ -57,15 +102,12 @@ public class PostLikeRedisTemplateService {
         return userLikePosts;
     }
 
-    public int getPostLikeCount(Long postId, Long blogId) throws Exception {
-        String postLikeKey = String.format(RedisTemplateKey.POST_LIKE, blogId);
-        Map<String, LikePost> likePostMap = jsonUtil.readMapValue(getLikePostOperation(postLikeKey, postId), String.class, LikePost.class);
-        return likePostMap == null ? 0 : likePostMap.size();
+    public int getPostLikeCount(Long postId, Long blogId) {
+        Long likeCount = stringRedisTemplate.opsForZSet().zCard(String.format(RedisTemplateKey.POST_LIKERS, blogId, postId));
+        return likeCount == null ? 0 : likeCount.intValue();
     }
 
     public List<LikePost> getPostLikeDto(Long postId, Long blogId, LikeSearchPagingDto likeSearchPagingDto) throws Exception {
-        String postLikeKey = String.format(RedisTemplateKey.POST_LIKE, blogId);
-        Map<String, LikePost> likePostMap = jsonUtil.readMapValue(getLikePostOperation(postLikeKey, postId), String.class, LikePost.class);
         int beginIdx = likeSearchPagingDto.getLikePagination().getLimitStart() < 0 ? 0 : likeSearchPagingDto.getLikePagination().getLimitStart();
         int endIdx = beginIdx + likeSearchPagingDto.getRecordSize();
 
@@ -73,59 +115,69 @@ public class PostLikeRedisTemplateService {
             endIdx = likeSearchPagingDto.getLikePagination().getTotalRecordCount();
         }
 
-        if (likePostMap == null) {
+        if (beginIdx >= endIdx) {
+            return Collections.emptyList();
+        }
+
+        // 최근에 좋아요 누른 순서로 해당 페이지의 사용자 id 만 조회
+        Set<String> userIds = stringRedisTemplate.opsForZSet().reverseRange(String.format(RedisTemplateKey.POST_LIKERS, blogId, postId), beginIdx, endIdx - 1);
+
+        if (userIds == null || userIds.isEmpty()) {
             return Collections.emptyList();
-        } else {
-            return (new ArrayList<>(likePostMap.values())).subList(beginIdx, endIdx);
         }
+
+        HashOperations<String, String, String> likerInfoOperation = stringRedisTemplate.opsForHash();
+        List<String> likePostJsonList = likerInfoOperation.multiGet(String.format(RedisTemplateKey.POST_LIKER_INFO, blogId, postId), new ArrayList<>(userIds));
+        List<LikePost> likePosts = new ArrayList<>(likePostJsonList.size());
+
+        for (String likePostJson : likePostJsonList) {
+            if (likePostJson != null) {
+                likePosts.add(jsonUtil.readClzValue(likePostJson, LikePost.class));
+            }
+        }
+        return likePosts;
     }
 
-    public PostLikeResultDto getPostLikeResultDto(String id, Long blogId, Long postId) throws Exception {
-        String postLikeKey = String.format(RedisTemplateKey.POST_LIKE, blogId);
-        Map<String, LikePost> likePostMap = jsonUtil.readMapValue(getLikePostOperation(postLikeKey, postId), String.class, LikePost.class);
+    public PostLikeResultDto getPostLikeResultDto(String id, Long blogId, Long postId) {
+        String postLikersKey = String.format(RedisTemplateKey.POST_LIKERS, blogId, postId);
 
-        if (likePostMap == null) {
-            return PostLikeResultDto.success(false, 0);
-        } else {
-            return PostLikeResultDto.success(likePostMap.containsKey(id), likePostMap.size());
+        if (id == null) {
+            return PostLikeResultDto.success(false, getPostLikeCount(postId, blogId));
         }
+
+        // 좋아요 여부, 좋아요 개수를 한 번의 왕복으로 조회
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringRedisConnection = (StringRedisConnection) connection;
+            stringRedisConnection.zScore(postLikersKey, id);
+            stringRedisConnection.zCard(postLikersKey);
+            return null;
+        });
+        Long likeCount = (Long) results.get(1);
+        return PostLikeResultDto.success(results.get(0) != null, likeCount == null ? 0 : likeCount.intValue());
     }
 
     public boolean doPostLike(LikePostInput likePostInput) throws Exception {
-        HashOperations<String, String, Object> userLikePostOperation = getUserLikePostOperation();
-        String postLikeKey = String.format(RedisTemplateKey.POST_LIKE, likePostInput.getBlogId());
+        Long result = stringRedisTemplate.execute(TOGGLE_POST_LIKE_SCRIPT,
+                Arrays.asList(
+                        String.format(RedisTemplateKey.POST_LIKERS, likePostInput.getBlogId(), likePostInput.getPostId()),
+                        String.format(RedisTemplateKey.POST_LIKER_INFO, likePostInput.getBlogId(), likePostInput.getPostId()),
+                        String.format(RedisTemplateKey.POST_LIKE_INDEX, likePostInput.getBlogId()),
+                        String.format(RedisTemplateKey.POST_POPULAR, likePostInput.getBlogId())),
+                likePostInput.getId(),
+                String.valueOf(System.currentTimeMillis()),
+                jsonUtil.writeValueAsString(LikePost.from(likePostInput)),
+                String.valueOf(likePostInput.getPostId()),
+                String.format(RedisTemplateKey.POST_POPULAR_MEMBER, likePostInput.getPostId()));
         String likePostKey = String.format(RedisTemplateKey.LIKE_POST, likePostInput.getId());
-        Map<String, LikePost> likePostMap = jsonUtil.readMapValue(getLikePostOperation(postLikeKey, likePostInput.getPostId()), String.class, LikePost.class); // "userId":LikePost
-
-        if (likePostMap == null) {
-            // 해당 포스트에 사용자 정보 put
-            likePostMap = new HashMap<>();
-            likePostMap.put(likePostInput.getId(), LikePost.from(likePostInput));
-            writeLikePostHashOperation(postLikeKey, String.valueOf(likePostInput.getPostId()), likePostMap);
 
+        if (result != null && result == 1L) {
             // 해당 사용자 좋아요 정보 push
-            pushUserLike(userLikePostOperation, likePostKey, likePostInput);
+            pushUserLike(getUserLikePostOperation(), likePostKey, likePostInput);
             return true;
         } else {
-            Set<String> userIdSet = likePostMap.keySet();
-
-            if (userIdSet.contains(likePostInput.getId())) {
-                // 좋아요 취소
-                likePostMap.remove(likePostInput.getId());
-                writeLikePostHashOperation(postLikeKey, String.valueOf(likePostInput.getPostId()), likePostMap);
-                deleteUserLikeHashOperation(likePostKey, likePostInput.getPostId());
-                return false;
-            } else {
-                // 좋아요 누르기
-
-                // 해당 포스트에 사용자 정보 put
-                likePostMap.put(likePostInput.getId(), LikePost.from(likePostInput));
-                writeLikePostHashOperation(postLikeKey, String.valueOf(likePostInput.getPostId()), likePostMap);
-
-                // 해당 사용자 좋아요 정보 push
-                pushUserLike(userLikePostOperation, likePostKey, likePostInput);
-                return true;
-            }
+            // 좋아요 취소
+            deleteUserLikeHashOperation(likePostKey, likePostInput.getPostId());
+            return false;
         }
     }
 
@@ -148,8 +200,10 @@ public class PostLikeRedisTemplateService {
     // 게시글 삭제 시에, 해당 블로거의 삭제 된 게시글 좋아요 기록 정보를 레디스에서 삭제
     public void deletePostLikeInfo(Long blogId, Long postId) {
         try {
-            String postLikeKey = String.format(RedisTemplateKey.POST_LIKE, blogId);
-            deleteLikePostHashOperation(postLikeKey, postId);
+            stringRedisTemplate.delete(Arrays.asList(
+                    String.format(RedisTemplateKey.POST_LIKERS, blogId, postId),
+                    String.format(RedisTemplateKey.POST_LIKER_INFO, blogId, postId)));
+            stringRedisTemplate.opsForSet().remove(String.format(RedisTemplateKey.POST_LIKE_INDEX, blogId), String.valueOf(postId));
         } catch (Exception e) {
             log.error("[PostLikeRedisTemplateService:deletePostLikeInfo] error =>", e);
         }
@@ -159,9 +213,15 @@ public class PostLikeRedisTemplateService {
     public void deleteUserPostLikeInfo(Long blogId, String id) {
         try {
             // 해당 블로그의 모든 게시글 좋아요 정보 삭제
-            String postLikeKey = String.format(RedisTemplateKey.POST_LIKE, blogId);
-            HashOperations<String, String, Object> likePostHashOperation = getLikePostOperation();
-            likePostHashOperation.delete(postLikeKey, likePostHashOperation.keys(postLikeKey));
+            List<String> postLikeKeys = new ArrayList<>();
+
+            for (Long postId : getPostLikeIdSet(blogId)) {
+                postLikeKeys.add(String.format(RedisTemplateKey.POST_LIKERS, blogId, postId));
+                postLikeKeys.add(String.format(RedisTemplateKey.POST_LIKER_INFO, blogId, postId));
+            }
+            postLikeKeys.add(String.format(RedisTemplateKey.POST_LIKE_INDEX, blogId));
+            postLikeKeys.add(String.format(RedisTemplateKey.POST_LIKE, blogId));
+            stringRedisTemplate.delete(postLikeKeys);
 
             // 해당 블로거가 좋아요 누른 모든 게시글 정보 삭제
             String likePostKey = String.format(RedisTemplateKey.LIKE_POST, id);
@@ -196,26 +256,36 @@ public class PostLikeRedisTemplateService {
         }
     }
 
-    private void writeLikePostHashOperation(String key1, String key2, Object obj) throws Exception {
-        getLikePostOperation().put(key1, key2, jsonUtil.writeValueAsString(obj));
+    // 구버전 JSON 좋아요 정보를 게시글 단위 ZSET/HASH 로 1회 이관 (이관이 끝난 키는 삭제)
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateLegacyPostLikes() {
+        try {
+            commonRedisService.scanKeys(RedisTemplateKey.POST_LIKE_PATTERN, MIGRATION_SCAN_BATCH_SIZE, legacyKeys -> {
+                for (String legacyKey : legacyKeys) {
+                    String blogId = legacyKey.substring(legacyKey.indexOf(':') + 1);
+                    Long migrated = stringRedisTemplate.execute(MIGRATE_LEGACY_POST_LIKE_SCRIPT,
+                            Collections.singletonList(legacyKey),
+                            blogId,
+                            String.valueOf(System.currentTimeMillis()),
+                            RedisTemplateKey.POST_LIKERS,
+                            RedisTemplateKey.POST_LIKER_INFO,
+                            RedisTemplateKey.POST_LIKE_INDEX);
+                    log.info("[PostLikeRedisTemplateService:migrateLegacyPostLikes] key:{}, migrated:{}", legacyKey, migrated);
+                }
+            });
+        } catch (Exception e) {
+            log.error("[PostLikeRedisTemplateService:migrateLegacyPostLikes] error =>", e);
+        }
     }
 
     private void writeUserLikePostOperation(String key1, String key2, Object obj) throws Exception {
         getUserLikePostOperation().put(key1, key2, jsonUtil.writeValueAsString(obj));
     }
 
-    private void deleteLikePostHashOperation(Object key, Object value) {
-        getLikePostOperation().delete(String.valueOf(key), String.valueOf(value));
-    }
-
     private void deleteUserLikeHashOperation(Object key, Object value) {
         getUserLikePostOperation().delete(String.valueOf(key), String.valueOf(value));
     }
 
-    private String getLikePostOperation(Object key, Object value) {
-        return String.valueOf(getLikePostOperation().get(String.valueOf(key), String.valueOf(value)));
-    }
-
     private String getUserLikePostOperation(Object key, Object value) {
         return String.valueOf(getUserLikePostOperation().get(String.valueOf(key), String.valueOf(value)));
     }
@@ -223,8 +293,4 @@ public class PostLikeRedisTemplateService {
     private HashOperations<String, String, Object> getUserLikePostOperation() {
         return redisTemplate.opsForHash();
     }
-
-    private HashOperations<String, String, Object> getLikePostOperation() {
-        return redisTemplate.opsForHash();
-    }
 }
@@ -0,0 +1,115 @@
+package com.service.util.redis.service.paging;
+
+import com.service.util.redis.key.RedisTemplateKey;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.IntSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * 페이지네이션 전체 개수(count(*)) 캐시
+ * 키: "paging-count:{유형}:{범위}:{범위 버전}:{조건 해시}", 범위(블로그 등)의 데이터가 바뀌면 버전을 올려 이전 개수는 TTL 로 만료
+ * 버전 조회와 개수 조회는 Lua 스크립트로 1회에 수행
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class PagingCountRedisTemplateService {
+    private static final String FILTER_DELIMITER = "\u001F";
+
+    // KEYS: 범위 버전 / ARGV: 개수 키 prefix, 조건 해시 → {버전, 개수(없으면 nil)}
+    private static final RedisScript<List> GET_PAGING_COUNT_SCRIPT = RedisScript.of(
+            "local version = redis.call('GET', KEYS[1]) or '0' " +
+                    "return {version, redis.call('GET', ARGV[1] .. version .. ':' .. ARGV[2])}", List.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public static String blogScope(long blogId) {
+        return String.format(RedisTemplateKey.PAGING_COUNT_BLOG_SCOPE, blogId);
+    }
+
+    // 조건 값을 순서대로 이어 붙여 정규화 (null 은 빈 문자열)
+    public static String filter(Object... conditions) {
+        return Arrays.stream(conditions).map(condition -> condition == null ? "" : String.valueOf(condition)).collect(Collectors.joining(FILTER_DELIMITER));
+    }
+
+    /**
+     * 검색 키워드 정규화 (앞뒤 공백 제거 및 소문자 변환)
+     * 검색 쿼리는 앞뒤 공백을 제거한 키워드로 조회하고, 대소문자를 구분하지 않는 collation 으로 비교하므로 같은 개수를 공유
+     */
+    public static String keyword(String keyword) {
+        return keyword == null ? "" : keyword.trim().toLowerCase(Locale.ROOT);
+    }
+
+    @SuppressWarnings("unchecked")
+    public int getPagingCount(PagingCountType pagingCountType, String scope, String filter, IntSupplier countLoader) {
+        String countKeyPrefix = String.format(RedisTemplateKey.PAGING_COUNT, pagingCountType.key(), scope);
+        String filterHash = DigestUtils.md5DigestAsHex(filter.getBytes(StandardCharsets.UTF_8));
+        String version;
+
+        try {
+            List<String> versionAndCount = stringRedisTemplate.execute(GET_PAGING_COUNT_SCRIPT,
+                    Collections.singletonList(String.format(RedisTemplateKey.PAGING_COUNT_VERSION, scope)), countKeyPrefix, filterHash);
+            version = versionAndCount.get(0);
+
+            if (versionAndCount.size() > 1 && versionAndCount.get(1) != null) {
+                return Integer.parseInt(versionAndCount.get(1));
+            }
+        } catch (Exception e) {
+            log.error("[PagingCountRedisTemplateService:getPagingCount] error =>", e);
+            return countLoader.getAsInt();
+        }
+
+        int count = countLoader.getAsInt();
+
+        try {
+            stringRedisTemplate.opsForValue().set(countKeyPrefix + version + ":" + filterHash, String.valueOf(count), RedisTemplateKey.PAGING_COUNT_TTL);
+        } catch (Exception e) {
+            log.error("[PagingCountRedisTemplateService:getPagingCount] error =>", e);
+        }
+        return count;
+    }
+
+    // 블로그 게시글 변경 시에, 해당 블로그 및 전체(메인) 검색 개수를 무효화
+    public void increaseBlogVersion(long blogId) {
+        increaseVersion(blogScope(blogId));
+        increaseVersion(RedisTemplateKey.PAGING_COUNT_MAIN_SCOPE);
+    }
+
+    /**
+     * 범위의 버전을 올려 캐싱된 개수를 무효화
+     * (커밋 전에 올리면 다른 요청이 커밋 전 데이터로 새 버전의 개수를 저장할 수 있으므로 커밋 이후에 수행)
+     */
+    public void increaseVersion(String scope) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    increase(scope);
+                }
+            });
+        } else {
+            increase(scope);
+        }
+    }
+
+    private void increase(String scope) {
+        try {
+            stringRedisTemplate.opsForValue().increment(String.format(RedisTemplateKey.PAGING_COUNT_VERSION, scope));
+        } catch (Exception e) {
+            log.error("[PagingCountRedisTemplateService:increase] scope:{}, error =>", scope, e);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.service.util.redis.service.paging;
+
+// 페이지네이션 전체 개수 조회 유형 (캐시 키 구분용)
+public enum PagingCountType {
+    POST_TOTAL,
+    POST_CATEGORY,
+    POST_KEYWORD,
+    POST_TAG_KEYWORD,
+    MAIN_POST_KEYWORD,
+    MUSIC_SEARCH;
+
+    public String key() {
+        return name().toLowerCase().replace('_', '-');
+    }
+}
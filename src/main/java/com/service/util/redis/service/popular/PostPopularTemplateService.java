@@ -1,79 +1,139 @@
 package com.service.util.redis.service.popular;
 
 import com.service.config.app.AppConfig;
-import com.service.core.post.dto.PostDetailDto;
-import com.service.core.post.dto.PostOverviewDto;
-import com.service.core.post.service.PostService;
-import com.service.util.domain.SortType;
+import com.service.core.post.repository.mapper.PostMapper;
+import com.service.util.redis.key.RedisTemplateKey;
 import com.service.util.redis.service.like.PostLikeRedisTemplateService;
 import com.service.util.redis.service.view.PostViewRedisTemplateService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.text.SimpleDateFormat;
-import java.time.LocalDateTime;
+import java.time.Duration;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * 블로그별 인기글 ZSET("post-popular:{blogId}", postId : 조회수 + 좋아요 수)
+ * 점수는 조회/좋아요 시에 Lua 스크립트에서 ZINCRBY 로 갱신되고, 삭제된 게시글은 ZREM 으로 제외
+ */
 @Service
 @Slf4j
 @Transactional
 @RequiredArgsConstructor
 public class PostPopularTemplateService {
+    private static final int REBUILD_BATCH_SIZE = 500;
+    private static final String POST_POPULAR_BUILDING = "building:";
+    private static final Duration POST_POPULAR_BUILD_TIMEOUT = Duration.ofMinutes(5);
+
+    // KEYS: 조회수 해시, 인기글 ZSET / ARGV: (postId, 인기글 member, likers 키) 반복 → 현재 조회수 + 좋아요 수로 점수를 원자적으로 설정
+    private static final RedisScript<Long> REBUILD_POPULAR_POST_SCRIPT = RedisScript.of(
+            "for i = 1, #ARGV, 3 do " +
+                    "  local view = tonumber(redis.call('HGET', KEYS[1], ARGV[i])) or 0 " +
+                    "  redis.call('ZADD', KEYS[2], view + redis.call('ZCARD', ARGV[i + 2]), ARGV[i + 1]) " +
+                    "end " +
+                    "return #ARGV / 3", Long.class);
+
     private final PostLikeRedisTemplateService postLikeRedisTemplateService;
     private final PostViewRedisTemplateService postViewRedisTemplateService;
-    private final PostService postService;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final PostMapper postMapper;
 
     private final AppConfig appConfig;
 
-    public List<Long> getPopularPost(long blogId) throws Exception {
-        List<Long> postViewIdSet = postViewRedisTemplateService.getPostViewIdSet(blogId);
-        List<Long> postLikeIdSet = postLikeRedisTemplateService.getPostLikeIdSet(blogId);
-        Set<Long> popularIdSet = new HashSet<>();
-        List<SortType<Long, Long, String>> sortTypes = new ArrayList<>();
+    private final Set<Long> initializedBlogIds = ConcurrentHashMap.newKeySet();
+
+    public List<Long> getPopularPost(long blogId) {
+        initializePopularPost(blogId);
+        Set<String> popularMembers = stringRedisTemplate.opsForZSet().reverseRange(String.format(RedisTemplateKey.POST_POPULAR, blogId), 0, appConfig.getRecentAndPopular_post_count() - 1);
+        List<Long> popularPostIds = new ArrayList<>();
+
+        if (popularMembers != null) {
+            for (String popularMember : popularMembers) {
+                popularPostIds.add(Long.parseLong(popularMember));
+            }
+        }
+        return popularPostIds;
+    }
 
-        for (Long postId : postViewIdSet) {
-            popularIdSet.add(postId);
+    // 게시글 삭제 시에, 인기글 목록에서 제외
+    public void deletePopularPost(long blogId, long postId) {
+        try {
+            stringRedisTemplate.opsForZSet().remove(String.format(RedisTemplateKey.POST_POPULAR, blogId), String.format(RedisTemplateKey.POST_POPULAR_MEMBER, postId));
+        } catch (Exception e) {
+            log.error("[PostPopularTemplateService:deletePopularPost] error =>", e);
         }
+    }
 
-        for (Long postId : postLikeIdSet) {
-            popularIdSet.add(postId);
+    // 블로그 삭제 | 회원탈퇴 시에, 해당 블로그의 인기글 정보 삭제
+    public void deleteBlogPopularPost(long blogId) {
+        try {
+            stringRedisTemplate.delete(Arrays.asList(
+                    String.format(RedisTemplateKey.POST_POPULAR, blogId),
+                    String.format(RedisTemplateKey.POST_POPULAR_INITIALIZED, blogId)));
+            initializedBlogIds.remove(blogId);
+        } catch (Exception e) {
+            log.error("[PostPopularTemplateService:deleteBlogPopularPost] error =>", e);
         }
+    }
 
-        for (Long popularId : popularIdSet) {
-            int postLikeCount = postLikeRedisTemplateService.getPostLikeCount(popularId, blogId);
-            long postViewCount = postViewRedisTemplateService.getPostViewCount(popularId, blogId);
-            if (!postService.isDeletedPost(popularId)) {
-                PostOverviewDto postOverviewDto = postService.findPostOverViewDtoById(popularId);
-                sortTypes.add(SortType.from(popularId, postLikeCount + postViewCount, postOverviewDto.getRegisterTime()));
-            }
+    /**
+     * 인기글 ZSET 도입 이전의 조회수/좋아요 정보로 블로그당 1회 점수를 구성
+     * (SETNX 로 선점한 노드만 구성하고, 구성이 끝난 이후에만 노드별로 캐싱하여 이후 요청에서는 확인 비용 없음)
+     */
+    private void initializePopularPost(long blogId) {
+        if (initializedBlogIds.contains(blogId)) {
+            return;
         }
 
-        Collections.sort(sortTypes, (o1, o2) -> {
+        String initializedKey = String.format(RedisTemplateKey.POST_POPULAR_INITIALIZED, blogId);
+        Boolean acquired = stringRedisTemplate.opsForValue().setIfAbsent(initializedKey, POST_POPULAR_BUILDING + System.currentTimeMillis(), POST_POPULAR_BUILD_TIMEOUT);
+
+        if (Boolean.TRUE.equals(acquired)) {
             try {
-                if (o1.getSort1() == o2.getSort1()) {
-                    SimpleDateFormat simpleDateFormat = new SimpleDateFormat("yyyy-MM-dd hh:mm:ss");
-                    Date o1Date = new Date(simpleDateFormat.parse(o1.getSort2()).getTime());
-                    Date o2Date = new Date(simpleDateFormat.parse(o2.getSort2()).getTime());
-
-                    if (o1Date.getTime() > o2Date.getTime()) {
-                        return -1;
-                    } else if (o1Date.getTime() == o2Date.getTime()) {
-                        return 0;
-                    } else {
-                        return 1;
-                    }
-                } else {
-                    return Long.compare(o2.getSort1(), o1.getSort1());
-                }
+                rebuildPopularPost(blogId);
             } catch (Exception e) {
-                log.error(e.getMessage(), e);
-                return 0;
+                stringRedisTemplate.delete(initializedKey);
+                throw e;
             }
-        });
+            stringRedisTemplate.opsForValue().set(initializedKey, String.valueOf(System.currentTimeMillis()));
+            initializedBlogIds.add(blogId);
+            return;
+        }
 
-        return sortTypes.stream().map(SortType::getV).limit(appConfig.getRecentAndPopular_post_count()).collect(Collectors.toList());
+        // 다른 노드가 구성 중이면 현재 ZSET 으로 응답하고, 구성이 끝난 것을 확인한 이후에만 캐싱
+        String initialized = stringRedisTemplate.opsForValue().get(initializedKey);
+
+        if (initialized != null && !initialized.startsWith(POST_POPULAR_BUILDING)) {
+            initializedBlogIds.add(blogId);
+        }
+    }
+
+    private void rebuildPopularPost(long blogId) {
+        Set<Long> postIds = new HashSet<>(postViewRedisTemplateService.getPostViewCountMap(blogId).keySet());
+        postIds.addAll(postLikeRedisTemplateService.getPostLikeIdSet(blogId));
+
+        if (postIds.isEmpty()) {
+            return;
+        }
+
+        List<Long> undeletePostIds = postMapper.findUndeletePostIdsByIds(blogId, postIds);
+        List<String> keys = Arrays.asList(String.format(RedisTemplateKey.POST_VIEW_COUNT, blogId), String.format(RedisTemplateKey.POST_POPULAR, blogId));
+
+        // 점수는 스크립트 안에서 카운터를 다시 읽어 덮어쓰므로, 구성 중에 반영된 조회/좋아요(ZINCRBY)가 유실되거나 중복되지 않음
+        for (int from = 0; from < undeletePostIds.size(); from += REBUILD_BATCH_SIZE) {
+            List<String> args = new ArrayList<>();
+
+            for (Long postId : undeletePostIds.subList(from, Math.min(from + REBUILD_BATCH_SIZE, undeletePostIds.size()))) {
+                args.add(String.valueOf(postId));
+                args.add(String.format(RedisTemplateKey.POST_POPULAR_MEMBER, postId));
+                args.add(String.format(RedisTemplateKey.POST_LIKERS, blogId, postId));
+            }
+            stringRedisTemplate.execute(REBUILD_POPULAR_POST_SCRIPT, keys, args.toArray());
+        }
+        log.info("[PostPopularTemplateService:rebuildPopularPost] blogId:{}, size:{}", blogId, undeletePostIds.size());
     }
 }
@@ -0,0 +1,35 @@
+package com.service.util.redis.service.sequence;
+
+import com.service.core.post.repository.mapper.PostMapper;
+import com.service.util.redis.key.RedisTemplateKey;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.Collections;
+
+/**
+ * 블로그별 게시글 순번(seq) 발급
+ * "post-seq:{blogId}" 를 INCR 하여 동시에 작성해도 순번이 겹치지 않고, 키가 없거나(유실) DB 의 최대 순번보다 작으면 최대 순번부터 다시 발급
+ */
+@Service
+@RequiredArgsConstructor
+public class PostSeqRedisTemplateService {
+    // KEYS: 순번 키 / ARGV: DB 의 최대 순번 → 발급된 순번
+    private static final RedisScript<Long> ALLOCATE_POST_SEQ_SCRIPT = RedisScript.of(
+            "local current = tonumber(redis.call('GET', KEYS[1]) or '0') " +
+                    "if current < tonumber(ARGV[1]) then " +
+                    "  redis.call('SET', KEYS[1], ARGV[1]) " +
+                    "end " +
+                    "return redis.call('INCR', KEYS[1])", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final PostMapper postMapper;
+
+    public long allocatePostSeq(long blogId) {
+        Long maxPostSeq = postMapper.findMaxPostSeq(blogId);
+        return stringRedisTemplate.execute(ALLOCATE_POST_SEQ_SCRIPT,
+                Collections.singletonList(String.format(RedisTemplateKey.POST_SEQ, blogId)), String.valueOf(maxPostSeq == null ? 0 : maxPostSeq));
+    }
+}
@@ -0,0 +1,54 @@
+package com.service.util.redis.service.statistics;
+
+import com.service.core.post.dto.PostStatisticsDto;
+import com.service.util.redis.key.RedisTemplateKey;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 목록의 조회수(HMGET "post-view-count:{blogId}")와 좋아요 수(ZCARD "post-likers:{blogId}:{postId}")를 한 번의 파이프라인으로 조회
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class PostStatisticsRedisTemplateService {
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public Map<Long, PostStatisticsDto> getPostStatistics(long blogId, List<Long> postIds) {
+        Map<Long, PostStatisticsDto> postStatisticsMap = new HashMap<>();
+
+        if (postIds.isEmpty()) {
+            return postStatisticsMap;
+        }
+
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringRedisConnection = (StringRedisConnection) connection;
+            stringRedisConnection.hMGet(String.format(RedisTemplateKey.POST_VIEW_COUNT, blogId), postIds.stream().map(String::valueOf).toArray(String[]::new));
+
+            for (Long postId : postIds) {
+                stringRedisConnection.zCard(String.format(RedisTemplateKey.POST_LIKERS, blogId, postId));
+            }
+            return null;
+        });
+        List<String> viewCounts = (List<String>) results.get(0);
+
+        for (int i = 0; i < postIds.size(); i++) {
+            String viewCount = viewCounts.get(i);
+            Long likeCount = (Long) results.get(i + 1);
+
+            postStatisticsMap.put(postIds.get(i), PostStatisticsDto.builder()
+                    .viewCount(viewCount == null ? 0 : Long.parseLong(viewCount))
+                    .likeCount(likeCount == null ? 0 : likeCount)
+                    .build());
+        }
+        return postStatisticsMap;
+    }
+}
@@ -1,69 +1,239 @@
 package com.service.util.redis.service.view;
 
+import com.service.core.views.domain.BlogVisitDelta;
+import com.service.core.views.domain.BlogVisitKey;
 import com.service.core.views.domain.BlogVisitors;
-import com.service.util.json.JsonUtil;
+import com.service.core.views.dto.BlogVisitHistoryDto;
+import com.service.util.BlogUtil;
 import com.service.util.redis.key.RedisTemplateKey;
+import com.service.util.redis.service.common.CommonRedisService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 /**
  * 집계 방식: 로그인:(사용자 id + blogId), 비로그인: (ip, browser, etc...) 정보 조합
+ * 방문자 수는 블로그/일자별 HyperLogLog(PFADD/PFCOUNT)로 고정 메모리에서 집계하고, 방문 횟수는 정수 카운터로 원자적으로 증가
  */
 @Service
+@Slf4j
 @Transactional
 @RequiredArgsConstructor
 public class BlogViewRedisTemplateService {
-    private final RedisTemplate redisTemplate;
+    private static final String DAY_KEY_PATTERN = "yyyyMMdd";
+    private static final int MIGRATION_SCAN_BATCH_SIZE = 100;
 
-    private final JsonUtil jsonUtil;
+    // KEYS: 일자별 방문자(HLL), 일자별 방문 횟수, 누적 통계 / ARGV: 일자별 키 TTL(초), totalVisitors 필드, totalViews 필드, 방문 횟수, visitorId...
+    // 새로운 방문자인지는 방문자별 PFADD 결과로 판단 (여러 요소를 한 번에 PFADD 하면 추가된 개수를 알 수 없음)
+    private static final RedisScript<Long> VISIT_BLOG_SCRIPT = RedisScript.of(
+            "local added = 0 " +
+                    "for i = 5, #ARGV do added = added + redis.call('PFADD', KEYS[1], ARGV[i]) end " +
+                    "redis.call('EXPIRE', KEYS[1], ARGV[1]) " +
+                    "redis.call('INCRBY', KEYS[2], ARGV[4]) " +
+                    "redis.call('EXPIRE', KEYS[2], ARGV[1]) " +
+                    "if added > 0 then redis.call('HINCRBY', KEYS[3], ARGV[2], added) end " +
+                    "redis.call('HINCRBY', KEYS[3], ARGV[3], ARGV[4]) " +
+                    "return added", Long.class);
+
+    // 구버전 JSON(BlogVisitors) 값의 누적 방문자/방문 횟수를 누적 통계 해시로 옮기고 삭제
+    private static final RedisScript<Long> MIGRATE_LEGACY_BLOG_VISITORS_SCRIPT = RedisScript.of(
+            "local legacy = redis.call('GET', KEYS[1]) " +
+                    "if legacy then " +
+                    "  local ok, blogVisitors = pcall(cjson.decode, legacy) " +
+                    "  if ok and type(blogVisitors) == 'table' then " +
+                    "    redis.call('HINCRBY', KEYS[2], ARGV[1], (tonumber(blogVisitors['todayVisitors']) or 0) + (tonumber(blogVisitors['totalVisitors']) or 0)) " +
+                    "    redis.call('HINCRBY', KEYS[2], ARGV[2], (tonumber(blogVisitors['todayViews']) or 0) + (tonumber(blogVisitors['totalViews']) or 0)) " +
+                    "  end " +
+                    "end " +
+                    "return redis.call('DEL', KEYS[1])", Long.class);
+
+    // KEYS: 일자별 방문자(HLL), 일자별 방문 횟수, 방문 이력 / ARGV: yyyyMMdd, 최대 보관 일수
+    // HSETNX 로 기록하므로 여러 노드에서 같은 일자를 중복 처리해도 결과가 같음, 최대 보관 일수를 넘으면 오래된 일자부터 삭제
+    private static final RedisScript<Long> RECORD_BLOG_VISIT_HISTORY_SCRIPT = RedisScript.of(
+            "local visitors = redis.call('PFCOUNT', KEYS[1]) " +
+                    "local views = tonumber(redis.call('GET', KEYS[2]) or '0') " +
+                    "local recorded = redis.call('HSETNX', KEYS[3], ARGV[1], visitors .. ',' .. views) " +
+                    "local overflow = redis.call('HLEN', KEYS[3]) - tonumber(ARGV[2]) " +
+                    "if recorded == 1 and overflow > 0 then " +
+                    "  local days = redis.call('HKEYS', KEYS[3]) " +
+                    "  table.sort(days) " +
+                    "  for i = 1, overflow do redis.call('HDEL', KEYS[3], days[i]) end " +
+                    "end " +
+                    "return recorded", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final CommonRedisService commonRedisService;
 
     /**
-     * @param blogId    (id + emailHash + blogId) => hashCode
-     * @param visitorId 로그인(ip + user-agent(브라우저) + logged-in_ + email) hash | 비로그인(ip + user-agent(브라우저) + not-logged-in) => hashCode
+     * 쓰기 버퍼에 누적된 (블로그, 일자)별 방문 정보를 파이프라인으로 한 번에 반영
+     * blogId: (id + emailHash + blogId) => hashCode
+     * visitorId: 로그인(ip + user-agent(브라우저) + logged-in_ + email) hash | 비로그인(ip + user-agent(브라우저) + not-logged-in) => hashCode
+     *
+     * @return 반영에 실패한 키 목록 (나머지 키는 이미 반영되었으므로 실패한 키만 다시 누적해야 중복 반영되지 않음)
      */
-    public void visitBlog(int blogId, int visitorId) throws Exception {
-        BlogVisitors blogVisitors = getBlogVisitors(blogId);
-
-        if (blogVisitors != null) {
-            Set<Integer> visitorSet = blogVisitors.getVisitorSet();
-
-            if (!visitorSet.contains(visitorId)) {
-                visitorSet.add(visitorId);
-                blogVisitors.incrementTodayVisitors();
-            }
-        } else {
-            blogVisitors = BlogVisitors.builder()
-                    .visitorSet(new HashSet<>())
-                    .build();
-            blogVisitors.getVisitorSet().add(visitorId);
-            blogVisitors.incrementTodayVisitors();
-        }
-        blogVisitors.incrementTodayViews();
-        writeBlogVisitorsOperation(String.format(RedisTemplateKey.BLOG_VISITORS_COUNT, blogId), blogVisitors);
+    public Set<BlogVisitKey> flushBlogVisits(Map<BlogVisitKey, BlogVisitDelta> blogVisitDeltas) {
+        String dailyVisitTtl = String.valueOf(RedisTemplateKey.BLOG_DAILY_VISIT_TTL.getSeconds());
+        List<BlogVisitKey> blogVisitKeyList = new ArrayList<>(blogVisitDeltas.size());
+        List<String[]> keysAndArgsList = new ArrayList<>(blogVisitDeltas.size());
+
+        blogVisitDeltas.forEach((blogVisitKey, blogVisitDelta) -> {
+            List<String> keysAndArgs = new ArrayList<>(7 + blogVisitDelta.getVisitorIds().size());
+            keysAndArgs.add(String.format(RedisTemplateKey.BLOG_DAILY_VISITORS, blogVisitKey.getBlogId(), blogVisitKey.getDay()));
+            keysAndArgs.add(String.format(RedisTemplateKey.BLOG_DAILY_VIEWS, blogVisitKey.getBlogId(), blogVisitKey.getDay()));
+            keysAndArgs.add(String.format(RedisTemplateKey.BLOG_VISIT_STATS, blogVisitKey.getBlogId()));
+            keysAndArgs.add(dailyVisitTtl);
+            keysAndArgs.add(RedisTemplateKey.BLOG_TOTAL_VISITORS_FIELD);
+            keysAndArgs.add(RedisTemplateKey.BLOG_TOTAL_VIEWS_FIELD);
+            keysAndArgs.add(String.valueOf(blogVisitDelta.getViews()));
+            blogVisitDelta.getVisitorIds().forEach(visitorId -> keysAndArgs.add(String.valueOf(visitorId)));
+            blogVisitKeyList.add(blogVisitKey);
+            keysAndArgsList.add(keysAndArgs.toArray(new String[0]));
+        });
+
+        Set<BlogVisitKey> failedBlogVisitKeySet = new HashSet<>();
+        commonRedisService.executePipelinedScript(VISIT_BLOG_SCRIPT, ReturnType.INTEGER, 3, keysAndArgsList)
+                .forEach(index -> failedBlogVisitKeySet.add(blogVisitKeyList.get(index)));
+        return failedBlogVisitKeySet;
     }
 
-    public BlogVisitors getBlogVisitors(int blogId) throws Exception {
-        ValueOperations<String, Object> blogVisitorsValueOperations = getBlogVisitorsOperation();
-        return jsonUtil.readClzValue(String.valueOf(blogVisitorsValueOperations.get(String.format(RedisTemplateKey.BLOG_VISITORS_COUNT, blogId))), BlogVisitors.class);
+    /**
+     * 해당 일자에 방문 기록이 있는 블로그의 방문자 수/방문 횟수를 방문 이력("blog-visit-history:{blogId}")에 기록
+     * 일자별 키는 TTL 로 만료되므로, 만료 전에 SCAN 으로 batchSize 씩 나누어 파이프라인으로 기록
+     */
+    public int recordBlogVisitHistory(String day, int batchSize, int historyDays) {
+        String recordScript = RECORD_BLOG_VISIT_HISTORY_SCRIPT.getScriptAsString();
+        String dailyViewsPrefix = RedisTemplateKey.BLOG_DAILY_VIEWS_DAY_PATTERN.substring(0, RedisTemplateKey.BLOG_DAILY_VIEWS_DAY_PATTERN.indexOf('*'));
+        AtomicInteger recordedCount = new AtomicInteger();
+
+        commonRedisService.scanKeys(String.format(RedisTemplateKey.BLOG_DAILY_VIEWS_DAY_PATTERN, day), batchSize, dailyViewsKeys -> {
+            List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringRedisConnection = (StringRedisConnection) connection;
+
+                for (String dailyViewsKey : dailyViewsKeys) {
+                    int blogId = Integer.parseInt(dailyViewsKey.substring(dailyViewsPrefix.length(), dailyViewsKey.lastIndexOf(':')));
+                    stringRedisConnection.eval(recordScript, ReturnType.INTEGER, 3,
+                            String.format(RedisTemplateKey.BLOG_DAILY_VISITORS, blogId, day),
+                            dailyViewsKey,
+                            String.format(RedisTemplateKey.BLOG_VISIT_HISTORY, blogId),
+                            day,
+                            String.valueOf(historyDays));
+                }
+                return null;
+            });
+            results.forEach(recorded -> recordedCount.addAndGet((int) toLong(recorded)));
+        });
+        return recordedCount.get();
     }
 
-    // 블로그 삭제 | 회원탈퇴 시에, 해당 블로그의 방문자 정보 삭제
+    // 방문 이력 중 최근 days 일 (최신 일자 순), 보관 일수만큼만 유지되므로 한 번에 조회
+    public List<BlogVisitHistoryDto> getBlogVisitHistory(int blogId, int days) {
+        Map<String, String> history = stringRedisTemplate.<String, String>opsForHash().entries(String.format(RedisTemplateKey.BLOG_VISIT_HISTORY, blogId));
+
+        return history.entrySet().stream()
+                .sorted(Map.Entry.<String, String>comparingByKey(Comparator.reverseOrder()))
+                .limit(days)
+                .map(entry -> BlogVisitHistoryDto.from(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
+    }
+
+    // 여러 노드 중 하나만 이력 기록을 수행하도록 선점 (기록 자체는 멱등이므로 선점이 실패해도 결과는 같음)
+    public boolean tryLockBlogVisitHistory(String day) {
+        return Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(
+                String.format(RedisTemplateKey.BLOG_VISIT_HISTORY_LOCK, day), BlogUtil.nowByZoneId().toString(), RedisTemplateKey.BLOG_VISIT_HISTORY_LOCK_TTL));
+    }
+
+    public String dayKey(LocalDateTime localDateTime) {
+        return BlogUtil.formatLocalDateTimeToStrByPattern(localDateTime, DAY_KEY_PATTERN);
+    }
+
+    public BlogVisitors getBlogVisitors(int blogId) {
+        LocalDateTime now = BlogUtil.nowByZoneId();
+        String today = dayKey(now);
+        String yesterday = dayKey(now.minusDays(1));
+
+        // 오늘/어제 방문자(PFCOUNT), 오늘/어제 방문 횟수, 누적 통계를 한 번의 왕복으로 조회
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringRedisConnection = (StringRedisConnection) connection;
+            stringRedisConnection.pfCount(String.format(RedisTemplateKey.BLOG_DAILY_VISITORS, blogId, today));
+            stringRedisConnection.pfCount(String.format(RedisTemplateKey.BLOG_DAILY_VISITORS, blogId, yesterday));
+            stringRedisConnection.get(String.format(RedisTemplateKey.BLOG_DAILY_VIEWS, blogId, today));
+            stringRedisConnection.get(String.format(RedisTemplateKey.BLOG_DAILY_VIEWS, blogId, yesterday));
+            stringRedisConnection.hMGet(String.format(RedisTemplateKey.BLOG_VISIT_STATS, blogId),
+                    RedisTemplateKey.BLOG_TOTAL_VISITORS_FIELD, RedisTemplateKey.BLOG_TOTAL_VIEWS_FIELD);
+            return null;
+        });
+        List<String> stats = (List<String>) results.get(4);
+
+        return BlogVisitors.builder()
+                .todayVisitors(toLong(results.get(0)))
+                .yesterdayVisitors(toLong(results.get(1)))
+                .todayViews(toLong(results.get(2)))
+                .yesterdayViews(toLong(results.get(3)))
+                .totalVisitors(toLong(stats.get(0)))
+                .totalViews(toLong(stats.get(1)))
+                .build();
+    }
+
+    // 블로그 삭제 | 회원탈퇴 시에, 해당 블로그의 방문자 정보 삭제 (일자별 키는 TTL 로 만료되므로 오늘/어제 키만 삭제)
     public void deleteBlogVisitors(int blogId) {
-        ValueOperations<String, Object> blogVisitorsValueOperations = getBlogVisitorsOperation();
-        blogVisitorsValueOperations.getAndDelete(String.format(RedisTemplateKey.BLOG_VISITORS_COUNT, blogId));
+        LocalDateTime now = BlogUtil.nowByZoneId();
+        String today = dayKey(now);
+        String yesterday = dayKey(now.minusDays(1));
+
+        stringRedisTemplate.delete(Arrays.asList(
+                String.format(RedisTemplateKey.BLOG_VISITORS_COUNT, blogId),
+                String.format(RedisTemplateKey.BLOG_VISIT_STATS, blogId),
+                String.format(RedisTemplateKey.BLOG_VISIT_HISTORY, blogId),
+                String.format(RedisTemplateKey.BLOG_DAILY_VISITORS, blogId, today),
+                String.format(RedisTemplateKey.BLOG_DAILY_VISITORS, blogId, yesterday),
+                String.format(RedisTemplateKey.BLOG_DAILY_VIEWS, blogId, today),
+                String.format(RedisTemplateKey.BLOG_DAILY_VIEWS, blogId, yesterday)));
     }
 
-    private void writeBlogVisitorsOperation(String key, Object value) throws Exception {
-        getBlogVisitorsOperation().set(key, jsonUtil.writeValueAsString(value));
+    // 구버전 JSON 방문자 정보를 누적 통계로 1회 이관 (이관이 끝난 키는 삭제)
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateLegacyBlogVisitors() {
+        try {
+            commonRedisService.scanKeys(RedisTemplateKey.BLOG_VISITORS_COUNT_PATTERN, MIGRATION_SCAN_BATCH_SIZE, legacyKeys -> {
+                for (String legacyKey : legacyKeys) {
+                    int blogId = Integer.parseInt(legacyKey.substring(legacyKey.indexOf(':') + 1));
+                    stringRedisTemplate.execute(MIGRATE_LEGACY_BLOG_VISITORS_SCRIPT,
+                            Arrays.asList(legacyKey, String.format(RedisTemplateKey.BLOG_VISIT_STATS, blogId)),
+                            RedisTemplateKey.BLOG_TOTAL_VISITORS_FIELD,
+                            RedisTemplateKey.BLOG_TOTAL_VIEWS_FIELD);
+                }
+            });
+        } catch (Exception e) {
+            log.error("[BlogViewRedisTemplateService:migrateLegacyBlogVisitors] error =>", e);
+        }
     }
 
-    private ValueOperations<String, Object> getBlogVisitorsOperation() {
-        return redisTemplate.opsForValue();
+    private long toLong(Object value) {
+        if (value == null) {
+            return 0;
+        } else if (value instanceof Long) {
+            return (Long) value;
+        }
+        return Long.parseLong(String.valueOf(value));
     }
 }
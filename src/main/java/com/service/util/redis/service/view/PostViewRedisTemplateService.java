@@ -1,87 +1,106 @@
 package com.service.util.redis.service.view;
 
 
-import com.service.core.views.domain.PostView;
-import com.service.util.json.JsonUtil;
+import com.service.core.views.domain.PostViewKey;
 import com.service.util.redis.key.RedisTemplateKey;
+import com.service.util.redis.service.common.CommonRedisService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.ReturnType;
 import org.springframework.data.redis.core.HashOperations;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+/**
+ * 조회수는 "post-view-count:{blogId}" 해시에 postId : 조회수(정수) 형태로 저장하고 HINCRBY 로 원자적으로 증가
+ * (트랜잭션 지원이 켜진 redisTemplate 은 MULTI 안에서 결과를 반환하지 않으므로 StringRedisTemplate 사용)
+ */
 @Service
 @Slf4j
 @Transactional
 @RequiredArgsConstructor
 public class PostViewRedisTemplateService {
-    private final RedisTemplate redisTemplate;
-
-    private final JsonUtil jsonUtil;
-
-    public long getPostViewCount(long postId, long blogId) throws Exception {
-        String postViewKey = String.format(RedisTemplateKey.POST_VIEWS, blogId);
-        PostView postView = jsonUtil.readClzValue(getPostViewHashOperation(postViewKey, postId), PostView.class);
-        return postView == null ? 0 : postView.getView();
+    private static final int MIGRATION_SCAN_BATCH_SIZE = 100;
+
+    // 구버전 JSON(PostView) 해시를 정수 카운터 해시로 옮기고 삭제 (키 단위로 원자적 수행 → 여러 노드에서 동시에 실행해도 중복 이관 없음)
+    private static final RedisScript<Long> MIGRATE_LEGACY_POST_VIEW_SCRIPT = RedisScript.of(
+            "local fields = redis.call('HGETALL', KEYS[1]) " +
+                    "local migrated = 0 " +
+                    "for i = 1, #fields, 2 do " +
+                    "  local ok, postView = pcall(cjson.decode, fields[i + 1]) " +
+                    "  if ok and type(postView) == 'table' and tonumber(postView['view']) then " +
+                    "    redis.call('HINCRBY', KEYS[2], fields[i], tonumber(postView['view'])) " +
+                    "    migrated = migrated + 1 " +
+                    "  end " +
+                    "end " +
+                    "redis.call('DEL', KEYS[1]) " +
+                    "return migrated", Long.class);
+
+    // KEYS: 조회수 해시, 인기글 ZSET / ARGV: postId, 인기글 member, 증가량 → 증가된 조회수
+    private static final RedisScript<Long> VIEW_POST_SCRIPT = RedisScript.of(
+            "local view = redis.call('HINCRBY', KEYS[1], ARGV[1], ARGV[3]) " +
+                    "redis.call('ZINCRBY', KEYS[2], ARGV[3], ARGV[2]) " +
+                    "return view", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final CommonRedisService commonRedisService;
+
+    public long getPostViewCount(long postId, long blogId) {
+        String postViewCount = getPostViewHashOperation().get(String.format(RedisTemplateKey.POST_VIEW_COUNT, blogId), String.valueOf(postId));
+        return postViewCount == null ? 0 : Long.parseLong(postViewCount);
     }
 
-    public List<Long> getPostViewIdSet(long blogId) {
-        String postViewKey = String.format(RedisTemplateKey.POST_VIEWS, blogId);
-        HashOperations<String, String, Object> postViewHashOperations = getPostViewHashOperation();
-        List<Long> postIdSet = new ArrayList<>();
-
-        for (String postId : postViewHashOperations.keys(postViewKey)) {
-            try {
-                PostView postView = jsonUtil.readClzValue(getPostViewHashOperation(postViewKey, postId), PostView.class);
-
-                if (postView == null) {
-                    continue;
-                }
-
-                postIdSet.add(Long.parseLong(postId));
-            } catch (Exception e) {
-                log.error("[PostViewRedisTemplateService:getPostViewIdSet] error:{}", e);
-            }
-        }
-
-        return postIdSet;
+    /**
+     * 쓰기 버퍼에 누적된 조회수를 조회수 해시/인기글 ZSET 에 파이프라인으로 한 번에 반영
+     *
+     * @return 반영에 실패한 키 목록 (나머지 키는 이미 반영되었으므로 실패한 키만 다시 누적해야 중복 반영되지 않음)
+     */
+    public Set<PostViewKey> flushPostViews(Map<PostViewKey, Long> postViewDeltas) {
+        List<PostViewKey> postViewKeyList = new ArrayList<>(postViewDeltas.size());
+        List<String[]> keysAndArgsList = new ArrayList<>(postViewDeltas.size());
+
+        postViewDeltas.forEach((postViewKey, delta) -> {
+            postViewKeyList.add(postViewKey);
+            keysAndArgsList.add(new String[]{
+                    String.format(RedisTemplateKey.POST_VIEW_COUNT, postViewKey.getBlogId()),
+                    String.format(RedisTemplateKey.POST_POPULAR, postViewKey.getBlogId()),
+                    String.valueOf(postViewKey.getPostId()),
+                    String.format(RedisTemplateKey.POST_POPULAR_MEMBER, postViewKey.getPostId()),
+                    String.valueOf(delta)});
+        });
+
+        Set<PostViewKey> failedPostViewKeySet = new HashSet<>();
+        commonRedisService.executePipelinedScript(VIEW_POST_SCRIPT, ReturnType.INTEGER, 2, keysAndArgsList)
+                .forEach(index -> failedPostViewKeySet.add(postViewKeyList.get(index)));
+        return failedPostViewKeySet;
     }
 
-    public PostView viewPost(long blogId, long postId) throws Exception {
-        String postViewKey = String.format(RedisTemplateKey.POST_VIEWS, blogId);
-        HashOperations<String, String, Object> postViewHashOperations = getPostViewHashOperation();
-        PostView postView = jsonUtil.readClzValue(getPostViewHashOperation(postViewKey, postId), PostView.class);
+    public Map<Long, Long> getPostViewCountMap(long blogId) {
+        Map<Long, Long> postViewCountMap = new HashMap<>();
 
-        if (postView == null) {
-            postView = PostView.from(blogId, postId, 1);
-        } else {
-            postView.incrementView();
-        }
-
-        writePostViewHashOperation(postViewKey, String.valueOf(postId), postView);
-        return postView;
-    }
-
-    public PostView getPostView(long blogId, long postId) throws Exception {
-        String postViewKey = String.format(RedisTemplateKey.POST_VIEWS, blogId);
-        PostView postView = jsonUtil.readClzValue(getPostViewHashOperation(postViewKey, postId), PostView.class);
-
-        if (postView == null) {
-            return PostView.from(blogId, postId, 1);
-        } else {
-            return postView;
+        for (Map.Entry<String, String> postView : getPostViewHashOperation().entries(String.format(RedisTemplateKey.POST_VIEW_COUNT, blogId)).entrySet()) {
+            postViewCountMap.put(Long.parseLong(postView.getKey()), Long.parseLong(postView.getValue()));
         }
+        return postViewCountMap;
     }
 
     // 게시글 삭제 시에, 해당 게시글 조회수 정보를 삭제
     public void deletePostView(long blogId, long postId) {
         try {
-            String postViewKey = String.format(RedisTemplateKey.POST_VIEWS, blogId);
-            deletePostViewHashOperation(postViewKey, postId);
+            getPostViewHashOperation().delete(String.format(RedisTemplateKey.POST_VIEW_COUNT, blogId), String.valueOf(postId));
         } catch (Exception e) {
             log.error("[PostViewRedisTemplateService:deletePostView] error =>", e);
         }
@@ -90,27 +109,32 @@ public class PostViewRedisTemplateService {
     // 블로그 삭제 | 회원탈퇴 시에, 해당 블로거의 모든 게시글 조회수 정보 삭제
     public void deleteBlogPostView(long blogId) {
         try {
-            String postViewKey = String.format(RedisTemplateKey.POST_VIEWS, blogId);
-            HashOperations<String, String, Object> postViewHashOperations = getPostViewHashOperation();
-            postViewHashOperations.delete(postViewKey, postViewHashOperations.keys(postViewKey));
+            stringRedisTemplate.delete(Arrays.asList(
+                    String.format(RedisTemplateKey.POST_VIEW_COUNT, blogId),
+                    String.format(RedisTemplateKey.POST_VIEWS, blogId)));
         } catch (Exception e) {
             log.error("[PostViewRedisTemplateService:deleteBlogPostView] error =>", e);
         }
     }
 
-    private void writePostViewHashOperation(String key1, String key2, Object value2) throws Exception {
-        getPostViewHashOperation().put(key1, key2, jsonUtil.writeValueAsString(value2));
-    }
-
-    private String getPostViewHashOperation(Object key, Object value) {
-        return String.valueOf(getPostViewHashOperation().get(String.valueOf(key), String.valueOf(value)));
-    }
-
-    private void deletePostViewHashOperation(Object key, Object value) {
-        getPostViewHashOperation().delete(String.valueOf(key), String.valueOf(value));
+    // 구버전 JSON 조회수 정보를 정수 카운터로 1회 이관 (이관이 끝난 키는 삭제되므로 이후 기동 시에는 SCAN 만 수행)
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateLegacyPostViews() {
+        try {
+            commonRedisService.scanKeys(RedisTemplateKey.POST_VIEWS_PATTERN, MIGRATION_SCAN_BATCH_SIZE, legacyKeys -> {
+                for (String legacyKey : legacyKeys) {
+                    String blogId = legacyKey.substring(legacyKey.indexOf(':') + 1);
+                    Long migrated = stringRedisTemplate.execute(MIGRATE_LEGACY_POST_VIEW_SCRIPT,
+                            Arrays.asList(legacyKey, String.format(RedisTemplateKey.POST_VIEW_COUNT, Long.parseLong(blogId))));
+                    log.info("[PostViewRedisTemplateService:migrateLegacyPostViews] key:{}, migrated:{}", legacyKey, migrated);
+                }
+            });
+        } catch (Exception e) {
+            log.error("[PostViewRedisTemplateService:migrateLegacyPostViews] error =>", e);
+        }
     }
 
-    private HashOperations<String, String, Object> getPostViewHashOperation() {
-        return redisTemplate.opsForHash();
+    private HashOperations<String, String, String> getPostViewHashOperation() {
+        return stringRedisTemplate.opsForHash();
     }
 }
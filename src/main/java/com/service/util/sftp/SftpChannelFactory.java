@@ -0,0 +1,79 @@
+package com.service.util.sftp;
+
+import com.jcraft.jsch.ChannelSftp;
+import com.jcraft.jsch.JSch;
+import com.jcraft.jsch.Session;
+import com.service.config.sftp.SFtpConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.pool2.BasePooledObjectFactory;
+import org.apache.commons.pool2.PooledObject;
+import org.apache.commons.pool2.impl.DefaultPooledObject;
+
+import java.util.Properties;
+
+/**
+ * 인증이 끝난 SFTP 채널(세션 1개 : 채널 1개) 생성/검증/폐기
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class SftpChannelFactory extends BasePooledObjectFactory<ChannelSftp> {
+    private final SFtpConfig sFtpConfig;
+
+    @Override
+    public ChannelSftp create() throws Exception {
+        JSch jsch = new JSch();
+        Session session = jsch.getSession(sFtpConfig.getId(), sFtpConfig.getIp(), sFtpConfig.getPort());
+        session.setPassword(sFtpConfig.getPassword());
+
+        Properties config = new Properties();
+        config.put("StrictHostKeyChecking", "no");
+        session.setConfig(config);
+
+        try {
+            session.connect(getTimeout());
+            ChannelSftp channelSftp = (ChannelSftp) session.openChannel("sftp");
+            channelSftp.connect(getTimeout());
+            return channelSftp;
+        } catch (Exception e) {
+            session.disconnect();
+            throw e;
+        }
+    }
+
+    @Override
+    public PooledObject<ChannelSftp> wrap(ChannelSftp channelSftp) {
+        return new DefaultPooledObject<>(channelSftp);
+    }
+
+    // 대여/유휴 상태 확인 시에, 연결 여부와 저장 경로 stat 으로 세션 상태 확인
+    @Override
+    public boolean validateObject(PooledObject<ChannelSftp> pooledObject) {
+        ChannelSftp channelSftp = pooledObject.getObject();
+
+        try {
+            return channelSftp.isConnected()
+                    && channelSftp.getSession().isConnected()
+                    && channelSftp.stat(sFtpConfig.getDirectory()).isDir();
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void destroyObject(PooledObject<ChannelSftp> pooledObject) {
+        ChannelSftp channelSftp = pooledObject.getObject();
+
+        try {
+            Session session = channelSftp.getSession();
+            channelSftp.disconnect();
+            session.disconnect();
+        } catch (Exception e) {
+            log.error("[SftpChannelFactory:destroyObject] error =>", e);
+        }
+    }
+
+    private int getTimeout() {
+        return sFtpConfig.getTimeout() == null ? 0 : sFtpConfig.getTimeout();
+    }
+}
@@ -0,0 +1,77 @@
+package com.service.util.sftp;
+
+import com.jcraft.jsch.ChannelSftp;
+import com.jcraft.jsch.SftpException;
+import com.service.config.sftp.SFtpConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.pool2.impl.GenericObjectPool;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+
+/**
+ * SFTP 채널 풀 (작업 단위로 채널을 대여/반납하여 업로드/삭제를 병렬로 수행하고, 매 작업마다의 SSH 접속/인증을 생략)
+ * 연결이 끊긴 채널은 반납 대신 폐기하고, 유휴 채널은 주기적으로 상태 확인 및 정리
+ */
+@Slf4j
+@Component
+public class SftpChannelPool {
+    private final GenericObjectPool<ChannelSftp> channelPool;
+
+    public SftpChannelPool(SFtpConfig sFtpConfig) {
+        GenericObjectPoolConfig<ChannelSftp> poolConfig = new GenericObjectPoolConfig<>();
+        poolConfig.setMaxTotal(sFtpConfig.getPoolMaxTotal());
+        poolConfig.setMaxIdle(sFtpConfig.getPoolMaxTotal());
+        poolConfig.setMinIdle(sFtpConfig.getPoolMinIdle());
+        poolConfig.setMaxWait(Duration.ofMillis(sFtpConfig.getPoolMaxWaitMs()));
+        poolConfig.setMinEvictableIdleTime(Duration.ofMillis(sFtpConfig.getPoolIdleEvictMs()));
+        poolConfig.setTimeBetweenEvictionRuns(Duration.ofMillis(sFtpConfig.getPoolEvictIntervalMs()));
+        poolConfig.setTestOnBorrow(true);
+        poolConfig.setTestWhileIdle(true);
+        poolConfig.setJmxEnabled(false);
+        this.channelPool = new GenericObjectPool<>(new SftpChannelFactory(sFtpConfig), poolConfig);
+    }
+
+    public <T> T execute(SftpCallback<T> sftpCallback) throws Exception {
+        ChannelSftp channelSftp = channelPool.borrowObject();
+        boolean broken = false;
+
+        try {
+            return sftpCallback.doInSftp(channelSftp);
+        } catch (Exception e) {
+            broken = isBroken(channelSftp, e);
+            throw e;
+        } finally {
+            if (broken) {
+                channelPool.invalidateObject(channelSftp);
+            } else {
+                channelPool.returnObject(channelSftp);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        channelPool.close();
+    }
+
+    // 파일/경로 오류(SftpException)는 채널을 재사용하고, 연결 오류나 전송 도중 입력 스트림 오류는 채널 폐기
+    private boolean isBroken(ChannelSftp channelSftp, Exception e) {
+        if (!channelSftp.isConnected()) {
+            return true;
+        }
+
+        if (e instanceof SftpException && e.getCause() == null) {
+            int id = ((SftpException) e).id;
+            return id == ChannelSftp.SSH_FX_NO_CONNECTION || id == ChannelSftp.SSH_FX_CONNECTION_LOST;
+        }
+        return true;
+    }
+
+    @FunctionalInterface
+    public interface SftpCallback<T> {
+        T doInSftp(ChannelSftp channelSftp) throws Exception;
+    }
+}
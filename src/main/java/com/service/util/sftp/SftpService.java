@@ -1,70 +1,73 @@
 package com.service.util.sftp;
 
-import com.service.core.error.constants.ServiceExceptionMessage;
-import com.service.core.error.model.FileHandleException;
-import com.service.util.BlogUtil;
-import com.service.util.ConstUtil;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
 
-import java.time.LocalDateTime;
-import java.util.Objects;
+import java.util.*;
 
+/**
+ * 업로드는 MediaStorageService(내용 해시 기반 저장)를 사용하고, 이전 경로(type/hash/id/date/uuid)로 저장된 파일 삭제만 담당
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class SftpService {
+    // 최상위 디렉토리(images, videos)만 유지하고, 비게 된 hash/id/date 디렉토리는 정리
+    private static final int KEEP_DIRECTORY_DEPTH = 1;
+
     private final SftpUtil sftpUtil;
 
-    public String sftpFileUpload(MultipartFile multipartFile, Object hash, Object id) throws Exception {
-        if (multipartFile.getOriginalFilename().isEmpty()) {
-            throw new FileHandleException(ServiceExceptionMessage.NOT_VALID_FILE_NAME);
+    /**
+     * 파일 일괄 삭제 (경로 규칙에 맞지 않는 URL 은 삭제할 수 없으므로 로그만 남기고 제외)
+     *
+     * @param fileSrcList 파일 URL 목록
+     * @return 삭제에 실패한 URL 목록
+     * @throws Exception 연결 오류 (전체 실패)
+     */
+    public Set<String> sftpFileDelete(Collection<String> fileSrcList) throws Exception {
+        Map<String, String> pathFileSrcMap = new HashMap<>();
+
+        for (String fileSrc : fileSrcList) {
+            String path = parsedSftpFilePath(fileSrc);
+
+            if (path == null) {
+                log.warn("[SftpService:sftpFileDelete] not valid fileSrc:{}", fileSrc);
+                continue;
+            }
+            pathFileSrcMap.put(path, fileSrc);
         }
 
-        String fileSrc = sftpUtil.fileUpload(BlogUtil.getFileUUIDBySftp(multipartFile), multipartFile.getInputStream(), getDirectoryType(hash), String.valueOf(hash), String.valueOf(id), BlogUtil.formatLocalDateTimeToStrByPattern(LocalDateTime.now(), "yyyy-MM-dd"));
-        return fileSrc;
+        if (pathFileSrcMap.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        Set<String> failedFileSrcSet = new HashSet<>();
+
+        for (String failedPath : sftpUtil.removeFiles(pathFileSrcMap.keySet(), KEEP_DIRECTORY_DEPTH)) {
+            failedFileSrcSet.add(pathFileSrcMap.get(failedPath));
+        }
+        return failedFileSrcSet;
     }
 
-    public void sftpFileDelete(String fileSrc) throws Exception {
+    // "{protocol}://{host}/{type}/{hash}/{id}/{date}/{uuid}" => "{type}/{hash}/{id}/{date}/{uuid}"
+    private String parsedSftpFilePath(String fileSrc) {
         if (fileSrc == null || fileSrc.isEmpty()) {
-            throw new FileHandleException(ServiceExceptionMessage.NOT_VALID_FILE_NAME);
+            return null;
         }
 
-        String[] parsed = parsedSftpFileSrc(fileSrc);
-        sftpUtil.deleteFile(parsed[1], parsed[2], parsed[3], parsed[4], parsed[5]);
-    }
-
-    private String[] parsedSftpFileSrc(String fileSrc) {
         String[] parsed = fileSrc.split("://");
 
         if (parsed.length <= 1) {
-            throw new FileHandleException(ServiceExceptionMessage.NOT_VALID_FILE_NAME);
+            return null;
         }
 
         parsed = parsed[1].split("/");
 
         if (parsed.length < 6) {
-            throw new FileHandleException(ServiceExceptionMessage.NOT_VALID_FILE_NAME);
+            return null;
         }
 
-        return parsed;
-    }
-
-    private String getDirectoryType(Object objHash) {
-        try {
-            Integer hash = (Integer) objHash;
-
-            if (hash == ConstUtil.POST_VIDEO_HASH) {
-                return "videos";
-            } else if (hash == ConstUtil.SFTP_POST_THUMBNAIL_HASH
-                    || hash == ConstUtil.SFTP_POST_IMAGE_HASH
-                    || hash == ConstUtil.SFTP_COMMENT_IMAGE_HASH
-                    || hash == ConstUtil.SFTP_PROFILE_THUMBNAIL_HASH) {
-                return "images";
-            }
-            return ConstUtil.UNDEFINED;
-        } catch (Exception e) {
-            return ConstUtil.UNDEFINED;
-        }
+        return parsed[1] + "/" + parsed[2] + "/" + parsed[3] + "/" + parsed[4] + "/" + parsed[5];
     }
 }
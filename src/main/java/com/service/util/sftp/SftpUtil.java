@@ -1,23 +1,31 @@
 package com.service.util.sftp;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.jcraft.jsch.*;
 import com.service.config.sftp.SFtpConfig;
-import com.service.util.BlogUtil;
 import com.service.util.ConstUtil;
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.io.*;
-import java.util.Properties;
+import java.util.*;
 
 
 @Component
-@RequiredArgsConstructor
 public class SftpUtil {
-    private Session jschSession;
-    private Channel channel;
-    private ChannelSftp channelSftp;
     private final SFtpConfig sFtpConfig;
+    private final SftpChannelPool sftpChannelPool;
+
+    // 존재가 확인된 업로드 디렉토리 (업로드마다 stat/mkdir 확인 생략)
+    private final Cache<String, Boolean> knownDirectoryCache;
+
+    public SftpUtil(SFtpConfig sFtpConfig, SftpChannelPool sftpChannelPool) {
+        this.sFtpConfig = sFtpConfig;
+        this.sftpChannelPool = sftpChannelPool;
+        this.knownDirectoryCache = Caffeine.newBuilder()
+                .maximumSize(sFtpConfig.getKnownDirectoryCacheSize())
+                .build();
+    }
 
     /**
      * 파일 업로드
@@ -45,182 +53,244 @@ public class SftpUtil {
 //    }
 
     /**
-     * 파일 업로드
+     * 파일 업로드 (상위 디렉토리가 없으면 생성)
      *
-     * @param fileUUID
+     * @param path        저장 경로 (sftp 기본 디렉토리 기준 상대 경로)
      * @param inputStream
      * @throws Exception
      */
-    public String uploadFile(String fileUUID, InputStream inputStream, String type, String hash, String id, String date) throws Exception {
+    public void uploadFile(String path, InputStream inputStream) throws Exception {
         try {
-            StringBuilder dir = new StringBuilder();
-
-            // 대상폴더 경로 이동
-            dir.append(sFtpConfig.getDirectory() + "/" + type);
-            channelSftp.cd(dir.toString());
+            List<String> dirList = getParentDirectoryList(path);
+            String filePath = getAbsolutePath(path);
 
-            // hash 경로 이동&생성
-            if (!checkDir(hash)) {
-                channelSftp.mkdir(hash);
-            }
-            dir.append("/" + hash);
-            channelSftp.cd(hash);
-
-            // id 경로 이동&생성
-            if (!checkDir(id)) {
-                channelSftp.mkdir(id);
-            }
-            dir.append("/" + id);
-            channelSftp.cd(id);
-
-            // date 경로 이동&생성
-            if (!checkDir(date)) {
-                channelSftp.mkdir(date);
+            try {
+                sftpChannelPool.execute(channelSftp -> {
+                    putFile(channelSftp, inputStream, filePath, dirList);
+                    return null;
+                });
+            } catch (Exception e) {
+                deletePartialFile(filePath);
+                throw e;
             }
-            dir.append("/" + date);
-            channelSftp.cd(date);
-
-            // UUID 파일 생성
-            dir.append("/" + fileUUID);
-            channelSftp.put(inputStream, dir.toString());
-
-            return dir.substring(sFtpConfig.getDirectory().length() + 1);
-        } catch (Exception e) {
-            throw e;
         } finally {
-            close((FileInputStream) inputStream);
+            close(inputStream);
         }
     }
 
+    public boolean exists(String path) throws Exception {
+        return sftpChannelPool.execute(channelSftp -> {
+            try {
+                channelSftp.stat(getAbsolutePath(path));
+                return true;
+            } catch (SftpException sftpException) {
+                if (sftpException.id == ChannelSftp.SSH_FX_NO_SUCH_FILE) {
+                    return false;
+                }
+                throw sftpException;
+            }
+        });
+    }
+
     /**
-     * 파일 삭제
+     * 파일 이동 (대상 경로에 이미 파일이 있으면 false, 다른 노드/요청에서 빈 디렉토리가 삭제된 경우 캐시를 비우고 1회 재시도)
      *
-     * @param type     (images | videos)
-     * @param hash     (hash)
-     * @param id       (unique key)
-     * @param date     (date)
-     * @param fileUUID
+     * @param fromPath 기존 경로 (sftp 기본 디렉토리 기준 상대 경로)
+     * @param toPath   대상 경로 (sftp 기본 디렉토리 기준 상대 경로)
      * @throws Exception
      */
-    /*
-     * TODO 추후에 image/video 등과 같은 File CDN 도입, (frontend,backend) 코드 적용 전까지는 synchronized 적용해서 다음 오류를 방지하도록 한다.
-     * TODO 이후에 해당 코드는 폐기/미사용 처리 (아마도)
-     */
-    public synchronized void deleteFile(String type, String hash, String id, String date, String fileUUID) throws Exception {
-        connectSFTP();
+    public boolean rename(String fromPath, String toPath) throws Exception {
+        List<String> dirList = getParentDirectoryList(toPath);
 
-        String dir = sFtpConfig.getDirectory() + "/" + type + "/" + hash + "/" + id + "/" + date;
-        channelSftp.cd(dir);
+        return sftpChannelPool.execute(channelSftp -> {
+            makeDirectories(channelSftp, dirList);
 
-        try {
-            if (channelSftp.ls(dir + "/" + fileUUID).size() > 0) {
-                channelSftp.rm(dir + "/" + fileUUID);
-
-                if (channelSftp.ls(dir).size() <= 2) {
-                    channelSftp.rmdir(dir);
+            try {
+                channelSftp.rename(getAbsolutePath(fromPath), getAbsolutePath(toPath));
+                return true;
+            } catch (SftpException sftpException) {
+                // SFTP v3 rename 은 대상 파일이 있으면 실패
+                if (checkFile(channelSftp, getAbsolutePath(toPath))) {
+                    return false;
                 }
 
-                dir = sFtpConfig.getDirectory() + "/" + type + "/" + hash + "/" + id;
-                channelSftp.cd(dir);
-                if (channelSftp.ls(dir).size() <= 2) {
-                    channelSftp.rmdir(dir);
+                if (sftpException.id != ChannelSftp.SSH_FX_NO_SUCH_FILE) {
+                    throw sftpException;
                 }
+            }
 
-                dir = sFtpConfig.getDirectory() + "/" + type + "/" + hash;
-                channelSftp.cd(dir);
-                if (channelSftp.ls(dir).size() <= 2) {
-                    channelSftp.rmdir(dir);
-                }
+            knownDirectoryCache.invalidateAll(dirList);
+            makeDirectories(channelSftp, dirList);
 
-                dir = sFtpConfig.getDirectory() + "/" + type;
-                channelSftp.cd(dir);
-                if (channelSftp.ls(dir).size() <= 2) {
-                    channelSftp.rmdir(dir);
+            try {
+                channelSftp.rename(getAbsolutePath(fromPath), getAbsolutePath(toPath));
+                return true;
+            } catch (SftpException sftpException) {
+                if (checkFile(channelSftp, getAbsolutePath(toPath))) {
+                    return false;
                 }
+                throw sftpException;
             }
-            disconnectSFTP();
-        } catch (SftpException sftpException) {
-            throw sftpException;
-        }
+        });
     }
 
     /**
-     * SFTP 접속하기
+     * 파일 다운로드
      *
-     * @return
-     * @throws JSchException
+     * @param path         저장 경로 (sftp 기본 디렉토리 기준 상대 경로)
+     * @param outputStream
      * @throws Exception
      */
-    public void connectSFTP() throws Exception {
-        // JSch 객체를 생성
-        JSch jsch = new JSch();
-
-        // JSch 세션 객체를 생성 (사용자 이름, 접속할 호스트, 포트 전달)
-        jschSession = jsch.getSession(sFtpConfig.getId(), sFtpConfig.getIp(), sFtpConfig.getPort());
-
-        // 패스워드 설정
-        jschSession.setPassword(sFtpConfig.getPassword());
-
-        // 기타설정 적용
-        Properties config = new Properties();
-        config.put("StrictHostKeyChecking", "no");
-        jschSession.setConfig(config);
-
-        // 접속
-        jschSession.connect();
+    public void downloadFile(String path, OutputStream outputStream) throws Exception {
+        sftpChannelPool.execute(channelSftp -> {
+            channelSftp.get(getAbsolutePath(path), outputStream);
+            return null;
+        });
+    }
 
-        // sftp 채널 열기
-        channel = jschSession.openChannel("sftp");
+    // 파일만 삭제 (빈 디렉토리는 유지)
+    public void removeFile(String path) throws Exception {
+        sftpChannelPool.execute(channelSftp -> {
+            channelSftp.rm(getAbsolutePath(path));
+            return null;
+        });
+    }
 
-        // sftp 채널 연결
-        channelSftp = (ChannelSftp) channel;
-        channelSftp.connect();
+    public String getUrl(String path) {
+        return String.format(ConstUtil.SFTP_IMAGE_URL, sFtpConfig.getProtocol(), sFtpConfig.getUrl(), path);
     }
 
     /**
-     * SFTP 접속해제
+     * 파일 일괄 삭제 (채널 1개로 삭제하고, 비게 된 상위 디렉토리는 배치당 1번씩 정리)
+     *
+     * @param pathList           삭제 경로 목록 (sftp 기본 디렉토리 기준 상대 경로)
+     * @param keepDirectoryDepth 비어도 삭제하지 않을 상위 디렉토리 깊이 (1: 최상위 디렉토리(media, images 등) 유지)
+     * @return 삭제에 실패한 경로 목록 (이미 없는 파일은 삭제된 것으로 처리)
+     * @throws Exception 연결 오류 (전체 실패)
      */
-    public void disconnectSFTP() {
-        try {
-            if (channelSftp != null && channelSftp.isConnected()) {
-                channelSftp.disconnect();
+    public Set<String> removeFiles(Collection<String> pathList, int keepDirectoryDepth) throws Exception {
+        return sftpChannelPool.execute(channelSftp -> {
+            Set<String> failedPathSet = new HashSet<>();
+            Set<String> dirSet = new HashSet<>();
+
+            for (String path : pathList) {
+                try {
+                    channelSftp.rm(getAbsolutePath(path));
+                } catch (SftpException sftpException) {
+                    if (sftpException.id == ChannelSftp.SSH_FX_NO_CONNECTION || sftpException.id == ChannelSftp.SSH_FX_CONNECTION_LOST) {
+                        throw sftpException;
+                    }
+
+                    if (sftpException.id != ChannelSftp.SSH_FX_NO_SUCH_FILE) {
+                        failedPathSet.add(path);
+                        continue;
+                    }
+                }
+
+                List<String> dirList = getParentDirectoryList(path);
+                dirSet.addAll(dirList.subList(Math.min(keepDirectoryDepth, dirList.size()), dirList.size()));
             }
+            deleteEmptyDirectories(channelSftp, dirSet);
+            return failedPathSet;
+        });
+    }
+
+    // 전송 도중 실패한 경우(입력 스트림 오류, 크기 초과 등) 일부만 저장된 파일 삭제
+    private void deletePartialFile(String filePath) {
+        try {
+            sftpChannelPool.execute(channelSftp -> {
+                channelSftp.rm(filePath);
+                return null;
+            });
         } catch (Exception e) {
-            throw e;
-        } finally {
-            channelSftp = null;
+            // 파일이 생성되지 않은 경우
         }
+    }
+
+    // 업로드 경로 생성 후 파일 저장 (다른 노드/요청에서 빈 디렉토리가 삭제된 경우 캐시를 비우고 1회 재시도)
+    private void putFile(ChannelSftp channelSftp, InputStream inputStream, String filePath, List<String> dirList) throws Exception {
+        makeDirectories(channelSftp, dirList);
 
         try {
-            if (channel != null && channel.isConnected()) {
-                channel.disconnect();
+            channelSftp.put(inputStream, filePath);
+        } catch (SftpException sftpException) {
+            if (sftpException.id != ChannelSftp.SSH_FX_NO_SUCH_FILE) {
+                throw sftpException;
             }
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            channel = null;
+            knownDirectoryCache.invalidateAll(dirList);
+            makeDirectories(channelSftp, dirList);
+            channelSftp.put(inputStream, filePath);
         }
+    }
 
-        try {
-            if (jschSession != null && jschSession.isConnected()) {
-                jschSession.disconnect();
+    private void makeDirectories(ChannelSftp channelSftp, List<String> dirList) throws Exception {
+        for (String dir : dirList) {
+            if (knownDirectoryCache.getIfPresent(dir) != null) {
+                continue;
             }
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            jschSession = null;
+
+            if (!checkDir(channelSftp, dir)) {
+                try {
+                    channelSftp.mkdir(dir);
+                } catch (SftpException sftpException) {
+                    // 동시에 같은 디렉토리를 생성한 경우
+                    if (!checkDir(channelSftp, dir)) {
+                        throw sftpException;
+                    }
+                }
+            }
+            knownDirectoryCache.put(dir, Boolean.TRUE);
         }
     }
 
+    // 깊은 디렉토리부터 삭제를 시도하고(비어 있지 않으면 rmdir 실패), 삭제하지 못한 디렉토리의 상위 디렉토리는 시도하지 않음
+    private void deleteEmptyDirectories(ChannelSftp channelSftp, Set<String> dirSet) {
+        List<String> dirList = new ArrayList<>(dirSet);
+        dirList.sort(Comparator.comparingInt((String dir) -> dir.split("/").length).reversed());
+        Set<String> notEmptyDirSet = new HashSet<>();
+
+        for (String dir : dirList) {
+            if (notEmptyDirSet.contains(dir)) {
+                continue;
+            }
+
+            try {
+                knownDirectoryCache.invalidate(dir);
+                channelSftp.rmdir(dir);
+            } catch (SftpException sftpException) {
+                for (String parentDir = dir; parentDir.lastIndexOf("/") > 0; parentDir = parentDir.substring(0, parentDir.lastIndexOf("/"))) {
+                    notEmptyDirSet.add(parentDir);
+                }
+            }
+        }
+    }
+
+    // 저장 경로의 상위 디렉토리 목록 (기본 디렉토리 하위부터 순서대로의 절대 경로)
+    private List<String> getParentDirectoryList(String path) {
+        List<String> dirList = new ArrayList<>();
+        StringBuilder dir = new StringBuilder(sFtpConfig.getDirectory());
+        String[] names = path.split("/");
+
+        for (int i = 0; i < names.length - 1; i++) {
+            dir.append("/").append(names[i]);
+            dirList.add(dir.toString());
+        }
+        return dirList;
+    }
+
+    private String getAbsolutePath(String path) {
+        return sFtpConfig.getDirectory() + "/" + path;
+    }
+
     /**
-     * FileInputStream 객체 닫기
+     * InputStream 객체 닫기 (MultipartFile 메모리 파트, 스트리밍 업로드 등 FileInputStream 이 아닌 경우 포함)
      *
-     * @param fis
+     * @param inputStream
      */
-    private void close(FileInputStream fis) {
-        if (fis != null) {
+    private void close(InputStream inputStream) {
+        if (inputStream != null) {
             try {
-                fis.close();
+                inputStream.close();
             } catch (IOException e) {
                 throw new RuntimeException(e);
             }
@@ -272,7 +342,7 @@ public class SftpUtil {
         }
     }
 
-    private boolean checkDir(String dir) throws Exception {
+    private boolean checkDir(ChannelSftp channelSftp, String dir) {
         try {
             return channelSftp.stat(dir).isDir();
         } catch (Exception e) {
@@ -280,14 +350,11 @@ public class SftpUtil {
         }
     }
 
-    /*
-     * TODO 추후에 image/video 등과 같은 File CDN 도입, (frontend,backend) 코드 적용 전까지는 synchronized 적용해서 다음 오류를 방지하도록 한다.
-     * TODO 이후에 해당 코드는 폐기/미사용 처리 (아마도)
-     */
-    public synchronized String fileUpload(String fileUUID, InputStream fileInputStream, String type, String hash, String id, String date) throws Exception {
-        connectSFTP();
-        String url = String.format(ConstUtil.SFTP_IMAGE_URL, sFtpConfig.getProtocol(), sFtpConfig.getUrl(), uploadFile(fileUUID, fileInputStream, type, hash, id, date));
-        disconnectSFTP();
-        return url;
+    private boolean checkFile(ChannelSftp channelSftp, String path) {
+        try {
+            return !channelSftp.stat(path).isDir();
+        } catch (Exception e) {
+            return false;
+        }
     }
 }
@@ -0,0 +1,76 @@
+package com.service.util.upload;
+
+import com.service.config.app.AppConfig;
+import com.service.core.error.constants.ServiceExceptionMessage;
+import com.service.core.error.model.FileHandleException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.fileupload.FileItemIterator;
+import org.apache.commons.fileupload.FileItemStream;
+import org.apache.commons.fileupload.FileUploadBase;
+import org.apache.commons.fileupload.servlet.ServletFileUpload;
+import org.springframework.stereotype.Service;
+
+import javax.servlet.http.HttpServletRequest;
+import java.io.InputStream;
+
+/**
+ * multipart 요청 본문을 임시 파일/메모리에 저장하지 않고, 파일 파트를 읽는 대로 저장소에 전달
+ * (요청 본문은 한 번만 읽을 수 있으므로 컨테이너의 multipart 파싱이 일어나지 않는 경로에서만 사용, StreamingUploadConfig 참고)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StreamingMultipartService {
+    private static final long MULTIPART_HEADER_BYTES = 1024 * 1024;
+
+    private final AppConfig appConfig;
+
+    public <T> T upload(HttpServletRequest request, String fieldName, StreamingUploadHandler<T> uploadHandler) throws Exception {
+        if (!ServletFileUpload.isMultipartContent(request)) {
+            throw new FileHandleException(ServiceExceptionMessage.UPLOAD_FILE_NOT_FOUND);
+        }
+
+        // 파일 크기 제한은 UploadDigestInputStream 에서 확인하고, 요청 전체 크기는 파일 크기 + 파트 헤더 여유분으로 제한 (중단된 요청의 남은 본문을 끝없이 읽지 않도록)
+        ServletFileUpload servletFileUpload = new ServletFileUpload();
+        servletFileUpload.setSizeMax(appConfig.getMaxUploadFileSize() + MULTIPART_HEADER_BYTES);
+
+        try {
+            FileItemIterator fileItemIterator = servletFileUpload.getItemIterator(request);
+
+            while (fileItemIterator.hasNext()) {
+                FileItemStream fileItemStream = fileItemIterator.next();
+
+                if (fileItemStream.isFormField() || !fieldName.equals(fileItemStream.getFieldName())) {
+                    continue;
+                }
+
+                try (InputStream inputStream = fileItemStream.openStream()) {
+                    return upload(fileItemStream, new UploadDigestInputStream(inputStream, appConfig.getMaxUploadFileSize()), uploadHandler);
+                }
+            }
+        } catch (FileUploadBase.SizeLimitExceededException e) {
+            throw new FileHandleException(ServiceExceptionMessage.UPLOAD_FILE_SIZE_EXCEEDED);
+        }
+        throw new FileHandleException(ServiceExceptionMessage.UPLOAD_FILE_NOT_FOUND);
+    }
+
+    private <T> T upload(FileItemStream fileItemStream, UploadDigestInputStream uploadDigestInputStream, StreamingUploadHandler<T> uploadHandler) throws Exception {
+        try {
+            T result = uploadHandler.handle(new StreamingUploadFile(fileItemStream.getName(), fileItemStream.getContentType(), uploadDigestInputStream));
+            log.info("[StreamingMultipartService:upload] field:{}, size:{}, sha256:{}", fileItemStream.getFieldName(), uploadDigestInputStream.getByteCount(), uploadDigestInputStream.getChecksum());
+            return result;
+        } catch (Exception e) {
+            // 저장소 클라이언트가 입력 스트림 예외를 감싸서 던지는 경우에도 크기 초과로 응답
+            if (uploadDigestInputStream.isExceeded()) {
+                throw new FileHandleException(ServiceExceptionMessage.UPLOAD_FILE_SIZE_EXCEEDED);
+            }
+            throw e;
+        }
+    }
+
+    @FunctionalInterface
+    public interface StreamingUploadHandler<T> {
+        T handle(StreamingUploadFile streamingUploadFile) throws Exception;
+    }
+}
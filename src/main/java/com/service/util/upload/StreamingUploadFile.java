@@ -0,0 +1,15 @@
+package com.service.util.upload;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 요청 본문에서 바로 읽는 업로드 파일 (저장소로 전달되는 동안 크기/체크섬 계산)
+ */
+@Getter
+@AllArgsConstructor
+public class StreamingUploadFile {
+    private final String fileName;
+    private final String contentType;
+    private final UploadDigestInputStream inputStream;
+}
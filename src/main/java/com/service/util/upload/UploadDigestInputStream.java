@@ -0,0 +1,89 @@
+package com.service.util.upload;
+
+import com.service.core.error.constants.ServiceExceptionMessage;
+import com.service.core.error.model.FileHandleException;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 업로드 스트림을 읽는 동안 바이트 수와 SHA-256 체크섬을 계산하고, 최대 크기를 넘으면 업로드 중단
+ */
+public class UploadDigestInputStream extends FilterInputStream {
+    private final long maxBytes;
+    private final MessageDigest messageDigest;
+    private long byteCount;
+    private String checksum;
+
+    public UploadDigestInputStream(InputStream inputStream, long maxBytes) {
+        super(inputStream);
+        this.maxBytes = maxBytes;
+
+        try {
+            this.messageDigest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public int read() throws IOException {
+        int read = super.read();
+
+        if (read != -1) {
+            count(1);
+            messageDigest.update((byte) read);
+        }
+        return read;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int read = super.read(b, off, len);
+
+        if (read > 0) {
+            count(read);
+            messageDigest.update(b, off, read);
+        }
+        return read;
+    }
+
+    // 체크섬이 계산되지 않는 skip/mark 는 지원하지 않음
+    @Override
+    public long skip(long n) {
+        return 0;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    public long getByteCount() {
+        return byteCount;
+    }
+
+    public boolean isExceeded() {
+        return byteCount > maxBytes;
+    }
+
+    // 스트림을 끝까지 읽은 이후에 호출 (첫 호출 시에 계산한 값 재사용)
+    public String getChecksum() {
+        if (checksum == null) {
+            checksum = String.format("%064x", new BigInteger(1, messageDigest.digest()));
+        }
+        return checksum;
+    }
+
+    private void count(int read) {
+        byteCount += read;
+
+        if (isExceeded()) {
+            throw new FileHandleException(ServiceExceptionMessage.UPLOAD_FILE_SIZE_EXCEEDED);
+        }
+    }
+}
@@ -457,10 +457,13 @@ class HeaderController extends UtilController {
     }
 
     removeHeaderUserProfileImage() {
+        this.headerProfileImage.removeAttribute("srcset");
         this.headerProfileImage.src = this.getDefaultUserProfileThumbnail();
     }
 
+    // 이전 이미지의 축소본(srcset)이 남아 있으면 새 이미지 대신 표시되므로 삭제
     setHeaderUserProfileImage(src) {
+        this.headerProfileImage.removeAttribute("srcset");
         this.headerProfileImage.src = src;
     }
 
@@ -113,6 +113,14 @@ class UtilController {
             }
         });
 
+        // 축소본 너비 : URL => "url 160w, url 480w" (축소본 생성 전에는 빈 문자열, 원본 사용)
+        Handlebars.registerHelper('getImageSrcset', variants => {
+            if (!variants) {
+                return '';
+            }
+            return Object.keys(variants).map(width => `${variants[width]} ${width}w`).join(', ');
+        });
+
         Handlebars.registerHelper('getDefaultPostImage', image => {
             if (image === '<<<undefined>>>') {
                 return '../images/default_post_image.png';
@@ -0,0 +1,62 @@
+package com.service.config.replication;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+public class WriteTrackingConnectionTest {
+    private final Connection connection = mock(Connection.class);
+    private final Runnable onWrite = mock(Runnable.class);
+
+    @Test
+    void readOnlyTest() throws Exception {
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        given(connection.prepareStatement(anyString())).willReturn(preparedStatement);
+        given(preparedStatement.executeUpdate()).willReturn(0);
+        given(preparedStatement.execute()).willReturn(true);
+
+        Connection trackingConnection = WriteTrackingConnection.wrap(connection, onWrite);
+        trackingConnection.prepareStatement("select 1").executeQuery();
+        trackingConnection.prepareStatement("select 1").execute();
+        trackingConnection.prepareStatement("update post set title = 'a' where post_id = 0").executeUpdate();
+
+        // 조회 또는 변경된 행이 없으면 쓰기로 보지 않음
+        then(onWrite).should(never()).run();
+    }
+
+    @Test
+    void writeTest() throws Exception {
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        Statement statement = mock(Statement.class);
+        given(connection.prepareStatement(anyString())).willReturn(preparedStatement);
+        given(connection.createStatement()).willReturn(statement);
+        given(preparedStatement.executeUpdate()).willReturn(1);
+        given(statement.execute(anyString())).willReturn(false);
+        given(statement.getUpdateCount()).willReturn(2);
+
+        Connection trackingConnection = WriteTrackingConnection.wrap(connection, onWrite);
+        PreparedStatement trackingStatement = trackingConnection.prepareStatement("update post set title = 'a' where post_id = 1");
+        assertEquals(1, trackingStatement.executeUpdate());
+        trackingConnection.createStatement().execute("delete from post where post_id = 2");
+
+        // 커넥션 당 1회만 알림
+        then(onWrite).should(times(1)).run();
+    }
+
+    @Test
+    void batchTest() throws Exception {
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        given(connection.prepareStatement(anyString())).willReturn(preparedStatement);
+        given(preparedStatement.executeBatch()).willReturn(new int[]{0, Statement.SUCCESS_NO_INFO});
+
+        WriteTrackingConnection.wrap(connection, onWrite).prepareStatement("insert into post_tag values (?, ?)").executeBatch();
+
+        then(onWrite).should().run();
+    }
+}
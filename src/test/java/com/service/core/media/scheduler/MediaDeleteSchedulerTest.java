@@ -0,0 +1,116 @@
+package com.service.core.media.scheduler;
+
+import com.service.config.media.MediaStorageConfig;
+import com.service.core.media.dto.MediaDeleteTaskDto;
+import com.service.core.media.repository.mapper.MediaDeleteTaskMapper;
+import com.service.core.media.service.MediaBlobService;
+import com.service.util.media.MediaStorage;
+import com.service.util.media.MediaStorageType;
+import com.service.util.sftp.SftpService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+public class MediaDeleteSchedulerTest {
+    private static final String URL_PREFIX = "https://bucket/media/";
+
+    private final MediaStorage mediaStorage = mock(MediaStorage.class);
+    private final MediaBlobService mediaBlobService = mock(MediaBlobService.class);
+    private final MediaDeleteTaskMapper mediaDeleteTaskMapper = mock(MediaDeleteTaskMapper.class);
+    private final SftpService sftpService = mock(SftpService.class);
+    private MediaDeleteScheduler mediaDeleteScheduler;
+
+    @BeforeEach
+    void setUp() {
+        MediaStorageConfig mediaStorageConfig = new MediaStorageConfig();
+        mediaStorageConfig.setDeleteBatchSize(100);
+        mediaStorageConfig.setDeleteMaxRetry(3);
+        mediaStorageConfig.setDeleteRetryBaseSeconds(60);
+        mediaDeleteScheduler = new MediaDeleteScheduler(Collections.singletonList(mediaStorage), mediaBlobService, mediaDeleteTaskMapper, sftpService, mediaStorageConfig);
+
+        given(mediaStorage.getType()).willReturn(MediaStorageType.S3);
+        given(mediaStorage.findObjectKey(anyString())).willAnswer(invocation -> {
+            String url = invocation.getArgument(0, String.class);
+            return url.startsWith(URL_PREFIX) ? url.substring(URL_PREFIX.length()) : null;
+        });
+    }
+
+    @Test
+    void emptyQueueTest() {
+        given(mediaDeleteTaskMapper.claimMediaDeleteTasks(anyString(), any(), any(), anyInt())).willReturn(0);
+
+        mediaDeleteScheduler.deleteMedia();
+
+        then(mediaDeleteTaskMapper).should(never()).findMediaDeleteTasksByLeaseToken(anyString());
+    }
+
+    @Test
+    void claimTest() {
+        ArgumentCaptor<String> leaseTokenCaptor = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<LocalDateTime> nowCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> leaseTimeCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
+        MediaDeleteTaskDto task = task(1L, URL_PREFIX + "a.png", 0);
+        given(mediaDeleteTaskMapper.claimMediaDeleteTasks(leaseTokenCaptor.capture(), nowCaptor.capture(), leaseTimeCaptor.capture(), eq(100))).willReturn(1);
+        given(mediaDeleteTaskMapper.findMediaDeleteTasksByLeaseToken(anyString())).willReturn(Collections.singletonList(task));
+        given(mediaBlobService.release(eq(mediaStorage), anyString(), anyList())).willReturn(Collections.singletonList(task));
+
+        mediaDeleteScheduler.deleteMedia();
+
+        // 선점 후 처리하지 못하면 선점 기간(5분)이 지난 후 다시 처리, 같은 선점 토큰으로만 작업을 처리
+        String leaseToken = leaseTokenCaptor.getValue();
+        assertEquals(Duration.ofMinutes(5), Duration.between(nowCaptor.getValue(), leaseTimeCaptor.getValue()));
+        then(mediaDeleteTaskMapper).should().findMediaDeleteTasksByLeaseToken(leaseToken);
+        then(mediaBlobService).should().release(mediaStorage, leaseToken, Collections.singletonList(task));
+        then(mediaBlobService).should().deleteReleased(mediaStorage, leaseToken, Collections.singletonList(task));
+        then(mediaDeleteTaskMapper).should(never()).retryMediaDeleteTasks(anyCollection(), anyString(), any(), anyLong(), anyLong());
+    }
+
+    @Test
+    void retryTest() {
+        MediaDeleteTaskDto retryTask = task(1L, URL_PREFIX + "a.png", 0);
+        MediaDeleteTaskDto dropTask = task(2L, URL_PREFIX + "b.png", 2);
+        List<MediaDeleteTaskDto> taskList = Arrays.asList(retryTask, dropTask);
+        given(mediaDeleteTaskMapper.claimMediaDeleteTasks(anyString(), any(), any(), anyInt())).willReturn(2);
+        given(mediaDeleteTaskMapper.findMediaDeleteTasksByLeaseToken(anyString())).willReturn(taskList);
+        given(mediaBlobService.release(eq(mediaStorage), anyString(), anyList())).willReturn(taskList);
+        given(mediaBlobService.deleteReleased(eq(mediaStorage), anyString(), anyList())).willReturn(taskList);
+
+        mediaDeleteScheduler.deleteMedia();
+
+        // 최대 재시도 횟수(3) 미만이면 간격을 늘려서 재시도하고, 넘으면 대기열에서 제외
+        then(mediaDeleteTaskMapper).should().retryMediaDeleteTasks(eq(Collections.singletonList(1L)), anyString(), any(), eq(60L), eq(3600L));
+        then(mediaDeleteTaskMapper).should().deleteMediaDeleteTasks(eq(Collections.singletonList(2L)), anyString());
+    }
+
+    @Test
+    void releaseErrorTest() {
+        MediaDeleteTaskDto task = task(1L, URL_PREFIX + "a.png", 0);
+        given(mediaDeleteTaskMapper.claimMediaDeleteTasks(anyString(), any(), any(), anyInt())).willReturn(1);
+        given(mediaDeleteTaskMapper.findMediaDeleteTasksByLeaseToken(anyString())).willReturn(Collections.singletonList(task));
+        given(mediaBlobService.release(eq(mediaStorage), anyString(), anyList())).willThrow(new IllegalStateException("deadlock"));
+
+        mediaDeleteScheduler.deleteMedia();
+
+        // 참조 수 변경이 롤백되었으므로 파일은 삭제하지 않고 작업 전체 재시도
+        then(mediaBlobService).should(never()).deleteReleased(any(), anyString(), anyList());
+        then(mediaDeleteTaskMapper).should().retryMediaDeleteTasks(eq(Collections.singletonList(1L)), anyString(), any(), eq(60L), eq(3600L));
+    }
+
+    private MediaDeleteTaskDto task(Long id, String url, int retryCount) {
+        MediaDeleteTaskDto mediaDeleteTaskDto = new MediaDeleteTaskDto();
+        mediaDeleteTaskDto.setId(id);
+        mediaDeleteTaskDto.setUrl(url);
+        mediaDeleteTaskDto.setRetryCount(retryCount);
+        return mediaDeleteTaskDto;
+    }
+}
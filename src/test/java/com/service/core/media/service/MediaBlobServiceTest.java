@@ -0,0 +1,140 @@
+package com.service.core.media.service;
+
+import com.service.core.media.dto.MediaBlobVariantDto;
+import com.service.core.media.dto.MediaDeleteTaskDto;
+import com.service.core.media.repository.mapper.MediaBlobMapper;
+import com.service.core.media.repository.mapper.MediaDeleteTaskMapper;
+import com.service.util.media.MediaStorage;
+import com.service.util.media.MediaStorageType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+public class MediaBlobServiceTest {
+    private static final String URL_PREFIX = "https://bucket/media/";
+    private static final String LEASE_TOKEN = "lease-token";
+
+    private final MediaBlobMapper mediaBlobMapper = mock(MediaBlobMapper.class);
+    private final MediaDeleteTaskMapper mediaDeleteTaskMapper = mock(MediaDeleteTaskMapper.class);
+    private final MediaStorage mediaStorage = mock(MediaStorage.class);
+    private final MediaBlobService mediaBlobService = new MediaBlobService(mediaBlobMapper, mediaDeleteTaskMapper);
+
+    @BeforeEach
+    void setUp() {
+        given(mediaStorage.getType()).willReturn(MediaStorageType.S3);
+        given(mediaStorage.findObjectKey(anyString())).willAnswer(invocation -> invocation.getArgument(0, String.class).substring(URL_PREFIX.length()));
+    }
+
+    @Test
+    void releaseTest() throws Exception {
+        MediaDeleteTaskDto task1 = task(1L, "a.png", false);
+        MediaDeleteTaskDto task2 = task(2L, "a.png", false);
+        MediaDeleteTaskDto task3 = task(3L, "b.png", false);
+        MediaDeleteTaskDto task4 = task(4L, "c.png", false);
+
+        // 선점 기간이 지나 다른 작업자가 다시 선점한 작업(4)은 처리하지 않음
+        given(mediaDeleteTaskMapper.findLeasedMediaDeleteTaskIdsForUpdate(anyCollection(), eq(LEASE_TOKEN))).willReturn(Arrays.asList(1L, 2L, 3L));
+        given(mediaBlobMapper.findMediaBlobListForUpdate(eq(MediaStorageType.S3), anyCollection())).willReturn(Arrays.asList(blob("a.png", 2), blob("b.png", 3)));
+
+        List<MediaDeleteTaskDto> releasedTaskList = mediaBlobService.release(mediaStorage, LEASE_TOKEN, Arrays.asList(task1, task2, task3, task4));
+
+        // 참조 수가 0이 된 파일은 삭제 대기 상태로 변경하고, objectKey 당 작업 1개만 재시도 기록으로 유지
+        assertEquals(Collections.singletonList(task1), releasedTaskList);
+        assertTrue(task1.isReleased());
+        then(mediaBlobMapper).should().markMediaBlobsDeleting(eq(MediaStorageType.S3), eq(Collections.singletonList("a.png")), eq(LEASE_TOKEN), any());
+        then(mediaBlobMapper).should().updateMediaBlobRefCount(eq(MediaStorageType.S3), eq("b.png"), eq(2L), any());
+        then(mediaDeleteTaskMapper).should().releaseMediaDeleteTasks(eq(Collections.singletonList(1L)), eq(LEASE_TOKEN), any());
+        then(mediaDeleteTaskMapper).should().deleteMediaDeleteTasks(Arrays.asList(2L, 3L), LEASE_TOKEN);
+
+        // 파일 삭제는 참조 수 변경을 커밋한 이후에 수행
+        then(mediaStorage).should(never()).deleteAll(anyCollection());
+    }
+
+    @Test
+    void releaseReleasedTaskTest() {
+        MediaDeleteTaskDto releasedTask = task(1L, "a.png", true);
+        given(mediaDeleteTaskMapper.findLeasedMediaDeleteTaskIdsForUpdate(anyCollection(), eq(LEASE_TOKEN))).willReturn(Collections.singletonList(1L));
+
+        // 이전 시도에서 참조 수 감소가 반영된 작업은 다시 감소시키지 않음
+        assertEquals(Collections.singletonList(releasedTask), mediaBlobService.release(mediaStorage, LEASE_TOKEN, Collections.singletonList(releasedTask)));
+        then(mediaBlobMapper).should(never()).findMediaBlobListForUpdate(any(), anyCollection());
+        then(mediaDeleteTaskMapper).should(never()).deleteMediaDeleteTasks(anyCollection(), anyString());
+    }
+
+    @Test
+    void deleteReleasedTest() throws Exception {
+        MediaDeleteTaskDto task1 = task(1L, "a.png", true);
+        MediaDeleteTaskDto task2 = task(2L, "b.png", true);
+        MediaDeleteTaskDto task3 = task(3L, "c.png", true);
+
+        // c.png 는 삭제 시작 전에 다시 업로드되어 삭제가 취소됨
+        given(mediaBlobMapper.findMediaBlobListByDeleteToken(eq(MediaStorageType.S3), anyCollection(), eq(LEASE_TOKEN))).willReturn(Arrays.asList(blob("a.png", 0), blob("b.png", 0)));
+        given(mediaStorage.deleteAll(new TreeSet<>(Arrays.asList("a.png", "b.png")))).willReturn(Collections.singleton("b.png"));
+
+        List<MediaDeleteTaskDto> failedTaskList = mediaBlobService.deleteReleased(mediaStorage, LEASE_TOKEN, Arrays.asList(task1, task2, task3));
+
+        assertEquals(Collections.singletonList(task2), failedTaskList);
+        then(mediaBlobMapper).should().claimMediaBlobDeletes(eq(MediaStorageType.S3), eq(new TreeSet<>(Arrays.asList("a.png", "b.png", "c.png"))), eq(LEASE_TOKEN), any());
+        then(mediaBlobMapper).should().cancelMediaBlobDeletes(eq(MediaStorageType.S3), eq(Collections.singleton("b.png")), eq(LEASE_TOKEN), any());
+        then(mediaBlobMapper).should().deleteMediaBlobsByDeleteToken(MediaStorageType.S3, Collections.singletonList("a.png"), LEASE_TOKEN);
+        then(mediaDeleteTaskMapper).should().deleteMediaDeleteTasks(Arrays.asList(1L, 3L), LEASE_TOKEN);
+    }
+
+    @Test
+    void deleteReleasedErrorTest() throws Exception {
+        MediaDeleteTaskDto task1 = task(1L, "a.png", true);
+        given(mediaBlobMapper.findMediaBlobListByDeleteToken(eq(MediaStorageType.S3), anyCollection(), eq(LEASE_TOKEN))).willReturn(Collections.singletonList(blob("a.png", 0)));
+        given(mediaStorage.deleteAll(anyCollection())).willThrow(new IllegalStateException("connection refused"));
+
+        // 저장소 오류면 전체 재시도 (다시 업로드할 수 있도록 삭제 시작 상태는 되돌림)
+        assertEquals(Collections.singletonList(task1), mediaBlobService.deleteReleased(mediaStorage, LEASE_TOKEN, Collections.singletonList(task1)));
+        then(mediaBlobMapper).should().cancelMediaBlobDeletes(eq(MediaStorageType.S3), eq(Collections.singleton("a.png")), eq(LEASE_TOKEN), any());
+        then(mediaBlobMapper).should(never()).deleteMediaBlobsByDeleteToken(any(), anyCollection(), anyString());
+        then(mediaDeleteTaskMapper).should(never()).deleteMediaDeleteTasks(anyCollection(), anyString());
+    }
+
+    @Test
+    void referenceDeletingTest() throws Exception {
+        given(mediaBlobMapper.findMediaBlobDeleteStartTime(MediaStorageType.S3, "a.png")).willReturn(LocalDateTime.now().minusSeconds(10));
+        given(mediaBlobMapper.findMediaBlobRefCount(MediaStorageType.S3, "a.png")).willReturn(1L);
+
+        // 파일 삭제가 진행 중이면 참조 수를 되돌리고 삭제가 끝난 후 다시 시도 (삭제가 끝나기 전에 확정하면 파일이 유실됨)
+        assertFalse(mediaBlobService.reference(mediaStorage, "staging", "a.png", "checksum", "image/png", 1));
+        then(mediaBlobMapper).should().updateMediaBlobRefCount(eq(MediaStorageType.S3), eq("a.png"), eq(0L), any());
+        then(mediaStorage).should(never()).promote(anyString(), anyString(), anyString());
+        then(mediaStorage).should(never()).discard(anyString());
+    }
+
+    @Test
+    void referenceStaleDeleteTest() throws Exception {
+        LocalDateTime deleteStartTime = LocalDateTime.now().minusMinutes(MediaBlobService.DELETE_LEASE_MINUTES + 1);
+        given(mediaBlobMapper.findMediaBlobDeleteStartTime(MediaStorageType.S3, "a.png")).willReturn(deleteStartTime);
+        given(mediaBlobMapper.findMediaBlobRefCount(MediaStorageType.S3, "a.png")).willReturn(1L);
+
+        // 삭제 도중 작업자가 종료되어 선점 기간이 지났으면 삭제를 해제하고 업로드한 파일로 다시 확정
+        assertTrue(mediaBlobService.reference(mediaStorage, "staging", "a.png", "checksum", "image/png", 1));
+        then(mediaBlobMapper).should().resetMediaBlobDelete(eq(MediaStorageType.S3), eq("a.png"), eq(deleteStartTime), any());
+        then(mediaStorage).should().promote("staging", "a.png", "image/png");
+    }
+
+    private MediaDeleteTaskDto task(Long id, String objectKey, boolean released) {
+        MediaDeleteTaskDto mediaDeleteTaskDto = new MediaDeleteTaskDto();
+        mediaDeleteTaskDto.setId(id);
+        mediaDeleteTaskDto.setUrl(URL_PREFIX + objectKey);
+        mediaDeleteTaskDto.setReleased(released);
+        return mediaDeleteTaskDto;
+    }
+
+    private MediaBlobVariantDto blob(String objectKey, long refCount) {
+        MediaBlobVariantDto mediaBlobVariantDto = new MediaBlobVariantDto();
+        mediaBlobVariantDto.setObjectKey(objectKey);
+        mediaBlobVariantDto.setRefCount(refCount);
+        return mediaBlobVariantDto;
+    }
+}
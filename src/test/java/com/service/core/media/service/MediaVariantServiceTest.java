@@ -0,0 +1,104 @@
+package com.service.core.media.service;
+
+import com.service.config.media.MediaStorageConfig;
+import com.service.core.media.domain.MediaVariantStatus;
+import com.service.core.media.dto.MediaBlobVariantDto;
+import com.service.core.media.repository.mapper.MediaBlobMapper;
+import com.service.util.media.MediaStorage;
+import com.service.util.media.MediaStorageType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+public class MediaVariantServiceTest {
+    private static final String URL_PREFIX = "https://bucket/media/";
+    private static final String URL = URL_PREFIX + "a.png";
+
+    private final MediaStorage mediaStorage = mock(MediaStorage.class);
+    private final MediaBlobService mediaBlobService = mock(MediaBlobService.class);
+    private final MediaBlobMapper mediaBlobMapper = mock(MediaBlobMapper.class);
+    private MediaVariantService mediaVariantService;
+
+    @BeforeEach
+    void setUp() {
+        MediaStorageConfig mediaStorageConfig = new MediaStorageConfig();
+        mediaStorageConfig.setVariantWidths(Arrays.asList(480, 960));
+        mediaStorageConfig.setVariantMaxPixels(40_000_000L);
+        mediaStorageConfig.setVariantJpegQuality(0.8f);
+        mediaStorageConfig.setVariantPoolSize(1);
+        mediaStorageConfig.setVariantQueueCapacity(10);
+        mediaVariantService = new MediaVariantService(Collections.singletonList(mediaStorage), mediaBlobService, mediaBlobMapper, mediaStorageConfig);
+
+        given(mediaStorage.getType()).willReturn(MediaStorageType.S3);
+        given(mediaStorage.findObjectKey(anyString())).willAnswer(invocation -> {
+            String url = invocation.getArgument(0, String.class);
+            return url.startsWith(URL_PREFIX) ? url.substring(URL_PREFIX.length()) : null;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        mediaVariantService.close();
+    }
+
+    @Test
+    void readyCallbackTest() {
+        Runnable onReady = mock(Runnable.class);
+        given(mediaBlobService.claimVariant(eq(mediaStorage), eq("a.png"), anyLong(), anyLong())).willReturn(false);
+        given(mediaBlobMapper.findMediaBlobVariantList(MediaStorageType.S3, Collections.singleton("a.png"))).willReturn(Collections.singletonList(blob(MediaVariantStatus.READY)));
+
+        // 같은 내용의 이미지가 이미 생성되어 있으면 바로 실행
+        mediaVariantService.requestVariants(URL, onReady);
+
+        then(onReady).should().run();
+    }
+
+    @Test
+    void processingCallbackTest() throws Exception {
+        CountDownLatch downloadLatch = new CountDownLatch(1);
+        CountDownLatch readyLatch = new CountDownLatch(2);
+        given(mediaBlobService.claimVariant(eq(mediaStorage), eq("a.png"), anyLong(), anyLong())).willReturn(true).willReturn(false);
+        given(mediaBlobMapper.findMediaBlobVariantList(MediaStorageType.S3, Collections.singleton("a.png"))).willReturn(Collections.singletonList(blob(MediaVariantStatus.PROCESSING)));
+        willAnswer(invocation -> {
+            downloadLatch.await(5, TimeUnit.SECONDS);
+            throw new IllegalStateException("connection refused");
+        }).given(mediaStorage).download(eq("a.png"), any());
+
+        mediaVariantService.requestVariants(URL, readyLatch::countDown);
+        mediaVariantService.requestVariants(URL, readyLatch::countDown);
+
+        // 다른 요청이 생성 중이면 해당 생성이 끝난 후에 실행
+        assertEquals(2, readyLatch.getCount());
+        downloadLatch.countDown();
+        assertTrue(readyLatch.await(5, TimeUnit.SECONDS));
+        then(mediaStorage).should(times(1)).download(eq("a.png"), any());
+    }
+
+    @Test
+    void pendingTest() {
+        given(mediaBlobMapper.findMediaBlobVariantList(MediaStorageType.S3, Collections.singleton("a.png"))).willReturn(Collections.singletonList(blob(MediaVariantStatus.PROCESSING)));
+
+        assertTrue(mediaVariantService.isVariantPending(URL));
+        assertFalse(mediaVariantService.isVariantPending("https://other/a.png"));
+        assertFalse(mediaVariantService.isVariantPending(null));
+
+        given(mediaBlobMapper.findMediaBlobVariantList(MediaStorageType.S3, Collections.singleton("a.png"))).willReturn(Collections.singletonList(blob(MediaVariantStatus.FAILED)));
+        assertFalse(mediaVariantService.isVariantPending(URL));
+    }
+
+    private MediaBlobVariantDto blob(MediaVariantStatus variantStatus) {
+        MediaBlobVariantDto mediaBlobVariantDto = new MediaBlobVariantDto();
+        mediaBlobVariantDto.setObjectKey("a.png");
+        mediaBlobVariantDto.setVariantStatus(variantStatus);
+        return mediaBlobVariantDto;
+    }
+}
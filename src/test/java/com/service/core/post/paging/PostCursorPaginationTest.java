@@ -0,0 +1,119 @@
+package com.service.core.post.paging;
+
+import com.service.core.post.dto.PostTitleDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PostCursorPaginationTest {
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2022, 10, 1, 0, 0);
+
+    @Test
+    void firstPageTest() {
+        // 최신순 11개 조회 (recordSize + 1)
+        List<PostTitleDto> postList = posts(20, 10);
+
+        PostCursorPagination postCursorPagination = PostCursorPagination.slice(postList, pagingDto(null), PostTitleDto::toPostCursor);
+
+        assertEquals(ids(20, 11), ids(postList));
+        assertTrue(postCursorPagination.isHasNext());
+        assertFalse(postCursorPagination.isHasPrev());
+        assertNull(postCursorPagination.getPrevCursor());
+        assertEquals(new PostCursor(11L, time(11), false), PostCursor.decode(postCursorPagination.getNextCursor()));
+    }
+
+    @Test
+    void lastPageTest() {
+        List<PostTitleDto> postList = posts(5, 1);
+
+        PostCursorPagination postCursorPagination = PostCursorPagination.slice(postList, pagingDto(new PostCursor(6L, time(6), false)), PostTitleDto::toPostCursor);
+
+        assertEquals(ids(5, 1), ids(postList));
+        assertFalse(postCursorPagination.isHasNext());
+        assertTrue(postCursorPagination.isHasPrev());
+        assertNull(postCursorPagination.getNextCursor());
+        assertEquals(new PostCursor(5L, time(5), true), PostCursor.decode(postCursorPagination.getPrevCursor()));
+    }
+
+    @Test
+    void prevPageTest() {
+        // 이전 페이지는 기준 위치보다 최신 게시글을 오래된 순으로 11개 조회
+        List<PostTitleDto> postList = posts(1, 11);
+
+        PostCursorPagination postCursorPagination = PostCursorPagination.slice(postList, pagingDto(new PostCursor(0L, time(0), true)), PostTitleDto::toPostCursor);
+
+        // 기준 위치에 가까운 10개를 최신순으로 정렬
+        assertEquals(ids(10, 1), ids(postList));
+        assertTrue(postCursorPagination.isHasNext());
+        assertTrue(postCursorPagination.isHasPrev());
+        assertEquals(new PostCursor(1L, time(1), false), PostCursor.decode(postCursorPagination.getNextCursor()));
+        assertEquals(new PostCursor(10L, time(10), true), PostCursor.decode(postCursorPagination.getPrevCursor()));
+    }
+
+    @Test
+    void firstPrevPageTest() {
+        // 이전 방향으로 더 최신 게시글이 없으면 첫 페이지
+        List<PostTitleDto> postList = posts(11, 15);
+
+        PostCursorPagination postCursorPagination = PostCursorPagination.slice(postList, pagingDto(new PostCursor(10L, time(10), true)), PostTitleDto::toPostCursor);
+
+        assertEquals(ids(15, 11), ids(postList));
+        assertTrue(postCursorPagination.isHasNext());
+        assertFalse(postCursorPagination.isHasPrev());
+        assertNull(postCursorPagination.getPrevCursor());
+    }
+
+    @Test
+    void emptyPageTest() {
+        PostCursorPagination postCursorPagination = PostCursorPagination.slice(new ArrayList<PostTitleDto>(), pagingDto(new PostCursor(1L, time(1), false)), PostTitleDto::toPostCursor);
+
+        assertFalse(postCursorPagination.isHasNext());
+        assertFalse(postCursorPagination.isHasPrev());
+        assertNull(postCursorPagination.getNextCursor());
+        assertNull(postCursorPagination.getPrevCursor());
+    }
+
+    private PostSearchPagingDto pagingDto(PostCursor postCursor) {
+        PostSearchPagingDto postSearchPagingDto = new PostSearchPagingDto();
+        postSearchPagingDto.setCursor(postCursor == null ? "" : postCursor.encode());
+        postSearchPagingDto.setPostCursor(postCursor);
+        return postSearchPagingDto;
+    }
+
+    // from 부터 to 까지 (id 가 클수록 최신 게시글)
+    private List<PostTitleDto> posts(long from, long to) {
+        List<PostTitleDto> postList = new ArrayList<>();
+
+        for (Long id : ids(from, to)) {
+            postList.add(PostTitleDto.builder().id(id).title("title" + id).cursorRegisterTime(time(id)).build());
+        }
+        return postList;
+    }
+
+    private List<Long> ids(long from, long to) {
+        List<Long> ids = new ArrayList<>();
+
+        for (long id = Math.min(from, to); id <= Math.max(from, to); id++) {
+            ids.add(id);
+        }
+
+        if (from > to) {
+            Collections.reverse(ids);
+        }
+        return ids;
+    }
+
+    private List<Long> ids(List<PostTitleDto> postList) {
+        return postList.stream().map(PostTitleDto::getId).collect(Collectors.toList());
+    }
+
+    private LocalDateTime time(long id) {
+        return BASE_TIME.plusMinutes(id);
+    }
+}
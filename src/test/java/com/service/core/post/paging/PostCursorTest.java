@@ -0,0 +1,45 @@
+package com.service.core.post.paging;
+
+import com.service.core.error.model.PostManageException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PostCursorTest {
+    private static final LocalDateTime REGISTER_TIME = LocalDateTime.of(2022, 10, 1, 12, 30, 15, 123000000);
+
+    @Test
+    void encodeDecodeTest() {
+        PostCursor nextCursor = new PostCursor(42L, REGISTER_TIME, false);
+        PostCursor prevCursor = nextCursor.withDirection(true);
+
+        assertEquals(nextCursor, PostCursor.decode(nextCursor.encode()));
+        assertEquals(prevCursor, PostCursor.decode(prevCursor.encode()));
+        assertNotEquals(nextCursor.encode(), prevCursor.encode());
+    }
+
+    @Test
+    void decodeFirstPageTest() {
+        // 빈 문자열은 첫 페이지 요청
+        assertNull(PostCursor.decode(null));
+        assertNull(PostCursor.decode(""));
+        assertNull(PostCursor.decode("  "));
+    }
+
+    @Test
+    void decodeInvalidTest() {
+        assertThrows(PostManageException.class, () -> PostCursor.decode("not-a-cursor!"));
+        assertThrows(PostManageException.class, () -> PostCursor.decode(encode("x,42," + REGISTER_TIME)));
+        assertThrows(PostManageException.class, () -> PostCursor.decode(encode("n,abc," + REGISTER_TIME)));
+        assertThrows(PostManageException.class, () -> PostCursor.decode(encode("n,42,2022-13-01")));
+        assertThrows(PostManageException.class, () -> PostCursor.decode(encode("n,42")));
+    }
+
+    private String encode(String cursor) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,98 @@
+package com.service.core.post.search;
+
+import com.service.config.app.AppConfig;
+import com.service.config.sql.SqlConfig;
+import com.service.core.post.dto.PostSearchSourceDto;
+import com.service.core.post.repository.mapper.PostMapper;
+import com.service.util.ConstUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+public class PostSearchIndexServiceTest {
+    private static final LocalDateTime UPDATE_TIME = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @TempDir
+    Path directory;
+
+    private Path snapshotPath;
+    private AppConfig appConfig;
+    private SqlConfig sqlConfig;
+
+    @BeforeEach
+    void setUp() {
+        snapshotPath = directory.resolve("post-search-index.snapshot");
+        appConfig = new AppConfig();
+        appConfig.setPostSearchIndexSnapshotPath(snapshotPath.toString());
+        appConfig.setPostSearchIndexBatchSize(100);
+        appConfig.setPostSearchIndexSyncOverlapSeconds(300);
+        sqlConfig = new SqlConfig();
+        sqlConfig.setSqlSearchPattern(ConstUtil.SEARCH_TYPE_INDEX);
+    }
+
+    @Test
+    void snapshotTest() {
+        PostMapper postMapper = mock(PostMapper.class);
+        given(postMapper.findPostSearchSources(any(), anyInt())).willReturn(Arrays.asList(
+                source(1L, "스프링 입문", "<p>자바 <b>웹</b> 프레임워크</p>", UPDATE_TIME.minusHours(1)),
+                source(2L, "레디스 캐시", "<p>Spring Cache</p>", UPDATE_TIME)));
+        PostSearchIndexService postSearchIndexService = new PostSearchIndexService(postMapper, appConfig, sqlConfig);
+        postSearchIndexService.initialize();
+        postSearchIndexService.close();
+        assertTrue(Files.exists(snapshotPath));
+
+        // 스냅샷이 있으면 DB 로 재구성하지 않고 복원한 뒤, 스냅샷의 마지막 반영 시간(- 다시 조회하는 범위)부터 동기화
+        PostMapper restoredPostMapper = mock(PostMapper.class);
+        PostSearchIndexService restoredPostSearchIndexService = new PostSearchIndexService(restoredPostMapper, appConfig, sqlConfig);
+        restoredPostSearchIndexService.initialize();
+
+        assertTrue(restoredPostSearchIndexService.isReady());
+        then(restoredPostMapper).should(never()).findPostSearchSources(any(), anyInt());
+        then(restoredPostMapper).should().findPostSearchSourcesUpdatedAfter(UPDATE_TIME.minusSeconds(300), 0L, 100);
+
+        for (String keyword : Arrays.asList("스프링", "웹", "spr", "캐시", "시")) {
+            PostSearchQuery postSearchQuery = PostSearchQuery.builder().keyword(keyword).field(PostSearchField.ALL).sort(PostSearchSort.SCORE).build();
+            assertEquals(postSearchIndexService.search(postSearchQuery), restoredPostSearchIndexService.search(postSearchQuery));
+        }
+        // 본문은 HTML 태그를 제거한 텍스트로 색인
+        assertEquals(Collections.singletonList(1L), restoredPostSearchIndexService.search(
+                PostSearchQuery.builder().keyword("웹").field(PostSearchField.CONTENT).sort(PostSearchSort.SCORE).build()));
+    }
+
+    @Test
+    void corruptedSnapshotTest() throws Exception {
+        Files.write(snapshotPath, "not a snapshot".getBytes(StandardCharsets.UTF_8));
+        PostMapper postMapper = mock(PostMapper.class);
+        given(postMapper.findPostSearchSources(any(), anyInt())).willReturn(Collections.singletonList(source(1L, "스프링", "", UPDATE_TIME)));
+        PostSearchIndexService postSearchIndexService = new PostSearchIndexService(postMapper, appConfig, sqlConfig);
+        postSearchIndexService.initialize();
+
+        // 손상된 스냅샷은 무시하고 DB 로 재구성
+        assertTrue(postSearchIndexService.isReady());
+        then(postMapper).should().findPostSearchSources(any(), anyInt());
+        assertEquals(Collections.singletonList(1L), postSearchIndexService.search(
+                PostSearchQuery.builder().keyword("스프링").field(PostSearchField.ALL).sort(PostSearchSort.SCORE).build()));
+    }
+
+    private static PostSearchSourceDto source(Long postId, String title, String contents, LocalDateTime updateTime) {
+        PostSearchSourceDto postSearchSourceDto = new PostSearchSourceDto();
+        postSearchSourceDto.setPostId(postId);
+        postSearchSourceDto.setBlogId(10L);
+        postSearchSourceDto.setTitle(title);
+        postSearchSourceDto.setContents(contents);
+        postSearchSourceDto.setRegisterTime(updateTime);
+        postSearchSourceDto.setUpdateTime(updateTime);
+        return postSearchSourceDto;
+    }
+}
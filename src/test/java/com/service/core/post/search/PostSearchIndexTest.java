@@ -0,0 +1,95 @@
+package com.service.core.post.search;
+
+import com.service.core.post.paging.PostCursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PostSearchIndexTest {
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private PostSearchIndex postSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        postSearchIndex = new PostSearchIndex();
+        postSearchIndex.replaceAll(Arrays.asList(
+                document(1L, 10L, 1, "스프링 입문", "자바 웹 프레임워크"),
+                document(2L, 10L, 2, "자바 기초", "스프링 스프링 스프링 스프링부트 설정"),
+                document(3L, 10L, 3, "레디스 캐시", "스프링 캐시 추상화"),
+                document(4L, 20L, 4, "Spring Boot", "springboot redis"),
+                document(5L, 20L, 5, "일기", "오늘은 맑음")));
+    }
+
+    @Test
+    void scoreTest() {
+        // 제목 가중치 2배 → 제목에 포함된 게시글이 먼저, 본문만 포함하면 빈도가 높은 게시글이 먼저
+        assertEquals(Arrays.asList(1L, 2L, 3L), search(query(null, "스프링", PostSearchField.ALL, PostSearchSort.SCORE)));
+        assertEquals(Collections.singletonList(1L), search(query(null, "스프링", PostSearchField.TITLE, PostSearchSort.SCORE)));
+        assertEquals(Arrays.asList(2L, 3L), search(query(null, "스프링", PostSearchField.CONTENT, PostSearchSort.SCORE)));
+    }
+
+    @Test
+    void matchTest() {
+        // 모든 질의 토큰을 포함하는 게시글만 (AND)
+        assertEquals(Collections.singletonList(3L), search(query(null, "스프링 캐시", PostSearchField.ALL, PostSearchSort.SCORE)));
+        // 한 글자 질의어는 unigram 으로 단어 중간 글자도 검색 ("맑음", "캐시")
+        assertEquals(Collections.singletonList(5L), search(query(null, "맑", PostSearchField.ALL, PostSearchSort.SCORE)));
+        assertEquals(Collections.singletonList(3L), search(query(null, "시", PostSearchField.ALL, PostSearchSort.SCORE)));
+        // 단어 질의어는 접두어 검색
+        assertEquals(Collections.singletonList(4L), search(query(null, "spr", PostSearchField.ALL, PostSearchSort.SCORE)));
+        assertEquals(Collections.emptyList(), search(query(null, "없는단어", PostSearchField.ALL, PostSearchSort.SCORE)));
+        // 블로그 조건
+        assertEquals(Collections.emptyList(), search(query(20L, "스프링", PostSearchField.ALL, PostSearchSort.SCORE)));
+    }
+
+    @Test
+    void cursorTest() {
+        assertEquals(Arrays.asList(3L, 2L, 1L), search(query(null, "스프링", PostSearchField.ALL, PostSearchSort.RECENT)));
+        assertEquals(Arrays.asList(1L, 2L, 3L), search(query(null, "스프링", PostSearchField.ALL, PostSearchSort.OLDEST)));
+
+        // 다음 페이지: 기준 위치보다 오래된 게시글, 이전 페이지: 기준 위치보다 최신 게시글
+        PostCursor next = new PostCursor(3L, BASE_TIME.plusMinutes(3), false);
+        PostCursor prev = new PostCursor(1L, BASE_TIME.plusMinutes(1), true);
+        assertEquals(Arrays.asList(2L, 1L), search(cursorQuery(next, PostSearchSort.RECENT)));
+        assertEquals(Arrays.asList(2L, 3L), search(cursorQuery(prev, PostSearchSort.OLDEST)));
+
+        // 작성 시간이 같으면 postId 순
+        postSearchIndex.put(document(6L, 10L, 3, "스프링 정리", ""));
+        assertEquals(Arrays.asList(6L, 3L, 2L, 1L), search(query(null, "스프링", PostSearchField.ALL, PostSearchSort.RECENT)));
+        assertEquals(Arrays.asList(3L, 2L, 1L), search(cursorQuery(new PostCursor(6L, BASE_TIME.plusMinutes(3), false), PostSearchSort.RECENT)));
+    }
+
+    @Test
+    void updateTest() {
+        postSearchIndex.put(document(1L, 10L, 1, "제목 변경", "내용 변경"));
+        postSearchIndex.remove(2L);
+        postSearchIndex.removeBlog(20L);
+
+        assertEquals(Collections.singletonList(3L), search(query(null, "스프링", PostSearchField.ALL, PostSearchSort.SCORE)));
+        assertEquals(Collections.singletonList(1L), search(query(null, "변경", PostSearchField.ALL, PostSearchSort.SCORE)));
+        assertEquals(2, postSearchIndex.size());
+    }
+
+    private List<Long> search(PostSearchQuery postSearchQuery) {
+        return postSearchIndex.search(postSearchQuery);
+    }
+
+    private static PostSearchQuery query(Long blogId, String keyword, PostSearchField field, PostSearchSort sort) {
+        return PostSearchQuery.builder().blogId(blogId).keyword(keyword).field(field).sort(sort).build();
+    }
+
+    private static PostSearchQuery cursorQuery(PostCursor postCursor, PostSearchSort sort) {
+        return PostSearchQuery.builder().keyword("스프링").field(PostSearchField.ALL).sort(sort).postCursor(postCursor).build();
+    }
+
+    private static PostSearchDocument document(long postId, long blogId, int minutes, String title, String content) {
+        return PostSearchDocument.of(postId, blogId, BASE_TIME.plusMinutes(minutes), title, content);
+    }
+}
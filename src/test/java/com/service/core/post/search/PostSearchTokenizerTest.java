@@ -0,0 +1,35 @@
+package com.service.core.post.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PostSearchTokenizerTest {
+    @Test
+    void tokenizeTest() {
+        // 한글은 bigram, 그 외 문자/숫자는 단어 단위(소문자), 구분 문자는 제외
+        assertEquals(Arrays.asList("스프", "프링", "링부", "부트", "redis", "7"), PostSearchTokenizer.tokenize("스프링부트 Redis-7"));
+        // 한 글자 한글은 그대로, 전각 문자는 NFKC 정규화
+        assertEquals(Arrays.asList("글", "java"), PostSearchTokenizer.tokenize("글 ＪＡＶＡ"));
+        assertEquals(Collections.emptyList(), PostSearchTokenizer.tokenize(" !? "));
+        assertEquals(Collections.emptyList(), PostSearchTokenizer.tokenize(null));
+    }
+
+    @Test
+    void tokenizeForIndexTest() {
+        // 색인 시에는 한글 unigram 토큰도 추가 (단어 토큰은 동일)
+        assertEquals(Arrays.asList("스프", "프링", "스", "프", "링", "redis"), PostSearchTokenizer.tokenizeForIndex("스프링 Redis"));
+        assertEquals(Collections.singletonList("글"), PostSearchTokenizer.tokenizeForIndex("글"));
+    }
+
+    @Test
+    void prefixTokenTest() {
+        assertTrue(PostSearchTokenizer.isPrefixToken("spr"));
+        assertTrue(PostSearchTokenizer.isPrefixToken("s"));
+        assertFalse(PostSearchTokenizer.isPrefixToken("스프"));
+        assertFalse(PostSearchTokenizer.isPrefixToken("링"));
+    }
+}
@@ -6,14 +6,13 @@ import com.service.core.email.service.EmailService;
 import com.service.core.error.constants.ServiceExceptionMessage;
 import com.service.core.error.model.UserAuthException;
 import com.service.core.error.model.UserManageException;
+import com.service.core.media.service.MediaStorageService;
 import com.service.core.user.domain.SocialAddress;
 import com.service.core.user.domain.UserDomain;
 import com.service.core.user.dto.UserEmailFindDto;
 import com.service.core.user.model.*;
 import com.service.util.BlogUtil;
 import com.service.util.ConstUtil;
-import com.service.util.aws.s3.AwsS3Service;
-import com.service.util.sftp.SftpService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -53,10 +52,7 @@ class UserServiceTest {
     private UserAuthService userAuthService;
 
     @MockBean
-    private SftpService sftpService;
-
-    @MockBean
-    private AwsS3Service awsS3Service;
+    private MediaStorageService mediaStorageService;
 
     @Test
     @DisplayName("회원가입 정상 진행 테스트")
@@ -375,13 +371,13 @@ class UserServiceTest {
         String profileImageSrc = "http://53.14.34.26/3fsdfskdfkjgkldfjglkkfdmbfgd.gif";
         UserDomain userDomain = UserDomain.builder().userId(id).build();
 
-        when(sftpService.sftpFileUpload(multipartFile, ConstUtil.SFTP_PROFILE_THUMBNAIL_HASH, id)).thenReturn(profileImageSrc);
+        when(mediaStorageService.upload(multipartFile, ConstUtil.UPLOAD_TYPE_FILE_SERVER)).thenReturn(profileImageSrc);
         when(userInfoService.findUserDomainByIdOrThrow(id)).thenReturn(userDomain);
         doNothing().when(userInfoService).saveUserDomain(userDomain);
         assertDoesNotThrow(() -> userService.uploadSftpProfileImageById(multipartFile, id));
         assertTrue(userDomain.getProfileImage().equals(profileImageSrc));
 
-        verify(sftpService, times(1)).sftpFileUpload(multipartFile, ConstUtil.SFTP_PROFILE_THUMBNAIL_HASH, id);
+        verify(mediaStorageService, times(1)).upload(multipartFile, ConstUtil.UPLOAD_TYPE_FILE_SERVER);
         verify(userInfoService, times(1)).findUserDomainByIdOrThrow(id);
         verify(userInfoService, times(1)).saveUserDomain(userDomain);
     }
@@ -392,15 +388,17 @@ class UserServiceTest {
     public void uploadAwsS3ProfileImageById(String id) throws Exception {
         MultipartFile multipartFile = mock(MultipartFile.class);
         String profileImageSrc = "https://freelog-s3-bucket.s3.amazonaws.com/image/3fsdfskdfkjgkldfjglkkfdmbfgd.gif";
-        UserDomain userDomain = UserDomain.builder().userId(id).build();
+        UserDomain userDomain = UserDomain.builder().userId(id).email("nebi25@naver.com").build();
+        Principal principal = mock(Principal.class);
 
-        when(awsS3Service.uploadImageFile(multipartFile)).thenReturn(profileImageSrc);
+        when(mediaStorageService.upload(multipartFile, ConstUtil.UPLOAD_TYPE_S3)).thenReturn(profileImageSrc);
         when(userInfoService.findUserDomainByIdOrThrow(id)).thenReturn(userDomain);
+        when(principal.getName()).thenReturn(userDomain.getEmail());
         doNothing().when(userInfoService).saveUserDomain(userDomain);
-        assertDoesNotThrow(() -> userService.uploadThumbnailProfileImageById(multipartFile, id, ConstUtil.UPLOAD_TYPE_S3, "", mock(Principal.class)));
+        assertDoesNotThrow(() -> userService.uploadThumbnailProfileImageById(multipartFile, id, ConstUtil.UPLOAD_TYPE_S3, "", principal));
         assertTrue(userDomain.getProfileImage().equals(profileImageSrc));
 
-        verify(awsS3Service, times(1)).uploadImageFile(multipartFile);
+        verify(mediaStorageService, times(1)).upload(multipartFile, ConstUtil.UPLOAD_TYPE_S3);
         verify(userInfoService, times(1)).findUserDomainByIdOrThrow(id);
         verify(userInfoService, times(1)).saveUserDomain(userDomain);
     }
@@ -0,0 +1,152 @@
+package com.service.core.views.service;
+
+import com.service.config.app.AppConfig;
+import com.service.core.views.domain.BlogVisitDelta;
+import com.service.core.views.domain.BlogVisitKey;
+import com.service.core.views.domain.PostViewKey;
+import com.service.util.redis.service.view.BlogViewRedisTemplateService;
+import com.service.util.redis.service.view.PostViewRedisTemplateService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+public class ViewCountBufferTest {
+    private static final String DAY = "20240101";
+
+    private final PostViewRedisTemplateService postViewRedisTemplateService = mock(PostViewRedisTemplateService.class);
+    private final BlogViewRedisTemplateService blogViewRedisTemplateService = mock(BlogViewRedisTemplateService.class);
+    private final List<Map<PostViewKey, Long>> flushedPostViews = new ArrayList<>();
+    private final List<Map<BlogVisitKey, BlogVisitDelta>> flushedBlogVisits = new ArrayList<>();
+    private ViewCountBuffer viewCountBuffer;
+
+    @BeforeEach
+    void setUp() {
+        AppConfig appConfig = new AppConfig();
+        appConfig.setViewBufferFlushBatchSize(100);
+        viewCountBuffer = new ViewCountBuffer(postViewRedisTemplateService, blogViewRedisTemplateService, appConfig, new SimpleMeterRegistry());
+
+        // 배치 맵은 반영 이후 재사용되지 않지만, 호출 시점의 값으로 검증하기 위해 복사
+        given(postViewRedisTemplateService.flushPostViews(anyMap())).willAnswer(invocation -> {
+            flushedPostViews.add(new HashMap<>(invocation.getArgument(0)));
+            return Collections.emptySet();
+        });
+        given(blogViewRedisTemplateService.flushBlogVisits(anyMap())).willAnswer(invocation -> {
+            flushedBlogVisits.add(new HashMap<>(invocation.getArgument(0)));
+            return Collections.emptySet();
+        });
+    }
+
+    @Test
+    void mergeTest() {
+        viewCountBuffer.addPostView(1L, 10L);
+        viewCountBuffer.addPostView(1L, 10L);
+        viewCountBuffer.addPostView(1L, 11L);
+        viewCountBuffer.addBlogVisit(1, 100, DAY);
+        viewCountBuffer.addBlogVisit(1, 100, DAY);
+        viewCountBuffer.addBlogVisit(1, 101, DAY);
+
+        // 반영 전에는 누적된 값을 조회에 포함
+        assertEquals(2, viewCountBuffer.getPendingPostView(1L, 10L));
+        assertEquals(1, viewCountBuffer.getPendingPostView(1L, 11L));
+        assertEquals(2, viewCountBuffer.getPendingBlogVisitors(1, DAY));
+        assertEquals(3, viewCountBuffer.getPendingBlogViews(1, DAY));
+
+        viewCountBuffer.flush();
+
+        // 키 단위로 합쳐서 1회에 반영하고, 반영 이후에는 버퍼에서 제거
+        assertEquals(Collections.singletonList(Map.of(new PostViewKey(1L, 10L), 2L, new PostViewKey(1L, 11L), 1L)), flushedPostViews);
+        assertEquals(1, flushedBlogVisits.size());
+        BlogVisitDelta blogVisitDelta = flushedBlogVisits.get(0).get(new BlogVisitKey(1, DAY));
+        assertEquals(2, blogVisitDelta.getVisitors());
+        assertEquals(3, blogVisitDelta.getViews());
+        assertEquals(0, viewCountBuffer.getPendingPostView(1L, 10L));
+        assertEquals(0, viewCountBuffer.getPendingBlogViews(1, DAY));
+
+        // 반영할 값이 없으면 Redis 를 호출하지 않음
+        viewCountBuffer.flush();
+        then(postViewRedisTemplateService).should(times(1)).flushPostViews(anyMap());
+        then(blogViewRedisTemplateService).should(times(1)).flushBlogVisits(anyMap());
+    }
+
+    @Test
+    void partialFlushTest() {
+        PostViewKey failedPostViewKey = new PostViewKey(1L, 10L);
+        BlogVisitKey failedBlogVisitKey = new BlogVisitKey(1, DAY);
+        given(postViewRedisTemplateService.flushPostViews(anyMap())).willReturn(Collections.singleton(failedPostViewKey)).willReturn(Collections.emptySet());
+        given(blogViewRedisTemplateService.flushBlogVisits(anyMap())).willReturn(Collections.singleton(failedBlogVisitKey)).willReturn(Collections.emptySet());
+        viewCountBuffer.addPostView(1L, 10L);
+        viewCountBuffer.addPostView(1L, 10L);
+        viewCountBuffer.addPostView(1L, 11L);
+        viewCountBuffer.addBlogVisit(1, 100, DAY);
+        viewCountBuffer.addBlogVisit(2, 200, DAY);
+
+        viewCountBuffer.flush();
+
+        // 실패한 키만 다시 누적하고, 반영 중에 들어온 값과 합쳐서 다음 주기에 반영
+        assertEquals(2, viewCountBuffer.getPendingPostView(1L, 10L));
+        assertEquals(0, viewCountBuffer.getPendingPostView(1L, 11L));
+        assertEquals(1, viewCountBuffer.getPendingBlogViews(1, DAY));
+        assertEquals(0, viewCountBuffer.getPendingBlogViews(2, DAY));
+
+        viewCountBuffer.addPostView(1L, 10L);
+        viewCountBuffer.addBlogVisit(1, 100, DAY);
+        viewCountBuffer.flush();
+
+        then(postViewRedisTemplateService).should().flushPostViews(Map.of(failedPostViewKey, 3L));
+        then(blogViewRedisTemplateService).should().flushBlogVisits(argThat(batch -> batch.size() == 1
+                && batch.get(failedBlogVisitKey).getVisitors() == 1 && batch.get(failedBlogVisitKey).getViews() == 2));
+        assertEquals(0, viewCountBuffer.getPendingPostView(1L, 10L));
+    }
+
+    @Test
+    void flushErrorTest() {
+        given(postViewRedisTemplateService.flushPostViews(anyMap())).willThrow(new IllegalStateException("connection refused"));
+        viewCountBuffer.addPostView(1L, 10L);
+        viewCountBuffer.addPostView(1L, 11L);
+
+        viewCountBuffer.flush();
+
+        // 명령별 결과를 알 수 없으면 배치 전체를 다시 누적
+        assertEquals(1, viewCountBuffer.getPendingPostView(1L, 10L));
+        assertEquals(1, viewCountBuffer.getPendingPostView(1L, 11L));
+    }
+
+    @Test
+    void drainTest() {
+        viewCountBuffer.addPostView(1L, 10L);
+        viewCountBuffer.addBlogVisit(1, 100, DAY);
+
+        // 정상 종료 시에 남은 값을 모두 반영
+        viewCountBuffer.drain();
+
+        assertEquals(Collections.singletonList(Map.of(new PostViewKey(1L, 10L), 1L)), flushedPostViews);
+        assertEquals(1, flushedBlogVisits.size());
+        assertEquals(0, viewCountBuffer.getPendingPostView(1L, 10L));
+        assertEquals(0, viewCountBuffer.getPendingBlogViews(1, DAY));
+    }
+
+    @Test
+    void discardTest() {
+        viewCountBuffer.addPostView(1L, 10L);
+        viewCountBuffer.addPostView(2L, 20L);
+        viewCountBuffer.addBlogVisit(1, 100, DAY);
+
+        // 삭제된 게시글/블로그의 값은 반영하지 않음
+        viewCountBuffer.discardBlogPostView(1L);
+        viewCountBuffer.discardBlogVisit(1);
+        viewCountBuffer.flush();
+
+        assertEquals(Collections.singletonList(Map.of(new PostViewKey(2L, 20L), 1L)), flushedPostViews);
+        then(blogViewRedisTemplateService).should(never()).flushBlogVisits(anyMap());
+    }
+}
@@ -0,0 +1,61 @@
+package com.service.util.media;
+
+import com.service.config.media.MediaStorageConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LocalMediaStorageTest {
+    @TempDir
+    Path rootDirectory;
+
+    private LocalMediaStorage localMediaStorage;
+
+    @BeforeEach
+    void setUp() {
+        MediaStorageConfig mediaStorageConfig = new MediaStorageConfig();
+        mediaStorageConfig.setFileServerDriver(MediaStorageType.LOCAL);
+        mediaStorageConfig.setLocalDirectory(rootDirectory.toString());
+        mediaStorageConfig.setLocalUrlPath("/media");
+        localMediaStorage = new LocalMediaStorage(mediaStorageConfig);
+    }
+
+    @Test
+    void stageAndPromoteTest() throws Exception {
+        String stagingKey = localMediaStorage.stage(new ByteArrayInputStream("image".getBytes(StandardCharsets.UTF_8)));
+        localMediaStorage.promote(stagingKey, "ab/cd/abcd.png", "image/png");
+
+        assertEquals("image", Files.readString(rootDirectory.resolve("ab/cd/abcd.png")));
+        assertFalse(Files.exists(rootDirectory.resolve(".staging").resolve(stagingKey)));
+        assertEquals("/media/ab/cd/abcd.png", localMediaStorage.getUrl("ab/cd/abcd.png"));
+        assertEquals("ab/cd/abcd.png", localMediaStorage.findObjectKey("/media/ab/cd/abcd.png"));
+        assertNull(localMediaStorage.findObjectKey("http://file-server/post-image/abcd.png"));
+    }
+
+    @Test
+    void promoteExistObjectTest() throws Exception {
+        localMediaStorage.promote(localMediaStorage.stage(new ByteArrayInputStream(new byte[]{1})), "ab/cd/abcd.png", "image/png");
+        String stagingKey = localMediaStorage.stage(new ByteArrayInputStream(new byte[]{1}));
+        localMediaStorage.promote(stagingKey, "ab/cd/abcd.png", "image/png");
+
+        // 이미 저장된 내용이면 임시 파일만 삭제
+        assertTrue(Files.exists(rootDirectory.resolve("ab/cd/abcd.png")));
+        assertFalse(Files.exists(rootDirectory.resolve(".staging").resolve(stagingKey)));
+
+        localMediaStorage.delete("ab/cd/abcd.png");
+        assertFalse(Files.exists(rootDirectory.resolve("ab/cd/abcd.png")));
+    }
+
+    @Test
+    void invalidObjectKeyTest() {
+        assertThrows(IllegalArgumentException.class, () -> localMediaStorage.delete("../outside.png"));
+        assertThrows(IllegalArgumentException.class, () -> localMediaStorage.delete(".staging/key"));
+    }
+}
@@ -0,0 +1,87 @@
+package com.service.util.media;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MediaImageResizerTest {
+    @TempDir
+    Path directory;
+
+    private final MediaImageResizer mediaImageResizer = new MediaImageResizer(40_000_000L, 0.85f);
+
+    @Test
+    void resizeTest() throws Exception {
+        Path sourceFile = writeImage(new BufferedImage(1999, 1001, BufferedImage.TYPE_INT_RGB), "png", "source.png");
+        MediaImageResizer.ResizeResult resizeResult = mediaImageResizer.resize(sourceFile, Arrays.asList(160, 480, 4000), directory);
+
+        // 원본보다 큰 너비는 생성하지 않고, 투명도가 없으면 jpg
+        assertEquals("jpg", resizeResult.getExtension());
+        assertEquals("image/jpeg", resizeResult.getContentType());
+        assertEquals(Arrays.asList(160, 480), Arrays.asList(resizeResult.getVariantFileMap().keySet().toArray()));
+
+        BufferedImage variant = ImageIO.read(resizeResult.getVariantFileMap().get(480).toFile());
+        assertEquals(480, variant.getWidth());
+        assertEquals(240, variant.getHeight());
+    }
+
+    @Test
+    void resizeAlphaTest() throws Exception {
+        Path sourceFile = writeImage(new BufferedImage(300, 300, BufferedImage.TYPE_INT_ARGB), "png", "source.png");
+        MediaImageResizer.ResizeResult resizeResult = mediaImageResizer.resize(sourceFile, Arrays.asList(160, 480), directory);
+
+        assertEquals("png", resizeResult.getExtension());
+        assertEquals(1, resizeResult.getVariantFileMap().size());
+    }
+
+    @Test
+    void skipTest() throws Exception {
+        Path textFile = Files.write(directory.resolve("source.txt"), "text".getBytes(StandardCharsets.UTF_8));
+        Path gifFile = writeImage(new BufferedImage(1000, 1000, BufferedImage.TYPE_INT_RGB), "gif", "source.gif");
+        Path largeFile = writeImage(new BufferedImage(1000, 1000, BufferedImage.TYPE_INT_RGB), "png", "large.png");
+
+        assertNull(mediaImageResizer.resize(textFile, Arrays.asList(160), directory));
+        assertNull(mediaImageResizer.resize(gifFile, Arrays.asList(160), directory));
+        assertNull(new MediaImageResizer(100_000L, 0.85f).resize(largeFile, Arrays.asList(160), directory));
+    }
+
+    @Test
+    void exifOrientationTest() throws Exception {
+        Path sourceFile = writeImage(new BufferedImage(400, 200, BufferedImage.TYPE_INT_RGB), "jpg", "source.jpg");
+        writeExifOrientation(sourceFile, 6);
+        MediaImageResizer.ResizeResult resizeResult = mediaImageResizer.resize(sourceFile, Arrays.asList(160), directory);
+
+        // 시계 방향 90도 회전된 방향(200x400) 기준으로 축소
+        assertEquals(6, MediaImageResizer.readExifOrientation(sourceFile));
+        BufferedImage variant = ImageIO.read(resizeResult.getVariantFileMap().get(160).toFile());
+        assertEquals(160, variant.getWidth());
+        assertEquals(320, variant.getHeight());
+    }
+
+    // SOI 다음에 Orientation 태그만 있는 APP1(Exif, big endian) 세그먼트 추가
+    private void writeExifOrientation(Path file, int orientation) throws Exception {
+        byte[] jpeg = Files.readAllBytes(file);
+        byte[] tiff = {'M', 'M', 0, 42, 0, 0, 0, 8, 0, 1, 0x01, 0x12, 0, 3, 0, 0, 0, 1, 0, (byte) orientation, 0, 0, 0, 0, 0, 0};
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(jpeg, 0, 2);
+        out.write(new byte[]{(byte) 0xFF, (byte) 0xE1, 0, (byte) (2 + 6 + tiff.length), 'E', 'x', 'i', 'f', 0, 0});
+        out.write(tiff);
+        out.write(jpeg, 2, jpeg.length - 2);
+        Files.write(file, out.toByteArray());
+    }
+
+    private Path writeImage(BufferedImage image, String format, String fileName) throws Exception {
+        Path file = directory.resolve(fileName);
+        ImageIO.write(image, format, file.toFile());
+        return file;
+    }
+}
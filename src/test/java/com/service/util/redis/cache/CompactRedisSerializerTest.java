@@ -0,0 +1,135 @@
+package com.service.util.redis.cache;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.service.core.post.dto.PostDetailDto;
+import com.service.core.user.dto.UserHeaderDto;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompactRedisSerializerTest {
+    private static final Logger log = LoggerFactory.getLogger(CompactRedisSerializerTest.class);
+    private static final int BENCHMARK_WARMUP = 2_000;
+    private static final int BENCHMARK_ITERATIONS = 10_000;
+
+    private final CompactRedisSerializer compactRedisSerializer = new CompactRedisSerializer(1024);
+
+    @Test
+    void roundTripTest() {
+        PostDetailDto postDetailDto = createPostDetailDto(20_000);
+        UserHeaderDto userHeaderDto = createUserHeaderDto();
+
+        assertEquals(postDetailDto, compactRedisSerializer.deserialize(compactRedisSerializer.serialize(postDetailDto)));
+        assertEquals(userHeaderDto, compactRedisSerializer.deserialize(compactRedisSerializer.serialize(userHeaderDto)));
+    }
+
+    @Test
+    void legacyFormatTest() {
+        PostDetailDto postDetailDto = createPostDetailDto(100);
+        UserHeaderDto userHeaderDto = createUserHeaderDto();
+
+        // 이전 캐시 설정(JDK 직렬화, JSON)으로 저장된 값
+        assertEquals(postDetailDto, compactRedisSerializer.deserialize(new JdkSerializationRedisSerializer().serialize(postDetailDto)));
+        assertEquals(userHeaderDto, compactRedisSerializer.deserialize(new GenericJackson2JsonRedisSerializer().serialize(userHeaderDto)));
+    }
+
+    @Test
+    void compressTest() {
+        PostDetailDto postDetailDto = createPostDetailDto(20_000);
+        assertTrue(compactRedisSerializer.serialize(postDetailDto).length < new CompactRedisSerializer(Integer.MAX_VALUE).serialize(postDetailDto).length);
+    }
+
+    @Test
+    void lastBytesTest() {
+        UserHeaderDto userHeaderDto = createUserHeaderDto();
+        byte[] bytes = compactRedisSerializer.serialize(userHeaderDto);
+
+        // Redis 와 주고받은 바이트는 한 번만 꺼낼 수 있고, 로컬 캐시에서 읽을 때마다 새 인스턴스를 반환
+        assertSame(bytes, compactRedisSerializer.takeLastBytes());
+        assertNull(compactRedisSerializer.takeLastBytes());
+        assertEquals(userHeaderDto, compactRedisSerializer.deserialize(bytes));
+        assertSame(bytes, compactRedisSerializer.takeLastBytes());
+        assertNotSame(compactRedisSerializer.read(bytes), compactRedisSerializer.read(bytes));
+        assertNull(compactRedisSerializer.takeLastBytes());
+    }
+
+    // 직렬화 방식별 크기/속도 비교 (기본 테스트에서는 제외, 필요 시 수동 실행)
+    @Test
+    @Tag("benchmark")
+    @Disabled("수동 실행용 벤치마크")
+    void benchmarkTest() {
+        RedisSerializer<Object> jdkSerializer = new JdkSerializationRedisSerializer();
+        RedisSerializer<Object> jsonSerializer = new GenericJackson2JsonRedisSerializer(createJsonObjectMapper());
+
+        for (Object value : Arrays.asList(createUserHeaderDto(), createPostDetailDto(200), createPostDetailDto(20_000))) {
+            log.info("== {}", describe(value));
+            benchmark("jdk", jdkSerializer, value);
+            benchmark("json", jsonSerializer, value);
+            benchmark("compact", compactRedisSerializer, value);
+        }
+    }
+
+    private void benchmark(String name, RedisSerializer<Object> serializer, Object value) {
+        byte[] bytes = serializer.serialize(value);
+
+        for (int i = 0; i < BENCHMARK_WARMUP; i++) {
+            serializer.deserialize(serializer.serialize(value));
+        }
+
+        long encodeStart = System.nanoTime();
+        for (int i = 0; i < BENCHMARK_ITERATIONS; i++) {
+            bytes = serializer.serialize(value);
+        }
+        long encodeNanos = (System.nanoTime() - encodeStart) / BENCHMARK_ITERATIONS;
+
+        long decodeStart = System.nanoTime();
+        for (int i = 0; i < BENCHMARK_ITERATIONS; i++) {
+            serializer.deserialize(bytes);
+        }
+        long decodeNanos = (System.nanoTime() - decodeStart) / BENCHMARK_ITERATIONS;
+
+        log.info(String.format("%-8s bytes/entry: %7d, encode: %7dns, decode: %7dns", name, bytes.length, encodeNanos, decodeNanos));
+    }
+
+    // 기존 기본 설정의 JSON 직렬화에 LocalDateTime 지원만 추가 (기본 ObjectMapper 로는 PostDetailDto 를 직렬화할 수 없음)
+    private ObjectMapper createJsonObjectMapper() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        objectMapper.activateDefaultTyping(objectMapper.getPolymorphicTypeValidator(), ObjectMapper.DefaultTyping.NON_FINAL, JsonTypeInfo.As.PROPERTY);
+        return objectMapper;
+    }
+
+    private String describe(Object value) {
+        return value instanceof PostDetailDto ? String.format("PostDetailDto(contents: %d chars)", ((PostDetailDto) value).getContents().length()) : value.getClass().getSimpleName();
+    }
+
+    private UserHeaderDto createUserHeaderDto() {
+        return UserHeaderDto.builder().id("freeblog-user").nickname("닉네임").profileImages("https://freeblog.example/images/profile.png").build();
+    }
+
+    private PostDetailDto createPostDetailDto(int contentsLength) {
+        StringBuilder contents = new StringBuilder();
+
+        while (contents.length() < contentsLength) {
+            contents.append("<p>게시글 본문 내용입니다. <img src=\"https://freeblog.example/images/sample.png\"></p>");
+        }
+
+        LocalDateTime registerTime = LocalDateTime.of(2023, 5, 1, 12, 30, 15);
+        return new PostDetailDto(1L, 3L, "게시글 제목", contents.toString(), "카테고리", "https://freeblog.example/images/thumbnail.png", "writer",
+                2L, 1L, "2023.05.01 12:30", registerTime, "https://freeblog.example/post/1", Arrays.asList("java", "spring", "redis"), "meta-key", true);
+    }
+}
@@ -0,0 +1,75 @@
+package com.service.util.redis.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.service.core.user.dto.UserHeaderDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+public class TwoLevelCacheTest {
+    private static final String KEY = "user@freeblog.com";
+
+    private final CompactRedisSerializer valueSerializer = new CompactRedisSerializer(1024);
+    private final com.github.benmanes.caffeine.cache.Cache<String, byte[]> localCache = Caffeine.newBuilder().build();
+    private final Cache redisCache = mock(Cache.class);
+    @SuppressWarnings("unchecked")
+    private final Consumer<String> invalidationPublisher = mock(Consumer.class);
+    private final TwoLevelCache twoLevelCache = new TwoLevelCache("test", localCache, redisCache, valueSerializer, invalidationPublisher, new SimpleMeterRegistry());
+
+    @Test
+    void localCopyTest() {
+        byte[] redisBytes = valueSerializer.serialize(createUserHeaderDto());
+        valueSerializer.takeLastBytes();
+
+        // RedisCache 는 조회한 바이트를 직렬화기로 역직렬화
+        given(redisCache.get(KEY)).willAnswer(invocation -> new SimpleValueWrapper(valueSerializer.deserialize(redisBytes)));
+
+        UserHeaderDto first = twoLevelCache.get(KEY, UserHeaderDto.class);
+        UserHeaderDto second = twoLevelCache.get(KEY, UserHeaderDto.class);
+        UserHeaderDto third = twoLevelCache.get(KEY, UserHeaderDto.class);
+
+        // Redis 바이트를 그대로 로컬에 보관하고, 로컬 조회마다 새 인스턴스를 반환
+        then(redisCache).should(times(1)).get(KEY);
+        assertSame(redisBytes, localCache.getIfPresent(KEY));
+        assertEquals(first, second);
+        assertNotSame(second, third);
+    }
+
+    @Test
+    void fillAndUpdateTest() {
+        given(redisCache.get(KEY)).willReturn(null);
+        willAnswer(invocation -> valueSerializer.serialize(invocation.getArgument(1))).given(redisCache).put(eq(KEY), any());
+
+        // @Cacheable: 조회 실패 후 적재는 다른 노드에 알리지 않음
+        assertNull(twoLevelCache.get(KEY));
+        twoLevelCache.put(KEY, createUserHeaderDto());
+        then(invalidationPublisher).should(never()).accept(anyString());
+        assertNotNull(localCache.getIfPresent(KEY));
+
+        // @CachePut: 변경은 다른 노드의 로컬 캐시 무효화
+        twoLevelCache.put(KEY, createUserHeaderDto());
+        then(invalidationPublisher).should().accept(KEY);
+    }
+
+    @Test
+    void evictTest() {
+        localCache.put(KEY, valueSerializer.serialize(createUserHeaderDto()));
+
+        twoLevelCache.evict(KEY);
+
+        then(redisCache).should().evict(KEY);
+        then(invalidationPublisher).should().accept(KEY);
+        assertNull(localCache.getIfPresent(KEY));
+    }
+
+    private UserHeaderDto createUserHeaderDto() {
+        return UserHeaderDto.builder().id("freeblog-user").nickname("닉네임").profileImages("https://freeblog.example/images/profile.png").build();
+    }
+}
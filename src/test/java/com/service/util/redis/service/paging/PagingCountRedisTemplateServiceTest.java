@@ -0,0 +1,24 @@
+package com.service.util.redis.service.paging;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PagingCountRedisTemplateServiceTest {
+    @Test
+    void keywordFilterTest() {
+        // 앞뒤 공백과 대소문자만 다른 키워드는 같은 개수를 공유
+        String filter = PagingCountRedisTemplateService.filter(PagingCountRedisTemplateService.keyword("foo"), "all", "like");
+
+        assertEquals(filter, PagingCountRedisTemplateService.filter(PagingCountRedisTemplateService.keyword("Foo"), "all", "like"));
+        assertEquals(filter, PagingCountRedisTemplateService.filter(PagingCountRedisTemplateService.keyword(" foo "), "all", "like"));
+        assertNotEquals(filter, PagingCountRedisTemplateService.filter(PagingCountRedisTemplateService.keyword("foo bar"), "all", "like"));
+        assertNotEquals(filter, PagingCountRedisTemplateService.filter(PagingCountRedisTemplateService.keyword("foo"), "title", "like"));
+    }
+
+    @Test
+    void nullKeywordTest() {
+        assertEquals("", PagingCountRedisTemplateService.keyword(null));
+        assertEquals(PagingCountRedisTemplateService.filter(""), PagingCountRedisTemplateService.filter(PagingCountRedisTemplateService.keyword("  ")));
+    }
+}
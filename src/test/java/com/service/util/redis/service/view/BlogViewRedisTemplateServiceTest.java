@@ -0,0 +1,37 @@
+package com.service.util.redis.service.view;
+
+import com.service.core.views.dto.BlogVisitHistoryDto;
+import com.service.util.redis.service.common.CommonRedisService;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+public class BlogViewRedisTemplateServiceTest {
+    private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final HashOperations<String, Object, Object> hashOperations = mock(HashOperations.class);
+    private final BlogViewRedisTemplateService blogViewRedisTemplateService = new BlogViewRedisTemplateService(stringRedisTemplate, mock(CommonRedisService.class));
+
+    @Test
+    void blogVisitHistoryTest() {
+        given(stringRedisTemplate.opsForHash()).willReturn(hashOperations);
+        given(hashOperations.entries("blog-visit-history:1")).willReturn(Map.of(
+                "20240101", "10,15",
+                "20240103", "3,4",
+                "20240102", "7,9"));
+
+        List<BlogVisitHistoryDto> blogVisitHistoryDtoList = blogViewRedisTemplateService.getBlogVisitHistory(1, 2);
+
+        // 최신 일자부터 요청한 일수만큼 반환
+        assertEquals(Arrays.asList(
+                BlogVisitHistoryDto.builder().day("20240103").visitors(3).views(4).build(),
+                BlogVisitHistoryDto.builder().day("20240102").visitors(7).views(9).build()), blogVisitHistoryDtoList);
+    }
+}